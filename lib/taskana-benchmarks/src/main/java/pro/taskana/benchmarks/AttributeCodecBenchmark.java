@@ -0,0 +1,82 @@
+package pro.taskana.benchmarks;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.impl.persistence.AttributeCodec;
+import pro.taskana.impl.persistence.CompactAttributeCodec;
+import pro.taskana.impl.persistence.JavaSerializationAttributeCodec;
+
+/**
+ * Compares encoding and decoding cost of the custom attribute codecs. The stored size of the encoded attributes is
+ * reported as the counter storedBytes next to the time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AttributeCodecBenchmark {
+
+    @Param({"compact", "java"})
+    private String codecName;
+
+    @Param({"3", "30"})
+    private int numberOfAttributes;
+
+    private AttributeCodec codec;
+    private Map<String, Object> attributes;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        codec = "java".equals(codecName) ? new JavaSerializationAttributeCodec() : new CompactAttributeCodec();
+        attributes = new HashMap<>();
+        for (int i = 0; i < numberOfAttributes; i++) {
+            attributes.put("Property_" + i, i % 3 == 0 ? Integer.valueOf(i) : "Property Value of Property_" + i);
+        }
+        encoded = codec.encode(attributes);
+    }
+
+    /**
+     * The stored size of the encoded attributes, reported next to the time.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StoredSize {
+
+        public long storedBytes;
+
+        @Setup(Level.Iteration)
+        public void setup(AttributeCodecBenchmark benchmark) {
+            storedBytes = benchmark.encoded.length;
+        }
+    }
+
+    @Benchmark
+    public byte[] encode(StoredSize storedSize) throws IOException {
+        return codec.encode(attributes);
+    }
+
+    @Benchmark
+    public Map<String, Object> decode(StoredSize storedSize) throws IOException {
+        return codec.decode(encoded);
+    }
+}
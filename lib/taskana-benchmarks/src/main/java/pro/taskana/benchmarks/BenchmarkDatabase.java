@@ -0,0 +1,201 @@
+package pro.taskana.benchmarks;
+
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.jdbc.ScriptRunner;
+
+import pro.taskana.Task;
+import pro.taskana.TaskService;
+import pro.taskana.TaskanaEngine;
+import pro.taskana.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.Workbasket;
+import pro.taskana.WorkbasketService;
+import pro.taskana.configuration.TaskanaEngineConfiguration;
+import pro.taskana.exceptions.TaskanaException;
+import pro.taskana.model.BulkOperationResults;
+import pro.taskana.model.ObjectReference;
+import pro.taskana.model.WorkbasketType;
+
+/**
+ * Embedded H2 file database for the benchmarks. The database is dropped and seeded anew for every trial: the
+ * workbaskets, classifications and access lists of the rest sample data plus a configurable number of generated
+ * workbaskets and tasks. Security is disabled, so the benchmarks measure the persistence path only.
+ */
+public final class BenchmarkDatabase {
+
+    public static final String DOMAIN = "DOMAIN_A";
+    public static final String WORKBASKET_KEY_PREFIX = "BENCH_";
+
+    private static final String JDBC_URL = "jdbc:h2:file:./target/benchmark-db/taskana";
+    private static final String[] SAMPLE_DATA = {"/sql/sample-data/workbasket.sql",
+        "/sql/sample-data/distribution-targets.sql", "/sql/sample-data/classification.sql",
+        "/sql/sample-data/workbasket-access-list.sql"};
+    private static final String[] CLASSIFICATION_KEYS = {"L10000", "L10303", "L1050", "L12010", "L140101", "T2100"};
+    private static final int CREATE_CHUNK_SIZE = 1000;
+
+    private final PooledDataSource dataSource;
+    private final TaskanaEngine taskanaEngine;
+    private final List<String> workbasketKeys = new ArrayList<>();
+    private final List<String> taskIds = new ArrayList<>();
+
+    private BenchmarkDatabase(PooledDataSource dataSource, TaskanaEngine taskanaEngine) {
+        this.dataSource = dataSource;
+        this.taskanaEngine = taskanaEngine;
+    }
+
+    /**
+     * Drops the benchmark database, creates the taskana schema and seeds it.
+     *
+     * @param numberOfWorkbaskets
+     *            the number of generated workbaskets
+     * @param numberOfTasks
+     *            the number of generated tasks, evenly distributed over the generated workbaskets
+     * @return the seeded database
+     * @throws Exception
+     *             if the database can't be created or seeded
+     */
+    public static BenchmarkDatabase create(int numberOfWorkbaskets, int numberOfTasks) throws Exception {
+        return create(numberOfWorkbaskets, numberOfTasks, UnaryOperator.identity());
+    }
+
+    /**
+     * Drops the benchmark database, creates the taskana schema and seeds it. The TaskanaEngine uses the data source
+     * returned by the given wrapper, e.g. to observe the statements it executes.
+     *
+     * @param numberOfWorkbaskets
+     *            the number of generated workbaskets
+     * @param numberOfTasks
+     *            the number of generated tasks, evenly distributed over the generated workbaskets
+     * @param dataSourceWrapper
+     *            wraps the data source of the benchmark database before it is handed to the TaskanaEngine
+     * @return the seeded database
+     * @throws Exception
+     *             if the database can't be created or seeded
+     */
+    public static BenchmarkDatabase create(int numberOfWorkbaskets, int numberOfTasks,
+        UnaryOperator<DataSource> dataSourceWrapper) throws Exception {
+        PooledDataSource dataSource = (PooledDataSource) TaskanaEngineConfiguration.createDatasource(
+            "org.h2.Driver", JDBC_URL, "sa", "sa");
+        dataSource.setPoolMaximumActiveConnections(64);
+        dataSource.setPoolMaximumIdleConnections(64);
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        TaskanaEngineConfiguration configuration = new TaskanaEngineConfiguration(
+            dataSourceWrapper.apply(dataSource), false, false);
+        TaskanaEngine taskanaEngine = configuration.buildTaskanaEngine();
+        taskanaEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+        BenchmarkDatabase database = new BenchmarkDatabase(dataSource, taskanaEngine);
+        database.runSampleDataScripts();
+        database.createWorkbaskets(numberOfWorkbaskets);
+        database.taskIds.addAll(database.createTasks(numberOfTasks));
+        return database;
+    }
+
+    public TaskanaEngine getTaskanaEngine() {
+        return taskanaEngine;
+    }
+
+    public List<String> getWorkbasketKeys() {
+        return workbasketKeys;
+    }
+
+    public List<String> getTaskIds() {
+        return taskIds;
+    }
+
+    /**
+     * Returns a new, not yet persisted task in one of the generated workbaskets.
+     *
+     * @param index
+     *            selects workbasket and classification of the task
+     * @return the new task
+     */
+    public Task newTask(int index) {
+        Task task = taskanaEngine.getTaskService().newTask();
+        task.setWorkbasketKey(workbasketKeys.get(index % workbasketKeys.size()));
+        task.setClassificationKey(CLASSIFICATION_KEYS[index % CLASSIFICATION_KEYS.length]);
+        task.setName("Benchmark task " + index);
+        ObjectReference objectReference = new ObjectReference();
+        objectReference.setCompany("Company1");
+        objectReference.setSystem("System1");
+        objectReference.setSystemInstance("Instance1");
+        objectReference.setType("Type1");
+        objectReference.setValue(String.valueOf(index));
+        task.setPrimaryObjRef(objectReference);
+        return task;
+    }
+
+    /**
+     * Creates tasks in the generated workbaskets with the bulk API.
+     *
+     * @param numberOfTasks
+     *            the number of tasks to create
+     * @return the ids of the created tasks
+     */
+    public List<String> createTasks(int numberOfTasks) {
+        TaskService taskService = taskanaEngine.getTaskService();
+        List<String> createdIds = new ArrayList<>(numberOfTasks);
+        for (int start = 0; start < numberOfTasks; start += CREATE_CHUNK_SIZE) {
+            List<Task> tasks = new ArrayList<>();
+            for (int i = start; i < Math.min(start + CREATE_CHUNK_SIZE, numberOfTasks); i++) {
+                tasks.add(newTask(i));
+            }
+            BulkOperationResults<Task, TaskanaException> results = taskService.createTasks(tasks);
+            if (results.containsErrors()) {
+                throw new IllegalStateException("Seeding tasks failed: " + results);
+            }
+            for (Task task : tasks) {
+                createdIds.add(task.getId());
+            }
+        }
+        return createdIds;
+    }
+
+    /**
+     * Closes all connections, which shuts down the embedded database.
+     */
+    public void close() {
+        dataSource.forceCloseAll();
+    }
+
+    private void runSampleDataScripts() throws SQLException {
+        StringWriter errorWriter = new StringWriter();
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptRunner runner = new ScriptRunner(connection);
+            runner.setStopOnError(true);
+            runner.setLogWriter(null);
+            runner.setErrorLogWriter(new PrintWriter(errorWriter));
+            for (String script : SAMPLE_DATA) {
+                runner.runScript(new InputStreamReader(BenchmarkDatabase.class.getResourceAsStream(script)));
+            }
+        }
+        if (!errorWriter.toString().trim().isEmpty()) {
+            throw new IllegalStateException("Sample data could not be loaded: " + errorWriter);
+        }
+    }
+
+    private void createWorkbaskets(int numberOfWorkbaskets) throws Exception {
+        WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+        for (int i = 0; i < Math.max(numberOfWorkbaskets, 2); i++) {
+            Workbasket workbasket = workbasketService.newWorkbasket();
+            workbasket.setKey(WORKBASKET_KEY_PREFIX + i);
+            workbasket.setName("Benchmark workbasket " + i);
+            workbasket.setDomain(DOMAIN);
+            workbasket.setType(WorkbasketType.GROUP);
+            workbasketService.createWorkbasket(workbasket);
+            workbasketKeys.add(workbasket.getKey());
+        }
+    }
+}
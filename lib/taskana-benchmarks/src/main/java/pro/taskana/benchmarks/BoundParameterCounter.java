@@ -0,0 +1,130 @@
+package pro.taskana.benchmarks;
+
+import java.io.InputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+/**
+ * Counts the statements starting with a given SQL prefix and the bytes of the parameters bound to them. The data
+ * source handed to the TaskanaEngine is wrapped, so the numbers reflect what the persistence layer actually sends to
+ * the database. Sizes are the encoded lengths for strings and binary data and the storage size for other values.
+ */
+public final class BoundParameterCounter {
+
+    private final String sqlPrefix;
+    private final AtomicLong statements = new AtomicLong();
+    private final AtomicLong boundBytes = new AtomicLong();
+
+    public BoundParameterCounter(String sqlPrefix) {
+        this.sqlPrefix = sqlPrefix;
+    }
+
+    /**
+     * Returns a data source which counts the statements of the given data source.
+     *
+     * @param dataSource
+     *            the data source to wrap
+     * @return the counting data source
+     */
+    public DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (method, result, args) -> {
+            if (result instanceof Connection) {
+                return wrapConnection((Connection) result);
+            }
+            return result;
+        });
+    }
+
+    public long getStatements() {
+        return statements.get();
+    }
+
+    public long getBoundBytes() {
+        return boundBytes.get();
+    }
+
+    public void reset() {
+        statements.set(0);
+        boundBytes.set(0);
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, result, args) -> {
+            if ("prepareStatement".equals(method.getName()) && args != null && args[0] instanceof String
+                && ((String) args[0]).trim().startsWith(sqlPrefix)) {
+                return countingStatement((PreparedStatement) result);
+            }
+            return result;
+        });
+    }
+
+    private PreparedStatement countingStatement(PreparedStatement statement) {
+        // streams are consumed by the driver, so sizes are taken before the call is delegated
+        InvocationHandler handler = (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && !"setNull".equals(name) && args != null && args.length >= 2
+                && args[0] instanceof Integer) {
+                boundBytes.addAndGet(sizeOf(args[1], args.length > 2 ? args[2] : null));
+            } else if (name.startsWith("execute")) {
+                statements.incrementAndGet();
+            }
+            return invoke(statement, method, args);
+        };
+        return (PreparedStatement) Proxy.newProxyInstance(BoundParameterCounter.class.getClassLoader(),
+            new Class<?>[] {PreparedStatement.class}, handler);
+    }
+
+    private static long sizeOf(Object value, Object length) throws Exception {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof String) {
+            return ((String) value).getBytes(StandardCharsets.UTF_8).length;
+        } else if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        } else if (value instanceof InputStream) {
+            return length instanceof Number ? ((Number) length).longValue() : ((InputStream) value).available();
+        } else if (value instanceof Blob) {
+            return ((Blob) value).length();
+        } else if (value instanceof Boolean) {
+            return 1;
+        } else if (value instanceof Integer) {
+            return Integer.BYTES;
+        } else if (value instanceof java.util.Date) {
+            return Long.BYTES;
+        }
+        return value.toString().length();
+    }
+
+    /**
+     * Post-processes the result of a delegated call.
+     */
+    @FunctionalInterface
+    private interface ResultHandler {
+
+        Object handle(Method method, Object result, Object[] args) throws Exception;
+    }
+
+    private static <T> T proxy(Class<T> type, T delegate, ResultHandler resultHandler) {
+        InvocationHandler handler = (proxy, method, args) -> resultHandler.handle(method,
+            invoke(delegate, method, args), args);
+        return type.cast(Proxy.newProxyInstance(BoundParameterCounter.class.getClassLoader(), new Class<?>[] {type},
+            handler));
+    }
+
+    private static Object invoke(Object delegate, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package pro.taskana.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.TaskService;
+import pro.taskana.exceptions.TaskanaException;
+
+/**
+ * Throughput of TaskService.claimNext() for 1, 4 and 8 workers competing for the READY tasks of the same workbaskets,
+ * one benchmark per number of workers. Before each iteration the workbaskets are refilled with
+ * tasksPerIteration READY tasks, set with -p tasksPerIteration=.... The counters claimed and empty report how many
+ * calls claimed a task and how many found the workbaskets empty, empty calls mean the refill was too small.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClaimNextBenchmark {
+
+    /**
+     * The seeded database, shared by all workers.
+     */
+    @State(Scope.Benchmark)
+    public static class Database {
+
+        @Param({"10"})
+        private int numberOfWorkbaskets;
+
+        @Param({"20000"})
+        private int tasksPerIteration;
+
+        private BenchmarkDatabase database;
+        private TaskService taskService;
+        private String[] workbasketKeys;
+
+        @Setup(Level.Trial)
+        public void setup() throws Exception {
+            database = BenchmarkDatabase.create(numberOfWorkbaskets, 0);
+            taskService = database.getTaskanaEngine().getTaskService();
+            workbasketKeys = database.getWorkbasketKeys().toArray(new String[0]);
+        }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            database.createTasks(tasksPerIteration);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            database.close();
+        }
+    }
+
+    /**
+     * The outcome of the calls of a worker, reported next to the throughput.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Claims {
+
+        public long claimed;
+        public long empty;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            claimed = 0;
+            empty = 0;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void claimNext1Worker(Database database, Claims claims) throws TaskanaException {
+        claimNext(database, claims);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void claimNext4Workers(Database database, Claims claims) throws TaskanaException {
+        claimNext(database, claims);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void claimNext8Workers(Database database, Claims claims) throws TaskanaException {
+        claimNext(database, claims);
+    }
+
+    private void claimNext(Database database, Claims claims) throws TaskanaException {
+        if (database.taskService.claimNext(database.workbasketKeys) != null) {
+            claims.claimed++;
+        } else {
+            claims.empty++;
+        }
+    }
+}
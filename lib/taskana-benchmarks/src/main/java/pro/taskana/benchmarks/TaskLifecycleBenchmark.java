@@ -0,0 +1,138 @@
+package pro.taskana.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.Task;
+import pro.taskana.TaskService;
+import pro.taskana.exceptions.TaskanaException;
+
+/**
+ * Throughput and latency percentiles of the core task lifecycle against an embedded H2 file database. The number of
+ * concurrent threads is chosen on the command line, e.g. java -jar target/benchmarks.jar TaskLifecycle -t 4. The seeded
+ * volume is set with -p numberOfWorkbaskets=... -p numberOfTasks=....
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskLifecycleBenchmark {
+
+    /**
+     * The seeded database, shared by all benchmark threads.
+     */
+    @State(Scope.Benchmark)
+    public static class Database {
+
+        @Param({"10"})
+        private int numberOfWorkbaskets;
+
+        @Param({"10000"})
+        private int numberOfTasks;
+
+        private BenchmarkDatabase database;
+        private TaskService taskService;
+        private final AtomicInteger taskCounter = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void setup() throws Exception {
+            database = BenchmarkDatabase.create(numberOfWorkbaskets, numberOfTasks);
+            taskService = database.getTaskanaEngine().getTaskService();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            database.close();
+        }
+
+        String randomTaskId() {
+            List<String> taskIds = database.getTaskIds();
+            return taskIds.get(ThreadLocalRandom.current().nextInt(taskIds.size()));
+        }
+
+        String randomWorkbasketKey() {
+            List<String> workbasketKeys = database.getWorkbasketKeys();
+            return workbasketKeys.get(ThreadLocalRandom.current().nextInt(workbasketKeys.size()));
+        }
+    }
+
+    /**
+     * A task of the current thread that is created before each invocation, outside of the measured time.
+     */
+    @State(Scope.Thread)
+    public static class FreshTask {
+
+        private String taskId;
+
+        @Setup(Level.Invocation)
+        public void setup(Database database) throws TaskanaException {
+            taskId = database.taskService.createTask(database.database.newTask(database.taskCounter.incrementAndGet()))
+                .getId();
+        }
+    }
+
+    /**
+     * A claimed task of the current thread that is prepared before each invocation, outside of the measured time.
+     */
+    @State(Scope.Thread)
+    public static class ClaimedTask {
+
+        private String taskId;
+
+        @Setup(Level.Invocation)
+        public void setup(Database database) throws TaskanaException {
+            taskId = database.taskService.createTask(database.database.newTask(database.taskCounter.incrementAndGet()))
+                .getId();
+            database.taskService.claim(taskId);
+        }
+    }
+
+    @Benchmark
+    public Task createTask(Database database) throws TaskanaException {
+        return database.taskService.createTask(database.database.newTask(database.taskCounter.incrementAndGet()));
+    }
+
+    @Benchmark
+    public Task claim(Database database, FreshTask freshTask) throws TaskanaException {
+        return database.taskService.claim(freshTask.taskId);
+    }
+
+    @Benchmark
+    public Task completeTask(Database database, ClaimedTask claimedTask) throws TaskanaException {
+        return database.taskService.completeTask(claimedTask.taskId);
+    }
+
+    @Benchmark
+    public Task transfer(Database database) throws TaskanaException {
+        return database.taskService.transfer(database.randomTaskId(), database.randomWorkbasketKey());
+    }
+
+    @Benchmark
+    public Task getTask(Database database) throws TaskanaException {
+        return database.taskService.getTask(database.randomTaskId());
+    }
+
+    @Benchmark
+    public List<Task> queryTasksOfWorkbasket(Database database) throws TaskanaException {
+        return database.taskService.createTaskQuery()
+            .workbasketKeyIn(database.randomWorkbasketKey())
+            .list(0, 100);
+    }
+}
@@ -0,0 +1,166 @@
+package pro.taskana.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.Task;
+import pro.taskana.TaskService;
+import pro.taskana.exceptions.TaskanaException;
+import pro.taskana.impl.TaskImpl;
+import pro.taskana.model.BulkOperationResults;
+
+/**
+ * Latency of TaskService.updateTask() and the bytes bound per UPDATE TASK statement, which are reported as the
+ * counter boundBytesPerUpdate next to the latency. Tasks read with getTask() track their changes and write only the changed columns. An untracked copy of such a
+ * task writes all columns including the custom attributes, like every update did before change tracking.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UpdateTaskBenchmark {
+
+    private static final int NUMBER_OF_TASKS = 1000;
+
+    @Param({"getTask", "untrackedCopy"})
+    private String readWith;
+
+    @Param({"custom1", "customAttributes"})
+    private String changedProperty;
+
+    @Param({"10"})
+    private int numberOfAttributes;
+
+    private final BoundParameterCounter counter = new BoundParameterCounter("UPDATE TASK");
+    private BenchmarkDatabase database;
+    private TaskService taskService;
+    private final List<String> taskIds = new ArrayList<>();
+    private Task task;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        database = BenchmarkDatabase.create(2, 0, counter::wrap);
+        taskService = database.getTaskanaEngine().getTaskService();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_TASKS; i++) {
+            Task newTask = database.newTask(i);
+            Map<String, Object> attributes = new HashMap<>();
+            for (int j = 0; j < numberOfAttributes; j++) {
+                attributes.put("Property_" + j, "Property Value of Property_" + j);
+            }
+            ((TaskImpl) newTask).setCustomAttributes(attributes);
+            tasks.add(newTask);
+        }
+        BulkOperationResults<Task, TaskanaException> results = taskService.createTasks(tasks);
+        if (results.containsErrors()) {
+            throw new IllegalStateException("Seeding tasks failed: " + results);
+        }
+        for (Task createdTask : tasks) {
+            taskIds.add(createdTask.getId());
+        }
+        counter.reset();
+    }
+
+    @Setup(Level.Invocation)
+    public void readTask() throws TaskanaException {
+        int index = ThreadLocalRandom.current().nextInt(taskIds.size());
+        task = taskService.getTask(taskIds.get(index));
+        if ("untrackedCopy".equals(readWith)) {
+            task = untrackedCopy((TaskImpl) task);
+        }
+        if ("customAttributes".equals(changedProperty)) {
+            task.getCustomAttributes().put("Property_0", "Changed " + System.nanoTime());
+        } else {
+            task.setCustom1("Changed " + System.nanoTime());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    /**
+     * The bytes bound per UPDATE TASK statement in the current iteration, reported next to the latency.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class BoundBytes {
+
+        public long boundBytesPerUpdate;
+        private long boundBytes;
+        private long statements;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            boundBytesPerUpdate = 0;
+            boundBytes = 0;
+            statements = 0;
+        }
+
+        void add(long boundBytesOfUpdate, long statementsOfUpdate) {
+            boundBytes += boundBytesOfUpdate;
+            statements += statementsOfUpdate;
+            boundBytesPerUpdate = statements == 0 ? 0 : boundBytes / statements;
+        }
+    }
+
+    private TaskImpl untrackedCopy(TaskImpl original) {
+        TaskImpl copy = (TaskImpl) taskService.newTask();
+        copy.setId(original.getId());
+        copy.setCreated(original.getCreated());
+        copy.setClaimed(original.getClaimed());
+        copy.setCompleted(original.getCompleted());
+        copy.setModified(original.getModified());
+        copy.setPlanned(original.getPlanned());
+        copy.setDue(original.getDue());
+        copy.setName(original.getName());
+        copy.setDescription(original.getDescription());
+        copy.setPriority(original.getPriority());
+        copy.setState(original.getState());
+        copy.setClassificationKey(original.getClassificationKey());
+        copy.setClassification(original.getClassification());
+        copy.setWorkbasketKey(original.getWorkbasketKey());
+        copy.setDomain(original.getDomain());
+        copy.setBusinessProcessId(original.getBusinessProcessId());
+        copy.setParentBusinessProcessId(original.getParentBusinessProcessId());
+        copy.setOwner(original.getOwner());
+        copy.setPrimaryObjRef(original.getPrimaryObjRef());
+        copy.setRead(original.isRead());
+        copy.setTransferred(original.isTransferred());
+        copy.setCustomAttributes(original.getCustomAttributes());
+        copy.setAttachments(original.getAttachments());
+        copy.setVersion(original.getVersion());
+        return copy;
+    }
+
+    @Benchmark
+    public Task updateTask(BoundBytes boundBytes) throws TaskanaException {
+        long boundBytesBefore = counter.getBoundBytes();
+        long statementsBefore = counter.getStatements();
+        Task updatedTask = taskService.updateTask(task);
+        boundBytes.add(counter.getBoundBytes() - boundBytesBefore, counter.getStatements() - statementsBefore);
+        return updatedTask;
+    }
+}
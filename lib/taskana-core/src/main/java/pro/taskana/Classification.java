@@ -315,4 +315,11 @@ public interface Classification {
      * @return validUntil
      */
     Date getValidUntil();
+
+    /**
+     * Get the version of this classification, which is incremented when it is replaced by an update.
+     *
+     * @return version
+     */
+    int getVersion();
 }
@@ -4,8 +4,8 @@ import java.util.List;
 
 import pro.taskana.exceptions.ClassificationAlreadyExistException;
 import pro.taskana.exceptions.ClassificationNotFoundException;
-import pro.taskana.exceptions.InvalidArgumentException;
-import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.exceptions.ConcurrencyException;
+import pro.taskana.model.ClassificationTreeNode;
 
 /**
  * This class manages the classifications.
@@ -13,15 +13,14 @@ import pro.taskana.exceptions.NotAuthorizedException;
 public interface ClassificationService {
 
     /**
-     * Get all available Classifications as a tree.
+     * Get all current Classifications as a tree. A Classification is a child of the Classification with its parent
+     * key in the same domain, or in the root domain if there is none in the same domain. Classifications without an
+     * existing parent are roots. The tree is read with one query and cached until a Classification is created or
+     * updated.
      *
-     * @return The List of all Classifications
-     * @throws NotAuthorizedException
-     *             if the permissions are not granted for this specific interaction.
-     * @throws InvalidArgumentException
-     *             if the given permissions/UserContext or Base-Object is NULL.
+     * @return the roots of the tree, ordered by key and domain, like the children of each node
      */
-    List<Classification> getClassificationTree() throws NotAuthorizedException, InvalidArgumentException;
+    List<ClassificationTreeNode> getClassificationTree();
 
     /**
      * Get all Classifications with the given key. Returns also older and domain-specific versions of the
@@ -69,8 +68,11 @@ public interface ClassificationService {
      *            the Classification to update
      * @throws ClassificationNotFoundException
      *             when the classification does not exist already.
+     * @throws ConcurrencyException
+     *             when the classification has been updated by another user since it was read.
      */
-    void updateClassification(Classification classification) throws ClassificationNotFoundException;
+    void updateClassification(Classification classification)
+        throws ClassificationNotFoundException, ConcurrencyException;
 
     /**
      * This method provides a query builder for quering the database.
@@ -381,4 +381,12 @@ public interface Task {
      * @return the {@link List list} of {@link Attachment attachments} for this task
      */
     List<Attachment> getAttachments();
+
+    /**
+     * Returns the version of the task. It is incremented whenever the task is written, so an update of an outdated
+     * copy of the task fails with a {@link pro.taskana.exceptions.ConcurrencyException}.
+     *
+     * @return the version of the task
+     */
+    int getVersion();
 }
@@ -0,0 +1,25 @@
+package pro.taskana;
+
+import java.util.List;
+
+import pro.taskana.model.TaskEvent;
+
+/**
+ * Receives the events of task changes. A listener is registered with TaskanaEngine.registerTaskEventListener() under
+ * a consumer id, the engine then delivers the recorded events in the order of their ids in batches. The position of
+ * each consumer is persisted after a batch has been processed successfully. If the listener throws an exception or the
+ * engine stops before the position has been saved, the batch is delivered again, so a listener must tolerate events
+ * it has already seen.
+ */
+public interface TaskEventListener {
+
+    /**
+     * Processes a batch of events.
+     *
+     * @param events
+     *            the events in ascending order of their ids, never empty
+     * @throws Exception
+     *             if the events could not be processed. The same events are delivered again later.
+     */
+    void onTaskEvents(List<TaskEvent> events) throws Exception;
+}
@@ -0,0 +1,57 @@
+package pro.taskana;
+
+import java.sql.Timestamp;
+
+import pro.taskana.model.TaskEventType;
+import pro.taskana.model.TaskHistoryEntry;
+
+/**
+ * TaskHistoryQuery for reading the task history. The entries are returned in the order they have been written.
+ */
+public interface TaskHistoryQuery extends BaseQuery<TaskHistoryEntry> {
+
+    /**
+     * Add the ids of the tasks to your query.
+     *
+     * @param taskIds
+     *            as Strings
+     * @return the query
+     */
+    TaskHistoryQuery taskIdIn(String... taskIds);
+
+    /**
+     * Add the users who changed the tasks to your query.
+     *
+     * @param userIds
+     *            as Strings
+     * @return the query
+     */
+    TaskHistoryQuery userIdIn(String... userIds);
+
+    /**
+     * Add the lifecycle changes to your query.
+     *
+     * @param actions
+     *            as {@link TaskEventType}
+     * @return the query
+     */
+    TaskHistoryQuery actionIn(TaskEventType... actions);
+
+    /**
+     * Add the time after which the entries have been created to your query.
+     *
+     * @param createdAfter
+     *            the exclusive lower bound of the creation time
+     * @return the query
+     */
+    TaskHistoryQuery createdAfter(Timestamp createdAfter);
+
+    /**
+     * Add the time before which the entries have been created to your query.
+     *
+     * @param createdBefore
+     *            the exclusive upper bound of the creation time
+     * @return the query
+     */
+    TaskHistoryQuery createdBefore(Timestamp createdBefore);
+}
@@ -2,12 +2,20 @@ package pro.taskana;
 
 import java.util.List;
 
+import pro.taskana.exceptions.InvalidArgumentException;
 import pro.taskana.model.DueWorkbasketCounter;
+import pro.taskana.model.TaskAgingReport;
+import pro.taskana.model.TaskAgingReportGrouping;
 import pro.taskana.model.TaskState;
 import pro.taskana.model.TaskStateCounter;
+import pro.taskana.model.WorkbasketDueDateReport;
 
 /**
- * The Task Monitor Service manages operations on tasks regarding the monitoring.
+ * The Task Monitor Service manages operations on tasks regarding the monitoring. The counts are read from counters
+ * which are maintained with each change of a task, see {@link TaskanaEngine#reconcileTaskCounters()}. Concurrent
+ * identical requests share one database statement and, if a monitor report cache time to live is configured, results
+ * are reused for that time, so they may lag behind the latest changes of tasks. The returned results are shared
+ * between callers and must not be changed.
  */
 public interface TaskMonitorService {
 
@@ -48,4 +56,39 @@ public interface TaskMonitorService {
      */
     List<DueWorkbasketCounter> getTaskCountByWorkbasketAndDaysInPastAndState(long daysInPast, List<TaskState> states);
 
+    /**
+     * Counts the tasks of every work basket per day of their due date, from "daysInPast" days before today to
+     * "daysInFuture" days after today. Work baskets without such tasks are contained with counters of 0.
+     *
+     * @param daysInPast
+     *            the number of days before today the report starts with
+     * @param daysInFuture
+     *            the number of days after today the report ends with
+     * @param states
+     *            {@link List} of {@link TaskState} objects that identifies the states of the tasks counted
+     * @return the report with one line per work basket, ordered by the name of the work basket
+     * @throws InvalidArgumentException
+     *             if one of the numbers of days is negative
+     */
+    WorkbasketDueDateReport getWorkbasketDueDateReport(long daysInPast, long daysInFuture, List<TaskState> states)
+        throws InvalidArgumentException;
+
+    /**
+     * Counts the open tasks, which are ready or claimed, per group and age of their due date. The tasks are put into
+     * the buckets between the given day boundaries, see {@link TaskAgingReport}. Tasks without a due date are not
+     * counted. The report is computed by the database in one statement over the open tasks.
+     *
+     * @param dayBoundaries
+     *            the offsets in days to today which separate the buckets, in strictly ascending order, e.g. -3, 0, 2, 6
+     *            for the buckets overdue more than 3 days, overdue 1 to 3 days, due in 0 to 1 days, due in 2 to 5 days
+     *            and due later
+     * @param grouping
+     *            the groups of the lines of the report
+     * @return the report with one line per group which has open tasks, ordered by the group
+     * @throws InvalidArgumentException
+     *             if there are no boundaries, they are not in strictly ascending order or the grouping is null
+     */
+    TaskAgingReport getTaskAgingReport(List<Integer> dayBoundaries, TaskAgingReportGrouping grouping)
+        throws InvalidArgumentException;
+
 }
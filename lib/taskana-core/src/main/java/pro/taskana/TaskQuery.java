@@ -1,7 +1,15 @@
 package pro.taskana;
 
+import java.util.List;
+import java.util.function.Consumer;
+
+import pro.taskana.exceptions.InvalidArgumentException;
 import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.model.TaskChanges;
+import pro.taskana.model.TaskPage;
+import pro.taskana.model.TaskSortKey;
 import pro.taskana.model.TaskState;
+import pro.taskana.model.TaskSummary;
 
 /**
  * TaskQuery for generating dynamic sql.
@@ -219,6 +227,14 @@ public interface TaskQuery extends BaseQuery<Task> {
      */
     TaskQuery customFields(String... customFields);
 
+    /**
+     * Include the tasks which have been moved to the archive by TaskanaEngine.archiveCompletedTasks(). Without this
+     * the query only reads the task table.
+     *
+     * @return the query
+     */
+    TaskQuery includeArchived();
+
     /**
      * This method provides a query builder for quering the database.
      *
@@ -226,4 +242,90 @@ public interface TaskQuery extends BaseQuery<Task> {
      */
     ObjectReferenceQuery createObjectReferenceQuery();
 
+    /**
+     * Sort the result of this query. The order is completed by the task id, so it is stable for tasks with equal sort
+     * values.
+     *
+     * @param sortKey
+     *            the column to sort by
+     * @return the query
+     */
+    TaskQuery orderBy(TaskSortKey sortKey);
+
+    /**
+     * Returns summaries of the tasks matching this query. Only the summary columns are read, workbasket and
+     * classification names are joined by the database and neither custom attributes nor attachments are loaded, so
+     * this is much cheaper than {@link #list()} for task lists.
+     *
+     * @return the summaries of all matching tasks
+     * @throws NotAuthorizedException
+     *             if the user is not authorized to perform this query
+     */
+    List<TaskSummary> listSummaries() throws NotAuthorizedException;
+
+    /**
+     * Returns summaries of the tasks matching this query, see {@link #listSummaries()}.
+     *
+     * @param offset
+     *            index of the first summary which should be returned
+     * @param limit
+     *            number of summaries which should be returned beginning with offset
+     * @return the summaries of the matching tasks within the given range
+     * @throws NotAuthorizedException
+     *             if the user is not authorized to perform this query
+     */
+    List<TaskSummary> listSummaries(int offset, int limit) throws NotAuthorizedException;
+
+    /**
+     * Returns the page of tasks that follows the cursor, sorted as specified by {@link #orderBy(TaskSortKey)} or by
+     * creation date if no order is given. In contrast to {@link #list(int, int)} the database seeks directly to the
+     * first task of the page, so deep pages are as fast as the first one. Tasks that are created or changed while
+     * paging are only returned if they sort behind the current page.
+     *
+     * @param cursor
+     *            the next cursor of the previous page, null for the first page
+     * @param limit
+     *            the maximum number of tasks of the page
+     * @return the page with the tasks and the cursor of the next page
+     * @throws NotAuthorizedException
+     *             if the user is not authorized to perform this query
+     * @throws InvalidArgumentException
+     *             if the limit is not positive or the cursor was not created by a query with the same order
+     */
+    TaskPage listAfter(String cursor, int limit) throws NotAuthorizedException, InvalidArgumentException;
+
+    /**
+     * Performs the action for each task of the query result. The tasks are read one by one from an open result set,
+     * so only the current task and its classification are held in memory, regardless of the size of the result. The
+     * result set is closed when the last task was processed or the action throws an exception. The JDBC fetch size
+     * is configured by TaskanaEngineConfiguration.setStreamingFetchSize().
+     *
+     * @param action
+     *            the action to perform for each task
+     * @throws NotAuthorizedException
+     *             if the user is not authorized to perform this query
+     */
+    void forEach(Consumer<Task> action) throws NotAuthorizedException;
+
+    /**
+     * Returns the tasks matching this query which have been created or changed since the cursor, and the ids of the
+     * tasks which have been changed since the cursor but no longer match, so a client can keep a copy of the result
+     * up to date. Each write of a task assigns it the next value of an indexed change sequence, so the costs depend
+     * on the number of changes since the cursor and not on the number of matching tasks.
+     * <p>
+     * A change may be returned more than once by consecutive calls: the cursor only passes changes which are older
+     * than TaskanaEngineConfiguration.getChangeCursorLag(), because changes of transactions which have not been
+     * committed yet are not visible. Removed tasks are reported for the time set by
+     * TaskanaEngineConfiguration.setTaskTombstoneRetention(), a client with an older cursor has to start again with 0.
+     *
+     * @param cursor
+     *            the cursor of the previous result, 0 to read all matching tasks
+     * @return the changed tasks, the ids of removed tasks and the cursor for the next call
+     * @throws NotAuthorizedException
+     *             if the user is not authorized to perform this query
+     * @throws InvalidArgumentException
+     *             if the cursor is negative
+     */
+    TaskChanges modifiedSince(long cursor) throws NotAuthorizedException, InvalidArgumentException;
+
 }
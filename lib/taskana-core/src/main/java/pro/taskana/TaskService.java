@@ -11,7 +11,9 @@ import pro.taskana.exceptions.InvalidWorkbasketException;
 import pro.taskana.exceptions.NotAuthorizedException;
 import pro.taskana.exceptions.TaskAlreadyExistException;
 import pro.taskana.exceptions.TaskNotFoundException;
+import pro.taskana.exceptions.TaskanaException;
 import pro.taskana.exceptions.WorkbasketNotFoundException;
+import pro.taskana.model.BulkOperationResults;
 import pro.taskana.model.TaskState;
 import pro.taskana.model.TaskSummary;
 
@@ -54,6 +56,40 @@ public interface TaskService {
     Task claim(String taskId, boolean forceClaim)
         throws TaskNotFoundException, InvalidStateException, InvalidOwnerException;
 
+    /**
+     * Claims an existing task for the current user like {@link #claim(String, boolean)}, but does not read the claimed
+     * task, which saves the statements reading the task, its classification and its attachments.
+     *
+     * @param taskId
+     *            the id of the task to be claimed
+     * @param forceClaim
+     *            if true, claim is performed even if the task is already claimed by someone else
+     * @throws TaskNotFoundException
+     *             if the task with taskId was not found
+     * @throws InvalidStateException
+     *             if the state of the task with taskId is not {@link TaskState#READY}
+     * @throws InvalidOwnerException
+     *             if the task with taskId is claimed by someone else
+     */
+    void claimWithoutResult(String taskId, boolean forceClaim)
+        throws TaskNotFoundException, InvalidStateException, InvalidOwnerException;
+
+    /**
+     * Claims the next READY task of the given workbaskets for the current user. The task with the highest priority is
+     * chosen, among tasks of equal priority the one that is due first. Selection and claim happen atomically, so
+     * workers competing for the same workbaskets never get the same task. Where the database supports it, tasks
+     * locked by other workers are skipped instead of waited for.
+     *
+     * @param workbasketKeys
+     *            the keys of the workbaskets to take the task from
+     * @return the claimed task or null if none of the workbaskets contains a READY task
+     * @throws NotAuthorizedException
+     *             if the current user has no OPEN permission on one of the workbaskets
+     * @throws InvalidArgumentException
+     *             if no workbasket key is given
+     */
+    Task claimNext(String... workbasketKeys) throws NotAuthorizedException, InvalidArgumentException;
+
     /**
      * Complete a claimed Task as owner/admin and update State and Timestamps.
      *
@@ -88,6 +124,24 @@ public interface TaskService {
     Task completeTask(String taskId, boolean isForced)
         throws TaskNotFoundException, InvalidOwnerException, InvalidStateException;
 
+    /**
+     * Completes a task like {@link #completeTask(String, boolean)}, but does not read the completed task, which saves
+     * the statements reading the task, its classification and its attachments.
+     *
+     * @param taskId
+     *            - Id of the Task which should be completed.
+     * @param isForced
+     *            - Flag which can complete a Task in every case if Task does exist.
+     * @throws InvalidStateException
+     *             when Task wasn´t claimed before.
+     * @throws TaskNotFoundException
+     *             if the given Task can´t be found in DB.
+     * @throws InvalidOwnerException
+     *             if current user is not the task-owner or administrator.
+     */
+    void completeTaskWithoutResult(String taskId, boolean isForced)
+        throws TaskNotFoundException, InvalidOwnerException, InvalidStateException;
+
     /**
      * Persists a not persisted Task which does not exist already.
      *
@@ -111,6 +165,22 @@ public interface TaskService {
         throws NotAuthorizedException, WorkbasketNotFoundException, ClassificationNotFoundException,
         TaskAlreadyExistException, InvalidWorkbasketException, InvalidArgumentException;
 
+    /**
+     * Persists a list of not persisted Tasks. Workbaskets and Classifications are looked up and authorized only once
+     * per distinct workbasket key and classification key, the tasks are written to the database in one batch. A task
+     * that fails validation does not prevent the other tasks from being created. If the database rejects a task of
+     * the batch, e.g. because a value exceeds its column, the batch is rolled back to a savepoint and the tasks are
+     * inserted one by one, a rejected task is reported with an {@link InvalidArgumentException}. A connection in
+     * auto-commit mode cannot be rolled back, then the failure is thrown. The created tasks are updated in place, the
+     * same way {@link #createTask(Task)} does it.
+     *
+     * @param tasksToCreate
+     *            the transient task objects to be persisted
+     * @return the result of the bulk operation, containing the reason of the failure for every task that could not
+     *         be created, keyed by the task object. The reasons are the exceptions {@link #createTask(Task)} throws.
+     */
+    BulkOperationResults<Task, TaskanaException> createTasks(List<Task> tasksToCreate);
+
     /**
      * Get the details of a task by Id without checking permissions.
      *
@@ -142,6 +212,70 @@ public interface TaskService {
     Task transfer(String taskId, String workbasketKey)
         throws TaskNotFoundException, WorkbasketNotFoundException, NotAuthorizedException, InvalidWorkbasketException;
 
+    /**
+     * Transfers a task to another work basket like {@link #transfer(String, String)}, but does not read the
+     * transferred task, which saves the statements reading the task, its classification and its attachments.
+     *
+     * @param taskId
+     *            The id of the {@link Task} to be transferred
+     * @param workbasketKey
+     *            The key of the target work basket
+     * @throws TaskNotFoundException
+     *             Thrown if the {@link Task} with taskId was not found.
+     * @throws WorkbasketNotFoundException
+     *             Thrown if the target work basket was not found.
+     * @throws NotAuthorizedException
+     *             Thrown if the current user is not authorized to transfer this {@link Task} to the target work basket
+     * @throws InvalidWorkbasketException
+     *             Thrown if either the source or the target workbasket has a missing required property
+     */
+    void transferWithoutResult(String taskId, String workbasketKey)
+        throws TaskNotFoundException, WorkbasketNotFoundException, NotAuthorizedException, InvalidWorkbasketException;
+
+    /**
+     * Transfers a list of tasks to another workbasket. The destination workbasket is checked only once and the
+     * TRANSFER permission only once per distinct source workbasket. The tasks are moved with set based updates in
+     * chunks. A task which cannot be transferred does not prevent the transfer of the other tasks.
+     *
+     * @param destinationWorkbasketKey
+     *            the key of the workbasket the tasks are transferred to
+     * @param taskIds
+     *            the ids of the tasks to be transferred
+     * @return the result of the bulk operation, containing the reason of the failure for every task that could not be
+     *         transferred, keyed by the task id
+     * @throws NotAuthorizedException
+     *             if the current user has no APPEND permission on the destination workbasket
+     * @throws WorkbasketNotFoundException
+     *             if the destination workbasket does not exist
+     */
+    BulkOperationResults<String, TaskanaException> transferTasks(String destinationWorkbasketKey,
+        List<String> taskIds) throws NotAuthorizedException, WorkbasketNotFoundException;
+
+    /**
+     * Claims a list of READY tasks for the current user. The OPEN permission is checked only once per distinct
+     * workbasket of the tasks, the tasks are claimed with set based updates in chunks. Tasks which are already claimed
+     * are not claimed again, the same way {@link #claim(String)} handles them.
+     *
+     * @param taskIds
+     *            the ids of the tasks to be claimed
+     * @return the result of the bulk operation, containing the reason of the failure for every task that could not be
+     *         claimed, keyed by the task id. The reasons are the exceptions {@link #claim(String)} throws or a
+     *         {@link NotAuthorizedException}.
+     */
+    BulkOperationResults<String, TaskanaException> claimTasks(List<String> taskIds);
+
+    /**
+     * Completes a list of tasks claimed by the current user. The OPEN permission is checked only once per distinct
+     * workbasket of the tasks, the tasks are completed with set based updates in chunks.
+     *
+     * @param taskIds
+     *            the ids of the tasks to be completed
+     * @return the result of the bulk operation, containing the reason of the failure for every task that could not be
+     *         completed, keyed by the task id. The reasons are the exceptions {@link #completeTask(String)} throws or
+     *         a {@link NotAuthorizedException}.
+     */
+    BulkOperationResults<String, TaskanaException> completeTasks(List<String> taskIds);
+
     /**
      * Marks a task as read.
      *
@@ -155,6 +289,18 @@ public interface TaskService {
      */
     Task setTaskRead(String taskId, boolean isRead) throws TaskNotFoundException;
 
+    /**
+     * Sets the read flag of a task like {@link #setTaskRead(String, boolean)}, but does not read the updated task.
+     *
+     * @param taskId
+     *            the id of the task to be updated
+     * @param isRead
+     *            the new status of the read flag.
+     * @throws TaskNotFoundException
+     *             Thrown if the {@link Task} with taskId was not found
+     */
+    void setTaskReadWithoutResult(String taskId, boolean isRead) throws TaskNotFoundException;
+
     /**
      * This method provides a query builder for quering the database.
      *
@@ -162,6 +308,14 @@ public interface TaskService {
      */
     TaskQuery createTaskQuery();
 
+    /**
+     * This method provides a query builder for the task history. Entries which are written in the background appear
+     * once the writer has reached them.
+     *
+     * @return a {@link TaskHistoryQuery}
+     */
+    TaskHistoryQuery createTaskHistoryQuery();
+
     /**
      * Getting a list of all Tasks which got matching workbasketIds and states.
      *
@@ -215,7 +369,9 @@ public interface TaskService {
      *            the task to be updated in the database
      * @return the updated task
      * @throws InvalidArgumentException
-     *             if the task to be updated contains invalid properties like e.g. invalid object references
+     *             if the task to be updated contains invalid properties like e.g. invalid object references, or if
+     *             its workbasket, state, owner, claimed or completed timestamp has been changed. These are changed by
+     *             transfer, claim and completeTask only.
      * @throws TaskNotFoundException
      *             if the id of the task is not found in the database
      * @throws ConcurrencyException
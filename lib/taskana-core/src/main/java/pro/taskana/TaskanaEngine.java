@@ -1,6 +1,8 @@
 package pro.taskana;
 
 import pro.taskana.configuration.TaskanaEngineConfiguration;
+import pro.taskana.exceptions.InvalidArgumentException;
+import pro.taskana.model.CacheStatistics;
 
 /**
  * The TaskanaEngine represents an overall set of all needed services.
@@ -42,6 +44,98 @@ public interface TaskanaEngine {
      */
     TaskanaEngineConfiguration getConfiguration();
 
+    /**
+     * Returns the usage counters of the classification cache of this engine.
+     *
+     * @return the statistics of the classification cache
+     */
+    CacheStatistics getClassificationCacheStatistics();
+
+    /**
+     * Returns the usage counters of the workbasket authorization cache of this engine.
+     *
+     * @return the statistics of the workbasket authorization cache
+     */
+    CacheStatistics getAuthorizationCacheStatistics();
+
+    /**
+     * Returns the usage counters of the cache of the reports of the TaskMonitorService of this engine.
+     *
+     * @return the statistics of the monitor report cache
+     */
+    CacheStatistics getMonitorReportCacheStatistics();
+
+    /**
+     * Registers a listener for the changes of tasks. The events recorded with each creation, claim, completion,
+     * transfer and update of a task are delivered to the listener by a background thread in batches and in the order
+     * they were recorded. The position of the consumer is persisted, so a listener registered again with the same
+     * consumer id, also by another engine, continues after the last batch it processed successfully. Events are
+     * retained until all consumer ids known to the database have received them. The position of a consumer id which
+     * is not registered expires after the configured consumer expiry or is removed with removeTaskEventConsumer().
+     * Task events must be enabled in the TaskanaEngineConfiguration to be recorded.
+     *
+     * @param consumerId
+     *            the id under which the position of the listener is stored
+     * @param listener
+     *            the listener receiving the events
+     * @throws InvalidArgumentException
+     *             if one of the arguments is null or a listener is already registered for the consumer id
+     */
+    void registerTaskEventListener(String consumerId, TaskEventListener listener) throws InvalidArgumentException;
+
+    /**
+     * Stops the delivery of task events to the listener of the consumer id. Its position remains stored.
+     *
+     * @param consumerId
+     *            the consumer id the listener was registered with
+     */
+    void unregisterTaskEventListener(String consumerId);
+
+    /**
+     * Stops the delivery of task events to the listener of the consumer id, if one is registered, and removes its
+     * stored position, so the consumer no longer retains events it has not received. A listener registered again
+     * under the consumer id starts with the oldest retained event.
+     *
+     * @param consumerId
+     *            the consumer id to remove
+     */
+    void removeTaskEventConsumer(String consumerId);
+
+    /**
+     * Moves the tasks which have been completed longer than the configured archive age ago, together with their
+     * attachments, into the archive tables. The tasks are moved in chunks of the configured size, each committed on
+     * its own, independent of the connection management mode. If the run is interrupted, the next one continues with
+     * the remaining tasks. Archived tasks are only found by task queries which include them explicitly.
+     *
+     * @return the number of archived tasks
+     */
+    int archiveCompletedTasks();
+
+    /**
+     * Rebuilds the task counters read by the {@link TaskMonitorService} from the tasks. The counters are maintained
+     * with every change of a task, this job corrects them if tasks have been changed outside of the API. It replaces all counters in one transaction of its own,
+     * independent of the connection management mode, and should be run while few tasks are changed. Schemas of a
+     * version without counters are counted by their schema migration, so no reconciliation is needed after an upgrade.
+     *
+     * @return the number of counters, one per workbasket, state and day of the due date
+     */
+    int reconcileTaskCounters();
+
+    /**
+     * Writes the task history entries which are queued for the background writer, see
+     * {@link pro.taskana.configuration.TaskHistoryDurability#BATCHED}. Returns when all entries recorded before the
+     * call have been written or dropped after failed attempts.
+     */
+    void flush();
+
+    /**
+     * Writes the queued task history entries and stops the background threads of the engine: the task event listeners
+     * are unregistered and the shutdown hook of the history writer is removed. Should be called when the application
+     * no longer uses the engine. A JVM which ends without this call still writes the queued entries in a shutdown
+     * hook.
+     */
+    void close();
+
     /**
      * sets the connection management mode for taskana.
      *
@@ -135,4 +135,11 @@ public interface Workbasket {
      *            the distribution targets of the workbasket
      */
     void setDistributionTargets(List<Workbasket> distributionTargets);
+
+    /**
+     * Returns the number of times the workbasket has been updated.
+     *
+     * @return version
+     */
+    int getVersion();
 }
@@ -2,6 +2,7 @@ package pro.taskana;
 
 import java.util.List;
 
+import pro.taskana.exceptions.ConcurrencyException;
 import pro.taskana.exceptions.InvalidWorkbasketException;
 import pro.taskana.exceptions.NotAuthorizedException;
 import pro.taskana.exceptions.WorkbasketNotFoundException;
@@ -73,12 +74,14 @@ public interface WorkbasketService {
      * @throws InvalidWorkbasketException
      *             if a required property of the workbasket is not set
      * @throws WorkbasketNotFoundException
-     *             if the updated work basket references a distribution target that does not exist
+     *             if the work basket or a distribution target it references does not exist
      * @throws NotAuthorizedException
      *             if the current user is not authorized to update the work basket
+     * @throws ConcurrencyException
+     *             if the work basket has been updated by another user since it was read
      */
     Workbasket updateWorkbasket(Workbasket workbasket)
-        throws InvalidWorkbasketException, WorkbasketNotFoundException, NotAuthorizedException;
+        throws InvalidWorkbasketException, WorkbasketNotFoundException, NotAuthorizedException, ConcurrencyException;
 
     /**
      * Create and persist a new Workbasket Authorization with a Workbasket and a AccessId.
@@ -1,10 +1,21 @@
 package pro.taskana.configuration;
 
+import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import javax.sql.DataSource;
 
@@ -13,15 +24,41 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * This class create the schema for taskana.
+ * This class create the schema for taskana. Schemas that have been created by a previous version are upgraded with
+ * versioned migration scripts. Besides the tables it maintains a versioned set of indexes, which is also applied to
+ * schemas that have been created by a previous version.
  */
 public class DbSchemaCreator {
 
+    /**
+     * Current version of the index set. Each version n has a script /sql/indexes/&lt;database&gt;-n.sql which is run
+     * once on schemas with a lower version.
+     */
+    public static final int INDEX_SET_VERSION = 5;
+
+    /**
+     * Current version of the schema migrations. Each version n has a script /sql/migrations/&lt;database&gt;-n.sql
+     * which is run once on schemas with a lower version, before the index sets. New schemas are created in the current
+     * version.
+     */
+    public static final int SCHEMA_MIGRATION_VERSION = 7;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(DbSchemaCreator.class);
 
     private static final String SQL = "/sql";
     private static final String DB_SCHEMA = SQL + "/taskana-schema.sql";
     private static final String DB_SCHEMA_DETECTION = SQL + "/schema-detection.sql";
+    private static final String DB_INDEXES = SQL + "/indexes/";
+    private static final String DB_MIGRATIONS = SQL + "/migrations/";
+    private static final String INDEX_SET_ID = "INDEX_SET";
+    private static final String SCHEMA_MIGRATION_ID = "SCHEMA_MIGRATION";
+
+    /**
+     * SQL states of "object already exists" errors of DB2 (42710, 42711) and H2 (42S01, 42S11, 42S21, 90035). They
+     * are tolerated when a script is run again after a partial or repeated run.
+     */
+    private static final Set<String> ALREADY_EXISTS_STATES = new HashSet<>(
+        Arrays.asList("42710", "42711", "42S01", "42S11", "42S21", "90035"));
 
     private DataSource dataSource;
 
@@ -48,9 +85,13 @@ public class DbSchemaCreator {
         runner.setLogWriter(logWriter);
         runner.setErrorLogWriter(errorLogWriter);
 
-        if (!isSchemaPreexisting(runner)) {
+        if (isSchemaPreexisting(runner)) {
+            applyMigrations(connection);
+        } else {
             runner.runScript(new InputStreamReader(this.getClass().getResourceAsStream(DB_SCHEMA)));
+            setVersion(connection, SCHEMA_MIGRATION_ID, 0, SCHEMA_MIGRATION_VERSION);
         }
+        applyIndexSet(connection);
         runner.closeConnection();
 
         LOGGER.debug(outWriter.toString());
@@ -70,6 +111,120 @@ public class DbSchemaCreator {
         return true;
     }
 
+    private void applyMigrations(Connection connection) throws SQLException {
+        String databaseProductName = connection.getMetaData().getDatabaseProductName();
+        String database = getScriptPrefix(databaseProductName);
+        if (database == null) {
+            LOGGER.warn("No schema migrations available for database {}. The schema has to be upgraded manually.",
+                databaseProductName);
+            return;
+        }
+        int version = getVersion(connection, SCHEMA_MIGRATION_ID);
+        for (int next = version + 1; next <= SCHEMA_MIGRATION_VERSION; next++) {
+            LOGGER.info("Applying schema migration version {} for {}.", next, databaseProductName);
+            runStatements(connection, DB_MIGRATIONS + database + "-" + next + ".sql");
+            setVersion(connection, SCHEMA_MIGRATION_ID, next - 1, next);
+        }
+    }
+
+    private void applyIndexSet(Connection connection) throws SQLException {
+        String databaseProductName = connection.getMetaData().getDatabaseProductName();
+        String database = getScriptPrefix(databaseProductName);
+        if (database == null) {
+            LOGGER.warn("No index set available for database {}. Indexes have to be created manually.",
+                databaseProductName);
+            return;
+        }
+        int version = getVersion(connection, INDEX_SET_ID);
+        for (int next = version + 1; next <= INDEX_SET_VERSION; next++) {
+            LOGGER.debug("Applying index set version {} for {}.", next, databaseProductName);
+            runStatements(connection, DB_INDEXES + database + "-" + next + ".sql");
+            setVersion(connection, INDEX_SET_ID, next - 1, next);
+        }
+    }
+
+    /**
+     * Runs the statements of a script one by one. Statements failing because their object already exists are
+     * skipped, so a script which was interrupted or already applied can be run again.
+     */
+    private void runStatements(Connection connection, String script) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : readStatements(script)) {
+                try {
+                    statement.execute(sql);
+                } catch (SQLException e) {
+                    if (!ALREADY_EXISTS_STATES.contains(e.getSQLState())) {
+                        throw e;
+                    }
+                    LOGGER.debug("Skipped {}, the object already exists.", sql);
+                }
+            }
+        }
+        if (!connection.getAutoCommit()) {
+            connection.commit();
+        }
+    }
+
+    private List<String> readStatements(String script) throws SQLException {
+        List<String> statements = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(this.getClass().getResourceAsStream(script), StandardCharsets.UTF_8))) {
+            StringBuilder sql = new StringBuilder();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("--")) {
+                    continue;
+                }
+                sql.append(line).append('\n');
+                if (trimmed.endsWith(";")) {
+                    String statement = sql.toString().trim();
+                    statements.add(statement.substring(0, statement.length() - 1));
+                    sql.setLength(0);
+                }
+            }
+            if (sql.toString().trim().length() > 0) {
+                statements.add(sql.toString().trim());
+            }
+        } catch (IOException e) {
+            throw new SQLException("Could not read script " + script, e);
+        }
+        return statements;
+    }
+
+    private String getScriptPrefix(String databaseProductName) {
+        if ("H2".equals(databaseProductName)) {
+            return "h2";
+        } else if (databaseProductName != null && databaseProductName.startsWith("DB2")) {
+            return "db2";
+        }
+        return null;
+    }
+
+    private int getVersion(Connection connection, String id) throws SQLException {
+        try (PreparedStatement statement = connection
+            .prepareStatement("SELECT VERSION FROM TASKANA_SCHEMA_VERSION WHERE ID = ?")) {
+            statement.setString(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? Integer.parseInt(resultSet.getString(1).trim()) : 0;
+            }
+        }
+    }
+
+    private void setVersion(Connection connection, String id, int oldVersion, int newVersion) throws SQLException {
+        String sql = oldVersion == 0
+            ? "INSERT INTO TASKANA_SCHEMA_VERSION (VERSION, ID) VALUES (?, ?)"
+            : "UPDATE TASKANA_SCHEMA_VERSION SET VERSION = ? WHERE ID = ?";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, Integer.toString(newVersion));
+            statement.setString(2, id);
+            statement.executeUpdate();
+        }
+        if (!connection.getAutoCommit()) {
+            connection.commit();
+        }
+    }
+
     public DataSource getDataSource() {
         return dataSource;
     }
@@ -0,0 +1,30 @@
+package pro.taskana.configuration;
+
+/**
+ * Determines when the entries of the task history are written and what happens if the background writer falls
+ * behind.
+ */
+public enum TaskHistoryDurability {
+
+    /**
+     * The entries are inserted by the API call which changes the task, in its transaction. A rollback removes them
+     * together with the change, but every call pays for the insert.
+     */
+    SYNCHRONOUS,
+
+    /**
+     * The entries are queued after the API call has been committed and inserted in JDBC batches by a background writer.
+     * If the queue is full, the API call waits until the writer has made room. TaskanaEngine.flush() and close() write
+     * the queued entries, a shutdown hook writes them when the JVM ends. They are lost if the JVM is halted or killed
+     * before. In the modes EXPLICIT and PARTICIPATE the client commits, the entries are queued after that commit if the
+     * engine learns about it, like the one of the taskana-spring module. Otherwise they are inserted synchronously, so
+     * they are rolled back together with the change, and a warning is logged.
+     */
+    BATCHED,
+
+    /**
+     * Like {@link #BATCHED}, but an API call never waits. If the queue is full, the entries are dropped and a warning
+     * is logged.
+     */
+    FIRE_AND_FORGET
+}
@@ -1,6 +1,7 @@
 package pro.taskana.configuration;
 
 import java.sql.SQLException;
+import java.time.Duration;
 
 import javax.sql.DataSource;
 
@@ -10,6 +11,8 @@ import org.slf4j.LoggerFactory;
 
 import pro.taskana.TaskanaEngine;
 import pro.taskana.impl.TaskanaEngineImpl;
+import pro.taskana.impl.persistence.AttributeCodec;
+import pro.taskana.impl.persistence.CompactAttributeCodec;
 
 /**
  * This central class creates the TaskanaEngine and holds all the information about DB and Security.
@@ -22,6 +25,24 @@ public class TaskanaEngineConfiguration {
     private static final String USER_PASSWORD = "sa";
     private static final String JDBC_H2_MEM_TASKANA = "jdbc:h2:mem:taskana";
     private static final String H2_DRIVER = "org.h2.Driver";
+    private static final int DEFAULT_CLASSIFICATION_CACHE_SIZE = 1000;
+    private static final int DEFAULT_AUTHORIZATION_CACHE_SIZE = 10000;
+    private static final Duration DEFAULT_CLASSIFICATION_CACHE_TIME_TO_LIVE = Duration.ofMinutes(5);
+    private static final Duration DEFAULT_AUTHORIZATION_CACHE_TIME_TO_LIVE = Duration.ofSeconds(30);
+    private static final int DEFAULT_MONITOR_REPORT_CACHE_SIZE = 100;
+    private static final int DEFAULT_STREAMING_FETCH_SIZE = 500;
+    private static final int DEFAULT_CLAIM_NEXT_CANDIDATES = 10;
+    private static final int DEFAULT_BULK_OPERATION_CHUNK_SIZE = 500;
+    private static final int DEFAULT_TASK_EVENT_BATCH_SIZE = 100;
+    private static final Duration DEFAULT_TASK_EVENT_POLL_INTERVAL = Duration.ofSeconds(1);
+    private static final Duration DEFAULT_TASK_EVENT_GAP_TIMEOUT = Duration.ofMinutes(1);
+    private static final Duration DEFAULT_TASK_EVENT_CONSUMER_EXPIRY = Duration.ofDays(7);
+    private static final Duration DEFAULT_CHANGE_CURSOR_LAG = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_TASK_TOMBSTONE_RETENTION = Duration.ofDays(7);
+    private static final int DEFAULT_TASK_HISTORY_QUEUE_CAPACITY = 10000;
+    private static final int DEFAULT_TASK_HISTORY_BATCH_SIZE = 500;
+    private static final Duration DEFAULT_TASK_ARCHIVE_AGE = Duration.ofDays(90);
+    private static final int DEFAULT_TASK_ARCHIVE_CHUNK_SIZE = 500;
 
     protected DataSource dataSource;
     protected DbSchemaCreator dbScriptRunner;
@@ -31,6 +52,54 @@ public class TaskanaEngineConfiguration {
     protected boolean securityEnabled;
     protected boolean useManagedTransactions;
 
+    // maximum number of entries of the engine wide classification cache, 0 disables the cache
+    protected int classificationCacheSize = DEFAULT_CLASSIFICATION_CACHE_SIZE;
+    // classifications are cached for this time at most, zero disables the cache
+    protected Duration classificationCacheTimeToLive = DEFAULT_CLASSIFICATION_CACHE_TIME_TO_LIVE;
+
+    // workbasket authorization decisions are cached per access id set for this time, zero disables the cache
+    protected Duration authorizationCacheTimeToLive = DEFAULT_AUTHORIZATION_CACHE_TIME_TO_LIVE;
+    protected int authorizationCacheSize = DEFAULT_AUTHORIZATION_CACHE_SIZE;
+
+    // results of the TaskMonitorService are shared for this time, zero only coalesces concurrent identical requests
+    protected Duration monitorReportCacheTimeToLive = Duration.ZERO;
+    protected int monitorReportCacheSize = DEFAULT_MONITOR_REPORT_CACHE_SIZE;
+
+    // format in which the custom attributes of tasks and attachments are written
+    protected AttributeCodec attributeCodec = new CompactAttributeCodec();
+
+    // number of rows the jdbc driver fetches at once when query results are streamed
+    protected int streamingFetchSize = DEFAULT_STREAMING_FETCH_SIZE;
+
+    // number of READY tasks claimNext() reads per attempt on databases without skip locked support
+    protected int claimNextCandidates = DEFAULT_CLAIM_NEXT_CANDIDATES;
+
+    // number of tasks the bulk operations of TaskService read and update with one statement
+    protected int bulkOperationChunkSize = DEFAULT_BULK_OPERATION_CHUNK_SIZE;
+
+    // task changes are recorded in the TASK_EVENT table and delivered to the registered TaskEventListeners. Events are
+    // only deleted after delivery, so recording is disabled unless listeners consume them
+    protected boolean taskEventsEnabled = false;
+    protected int taskEventBatchSize = DEFAULT_TASK_EVENT_BATCH_SIZE;
+    protected Duration taskEventPollInterval = DEFAULT_TASK_EVENT_POLL_INTERVAL;
+    protected Duration taskEventGapTimeout = DEFAULT_TASK_EVENT_GAP_TIMEOUT;
+    protected Duration taskEventConsumerExpiry = DEFAULT_TASK_EVENT_CONSUMER_EXPIRY;
+
+    // cursors of TaskQuery.modifiedSince() stay behind changes younger than this, which may still be uncommitted
+    protected Duration changeCursorLag = DEFAULT_CHANGE_CURSOR_LAG;
+    // TaskanaEngine.archiveCompletedTasks() deletes the records of removed tasks older than this
+    protected Duration taskTombstoneRetention = DEFAULT_TASK_TOMBSTONE_RETENTION;
+
+    // who claimed, completed and transferred a task is recorded in the TASK_HISTORY table
+    protected boolean taskHistoryEnabled = true;
+    protected TaskHistoryDurability taskHistoryDurability = TaskHistoryDurability.BATCHED;
+    protected int taskHistoryQueueCapacity = DEFAULT_TASK_HISTORY_QUEUE_CAPACITY;
+    protected int taskHistoryBatchSize = DEFAULT_TASK_HISTORY_BATCH_SIZE;
+
+    // TaskanaEngine.archiveCompletedTasks() moves tasks completed longer ago than this, in chunks of the given size
+    protected Duration taskArchiveAge = DEFAULT_TASK_ARCHIVE_AGE;
+    protected int taskArchiveChunkSize = DEFAULT_TASK_ARCHIVE_CHUNK_SIZE;
+
     public TaskanaEngineConfiguration() {
     }
 
@@ -99,6 +168,364 @@ public class TaskanaEngineConfiguration {
         return this.useManagedTransactions;
     }
 
+    public int getClassificationCacheSize() {
+        return this.classificationCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of entries of the classification cache. Must be called before the TaskanaEngine is
+     * built, a size of 0 disables the cache.
+     *
+     * @param classificationCacheSize
+     *            the maximum number of cached classifications
+     */
+    public void setClassificationCacheSize(int classificationCacheSize) {
+        this.classificationCacheSize = classificationCacheSize;
+    }
+
+    public Duration getClassificationCacheTimeToLive() {
+        return this.classificationCacheTimeToLive;
+    }
+
+    /**
+     * Sets the time a classification is cached. Changes made via the ClassificationService of the same engine are
+     * visible immediately. In the modes EXPLICIT and PARTICIPATE the client ends the transaction, and an engine which
+     * does not learn about its end, see {@link pro.taskana.impl.TaskanaEngineImpl#registerAfterCompletion(Runnable)},
+     * may keep a classification read before the commit, or an uncommitted one read before a rollback, for up to this
+     * time. Changes made by other means become visible after this time at the latest. Must be called before the
+     * TaskanaEngine is built, Duration.ZERO disables the cache.
+     *
+     * @param classificationCacheTimeToLive
+     *            the time to live of a cached classification
+     */
+    public void setClassificationCacheTimeToLive(Duration classificationCacheTimeToLive) {
+        this.classificationCacheTimeToLive = classificationCacheTimeToLive;
+    }
+
+    public Duration getAuthorizationCacheTimeToLive() {
+        return this.authorizationCacheTimeToLive;
+    }
+
+    /**
+     * Sets the time a workbasket authorization decision is cached. Changes of workbasket authorizations made via the
+     * WorkbasketService of the same engine are visible immediately, all other changes after this time at the latest.
+     * In the modes EXPLICIT and PARTICIPATE the client commits the change after the cache has been invalidated. If the
+     * engine does not learn about this commit, a check running between the invalidation and the commit still reads and
+     * caches the old authorization, which then stays in effect for up to this time. Must be called before the TaskanaEngine is built, Duration.ZERO disables the cache.
+     *
+     * @param authorizationCacheTimeToLive
+     *            the time to live of a cached decision
+     */
+    public void setAuthorizationCacheTimeToLive(Duration authorizationCacheTimeToLive) {
+        this.authorizationCacheTimeToLive = authorizationCacheTimeToLive;
+    }
+
+    public int getAuthorizationCacheSize() {
+        return this.authorizationCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of cached workbasket authorization decisions. Must be called before the TaskanaEngine
+     * is built, a size of 0 disables the cache.
+     *
+     * @param authorizationCacheSize
+     *            the maximum number of cached decisions
+     */
+    public void setAuthorizationCacheSize(int authorizationCacheSize) {
+        this.authorizationCacheSize = authorizationCacheSize;
+    }
+
+    public Duration getMonitorReportCacheTimeToLive() {
+        return this.monitorReportCacheTimeToLive;
+    }
+
+    /**
+     * Sets the time the results of the TaskMonitorService are reused for requests with the same parameters. A
+     * dashboard then shows the tasks as they were up to this time ago. Must be called before the TaskanaEngine is
+     * built, Duration.ZERO, the default, reads every report from the database.
+     *
+     * @param monitorReportCacheTimeToLive
+     *            the time to live of a cached report
+     */
+    public void setMonitorReportCacheTimeToLive(Duration monitorReportCacheTimeToLive) {
+        this.monitorReportCacheTimeToLive = monitorReportCacheTimeToLive;
+    }
+
+    public int getMonitorReportCacheSize() {
+        return this.monitorReportCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of cached monitor reports. Must be called before the TaskanaEngine is built, a size of
+     * 0 disables the cache.
+     *
+     * @param monitorReportCacheSize
+     *            the maximum number of cached reports
+     */
+    public void setMonitorReportCacheSize(int monitorReportCacheSize) {
+        this.monitorReportCacheSize = monitorReportCacheSize;
+    }
+
+    public AttributeCodec getAttributeCodec() {
+        return this.attributeCodec;
+    }
+
+    /**
+     * Sets the codec that writes the custom attributes of tasks and attachments. Rows written by other codecs stay
+     * readable as long as their format is known, see CustomAttributesMigrator to rewrite them. Must be called before
+     * the TaskanaEngine is built.
+     *
+     * @param attributeCodec
+     *            the codec for new and updated custom attributes
+     */
+    public void setAttributeCodec(AttributeCodec attributeCodec) {
+        this.attributeCodec = attributeCodec;
+    }
+
+    public int getStreamingFetchSize() {
+        return this.streamingFetchSize;
+    }
+
+    /**
+     * Sets the JDBC fetch size of streamed queries like TaskQuery.forEach(). Must be called before the TaskanaEngine
+     * is built.
+     *
+     * @param streamingFetchSize
+     *            the number of rows fetched from the database in one round trip
+     */
+    public void setStreamingFetchSize(int streamingFetchSize) {
+        this.streamingFetchSize = streamingFetchSize;
+    }
+
+    public int getClaimNextCandidates() {
+        return this.claimNextCandidates;
+    }
+
+    /**
+     * Sets the number of READY tasks TaskService.claimNext() reads in one attempt if the database cannot skip rows
+     * locked by other workers. The candidates are claimed in order of priority until one claim succeeds, so a higher
+     * value means fewer repeated reads when many workers compete for the same workbaskets.
+     *
+     * @param claimNextCandidates
+     *            the number of candidates read per attempt
+     */
+    public void setClaimNextCandidates(int claimNextCandidates) {
+        this.claimNextCandidates = claimNextCandidates;
+    }
+
+    public int getBulkOperationChunkSize() {
+        return this.bulkOperationChunkSize;
+    }
+
+    /**
+     * Sets the number of tasks which the bulk operations like TaskService.transferTasks() read and update with one
+     * statement. Larger lists of task ids are split into chunks of this size to stay within the limits of the database
+     * for the length of IN lists.
+     *
+     * @param bulkOperationChunkSize
+     *            the number of task ids per statement
+     */
+    public void setBulkOperationChunkSize(int bulkOperationChunkSize) {
+        this.bulkOperationChunkSize = bulkOperationChunkSize;
+    }
+
+    public boolean isTaskEventsEnabled() {
+        return taskEventsEnabled;
+    }
+
+    /**
+     * Enables or disables the recording of task changes in the TASK_EVENT table. Without recording, registered
+     * TaskEventListeners receive no events. Recorded events are deleted when all consumers have received them, so
+     * recording should only be enabled if a TaskEventListener is registered. Disabled by default.
+     *
+     * @param taskEventsEnabled
+     *            true to record an event with each change of a task
+     */
+    public void setTaskEventsEnabled(boolean taskEventsEnabled) {
+        this.taskEventsEnabled = taskEventsEnabled;
+    }
+
+    public int getTaskEventBatchSize() {
+        return taskEventBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of events handed to a TaskEventListener at once.
+     *
+     * @param taskEventBatchSize
+     *            the maximum number of events per call of the listener
+     */
+    public void setTaskEventBatchSize(int taskEventBatchSize) {
+        this.taskEventBatchSize = taskEventBatchSize;
+    }
+
+    public Duration getTaskEventPollInterval() {
+        return taskEventPollInterval;
+    }
+
+    /**
+     * Sets the delay between two reads of new task events for a registered listener. Must be called before the
+     * listener is registered.
+     *
+     * @param taskEventPollInterval
+     *            the delay after all available events have been delivered
+     */
+    public void setTaskEventPollInterval(Duration taskEventPollInterval) {
+        this.taskEventPollInterval = taskEventPollInterval;
+    }
+
+    public Duration getTaskEventGapTimeout() {
+        return taskEventGapTimeout;
+    }
+
+    /**
+     * Sets how long the delivery of task events waits for a missing event id. Ids are assigned when an event is
+     * written, but transactions can commit in a different order, so a missing id may belong to a transaction which
+     * is still running. Ids can also be lost for good, e.g. by a rollback, so events after a gap are delivered once
+     * they are older than this timeout. It should exceed the duration of the longest transaction changing tasks.
+     *
+     * @param taskEventGapTimeout
+     *            the maximum time to wait for the event of a missing id
+     */
+    public void setTaskEventGapTimeout(Duration taskEventGapTimeout) {
+        this.taskEventGapTimeout = taskEventGapTimeout;
+    }
+
+    public Duration getTaskEventConsumerExpiry() {
+        return taskEventConsumerExpiry;
+    }
+
+    /**
+     * Sets after which time the stored position of a consumer id without a registered listener is removed. Until then
+     * the events the consumer has not received yet are retained. The positions of registered listeners are refreshed
+     * by their polls and do not expire.
+     *
+     * @param taskEventConsumerExpiry
+     *            the time after the last poll of a consumer its position is removed
+     */
+    public void setTaskEventConsumerExpiry(Duration taskEventConsumerExpiry) {
+        this.taskEventConsumerExpiry = taskEventConsumerExpiry;
+    }
+
+    public Duration getChangeCursorLag() {
+        return changeCursorLag;
+    }
+
+    /**
+     * Sets how far the cursor returned by TaskQuery.modifiedSince() stays behind the newest change. Change sequence
+     * values are assigned when a task is written, but become visible only when the transaction commits, so the cursor
+     * only passes changes older than this lag. Younger changes are returned again by the next call. The lag should
+     * exceed the duration of the longest transaction changing tasks.
+     *
+     * @param changeCursorLag
+     *            the minimum age of the changes the cursor passes
+     */
+    public void setChangeCursorLag(Duration changeCursorLag) {
+        this.changeCursorLag = changeCursorLag;
+    }
+
+    public Duration getTaskTombstoneRetention() {
+        return taskTombstoneRetention;
+    }
+
+    /**
+     * Sets how long TaskQuery.modifiedSince() can report a task as removed after it left a workbasket or state or has
+     * been archived. Older records are deleted by TaskanaEngine.archiveCompletedTasks(), a cursor older than this may
+     * miss removals and should be replaced by a full query with cursor 0.
+     *
+     * @param taskTombstoneRetention
+     *            the time removals are kept
+     */
+    public void setTaskTombstoneRetention(Duration taskTombstoneRetention) {
+        this.taskTombstoneRetention = taskTombstoneRetention;
+    }
+
+    public boolean isTaskHistoryEnabled() {
+        return taskHistoryEnabled;
+    }
+
+    /**
+     * Enables or disables the task history. Must be called before the TaskanaEngine is built.
+     *
+     * @param taskHistoryEnabled
+     *            true if the lifecycle changes of tasks are written to the TASK_HISTORY table
+     */
+    public void setTaskHistoryEnabled(boolean taskHistoryEnabled) {
+        this.taskHistoryEnabled = taskHistoryEnabled;
+    }
+
+    public TaskHistoryDurability getTaskHistoryDurability() {
+        return taskHistoryDurability;
+    }
+
+    /**
+     * Sets when history entries are written, see {@link TaskHistoryDurability}. Takes effect for entries recorded
+     * after the call.
+     *
+     * @param taskHistoryDurability
+     *            the durability of the history entries
+     */
+    public void setTaskHistoryDurability(TaskHistoryDurability taskHistoryDurability) {
+        this.taskHistoryDurability = taskHistoryDurability;
+    }
+
+    public int getTaskHistoryQueueCapacity() {
+        return taskHistoryQueueCapacity;
+    }
+
+    /**
+     * Sets how many history entries may wait for the background writer. Must be called before the TaskanaEngine is
+     * built.
+     *
+     * @param taskHistoryQueueCapacity
+     *            the maximum number of queued history entries
+     */
+    public void setTaskHistoryQueueCapacity(int taskHistoryQueueCapacity) {
+        this.taskHistoryQueueCapacity = taskHistoryQueueCapacity;
+    }
+
+    public int getTaskHistoryBatchSize() {
+        return taskHistoryBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of history entries the background writer sends to the database in one JDBC batch.
+     *
+     * @param taskHistoryBatchSize
+     *            the maximum number of entries per batch
+     */
+    public void setTaskHistoryBatchSize(int taskHistoryBatchSize) {
+        this.taskHistoryBatchSize = taskHistoryBatchSize;
+    }
+
+    public Duration getTaskArchiveAge() {
+        return taskArchiveAge;
+    }
+
+    /**
+     * Sets how long a task stays in the task table after its completion before the archival moves it.
+     *
+     * @param taskArchiveAge
+     *            the minimum time since the completion of an archived task
+     */
+    public void setTaskArchiveAge(Duration taskArchiveAge) {
+        this.taskArchiveAge = taskArchiveAge;
+    }
+
+    public int getTaskArchiveChunkSize() {
+        return taskArchiveChunkSize;
+    }
+
+    /**
+     * Sets how many tasks the archival moves per transaction. Smaller chunks hold fewer locks for a shorter time.
+     *
+     * @param taskArchiveChunkSize
+     *            the maximum number of tasks moved per transaction
+     */
+    public void setTaskArchiveChunkSize(int taskArchiveChunkSize) {
+        this.taskArchiveChunkSize = taskArchiveChunkSize;
+    }
+
     /**
      * Helper method to determine whether all access ids (user Id and group ids) should be used in lower case.
      *
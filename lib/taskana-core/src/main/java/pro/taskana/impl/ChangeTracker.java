@@ -0,0 +1,58 @@
+package pro.taskana.impl;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Keeps the persistent property values of an entity to determine which properties have been changed since the entity
+ * was read or written. Entities whose changes are not tracked report all properties as changed, so they are written
+ * completely.
+ */
+final class ChangeTracker {
+
+    private Map<String, Object> persistentValues;
+
+    /**
+     * Remembers the given values as the persistent state of the entity.
+     *
+     * @param values
+     *            the current property values of the entity, keyed by property name. Mutable values must be copied.
+     */
+    void track(Map<String, Object> values) {
+        this.persistentValues = values;
+    }
+
+    /**
+     * Takes over the persistent state of another tracker, so a copy of an entity reports the same changes as the
+     * entity it was copied from.
+     *
+     * @param other
+     *            the tracker of the copied entity
+     */
+    void copyFrom(ChangeTracker other) {
+        // the persistent values are never modified, so they can be shared
+        this.persistentValues = other.persistentValues;
+    }
+
+    /**
+     * Compares the current property values with the persistent state.
+     *
+     * @param values
+     *            the current property values of the entity, keyed by property name
+     * @return the names of the changed properties, or of all properties if the changes are not tracked
+     */
+    Set<String> changedProperties(Map<String, Object> values) {
+        if (persistentValues == null) {
+            return new LinkedHashSet<>(values.keySet());
+        }
+        Set<String> changedProperties = new LinkedHashSet<>();
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            if (!Objects.equals(entry.getValue(), persistentValues.get(entry.getKey()))) {
+                changedProperties.add(entry.getKey());
+            }
+        }
+        return changedProperties;
+    }
+}
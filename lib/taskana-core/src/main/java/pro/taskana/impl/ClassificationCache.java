@@ -0,0 +1,305 @@
+package pro.taskana.impl;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.model.CacheStatistics;
+import pro.taskana.model.ClassificationTreeNode;
+
+/**
+ * Bounded, thread safe cache of classifications, shared by all services of a TaskanaEngine. Entries are keyed by
+ * classification key, domain and validUntil date. The information that a classification does not exist is cached as
+ * well, so the root domain fallback does not query the domain specific classification over and over again. The
+ * least recently used entry is evicted when the cache is full and every entry expires after a configurable time to
+ * live. Every lookup returns a copy of the cached classification, so callers can't change the cached state. The copy
+ * keeps the tracked persistent state, so an update of it writes only the changed properties. The classification tree
+ * is cached as a whole and dropped with any invalidation. The ClassificationService invalidates the entries of a key
+ * when it creates or updates a classification and again when the transaction has ended, see
+ * {@link TaskanaEngineImpl#runAfterCompletion(Runnable)}; changes made to the database by other means, and
+ * uncommitted rows cached in a transaction whose end the engine does not learn about, become visible or disappear
+ * when the entries expire.
+ */
+class ClassificationCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ClassificationCache.class);
+    private static final String NAME = "classifications";
+
+    private final int maxSize;
+    private final long timeToLiveMillis;
+    private final Map<Key, Entry> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private List<ClassificationTreeNode> tree;
+    private long treeExpiresAt;
+    // incremented on every invalidation, loads that overlap an invalidation are not cached
+    private long generation;
+
+    /**
+     * Creates a cache that holds up to maxSize entries for the given time. A cache with maxSize 0 or a time to live of
+     * zero does not cache at all.
+     *
+     * @param maxSize
+     *            the maximum number of cached entries
+     * @param timeToLive
+     *            the time an entry is cached
+     */
+    ClassificationCache(int maxSize, Duration timeToLive) {
+        this.timeToLiveMillis = timeToLive == null || timeToLive.isNegative() ? 0 : timeToLive.toMillis();
+        this.maxSize = timeToLiveMillis == 0 ? 0 : Math.max(maxSize, 0);
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > ClassificationCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the classification for the given key, using the loader if the key is not cached.
+     *
+     * @param key
+     *            the key of the classification
+     * @param loader
+     *            reads the classification from the database, returns null if it does not exist
+     * @return a copy of the classification or null if the classification does not exist
+     */
+    ClassificationImpl get(Key key, Supplier<ClassificationImpl> loader) {
+        long generationBeforeLoad;
+        synchronized (this) {
+            Entry entry = current(key);
+            if (entry != null) {
+                hits.incrementAndGet();
+                return copy(entry.classification);
+            }
+            generationBeforeLoad = generation;
+        }
+        misses.incrementAndGet();
+        ClassificationImpl loaded = loader.get();
+        return put(key, loaded, generationBeforeLoad) ? copy(loaded) : loaded;
+    }
+
+    /**
+     * Returns the classifications for all given keys. The keys that are not cached are handed to the loader in one
+     * call, so they can be read with a single statement.
+     *
+     * @param keys
+     *            the keys of the classifications
+     * @param loader
+     *            reads the classifications for the missing keys from the database
+     * @return copies of the classifications by key, keys of not existing classifications are not contained
+     */
+    Map<Key, ClassificationImpl> getAll(Collection<Key> keys,
+        Function<Set<Key>, Collection<ClassificationImpl>> loader) {
+        Map<Key, ClassificationImpl> result = new HashMap<>();
+        Set<Key> missingKeys = new HashSet<>();
+        long generationBeforeLoad;
+        synchronized (this) {
+            for (Key key : keys) {
+                Entry entry = current(key);
+                if (entry != null) {
+                    hits.incrementAndGet();
+                    if (entry.classification != null) {
+                        result.put(key, copy(entry.classification));
+                    }
+                } else {
+                    misses.incrementAndGet();
+                    missingKeys.add(key);
+                }
+            }
+            generationBeforeLoad = generation;
+        }
+        if (!missingKeys.isEmpty()) {
+            Map<Key, ClassificationImpl> loaded = new HashMap<>();
+            for (ClassificationImpl classification : loader.apply(missingKeys)) {
+                Key key = new Key(classification.getKey(), classification.getDomain(),
+                    classification.getValidUntil());
+                if (missingKeys.contains(key)) {
+                    loaded.put(key, classification);
+                }
+            }
+            for (Key key : missingKeys) {
+                ClassificationImpl classification = loaded.get(key);
+                boolean cached = put(key, classification, generationBeforeLoad);
+                if (classification != null) {
+                    result.put(key, cached ? copy(classification) : classification);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the tree of the current classifications, using the loader if it is not cached.
+     *
+     * @param loader
+     *            reads the classifications and builds the tree
+     * @return a copy of the root nodes of the tree
+     */
+    List<ClassificationTreeNode> getTree(Supplier<List<ClassificationTreeNode>> loader) {
+        long generationBeforeLoad;
+        synchronized (this) {
+            if (tree != null && treeExpiresAt > System.currentTimeMillis()) {
+                hits.incrementAndGet();
+                return copy(tree);
+            }
+            generationBeforeLoad = generation;
+        }
+        misses.incrementAndGet();
+        List<ClassificationTreeNode> loaded = loader.get();
+        synchronized (this) {
+            if (maxSize > 0 && generationBeforeLoad == generation) {
+                tree = loaded;
+                treeExpiresAt = System.currentTimeMillis() + timeToLiveMillis;
+                return copy(loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Removes all entries of a classification key, regardless of domain and validUntil date.
+     *
+     * @param classificationKey
+     *            the key of the changed classification
+     */
+    synchronized void invalidate(String classificationKey) {
+        generation++;
+        tree = null;
+        Iterator<Key> iterator = entries.keySet().iterator();
+        while (iterator.hasNext()) {
+            if (Objects.equals(iterator.next().getClassificationKey(), classificationKey)) {
+                iterator.remove();
+            }
+        }
+        LOGGER.debug("invalidated cached classifications with key {}", classificationKey);
+    }
+
+    synchronized CacheStatistics getStatistics() {
+        return new CacheStatistics(NAME, hits.get(), misses.get(), evictions.get(), entries.size(), maxSize);
+    }
+
+    private synchronized boolean put(Key key, ClassificationImpl classification, long generationBeforeLoad) {
+        if (maxSize > 0 && generationBeforeLoad == generation) {
+            entries.put(key, new Entry(classification, System.currentTimeMillis() + timeToLiveMillis));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the entry of the key if it has not expired, an expired entry is removed.
+     */
+    private Entry current(Key key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private static ClassificationImpl copy(ClassificationImpl classification) {
+        return classification == null ? null : new ClassificationImpl(classification);
+    }
+
+    private static List<ClassificationTreeNode> copy(List<ClassificationTreeNode> nodes) {
+        List<ClassificationTreeNode> copies = new ArrayList<>(nodes.size());
+        for (ClassificationTreeNode node : nodes) {
+            ClassificationTreeNode copy = new ClassificationTreeNode();
+            copy.setClassification(copy((ClassificationImpl) node.getClassification()));
+            copy.setChildren(copy(node.getChildren()));
+            copies.add(copy);
+        }
+        return copies;
+    }
+
+    /**
+     * A cached classification, null if it does not exist.
+     */
+    private static final class Entry {
+
+        private final ClassificationImpl classification;
+        private final long expiresAt;
+
+        Entry(ClassificationImpl classification, long expiresAt) {
+            this.classification = classification;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Key of a cached classification.
+     */
+    static final class Key {
+
+        private final String classificationKey;
+        private final String domain;
+        private final Date validUntil;
+
+        Key(String classificationKey, String domain, Date validUntil) {
+            this.classificationKey = classificationKey;
+            this.domain = domain;
+            this.validUntil = validUntil;
+        }
+
+        String getClassificationKey() {
+            return classificationKey;
+        }
+
+        String getDomain() {
+            return domain;
+        }
+
+        Date getValidUntil() {
+            return validUntil;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(classificationKey, domain, validUntil);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return Objects.equals(classificationKey, other.classificationKey) && Objects.equals(domain, other.domain)
+                && Objects.equals(validUntil, other.validUntil);
+        }
+
+        @Override
+        public String toString() {
+            return "Key [classificationKey=" + classificationKey + ", domain=" + domain + ", validUntil=" + validUntil
+                + "]";
+        }
+    }
+}
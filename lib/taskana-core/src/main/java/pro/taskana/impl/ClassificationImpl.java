@@ -1,6 +1,9 @@
 package pro.taskana.impl;
 
 import java.sql.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 
 import pro.taskana.Classification;
 
@@ -32,9 +35,40 @@ public class ClassificationImpl implements Classification {
     private String custom8;
     private Date validFrom;
     private Date validUntil;
+    private int version;
+
+    private final ChangeTracker changeTracker = new ChangeTracker();
 
     ClassificationImpl() { }
 
+    ClassificationImpl(ClassificationImpl other) {
+        this.id = other.id;
+        this.key = other.key;
+        this.parentClassificationKey = other.parentClassificationKey;
+        this.category = other.category;
+        this.type = other.type;
+        this.domain = other.domain;
+        this.isValidInDomain = other.isValidInDomain;
+        this.created = other.created;
+        this.name = other.name;
+        this.description = other.description;
+        this.priority = other.priority;
+        this.serviceLevel = other.serviceLevel;
+        this.applicationEntryPoint = other.applicationEntryPoint;
+        this.custom1 = other.custom1;
+        this.custom2 = other.custom2;
+        this.custom3 = other.custom3;
+        this.custom4 = other.custom4;
+        this.custom5 = other.custom5;
+        this.custom6 = other.custom6;
+        this.custom7 = other.custom7;
+        this.custom8 = other.custom8;
+        this.validFrom = other.validFrom;
+        this.validUntil = other.validUntil;
+        this.version = other.version;
+        this.changeTracker.copyFrom(other.changeTracker);
+    }
+
     @Override
     public String getId() {
         return id;
@@ -259,6 +293,59 @@ public class ClassificationImpl implements Classification {
         this.validUntil = validUntil;
     }
 
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
+    /**
+     * Remembers the current property values as the persistent state of the classification. Afterwards
+     * {@link #changedProperties()} reports only the properties which have been modified since.
+     */
+    public void trackChanges() {
+        changeTracker.track(propertyValues());
+    }
+
+    /**
+     * Returns the persistent properties which have been modified since {@link #trackChanges()} was called. If the
+     * changes of this classification are not tracked, all persistent properties are returned.
+     *
+     * @return the names of the changed properties
+     */
+    public Set<String> changedProperties() {
+        return changeTracker.changedProperties(propertyValues());
+    }
+
+    private Map<String, Object> propertyValues() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("key", key);
+        values.put("parentClassificationKey", parentClassificationKey);
+        values.put("category", category);
+        values.put("type", type);
+        values.put("domain", domain);
+        values.put("isValidInDomain", isValidInDomain);
+        values.put("name", name);
+        values.put("description", description);
+        values.put("priority", priority);
+        values.put("serviceLevel", serviceLevel);
+        values.put("applicationEntryPoint", applicationEntryPoint);
+        values.put("custom1", custom1);
+        values.put("custom2", custom2);
+        values.put("custom3", custom3);
+        values.put("custom4", custom4);
+        values.put("custom5", custom5);
+        values.put("custom6", custom6);
+        values.put("custom7", custom7);
+        values.put("custom8", custom8);
+        values.put("validFrom", validFrom);
+        values.put("validUntil", validUntil);
+        return values;
+    }
+
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
@@ -308,6 +395,8 @@ public class ClassificationImpl implements Classification {
         builder.append(validFrom);
         builder.append(", validUntil=");
         builder.append(validUntil);
+        builder.append(", version=");
+        builder.append(version);
         builder.append("]");
         return builder.toString();
     }
@@ -4,7 +4,11 @@ import java.sql.Date;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,10 +20,10 @@ import pro.taskana.Task;
 import pro.taskana.TaskanaEngine;
 import pro.taskana.exceptions.ClassificationAlreadyExistException;
 import pro.taskana.exceptions.ClassificationNotFoundException;
-import pro.taskana.exceptions.InvalidArgumentException;
-import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.exceptions.ConcurrencyException;
 import pro.taskana.impl.util.IdGenerator;
 import pro.taskana.impl.util.LoggerUtils;
+import pro.taskana.model.ClassificationTreeNode;
 import pro.taskana.model.mappings.ClassificationMapper;
 
 /**
@@ -32,53 +36,73 @@ public class ClassificationServiceImpl implements ClassificationService {
     private static final Logger LOGGER = LoggerFactory.getLogger(ClassificationServiceImpl.class);
     private ClassificationMapper classificationMapper;
     private TaskanaEngineImpl taskanaEngineImpl;
+    private ClassificationCache classificationCache;
 
-    public ClassificationServiceImpl(TaskanaEngine taskanaEngine, ClassificationMapper classificationMapper) {
+    public ClassificationServiceImpl(TaskanaEngine taskanaEngine, ClassificationMapper classificationMapper,
+        ClassificationCache classificationCache) {
         super();
         this.taskanaEngineImpl = (TaskanaEngineImpl) taskanaEngine;
         this.classificationMapper = classificationMapper;
+        // without a cache of the engine every lookup goes to the database
+        this.classificationCache = classificationCache != null ? classificationCache
+            : new ClassificationCache(0, Duration.ZERO);
     }
 
     @Override
-    public List<Classification> getClassificationTree() throws NotAuthorizedException, InvalidArgumentException {
+    public List<ClassificationTreeNode> getClassificationTree() {
         LOGGER.debug("entry to getClassificationTree()");
-        List<Classification> result = null;
+        List<ClassificationTreeNode> result = null;
         try {
             taskanaEngineImpl.openConnection();
-            List<Classification> rootClassifications;
-            rootClassifications = this.createClassificationQuery()
-                .parentClassificationKey("")
-                .validUntil(CURRENT_CLASSIFICATIONS_VALID_UNTIL)
-                .list();
-            rootClassifications = this.populateChildClassifications(rootClassifications);
-            return rootClassifications;
+            result = classificationCache.getTree(this::buildClassificationTree);
+            return result;
         } finally {
             taskanaEngineImpl.returnConnection();
             if (LOGGER.isDebugEnabled()) {
                 int numberOfResultObjects = result == null ? 0 : result.size();
-                LOGGER.debug("exit from getClassificationTree(). Returning {} resulting Objects: {} ",
-                    numberOfResultObjects, LoggerUtils.listToString(result));
+                LOGGER.debug("exit from getClassificationTree(). Returning {} root classifications",
+                    numberOfResultObjects);
             }
         }
     }
 
-    private List<Classification> populateChildClassifications(List<Classification> classifications)
-        throws NotAuthorizedException, InvalidArgumentException {
-        try {
-            taskanaEngineImpl.openConnection();
-            List<Classification> children = new ArrayList<>();
-            for (Classification classification : classifications) {
-                List<Classification> childClassifications = this.createClassificationQuery()
-                    .parentClassificationKey(classification.getKey())
-                    .validUntil(CURRENT_CLASSIFICATIONS_VALID_UNTIL)
-                    .list();
-                children.addAll(populateChildClassifications(childClassifications));
+    /**
+     * Reads all current classifications with one statement and links each one to its parent. The parent is looked up
+     * in the domain of the classification first and in the root domain second, like {@link #getClassification}.
+     * Classifications without a parent key or whose parent does not exist are roots of the tree.
+     */
+    private List<ClassificationTreeNode> buildClassificationTree() {
+        List<ClassificationImpl> classifications = classificationMapper
+            .findAllByValidUntil(CURRENT_CLASSIFICATIONS_VALID_UNTIL);
+        Map<ClassificationCache.Key, ClassificationTreeNode> nodes = new HashMap<>();
+        for (ClassificationImpl classification : classifications) {
+            ClassificationTreeNode node = new ClassificationTreeNode();
+            node.setClassification(classification);
+            nodes.put(new ClassificationCache.Key(classification.getKey(), classification.getDomain(),
+                CURRENT_CLASSIFICATIONS_VALID_UNTIL), node);
+        }
+        List<ClassificationTreeNode> roots = new ArrayList<>();
+        for (ClassificationImpl classification : classifications) {
+            ClassificationTreeNode node = nodes.get(new ClassificationCache.Key(classification.getKey(),
+                classification.getDomain(), CURRENT_CLASSIFICATIONS_VALID_UNTIL));
+            String parentKey = classification.getParentClassificationKey();
+            ClassificationTreeNode parent = null;
+            if (parentKey != null && !parentKey.isEmpty()) {
+                parent = nodes.get(new ClassificationCache.Key(parentKey, classification.getDomain(),
+                    CURRENT_CLASSIFICATIONS_VALID_UNTIL));
+                if (parent == null) {
+                    parent = nodes.get(new ClassificationCache.Key(parentKey, "", CURRENT_CLASSIFICATIONS_VALID_UNTIL));
+                }
+            }
+            if (parent == null || parent == node) {
+                roots.add(node);
+            } else {
+                parent.getChildren().add(node);
             }
-            classifications.addAll(children);
-            return classifications;
-        } finally {
-            taskanaEngineImpl.returnConnection();
         }
+        LOGGER.debug("Built the classification tree of {} classifications with {} roots.", classifications.size(),
+            roots.size());
+        return roots;
     }
 
     @Override
@@ -102,6 +126,7 @@ public class ClassificationServiceImpl implements ClassificationService {
 
             addClassificationToRootDomain(classificationImpl);
         } finally {
+            invalidateCache(classification.getKey());
             taskanaEngineImpl.returnConnection();
             LOGGER.debug("exit from createClassification()");
         }
@@ -140,12 +165,25 @@ public class ClassificationServiceImpl implements ClassificationService {
         }
     }
 
+    /**
+     * Invalidates the cached classifications of the key and the classification tree. A concurrent load between this
+     * invalidation and the commit reads the old row and a load in the same transaction reads the uncommitted one, both
+     * may be cached, so they are invalidated again when the transaction has ended.
+     */
+    private void invalidateCache(String classificationKey) {
+        classificationCache.invalidate(classificationKey);
+        taskanaEngineImpl.runAfterCompletion(() -> classificationCache.invalidate(classificationKey));
+    }
+
     @Override
-    public void updateClassification(Classification classification) {
+    public void updateClassification(Classification classification) throws ConcurrencyException {
         LOGGER.debug("entry to updateClassification(Classification = {})", classification);
         try {
             taskanaEngineImpl.openConnection();
             ClassificationImpl classificationImpl = (ClassificationImpl) classification;
+            // id and version of the classification as it was read by the caller are replaced by those of the new one
+            String readId = classificationImpl.getId();
+            int readVersion = classificationImpl.getVersion();
             this.initDefaultClassificationValues(classificationImpl);
 
             ClassificationImpl oldClassification = null;
@@ -158,7 +196,7 @@ public class ClassificationServiceImpl implements ClassificationService {
                 if (!oldClassification.getDomain().equals(classificationImpl.getDomain())) {
                     addClassificationToDomain(classificationImpl);
                 } else {
-                    updateExistingClassification(oldClassification, classificationImpl);
+                    updateExistingClassification(oldClassification, classificationImpl, readId, readVersion);
                 }
             } catch (ClassificationNotFoundException e) {
                 classificationImpl.setId(IdGenerator.generateWithPrefix(ID_PREFIX_CLASSIFICATION)); // TODO
@@ -167,6 +205,7 @@ public class ClassificationServiceImpl implements ClassificationService {
                 LOGGER.debug("Method updateClassification() inserted classification {}.", classificationImpl);
             }
         } finally {
+            invalidateCache(classification.getKey());
             taskanaEngineImpl.returnConnection();
             LOGGER.debug("exit from updateClassification().");
         }
@@ -179,6 +218,7 @@ public class ClassificationServiceImpl implements ClassificationService {
      */
     private void initDefaultClassificationValues(ClassificationImpl classification) throws IllegalStateException {
         classification.setId(IdGenerator.generateWithPrefix(ID_PREFIX_CLASSIFICATION));
+        classification.setVersion(0);
 
         classification.setValidFrom(Date.valueOf(LocalDate.now()));
         classification.setValidUntil(CURRENT_CLASSIFICATIONS_VALID_UNTIL);
@@ -224,15 +264,31 @@ public class ClassificationServiceImpl implements ClassificationService {
     }
 
     /**
-     * Set the validUntil-Date of the oldClassification to yesterday and inserts the new Classification.
+     * Set the validUntil-Date of the oldClassification to yesterday and inserts the new Classification. This fails if
+     * the caller did not read the current classification or if it has been updated concurrently.
      *
      * @param oldClassification
      * @param newClassification
+     * @param readId
+     *            the id of the classification the caller has read, null if it has not been read
+     * @param readVersion
+     *            the version of the classification the caller has read
+     * @throws ConcurrencyException
+     *             if the classification has been updated since the caller has read it
      */
     private void updateExistingClassification(ClassificationImpl oldClassification,
-        ClassificationImpl newClassification) {
+        ClassificationImpl newClassification, String readId, int readVersion) throws ConcurrencyException {
+        if (readId != null && !readId.equals(oldClassification.getId())) {
+            throw new ConcurrencyException("The classification has already been updated by another user");
+        }
+        if (readId != null) {
+            oldClassification.setVersion(readVersion);
+        }
         oldClassification.setValidUntil(Date.valueOf(LocalDate.now().minusDays(1)));
-        classificationMapper.update(oldClassification);
+        // the old version comes from the cache with its changes tracked, so only VALID_UNTIL is written
+        if (classificationMapper.update(oldClassification, oldClassification.changedProperties()) == 0) {
+            throw new ConcurrencyException("The classification has already been updated by another user");
+        }
         classificationMapper.insert(newClassification);
         LOGGER.debug("Method updateClassification() updated old classification {} and inserted new {}.",
             oldClassification, newClassification);
@@ -268,9 +324,9 @@ public class ClassificationServiceImpl implements ClassificationService {
         Classification result = null;
         try {
             taskanaEngineImpl.openConnection();
-            result = classificationMapper.findByKeyAndDomain(key, domain, CURRENT_CLASSIFICATIONS_VALID_UNTIL);
+            result = findCurrentClassification(key, domain);
             if (result == null) {
-                result = classificationMapper.findByKeyAndDomain(key, "", CURRENT_CLASSIFICATIONS_VALID_UNTIL);
+                result = findCurrentClassification(key, "");
                 if (result == null) {
                     throw new ClassificationNotFoundException("Classification for key " + key + " was not found");
                 }
@@ -282,6 +338,18 @@ public class ClassificationServiceImpl implements ClassificationService {
         }
     }
 
+    private ClassificationImpl findCurrentClassification(String key, String domain) {
+        return classificationCache.get(new ClassificationCache.Key(key, domain, CURRENT_CLASSIFICATIONS_VALID_UNTIL),
+            () -> {
+                ClassificationImpl classification = classificationMapper.findByKeyAndDomain(key, domain,
+                    CURRENT_CLASSIFICATIONS_VALID_UNTIL);
+                if (classification != null) {
+                    classification.trackChanges();
+                }
+                return classification;
+            });
+    }
+
     @Override
     public ClassificationQuery createClassificationQuery() {
         return new ClassificationQueryImpl(taskanaEngineImpl);
@@ -317,8 +385,12 @@ public class ClassificationServiceImpl implements ClassificationService {
         Classification result = null;
         try {
             taskanaEngineImpl.openConnection();
-            result = classificationMapper.findByTask(classificationKey, task.getWorkbasketKey(),
-                CURRENT_CLASSIFICATIONS_VALID_UNTIL);
+            if (task.getDomain() != null) {
+                result = findCurrentClassification(classificationKey, task.getDomain());
+            } else {
+                result = classificationMapper.findByTask(classificationKey, task.getWorkbasketKey(),
+                    CURRENT_CLASSIFICATIONS_VALID_UNTIL);
+            }
             if (result == null) {
                 throw new ClassificationNotFoundException(
                     "Classification for task with id " + task.getId() + " was not found.");
@@ -330,4 +402,51 @@ public class ClassificationServiceImpl implements ClassificationService {
         }
     }
 
+    /**
+     * Sets the current classification of each of the given tasks. The classifications are matched by classification
+     * key and domain of the task, those that are not cached yet are read with one statement.
+     *
+     * @param tasks
+     *            the tasks the classifications are set on
+     * @throws ClassificationNotFoundException
+     *             if the classification of a task does not exist in the domain of the task
+     */
+    void setClassificationsOfTasks(List<TaskImpl> tasks) throws ClassificationNotFoundException {
+        LOGGER.debug("entry to setClassificationsOfTasks(number of tasks = {})", tasks == null ? 0 : tasks.size());
+        if (tasks == null || tasks.isEmpty()) {
+            LOGGER.debug("exit from setClassificationsOfTasks()");
+            return;
+        }
+        try {
+            taskanaEngineImpl.openConnection();
+            Set<ClassificationCache.Key> cacheKeys = new HashSet<>();
+            for (TaskImpl task : tasks) {
+                cacheKeys.add(new ClassificationCache.Key(task.getClassificationKey(), task.getDomain(),
+                    CURRENT_CLASSIFICATIONS_VALID_UNTIL));
+            }
+            Map<ClassificationCache.Key, ClassificationImpl> classifications = classificationCache.getAll(cacheKeys,
+                missingKeys -> {
+                    Set<String> keys = new HashSet<>();
+                    Set<String> domains = new HashSet<>();
+                    for (ClassificationCache.Key missingKey : missingKeys) {
+                        keys.add(missingKey.getClassificationKey());
+                        domains.add(missingKey.getDomain());
+                    }
+                    return classificationMapper.findByKeysAndDomains(new ArrayList<>(keys), new ArrayList<>(domains),
+                        CURRENT_CLASSIFICATIONS_VALID_UNTIL);
+                });
+            for (TaskImpl task : tasks) {
+                Classification classification = classifications.get(new ClassificationCache.Key(
+                    task.getClassificationKey(), task.getDomain(), CURRENT_CLASSIFICATIONS_VALID_UNTIL));
+                if (classification == null) {
+                    throw new ClassificationNotFoundException(
+                        "Classification for task with id " + task.getId() + " was not found.");
+                }
+                task.setClassification(classification);
+            }
+        } finally {
+            taskanaEngineImpl.returnConnection();
+            LOGGER.debug("exit from setClassificationsOfTasks()");
+        }
+    }
 }
@@ -0,0 +1,103 @@
+package pro.taskana.impl;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.TaskanaEngine;
+import pro.taskana.impl.persistence.EncodedAttributes;
+import pro.taskana.impl.persistence.MapTypeHandler;
+import pro.taskana.model.mappings.CustomAttributesMapper;
+
+/**
+ * Rewrites the custom attributes of all tasks and attachments that are not stored in the format of the configured
+ * attribute codec, e.g. rows that were written with Java serialization by earlier versions of taskana. The rows are
+ * read and rewritten in chunks ordered by id, each chunk within its own API call. In connection management mode
+ * AUTOCOMMIT every chunk is committed on its own, so an interrupted migration can simply be started again; rows that
+ * already have the target format are skipped. Rows that can't be decoded are logged and left untouched.
+ */
+public class CustomAttributesMigrator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CustomAttributesMigrator.class);
+    private static final String[] TABLES = {"TASK", "ATTACHMENT"};
+
+    private TaskanaEngineImpl taskanaEngineImpl;
+    private MapTypeHandler mapTypeHandler;
+
+    public CustomAttributesMigrator(TaskanaEngine taskanaEngine) {
+        this.taskanaEngineImpl = (TaskanaEngineImpl) taskanaEngine;
+        this.mapTypeHandler = new MapTypeHandler(taskanaEngine.getConfiguration().getAttributeCodec());
+    }
+
+    /**
+     * Migrates the custom attributes of all tasks and attachments.
+     *
+     * @param chunkSize
+     *            the number of rows that are read and rewritten in one chunk
+     * @return the number of rewritten rows
+     */
+    public int migrate(int chunkSize) {
+        LOGGER.debug("entry to migrate(chunkSize = {})", chunkSize);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("The chunk size must be positive, but was " + chunkSize);
+        }
+        int migrated = 0;
+        for (String table : TABLES) {
+            migrated += migrateTable(table, chunkSize);
+        }
+        LOGGER.debug("exit from migrate(). Returning result {} ", migrated);
+        return migrated;
+    }
+
+    private int migrateTable(String table, int chunkSize) {
+        int migrated = 0;
+        String lastId = "";
+        while (lastId != null) {
+            Chunk chunk = migrateChunk(table, lastId, chunkSize);
+            migrated += chunk.migrated;
+            lastId = chunk.lastId;
+        }
+        LOGGER.info("Migrated the custom attributes of {} rows of table {}", migrated, table);
+        return migrated;
+    }
+
+    private Chunk migrateChunk(String table, String lastId, int chunkSize) {
+        Chunk chunk = new Chunk();
+        try {
+            taskanaEngineImpl.openConnection();
+            CustomAttributesMapper mapper = taskanaEngineImpl.getSqlSession().getMapper(CustomAttributesMapper.class);
+            List<EncodedAttributes> rows = mapper.findAfter(table, lastId, new RowBounds(0, chunkSize));
+            byte targetFormat = mapTypeHandler.getWriteCodec().getFormatMarker();
+            for (EncodedAttributes row : rows) {
+                byte[] data = row.getData();
+                if (data.length > 0 && data[0] != targetFormat) {
+                    try {
+                        Map<String, Object> attributes = mapTypeHandler.decode(data);
+                        mapper.update(table, row.getId(), mapTypeHandler.encode(attributes));
+                        chunk.migrated++;
+                    } catch (IOException e) {
+                        LOGGER.warn("The custom attributes of {} with id {} can't be migrated", table, row.getId(),
+                            e);
+                    }
+                }
+            }
+            chunk.lastId = rows.size() < chunkSize ? null : rows.get(rows.size() - 1).getId();
+            return chunk;
+        } finally {
+            taskanaEngineImpl.returnConnection();
+        }
+    }
+
+    /**
+     * Progress of the migration of one chunk.
+     */
+    private static final class Chunk {
+
+        private int migrated;
+        private String lastId;
+    }
+}
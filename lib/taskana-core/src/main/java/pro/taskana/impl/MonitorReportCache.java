@@ -0,0 +1,202 @@
+package pro.taskana.impl;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.model.CacheStatistics;
+
+/**
+ * Bounded, thread safe cache of the results of the TaskMonitorService, shared by all services of a TaskanaEngine.
+ * Entries are keyed by the name of the report and its normalized parameters and expire after a configurable time to
+ * live. Concurrent lookups of the same key which is not cached wait for the first of them to load it, so identical
+ * requests of many dashboards cost one statement, even if caching is disabled. Every caller of a cached or shared
+ * result gets its own copy, so callers can't change the reports of others.
+ */
+class MonitorReportCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MonitorReportCache.class);
+    private static final String NAME = "monitorReports";
+
+    private final int maxSize;
+    private final long timeToLiveMillis;
+    private final Map<Key, Entry> entries;
+    private final Map<Key, CompletableFuture<Object>> loading = new HashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * Creates a cache that holds up to maxSize reports for the given time. A cache with maxSize 0 or a time to live
+     * of zero does not keep results, it only coalesces concurrent lookups.
+     *
+     * @param maxSize
+     *            the maximum number of cached reports
+     * @param timeToLive
+     *            the time a report is cached
+     */
+    MonitorReportCache(int maxSize, Duration timeToLive) {
+        this.timeToLiveMillis = timeToLive == null || timeToLive.isNegative() ? 0 : timeToLive.toMillis();
+        this.maxSize = timeToLiveMillis == 0 ? 0 : Math.max(maxSize, 0);
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > MonitorReportCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the report for the given key. A fresh cached report is returned directly, if another thread is loading
+     * the report this thread waits for its result, otherwise the report is loaded with the loader.
+     *
+     * @param key
+     *            the report and its parameters
+     * @param loader
+     *            reads the report from the database
+     * @param copier
+     *            copies the report, including its mutable parts
+     * @param <T>
+     *            the type of the report
+     * @return the report, a copy if it is cached or shared with other callers
+     */
+    @SuppressWarnings("unchecked")
+    <T> T get(Key key, Supplier<T> loader, UnaryOperator<T> copier) {
+        CompletableFuture<Object> load;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt > System.currentTimeMillis()) {
+                    hits.incrementAndGet();
+                    return copier.apply((T) entry.report);
+                }
+                entries.remove(key);
+            }
+            load = loading.get(key);
+            if (load == null) {
+                loading.put(key, new CompletableFuture<>());
+            }
+        }
+        if (load != null) {
+            coalesced.incrementAndGet();
+            LOGGER.debug("waiting for the concurrent load of {}", key);
+            return copier.apply((T) await(load));
+        }
+        misses.incrementAndGet();
+        return load(key, loader, copier);
+    }
+
+    synchronized CacheStatistics getStatistics() {
+        return new CacheStatistics(NAME, hits.get(), misses.get(), evictions.get(), entries.size(), maxSize,
+            coalesced.get());
+    }
+
+    private <T> T load(Key key, Supplier<T> loader, UnaryOperator<T> copier) {
+        T report;
+        try {
+            report = loader.get();
+        } catch (RuntimeException | Error e) {
+            CompletableFuture<Object> load;
+            synchronized (this) {
+                load = loading.remove(key);
+            }
+            load.completeExceptionally(e);
+            throw e;
+        }
+        CompletableFuture<Object> load;
+        synchronized (this) {
+            load = loading.remove(key);
+            if (maxSize > 0) {
+                entries.put(key, new Entry(report, System.currentTimeMillis() + timeToLiveMillis));
+            }
+        }
+        load.complete(report);
+        // the waiting callers copy the loaded report, a cached one is kept unchanged as well
+        return maxSize > 0 ? copier.apply(report) : report;
+    }
+
+    private static Object await(CompletableFuture<Object> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            // rethrow what the loading thread got, the waiting callers see the same exception
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * A cached report.
+     */
+    private static final class Entry {
+
+        private final Object report;
+        private final long expiresAt;
+
+        Entry(Object report, long expiresAt) {
+            this.report = report;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Key of a cached report. The parameters must be normalized by the caller, e.g. lists of states sorted, so equal
+     * requests have equal keys.
+     */
+    static final class Key {
+
+        private final String report;
+        private final List<Object> parameters;
+
+        Key(String report, Object... parameters) {
+            this.report = report;
+            this.parameters = Arrays.asList(parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * report.hashCode() + parameters.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return report.equals(other.report) && parameters.equals(other.parameters);
+        }
+
+        @Override
+        public String toString() {
+            return "Key [report=" + report + ", parameters=" + parameters + "]";
+        }
+    }
+}
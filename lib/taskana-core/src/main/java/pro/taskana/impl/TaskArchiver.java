@@ -0,0 +1,113 @@
+package pro.taskana.impl;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.configuration.TaskanaEngineConfiguration;
+import pro.taskana.model.TaskCounter;
+import pro.taskana.model.TaskState;
+import pro.taskana.model.mappings.TaskArchiveMapper;
+import pro.taskana.model.mappings.TaskCounterMapper;
+import pro.taskana.model.mappings.TaskMapper;
+
+/**
+ * Moves completed tasks and their attachments into the archive tables. The tasks are moved in chunks, each in its own
+ * transaction, so a run which is interrupted keeps the chunks moved so far and the next run continues with the rest.
+ * The archiver uses sessions with their own connection and transaction, so it never takes part in the transaction
+ * of an API call and its commits take effect with managed transactions as well. Archived tasks are
+ * removed from the task counters and recorded as tombstones for change queries in the same transaction.
+ */
+final class TaskArchiver {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskArchiver.class);
+
+    private final SqlSessionFactory sessionFactory;
+
+    private final TaskanaEngineConfiguration configuration;
+
+    TaskArchiver(SqlSessionFactory sessionFactory, TaskanaEngineConfiguration configuration) {
+        this.sessionFactory = sessionFactory;
+        this.configuration = configuration;
+    }
+
+    /**
+     * Archives all tasks which have been completed longer than the configured archive age ago.
+     *
+     * @return the number of archived tasks
+     */
+    int archive() {
+        Timestamp completedBefore = new Timestamp(
+            System.currentTimeMillis() - configuration.getTaskArchiveAge().toMillis());
+        int chunkSize = Math.max(1, configuration.getTaskArchiveChunkSize());
+        int archived = 0;
+        int moved;
+        do {
+            moved = archiveChunk(completedBefore, chunkSize);
+            archived += moved;
+        } while (moved == chunkSize);
+        LOGGER.debug("Archived {} tasks completed before {}.", archived, completedBefore);
+        deleteTombstones();
+        return archived;
+    }
+
+    /**
+     * Deletes the tombstones of removed tasks which are older than the configured retention.
+     */
+    private void deleteTombstones() {
+        Timestamp createdBefore = new Timestamp(
+            System.currentTimeMillis() - configuration.getTaskTombstoneRetention().toMillis());
+        try (SqlSession session = TaskanaEngineImpl.openBackgroundSession(sessionFactory, ExecutorType.SIMPLE)) {
+            int deleted = session.getMapper(TaskMapper.class).deleteTombstones(createdBefore);
+            session.commit(true);
+            LOGGER.debug("Deleted {} task tombstones created before {}.", deleted, createdBefore);
+        }
+    }
+
+    /**
+     * Moves up to chunkSize tasks with their attachments and commits.
+     *
+     * @return the number of tasks moved, less than chunkSize if no more tasks are due or the chunk failed
+     */
+    private int archiveChunk(Timestamp completedBefore, int chunkSize) {
+        try (SqlSession session = TaskanaEngineImpl.openBackgroundSession(sessionFactory, ExecutorType.SIMPLE)) {
+            TaskArchiveMapper mapper = session.getMapper(TaskArchiveMapper.class);
+            List<String> taskIds = mapper.findArchivableTaskIds(completedBefore, chunkSize);
+            if (taskIds.isEmpty()) {
+                return 0;
+            }
+            TaskCounters counters = new TaskCounters(session.getMapper(TaskCounterMapper.class));
+            List<TaskCounter> counted = new ArrayList<>();
+            for (TaskCounter counter : counters.count(taskIds)) {
+                // only completed tasks are deleted below
+                if (counter.getState() == TaskState.COMPLETED) {
+                    counted.add(counter);
+                }
+            }
+            counters.removed(counted);
+            // change queries report the archived tasks as removed
+            session.getMapper(TaskMapper.class).insertTombstones(taskIds, null, null,
+                new Timestamp(System.currentTimeMillis()));
+            mapper.archiveAttachments(taskIds);
+            mapper.deleteAttachments(taskIds);
+            int archived = mapper.archiveTasks(taskIds);
+            int deleted = mapper.deleteTasks(taskIds);
+            if (archived != deleted) {
+                // a concurrent change left the archive and the task table out of step, nothing of the chunk is kept
+                session.rollback(true);
+                LOGGER.warn("Archival of {} tasks has been rolled back, {} were copied but {} deleted.",
+                    taskIds.size(), archived, deleted);
+                return 0;
+            }
+            session.commit(true);
+            LOGGER.debug("Archived a chunk of {} tasks.", archived);
+            return archived;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package pro.taskana.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.model.TaskCounter;
+import pro.taskana.model.TaskState;
+import pro.taskana.model.mappings.TaskCounterMapper;
+
+/**
+ * Maintains the TASK_COUNTER table, which the monitor reads instead of grouping the TASK table. The counters are
+ * changed with the mapper of the transition, so they are part of its transaction. The caller describes the tasks
+ * before and after the change, only the difference is written, at most one row per workbasket, state and due date.
+ * The rows are written in the order of their key to avoid deadlocks between concurrent transitions.
+ */
+final class TaskCounters {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskCounters.class);
+
+    private static final Comparator<TaskCounter> KEY_ORDER = Comparator.comparing(TaskCounter::getWorkbasketKey)
+        .thenComparing(TaskCounter::getState)
+        .thenComparing(TaskCounter::getDueDate);
+
+    private final TaskCounterMapper mapper;
+
+    TaskCounters(TaskCounterMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * Counts the tasks per workbasket, state and due date as they are stored now.
+     *
+     * @param taskIds
+     *            the ids of the tasks
+     * @return the counters of the tasks
+     */
+    List<TaskCounter> count(List<String> taskIds) {
+        if (taskIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return mapper.countTasks(taskIds);
+    }
+
+    /**
+     * Counts tasks which have just been created.
+     */
+    void added(List<String> taskIds) {
+        change(Collections.emptyList(), count(taskIds));
+    }
+
+    /**
+     * Removes tasks from the counters, which are going to be deleted.
+     *
+     * @param counted
+     *            the counters of the tasks as returned by {@link #count(List)}
+     */
+    void removed(List<TaskCounter> counted) {
+        change(counted, Collections.emptyList());
+    }
+
+    /**
+     * Moves tasks which have just left a state or workbasket to the state and workbasket they are stored with now.
+     * Their due date must not have been changed.
+     *
+     * @param taskIds
+     *            the ids of the changed tasks
+     * @param fromState
+     *            the previous state of all tasks, null if it has not changed
+     * @param fromWorkbasketKey
+     *            the previous workbasket of all tasks, null if it has not changed
+     */
+    void moved(List<String> taskIds, TaskState fromState, String fromWorkbasketKey) {
+        List<TaskCounter> after = count(taskIds);
+        List<TaskCounter> before = new ArrayList<>(after.size());
+        for (TaskCounter counter : after) {
+            TaskCounter previous = new TaskCounter();
+            previous.setWorkbasketKey(fromWorkbasketKey == null ? counter.getWorkbasketKey() : fromWorkbasketKey);
+            previous.setState(fromState == null ? counter.getState() : fromState);
+            previous.setDueDate(counter.getDueDate());
+            previous.setCounter(counter.getCounter());
+            before.add(previous);
+        }
+        change(before, after);
+    }
+
+    /**
+     * Writes the difference of the counters.
+     *
+     * @param before
+     *            the counters of the tasks before the change
+     * @param after
+     *            the counters of the same tasks after the change
+     */
+    void change(List<TaskCounter> before, List<TaskCounter> after) {
+        Map<TaskCounter, Long> deltas = new TreeMap<>(KEY_ORDER);
+        for (TaskCounter counter : before) {
+            deltas.merge(counter, -counter.getCounter(), Long::sum);
+        }
+        for (TaskCounter counter : after) {
+            deltas.merge(counter, counter.getCounter(), Long::sum);
+        }
+        for (Map.Entry<TaskCounter, Long> delta : deltas.entrySet()) {
+            if (delta.getValue() != 0) {
+                TaskCounter row = new TaskCounter();
+                row.setWorkbasketKey(delta.getKey().getWorkbasketKey());
+                row.setState(delta.getKey().getState());
+                row.setDueDate(delta.getKey().getDueDate());
+                row.setCounter(delta.getValue());
+                write(row);
+            }
+        }
+    }
+
+    /**
+     * Replaces all counters with the counts of the TASK table.
+     *
+     * @return the number of counter rows
+     */
+    int rebuild() {
+        int deleted = mapper.deleteAll();
+        int inserted = mapper.insertCountedTasks();
+        LOGGER.debug("Replaced {} task counters by {} counted from the tasks.", deleted, inserted);
+        return inserted;
+    }
+
+    private void write(TaskCounter delta) {
+        if (mapper.add(delta) > 0) {
+            return;
+        }
+        try {
+            mapper.insert(delta);
+        } catch (PersistenceException e) {
+            // the row has been inserted by a concurrent transaction in the meantime
+            LOGGER.debug("Counter {} has been inserted concurrently, adding to it.", delta);
+            if (mapper.add(delta) == 0) {
+                throw e;
+            }
+        }
+    }
+}
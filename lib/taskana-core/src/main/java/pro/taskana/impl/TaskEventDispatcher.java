@@ -0,0 +1,216 @@
+package pro.taskana.impl;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.TaskEventListener;
+import pro.taskana.configuration.TaskanaEngineConfiguration;
+import pro.taskana.model.TaskEvent;
+import pro.taskana.model.mappings.TaskEventMapper;
+
+/**
+ * Delivers the events of the TASK_EVENT table to the registered listeners. Each listener is polled by a background
+ * thread and receives the events after the persisted position of its consumer id in ascending order of their ids.
+ * The position is advanced only after the listener returned, so events are delivered at least once. Events which all
+ * consumers have passed are deleted. Positions which have not been polled for the configured consumer expiry are
+ * removed, so a consumer which is never registered again does not retain the events forever.
+ * <p>
+ * The dispatcher uses its own sessions and commits them, it never takes part in the transaction of an API call.
+ */
+final class TaskEventDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskEventDispatcher.class);
+
+    private final SqlSessionFactory sessionFactory;
+
+    private final TaskanaEngineConfiguration configuration;
+
+    private final Map<String, ScheduledFuture<?>> consumers = new HashMap<>();
+
+    // held by each poll, so a removed consumer cannot be written back by a poll which is still running
+    private final Object pollLock = new Object();
+
+    private ScheduledExecutorService executor;
+
+    TaskEventDispatcher(SqlSessionFactory sessionFactory, TaskanaEngineConfiguration configuration) {
+        this.sessionFactory = sessionFactory;
+        this.configuration = configuration;
+    }
+
+    synchronized boolean register(String consumerId, TaskEventListener listener) {
+        if (consumers.containsKey(consumerId)) {
+            return false;
+        }
+        if (executor == null) {
+            executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "taskana-task-events");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        long interval = Math.max(1, configuration.getTaskEventPollInterval().toMillis());
+        consumers.put(consumerId, executor.scheduleWithFixedDelay(() -> poll(consumerId, listener), 0, interval,
+            TimeUnit.MILLISECONDS));
+        LOGGER.debug("Registered task event listener {} for consumer {}.", listener, consumerId);
+        return true;
+    }
+
+    synchronized void unregister(String consumerId) {
+        ScheduledFuture<?> future = consumers.remove(consumerId);
+        if (future != null) {
+            future.cancel(false);
+            LOGGER.debug("Unregistered task event listener of consumer {}.", consumerId);
+        }
+        if (consumers.isEmpty() && executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    synchronized void unregisterAll() {
+        for (String consumerId : new ArrayList<>(consumers.keySet())) {
+            unregister(consumerId);
+        }
+    }
+
+    /**
+     * Unregisters the listener of the consumer id and removes its position, then deletes the events all remaining
+     * consumers have received.
+     */
+    void remove(String consumerId) {
+        unregister(consumerId);
+        synchronized (pollLock) {
+            deleteOffset(consumerId);
+        }
+    }
+
+    private void deleteOffset(String consumerId) {
+        try (SqlSession session = TaskanaEngineImpl.openBackgroundSession(sessionFactory, ExecutorType.SIMPLE)) {
+            TaskEventMapper mapper = session.getMapper(TaskEventMapper.class);
+            mapper.deleteOffset(consumerId);
+            int deleted = mapper.deleteConsumedEvents();
+            session.commit(true);
+            LOGGER.debug("Removed task event consumer {}, deleted {} consumed events.", consumerId, deleted);
+        }
+    }
+
+    /**
+     * Delivers all available events to the listener. Failures are logged and retried with the next poll, an exception
+     * must not escape because it would cancel the scheduled polling.
+     */
+    private void poll(String consumerId, TaskEventListener listener) {
+        synchronized (pollLock) {
+            try {
+                while (isRegistered(consumerId) && dispatchBatch(consumerId, listener)) {
+                    LOGGER.debug("Consumer {} has more task events waiting.", consumerId);
+                }
+            } catch (Exception e) {
+                LOGGER.warn("Delivery of task events to consumer {} failed, it is retried later.", consumerId, e);
+            }
+        }
+    }
+
+    private synchronized boolean isRegistered(String consumerId) {
+        return consumers.containsKey(consumerId);
+    }
+
+    /**
+     * Reads the next batch of events after the position of the consumer, hands it to the listener and saves the new
+     * position.
+     *
+     * @return true if a full batch has been delivered, so further events may be waiting
+     */
+    boolean dispatchBatch(String consumerId, TaskEventListener listener) throws Exception {
+        int batchSize = Math.max(1, configuration.getTaskEventBatchSize());
+        long offset;
+        List<TaskEvent> events;
+        List<TaskEvent> deliverable;
+        try (SqlSession session = TaskanaEngineImpl.openBackgroundSession(sessionFactory, ExecutorType.SIMPLE)) {
+            TaskEventMapper mapper = session.getMapper(TaskEventMapper.class);
+            Long storedOffset = mapper.findOffset(consumerId);
+            if (storedOffset == null) {
+                offset = 0;
+                mapper.insertOffset(consumerId, offset, now());
+                session.commit(true);
+            } else {
+                offset = storedOffset;
+            }
+            events = mapper.findEvents(offset, batchSize);
+            deliverable = withoutGaps(events, offset);
+            if (deliverable.isEmpty() && storedOffset != null) {
+                // an idle consumer refreshes its position well before it would expire
+                long refreshAfter = configuration.getTaskEventConsumerExpiry().toMillis() / 2;
+                Timestamp now = now();
+                if (mapper.refreshOffset(consumerId, new Timestamp(now.getTime() - refreshAfter), now) > 0) {
+                    session.commit(true);
+                }
+            }
+        }
+        if (deliverable.isEmpty()) {
+            return false;
+        }
+
+        listener.onTaskEvents(Collections.unmodifiableList(deliverable));
+
+        long newOffset = deliverable.get(deliverable.size() - 1).getId();
+        try (SqlSession session = TaskanaEngineImpl.openBackgroundSession(sessionFactory, ExecutorType.SIMPLE)) {
+            TaskEventMapper mapper = session.getMapper(TaskEventMapper.class);
+            if (mapper.updateOffset(consumerId, offset, newOffset, now()) == 0) {
+                // another engine delivers to the same consumer id, the events are read again from its position
+                LOGGER.warn("The position of task event consumer {} has been moved concurrently.", consumerId);
+            } else {
+                Timestamp expiredBefore = new Timestamp(
+                    System.currentTimeMillis() - configuration.getTaskEventConsumerExpiry().toMillis());
+                int expired = mapper.deleteExpiredOffsets(expiredBefore);
+                if (expired > 0) {
+                    LOGGER.info("Removed {} expired task event consumer positions.", expired);
+                }
+                int deleted = mapper.deleteConsumedEvents();
+                LOGGER.debug("Delivered task events {} to {} to consumer {}, deleted {} consumed events.",
+                    deliverable.get(0).getId(), newOffset, consumerId, deleted);
+            }
+            session.commit(true);
+        }
+        return deliverable.size() == batchSize;
+    }
+
+    /**
+     * Cuts the events off at the first missing id which may still be written by a running transaction. An id is
+     * given up on after the gap timeout, measured from the creation of the event following the gap. A consumer which
+     * has not received any event yet starts with the first event found.
+     */
+    private List<TaskEvent> withoutGaps(List<TaskEvent> events, long offset) {
+        long gapLimit = System.currentTimeMillis() - configuration.getTaskEventGapTimeout().toMillis();
+        List<TaskEvent> deliverable = new ArrayList<>();
+        long expectedId = offset + 1;
+        for (TaskEvent event : events) {
+            if (event.getId() != expectedId && (offset > 0 || !deliverable.isEmpty())
+                && event.getCreated().getTime() > gapLimit) {
+                LOGGER.debug("Task events {} to {} are missing, waiting for them to be committed.", expectedId,
+                    event.getId() - 1);
+                break;
+            }
+            deliverable.add(event);
+            expectedId = event.getId() + 1;
+        }
+        return deliverable;
+    }
+
+    private Timestamp now() {
+        return new Timestamp(System.currentTimeMillis());
+    }
+}
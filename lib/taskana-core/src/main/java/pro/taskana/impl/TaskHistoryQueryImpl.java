@@ -0,0 +1,153 @@
+package pro.taskana.impl;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.TaskHistoryQuery;
+import pro.taskana.TaskanaEngine;
+import pro.taskana.impl.util.LoggerUtils;
+import pro.taskana.model.TaskEventType;
+import pro.taskana.model.TaskHistoryEntry;
+
+/**
+ * Implementation of TaskHistoryQuery interface.
+ */
+public class TaskHistoryQueryImpl implements TaskHistoryQuery {
+
+    private static final String LINK_TO_MAPPER = "pro.taskana.model.mappings.QueryMapper.queryTaskHistory";
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskHistoryQueryImpl.class);
+
+    private TaskanaEngineImpl taskanaEngineImpl;
+    private String[] taskId;
+    private String[] userId;
+    private TaskEventType[] action;
+    private Timestamp createdAfter;
+    private Timestamp createdBefore;
+
+    public TaskHistoryQueryImpl(TaskanaEngine taskanaEngine) {
+        this.taskanaEngineImpl = (TaskanaEngineImpl) taskanaEngine;
+    }
+
+    @Override
+    public TaskHistoryQuery taskIdIn(String... taskIds) {
+        this.taskId = taskIds;
+        return this;
+    }
+
+    @Override
+    public TaskHistoryQuery userIdIn(String... userIds) {
+        this.userId = userIds;
+        return this;
+    }
+
+    @Override
+    public TaskHistoryQuery actionIn(TaskEventType... actions) {
+        this.action = actions;
+        return this;
+    }
+
+    @Override
+    public TaskHistoryQuery createdAfter(Timestamp createdAfter) {
+        this.createdAfter = createdAfter;
+        return this;
+    }
+
+    @Override
+    public TaskHistoryQuery createdBefore(Timestamp createdBefore) {
+        this.createdBefore = createdBefore;
+        return this;
+    }
+
+    @Override
+    public List<TaskHistoryEntry> list() {
+        LOGGER.debug("entry to list(), this = {}", this);
+        List<TaskHistoryEntry> result = null;
+        try {
+            taskanaEngineImpl.openConnection();
+            result = taskanaEngineImpl.getSqlSession().selectList(LINK_TO_MAPPER, this);
+            return result;
+        } finally {
+            taskanaEngineImpl.returnConnection();
+            if (LOGGER.isDebugEnabled()) {
+                int numberOfResultObjects = result == null ? 0 : result.size();
+                LOGGER.debug("exit from list(). Returning {} resulting Objects: {} ", numberOfResultObjects,
+                    LoggerUtils.listToString(result));
+            }
+        }
+    }
+
+    @Override
+    public List<TaskHistoryEntry> list(int offset, int limit) {
+        LOGGER.debug("entry to list(offset = {}, limit = {}), this = {}", offset, limit, this);
+        List<TaskHistoryEntry> result = null;
+        try {
+            taskanaEngineImpl.openConnection();
+            RowBounds rowBounds = new RowBounds(offset, limit);
+            result = taskanaEngineImpl.getSqlSession().selectList(LINK_TO_MAPPER, this, rowBounds);
+            return result;
+        } finally {
+            taskanaEngineImpl.returnConnection();
+            if (LOGGER.isDebugEnabled()) {
+                int numberOfResultObjects = result == null ? 0 : result.size();
+                LOGGER.debug("exit from list(offset,limit). Returning {} resulting Objects: {} ",
+                    numberOfResultObjects, LoggerUtils.listToString(result));
+            }
+        }
+    }
+
+    @Override
+    public TaskHistoryEntry single() {
+        LOGGER.debug("entry to single(), this = {}", this);
+        TaskHistoryEntry result = null;
+        try {
+            taskanaEngineImpl.openConnection();
+            result = taskanaEngineImpl.getSqlSession().selectOne(LINK_TO_MAPPER, this);
+            return result;
+        } finally {
+            taskanaEngineImpl.returnConnection();
+            LOGGER.debug("exit from single(). Returning result {} ", result);
+        }
+    }
+
+    public String[] getTaskId() {
+        return taskId;
+    }
+
+    public String[] getUserId() {
+        return userId;
+    }
+
+    public TaskEventType[] getAction() {
+        return action;
+    }
+
+    public Timestamp getCreatedAfter() {
+        return createdAfter;
+    }
+
+    public Timestamp getCreatedBefore() {
+        return createdBefore;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("TaskHistoryQueryImpl [taskId=");
+        builder.append(Arrays.toString(taskId));
+        builder.append(", userId=");
+        builder.append(Arrays.toString(userId));
+        builder.append(", action=");
+        builder.append(Arrays.toString(action));
+        builder.append(", createdAfter=");
+        builder.append(createdAfter);
+        builder.append(", createdBefore=");
+        builder.append(createdBefore);
+        builder.append("]");
+        return builder.toString();
+    }
+}
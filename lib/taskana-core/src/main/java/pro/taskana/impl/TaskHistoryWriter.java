@@ -0,0 +1,293 @@
+package pro.taskana.impl;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.configuration.TaskHistoryDurability;
+import pro.taskana.configuration.TaskanaEngineConfiguration;
+import pro.taskana.exceptions.SystemException;
+import pro.taskana.model.TaskEventType;
+import pro.taskana.model.TaskHistoryEntry;
+import pro.taskana.model.mappings.TaskHistoryMapper;
+
+/**
+ * Writes the entries of the task history according to the configured durability. Synchronous entries are inserted
+ * with the mapper of the current API call. All others are put into a bounded queue after the API call has been
+ * committed, which a background thread drains into JDBC batches. The thread is started with the first entry and ends
+ * after it has been idle for a while. If the engine does not learn about the commit, see
+ * {@link TaskanaEngineImpl#registerAfterCommit(Runnable)}, the entries are inserted synchronously, so a rolled back
+ * change leaves no entry, and a warning is logged once. Once entries have been queued, a shutdown hook writes the remaining ones
+ * when the JVM ends, {@link #flush()} writes them on demand.
+ */
+final class TaskHistoryWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskHistoryWriter.class);
+
+    private static final long IDLE_MILLIS = 60000;
+    private static final long RETRY_MILLIS = 1000;
+    private static final int DROP_WARNING_INTERVAL = 1000;
+    private static final int WRITE_ATTEMPTS = 3;
+
+    private final TaskanaEngineImpl taskanaEngine;
+
+    private final SqlSessionFactory sessionFactory;
+
+    private final TaskHistoryMapper managedMapper;
+
+    private final TaskanaEngineConfiguration configuration;
+
+    private final BlockingQueue<TaskHistoryEntry> queue;
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final AtomicBoolean synchronousFallbackLogged = new AtomicBoolean();
+
+    private Thread writer;
+
+    private Thread shutdownHook;
+
+    /**
+     * Creates the writer of an engine.
+     *
+     * @param taskanaEngine
+     *            the engine whose commits release the queued entries
+     * @param sessionFactory
+     *            the factory of the sessions of the background writer
+     * @param managedMapper
+     *            the mapper of the managed session, used for synchronous entries
+     * @param configuration
+     *            the configuration of the engine
+     */
+    TaskHistoryWriter(TaskanaEngineImpl taskanaEngine, SqlSessionFactory sessionFactory,
+        TaskHistoryMapper managedMapper, TaskanaEngineConfiguration configuration) {
+        this.taskanaEngine = taskanaEngine;
+        this.sessionFactory = sessionFactory;
+        this.managedMapper = managedMapper;
+        this.configuration = configuration;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, configuration.getTaskHistoryQueueCapacity()));
+    }
+
+    /**
+     * Records an entry for each of the tasks.
+     *
+     * @param action
+     *            the lifecycle change
+     * @param taskIds
+     *            the ids of the changed tasks
+     * @param userId
+     *            the user who made the change
+     * @param workbasketKey
+     *            the destination of a transfer, null for other actions
+     * @param now
+     *            the time of the change
+     */
+    void record(TaskEventType action, List<String> taskIds, String userId, String workbasketKey, Timestamp now) {
+        List<TaskHistoryEntry> entries = new ArrayList<>(taskIds.size());
+        for (String taskId : taskIds) {
+            TaskHistoryEntry entry = new TaskHistoryEntry();
+            entry.setTaskId(taskId);
+            entry.setAction(action);
+            entry.setUserId(userId);
+            entry.setWorkbasketKey(workbasketKey);
+            entry.setCreated(now);
+            entries.add(entry);
+        }
+        TaskHistoryDurability durability = configuration.getTaskHistoryDurability();
+        if (durability == TaskHistoryDurability.SYNCHRONOUS) {
+            managedMapper.insertEntries(entries);
+        } else if (!taskanaEngine.runAfterCommit(() -> enqueue(entries, durability))) {
+            if (synchronousFallbackLogged.compareAndSet(false, true)) {
+                LOGGER.warn("The task history durability is {}, but the engine does not learn about the commits of "
+                    + "the client, history entries are inserted synchronously.", durability);
+            }
+            managedMapper.insertEntries(entries);
+        }
+    }
+
+    private void enqueue(List<TaskHistoryEntry> entries, TaskHistoryDurability durability) {
+        switch (durability) {
+            case FIRE_AND_FORGET:
+                for (TaskHistoryEntry entry : entries) {
+                    if (!queue.offer(entry)) {
+                        long count = dropped.incrementAndGet();
+                        if (count % DROP_WARNING_INTERVAL == 1) {
+                            LOGGER.warn("The task history queue is full, {} entries have been dropped so far.", count);
+                        }
+                    }
+                }
+                ensureRunning();
+                break;
+            default:
+                try {
+                    for (TaskHistoryEntry entry : entries) {
+                        // blocks the caller until the writer has made room
+                        while (!queue.offer(entry, RETRY_MILLIS, TimeUnit.MILLISECONDS)) {
+                            ensureRunning();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SystemException("Interrupted while waiting for the task history queue");
+                }
+                ensureRunning();
+        }
+    }
+
+    /**
+     * Starts the background thread unless it is running. Must be called after entries have been queued, the thread
+     * only ends if it finds the queue empty.
+     */
+    private synchronized void ensureRunning() {
+        if (writer == null) {
+            if (shutdownHook == null) {
+                shutdownHook = new Thread(this::flush, "taskana-task-history-shutdown");
+                Runtime.getRuntime().addShutdownHook(shutdownHook);
+            }
+            writer = new Thread(this::run, "taskana-task-history");
+            writer.setDaemon(true);
+            writer.start();
+        }
+    }
+
+    /**
+     * Stops the background thread after the batch it is writing and writes the queued entries on the calling thread.
+     * Entries recorded afterwards start the background thread again.
+     */
+    void flush() {
+        stopWriter();
+        int batchSize = Math.max(1, configuration.getTaskHistoryBatchSize());
+        List<TaskHistoryEntry> batch = new ArrayList<>();
+        while (queue.drainTo(batch, batchSize) > 0) {
+            try {
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writeEach(batch);
+            }
+            batch.clear();
+        }
+        LOGGER.debug("Flushed the task history queue.");
+    }
+
+    /**
+     * Flushes the queue and removes the shutdown hook. Entries recorded afterwards start the writer and register the
+     * hook again.
+     */
+    void close() {
+        flush();
+        synchronized (this) {
+            if (shutdownHook != null) {
+                try {
+                    Runtime.getRuntime().removeShutdownHook(shutdownHook);
+                } catch (IllegalStateException e) {
+                    // the JVM is shutting down and runs the hook anyway
+                }
+                shutdownHook = null;
+            }
+        }
+    }
+
+    private void stopWriter() {
+        Thread thread;
+        synchronized (this) {
+            thread = writer;
+        }
+        if (thread != null && thread != Thread.currentThread()) {
+            thread.interrupt();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Writes the queued entries until the queue has been empty for the idle time. If the thread is interrupted, it
+     * still writes the entries it has taken from the queue and leaves the others to a flush or the next thread.
+     */
+    private void run() {
+        List<TaskHistoryEntry> batch = new ArrayList<>();
+        try {
+            while (true) {
+                TaskHistoryEntry first = queue.poll(IDLE_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    synchronized (this) {
+                        if (queue.isEmpty()) {
+                            writer = null;
+                            return;
+                        }
+                    }
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, Math.max(1, configuration.getTaskHistoryBatchSize()) - 1);
+                write(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            writeEach(batch);
+            LOGGER.debug("The task history writer has been stopped, {} entries are left in the queue.",
+                queue.size());
+            synchronized (this) {
+                writer = null;
+            }
+        }
+    }
+
+    /**
+     * Inserts the entries with one JDBC batch. A failed batch is retried a few times, meanwhile the queue fills up and
+     * slows down the API calls. If it still fails, the entries are written one by one and those failing are logged
+     * and dropped, so a single bad entry cannot stall the writer.
+     */
+    private void write(List<TaskHistoryEntry> batch) throws InterruptedException {
+        for (int attempt = 1; attempt <= WRITE_ATTEMPTS; attempt++) {
+            try {
+                insert(batch);
+                LOGGER.debug("Wrote {} task history entries.", batch.size());
+                return;
+            } catch (RuntimeException e) {
+                LOGGER.warn("Writing {} task history entries failed, attempt {} of {}.", batch.size(), attempt,
+                    WRITE_ATTEMPTS, e);
+                if (attempt < WRITE_ATTEMPTS) {
+                    Thread.sleep(RETRY_MILLIS);
+                }
+            }
+        }
+        writeEach(batch);
+    }
+
+    private void writeEach(List<TaskHistoryEntry> batch) {
+        for (TaskHistoryEntry entry : batch) {
+            try {
+                insert(Collections.singletonList(entry));
+            } catch (RuntimeException e) {
+                dropped.incrementAndGet();
+                LOGGER.error("Dropped the task history entry {}, it could not be written.", entry, e);
+            }
+        }
+    }
+
+    private void insert(List<TaskHistoryEntry> entries) {
+        try (SqlSession session = TaskanaEngineImpl.openBackgroundSession(sessionFactory, ExecutorType.BATCH)) {
+            TaskHistoryMapper mapper = session.getMapper(TaskHistoryMapper.class);
+            for (TaskHistoryEntry entry : entries) {
+                mapper.insert(entry);
+            }
+            session.commit(true);
+        }
+    }
+}
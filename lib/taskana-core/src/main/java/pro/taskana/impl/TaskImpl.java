@@ -2,9 +2,12 @@ package pro.taskana.impl;
 
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import pro.taskana.Attachment;
 import pro.taskana.Classification;
@@ -56,6 +59,10 @@ public class TaskImpl implements Task {
     private String custom8;
     private String custom9;
     private String custom10;
+    private int version;
+    private long changeSequence;
+
+    private final ChangeTracker changeTracker = new ChangeTracker();
 
     TaskImpl() {
     }
@@ -421,6 +428,82 @@ public class TaskImpl implements Task {
         this.porValue = porValue;
     }
 
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
+    /**
+     * Returns the value of the change sequence which was assigned by the last write of the task. It is only read by
+     * TaskQuery.modifiedSince().
+     *
+     * @return the change sequence of the task
+     */
+    public long getChangeSequence() {
+        return changeSequence;
+    }
+
+    public void setChangeSequence(long changeSequence) {
+        this.changeSequence = changeSequence;
+    }
+
+    /**
+     * Remembers the current property values as the persistent state of the task. Afterwards
+     * {@link #changedProperties()} reports only the properties which have been modified since.
+     */
+    public void trackChanges() {
+        changeTracker.track(propertyValues());
+    }
+
+    /**
+     * Returns the persistent properties which have been modified since {@link #trackChanges()} was called. If the
+     * changes of this task are not tracked, all persistent properties are returned.
+     *
+     * @return the names of the changed properties
+     */
+    public Set<String> changedProperties() {
+        return changeTracker.changedProperties(propertyValues());
+    }
+
+    private Map<String, Object> propertyValues() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("claimed", claimed);
+        values.put("completed", completed);
+        values.put("planned", planned);
+        values.put("due", due);
+        values.put("name", name);
+        values.put("description", description);
+        values.put("priority", priority);
+        values.put("state", state);
+        values.put("classification", classification == null ? null : classification.getKey());
+        values.put("workbasketKey", workbasketKey);
+        values.put("domain", domain);
+        values.put("businessProcessId", businessProcessId);
+        values.put("parentBusinessProcessId", parentBusinessProcessId);
+        values.put("owner", owner);
+        values.put("primaryObjRef", primaryObjRef == null ? null
+            : Arrays.asList(primaryObjRef.getCompany(), primaryObjRef.getSystem(), primaryObjRef.getSystemInstance(),
+                primaryObjRef.getType(), primaryObjRef.getValue()));
+        values.put("isRead", isRead);
+        values.put("isTransferred", isTransferred);
+        values.put("customAttributes", customAttributes == null ? null : new HashMap<>(customAttributes));
+        values.put("custom1", custom1);
+        values.put("custom2", custom2);
+        values.put("custom3", custom3);
+        values.put("custom4", custom4);
+        values.put("custom5", custom5);
+        values.put("custom6", custom6);
+        values.put("custom7", custom7);
+        values.put("custom8", custom8);
+        values.put("custom9", custom9);
+        values.put("custom10", custom10);
+        return values;
+    }
+
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
@@ -500,6 +583,8 @@ public class TaskImpl implements Task {
         builder.append(custom9);
         builder.append(", custom10=");
         builder.append(custom10);
+        builder.append(", version=");
+        builder.append(version);
         builder.append("]");
         return builder.toString();
     }
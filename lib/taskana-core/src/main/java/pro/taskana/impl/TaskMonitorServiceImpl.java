@@ -1,18 +1,37 @@
 package pro.taskana.impl;
 
 import java.sql.Date;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import pro.taskana.TaskMonitorService;
 import pro.taskana.TaskanaEngine;
+import pro.taskana.exceptions.InvalidArgumentException;
 import pro.taskana.impl.util.LoggerUtils;
 import pro.taskana.model.DueWorkbasketCounter;
+import pro.taskana.model.TaskAgingCounter;
+import pro.taskana.model.TaskAgingReport;
+import pro.taskana.model.TaskAgingReportGrouping;
+import pro.taskana.model.TaskAgingReportLine;
 import pro.taskana.model.TaskState;
 import pro.taskana.model.TaskStateCounter;
+import pro.taskana.model.WorkbasketDueDateReport;
+import pro.taskana.model.WorkbasketDueDateReportLine;
 import pro.taskana.model.mappings.TaskMonitorMapper;
 
 /**
@@ -22,14 +41,20 @@ public class TaskMonitorServiceImpl implements TaskMonitorService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TaskMonitorServiceImpl.class);
 
+    private static final List<TaskState> OPEN_STATES = Arrays.asList(TaskState.READY, TaskState.CLAIMED);
+
     private TaskanaEngineImpl taskanaEngineImpl;
 
     private TaskMonitorMapper taskMonitorMapper;
 
-    public TaskMonitorServiceImpl(TaskanaEngine taskanaEngine, TaskMonitorMapper taskMonitorMapper) {
+    private MonitorReportCache reportCache;
+
+    public TaskMonitorServiceImpl(TaskanaEngine taskanaEngine, TaskMonitorMapper taskMonitorMapper,
+        MonitorReportCache reportCache) {
         super();
         this.taskanaEngineImpl = (TaskanaEngineImpl) taskanaEngine;
         this.taskMonitorMapper = taskMonitorMapper;
+        this.reportCache = reportCache;
     }
 
     @Override
@@ -39,11 +64,11 @@ public class TaskMonitorServiceImpl implements TaskMonitorService {
         }
         List<TaskStateCounter> result = null;
         try {
-            taskanaEngineImpl.openConnection();
-            result = taskMonitorMapper.getTaskCountForState(states);
+            result = reportCache.get(new MonitorReportCache.Key("taskCountForState", normalize(states)),
+                () -> query(() -> taskMonitorMapper.getTaskCountForState(states)),
+                TaskMonitorServiceImpl::copyStateCounters);
             return result;
         } finally {
-            taskanaEngineImpl.returnConnection();
             if (LOGGER.isDebugEnabled()) {
                 int numberOfResultObjects = result == null ? 0 : result.size();
                 LOGGER.debug("exit from getTaskCountForState(). Returning {} resulting Objects: {} ",
@@ -62,14 +87,15 @@ public class TaskMonitorServiceImpl implements TaskMonitorService {
         }
         long result = -1;
         try {
-            taskanaEngineImpl.openConnection();
             LocalDate time = LocalDate.now();
             time = time.minusDays(daysInPast);
             Date fromDate = Date.valueOf(time);
-            result = taskMonitorMapper.getTaskCountForWorkbasketByDaysInPastAndState(workbasketId, fromDate, states);
+            result = reportCache.get(new MonitorReportCache.Key("taskCountForWorkbasket", workbasketId, fromDate,
+                normalize(states)), () -> query(() -> taskMonitorMapper
+                    .getTaskCountForWorkbasketByDaysInPastAndState(workbasketId, fromDate, states)),
+                UnaryOperator.identity());
             return result;
         } finally {
-            taskanaEngineImpl.returnConnection();
             LOGGER.debug("exit from getTaskCountForWorkbasketByDaysInPastAndState(). Returning result {} ", result);
         }
     }
@@ -83,14 +109,15 @@ public class TaskMonitorServiceImpl implements TaskMonitorService {
         }
         List<DueWorkbasketCounter> result = null;
         try {
-            taskanaEngineImpl.openConnection();
             LocalDate time = LocalDate.now();
             time = time.minusDays(daysInPast);
             Date fromDate = Date.valueOf(time);
-            result = taskMonitorMapper.getTaskCountByWorkbasketIdAndDaysInPastAndState(fromDate, states);
+            result = reportCache.get(new MonitorReportCache.Key("taskCountByWorkbasketAndDue", fromDate,
+                normalize(states)), () -> query(() -> taskMonitorMapper
+                    .getTaskCountByWorkbasketIdAndDaysInPastAndState(fromDate, states)),
+                TaskMonitorServiceImpl::copyDueCounters);
             return result;
         } finally {
-            taskanaEngineImpl.returnConnection();
             if (LOGGER.isDebugEnabled()) {
                 int numberOfResultObjects = result == null ? 0 : result.size();
                 LOGGER.debug(
@@ -100,4 +127,206 @@ public class TaskMonitorServiceImpl implements TaskMonitorService {
         }
     }
 
+    @Override
+    public WorkbasketDueDateReport getWorkbasketDueDateReport(long daysInPast, long daysInFuture,
+        List<TaskState> states) throws InvalidArgumentException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("entry to getWorkbasketDueDateReport(daysInPast = {}, daysInFuture = {}, states = {})",
+                daysInPast, daysInFuture, LoggerUtils.listToString(states));
+        }
+        WorkbasketDueDateReport report = null;
+        try {
+            if (daysInPast < 0 || daysInFuture < 0) {
+                throw new InvalidArgumentException("The days of the workbasket due date report must not be negative");
+            }
+            LocalDate fromDate = LocalDate.now().minusDays(daysInPast);
+            LocalDate toDate = LocalDate.now().plusDays(daysInFuture);
+            report = reportCache.get(new MonitorReportCache.Key("workbasketDueDateReport", fromDate, toDate,
+                normalize(states)), () -> query(() -> pivot(fromDate, (int) (daysInPast + daysInFuture + 1),
+                    taskMonitorMapper.getTaskCountPerWorkbasketAndDueDate(Date.valueOf(fromDate),
+                        Date.valueOf(toDate), states))),
+                TaskMonitorServiceImpl::copyDueDateReport);
+            return report;
+        } finally {
+            LOGGER.debug("exit from getWorkbasketDueDateReport(). Returning {}", report);
+        }
+    }
+
+    /**
+     * Builds the report from the counters, which are grouped by workbasket and due date. The counters of a workbasket
+     * without tasks in the report have no due date.
+     */
+    private WorkbasketDueDateReport pivot(LocalDate fromDate, int days, List<DueWorkbasketCounter> counters) {
+        WorkbasketDueDateReport report = new WorkbasketDueDateReport();
+        for (int i = 0; i < days; i++) {
+            report.getDates().add(Date.valueOf(fromDate.plusDays(i)));
+        }
+        Map<String, WorkbasketDueDateReportLine> lines = new LinkedHashMap<>();
+        for (DueWorkbasketCounter counter : counters) {
+            WorkbasketDueDateReportLine line = lines.computeIfAbsent(counter.getWorkbasketId(), key -> {
+                WorkbasketDueDateReportLine newLine = new WorkbasketDueDateReportLine();
+                newLine.setWorkbasketKey(key);
+                newLine.setWorkbasketName(counter.getWorkbasketName());
+                newLine.setTaskCounters(new ArrayList<>(Collections.nCopies(days, 0L)));
+                return newLine;
+            });
+            if (counter.getDue() != null) {
+                int day = (int) ChronoUnit.DAYS.between(fromDate, counter.getDue().toLocalDate());
+                line.getTaskCounters().set(day, counter.getTaskCounter());
+            }
+        }
+        report.setLines(new ArrayList<>(lines.values()));
+        return report;
+    }
+
+    @Override
+    public TaskAgingReport getTaskAgingReport(List<Integer> dayBoundaries, TaskAgingReportGrouping grouping)
+        throws InvalidArgumentException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("entry to getTaskAgingReport(dayBoundaries = {}, grouping = {})",
+                LoggerUtils.listToString(dayBoundaries), grouping);
+        }
+        TaskAgingReport report = null;
+        try {
+            checkDayBoundaries(dayBoundaries);
+            if (grouping == null) {
+                throw new InvalidArgumentException("The grouping of the task aging report must not be null");
+            }
+            LocalDate today = LocalDate.now();
+            List<Integer> boundaries = new ArrayList<>(dayBoundaries);
+            report = reportCache.get(new MonitorReportCache.Key("taskAgingReport", today, boundaries, grouping),
+                () -> query(() -> agingReport(today, boundaries, grouping)),
+                TaskMonitorServiceImpl::copyAgingReport);
+            return report;
+        } finally {
+            LOGGER.debug("exit from getTaskAgingReport(). Returning {}", report);
+        }
+    }
+
+    private TaskAgingReport agingReport(LocalDate today, List<Integer> dayBoundaries,
+        TaskAgingReportGrouping grouping) {
+        List<Timestamp> limits = new ArrayList<>(dayBoundaries.size());
+        for (Integer dayBoundary : dayBoundaries) {
+            limits.add(Timestamp.valueOf(today.plusDays(dayBoundary).atStartOfDay()));
+        }
+        List<TaskAgingCounter> counters = taskMonitorMapper.getTaskAgingCounters(limits, grouping, OPEN_STATES);
+        TaskAgingReport report = new TaskAgingReport();
+        report.setDayBoundaries(dayBoundaries);
+        report.setGrouping(grouping);
+        report.setLines(agingReportLines(dayBoundaries.size() + 1, counters));
+        return report;
+    }
+
+    private void checkDayBoundaries(List<Integer> dayBoundaries) throws InvalidArgumentException {
+        if (dayBoundaries == null || dayBoundaries.isEmpty()) {
+            throw new InvalidArgumentException("The task aging report needs at least one day boundary");
+        }
+        Integer previous = null;
+        for (Integer dayBoundary : dayBoundaries) {
+            if (dayBoundary == null || (previous != null && dayBoundary <= previous)) {
+                throw new InvalidArgumentException("The day boundaries of the task aging report must be in strictly "
+                    + "ascending order: " + dayBoundaries);
+            }
+            previous = dayBoundary;
+        }
+    }
+
+    /**
+     * Builds the lines of the aging report from the counters, which are ordered by group and bucket.
+     */
+    private List<TaskAgingReportLine> agingReportLines(int buckets, List<TaskAgingCounter> counters) {
+        List<TaskAgingReportLine> lines = new ArrayList<>();
+        TaskAgingReportLine line = null;
+        for (TaskAgingCounter counter : counters) {
+            if (line == null || !Objects.equals(line.getGroupKey(), counter.getGroupKey())
+                || !Objects.equals(line.getClassificationCategory(), counter.getClassificationCategory())) {
+                line = new TaskAgingReportLine();
+                line.setGroupKey(counter.getGroupKey());
+                line.setClassificationCategory(counter.getClassificationCategory());
+                line.setTaskCounters(new ArrayList<>(Collections.nCopies(buckets, 0L)));
+                lines.add(line);
+            }
+            line.getTaskCounters().set(counter.getBucket(), counter.getCounter());
+            line.setTotalCount(line.getTotalCount() + counter.getCounter());
+        }
+        return lines;
+    }
+
+    private <T> T query(Supplier<T> query) {
+        try {
+            taskanaEngineImpl.openConnection();
+            return query.get();
+        } finally {
+            taskanaEngineImpl.returnConnection();
+        }
+    }
+
+    private static List<TaskStateCounter> copyStateCounters(List<TaskStateCounter> counters) {
+        List<TaskStateCounter> copies = new ArrayList<>(counters.size());
+        for (TaskStateCounter counter : counters) {
+            TaskStateCounter copy = new TaskStateCounter();
+            copy.setState(counter.getState());
+            copy.setCounter(counter.getCounter());
+            copies.add(copy);
+        }
+        return copies;
+    }
+
+    private static List<DueWorkbasketCounter> copyDueCounters(List<DueWorkbasketCounter> counters) {
+        List<DueWorkbasketCounter> copies = new ArrayList<>(counters.size());
+        for (DueWorkbasketCounter counter : counters) {
+            DueWorkbasketCounter copy = new DueWorkbasketCounter();
+            copy.setDue(counter.getDue());
+            copy.setWorkbasketId(counter.getWorkbasketId());
+            copy.setWorkbasketName(counter.getWorkbasketName());
+            copy.setTaskCounter(counter.getTaskCounter());
+            copies.add(copy);
+        }
+        return copies;
+    }
+
+    private static WorkbasketDueDateReport copyDueDateReport(WorkbasketDueDateReport report) {
+        WorkbasketDueDateReport copy = new WorkbasketDueDateReport();
+        copy.setDates(new ArrayList<>(report.getDates()));
+        List<WorkbasketDueDateReportLine> lines = new ArrayList<>(report.getLines().size());
+        for (WorkbasketDueDateReportLine line : report.getLines()) {
+            WorkbasketDueDateReportLine lineCopy = new WorkbasketDueDateReportLine();
+            lineCopy.setWorkbasketKey(line.getWorkbasketKey());
+            lineCopy.setWorkbasketName(line.getWorkbasketName());
+            lineCopy.setTaskCounters(new ArrayList<>(line.getTaskCounters()));
+            lines.add(lineCopy);
+        }
+        copy.setLines(lines);
+        return copy;
+    }
+
+    private static TaskAgingReport copyAgingReport(TaskAgingReport report) {
+        TaskAgingReport copy = new TaskAgingReport();
+        copy.setDayBoundaries(new ArrayList<>(report.getDayBoundaries()));
+        copy.setGrouping(report.getGrouping());
+        List<TaskAgingReportLine> lines = new ArrayList<>(report.getLines().size());
+        for (TaskAgingReportLine line : report.getLines()) {
+            TaskAgingReportLine lineCopy = new TaskAgingReportLine();
+            lineCopy.setGroupKey(line.getGroupKey());
+            lineCopy.setClassificationCategory(line.getClassificationCategory());
+            lineCopy.setTaskCounters(new ArrayList<>(line.getTaskCounters()));
+            lineCopy.setTotalCount(line.getTotalCount());
+            lines.add(lineCopy);
+        }
+        copy.setLines(lines);
+        return copy;
+    }
+
+    /**
+     * Returns the states in a defined order without duplicates, so requests for the same states share a cache entry.
+     */
+    private static List<TaskState> normalize(List<TaskState> states) {
+        if (states == null) {
+            return null;
+        }
+        return states.stream()
+            .distinct()
+            .sorted(Comparator.nullsFirst(Comparator.naturalOrder()))
+            .collect(Collectors.toList());
+    }
 }
@@ -1,9 +1,20 @@
 package pro.taskana.impl;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.session.RowBounds;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,11 +25,17 @@ import pro.taskana.Task;
 import pro.taskana.TaskQuery;
 import pro.taskana.TaskanaEngine;
 import pro.taskana.exceptions.ClassificationNotFoundException;
+import pro.taskana.exceptions.InvalidArgumentException;
 import pro.taskana.exceptions.NotAuthorizedException;
 import pro.taskana.exceptions.SystemException;
 import pro.taskana.impl.util.LoggerUtils;
+import pro.taskana.model.TaskChanges;
+import pro.taskana.model.TaskPage;
+import pro.taskana.model.TaskSortKey;
 import pro.taskana.model.TaskState;
+import pro.taskana.model.TaskSummary;
 import pro.taskana.model.WorkbasketAuthorization;
+import pro.taskana.model.mappings.QueryMapper;
 
 /**
  * TaskQuery for generating dynamic sql.
@@ -26,7 +43,9 @@ import pro.taskana.model.WorkbasketAuthorization;
 public class TaskQueryImpl implements TaskQuery {
 
     private static final String LINK_TO_MAPPER = "pro.taskana.model.mappings.QueryMapper.queryTasks";
+    private static final String LINK_TO_SUMMARY_MAPPER = "pro.taskana.model.mappings.QueryMapper.queryTaskSummaries";
     private static final Logger LOGGER = LoggerFactory.getLogger(TaskQueryImpl.class);
+    private static final String CURSOR_SEPARATOR = "|";
     private TaskanaEngineImpl taskanaEngineImpl;
     private ClassificationServiceImpl classificationService;
     private String[] name;
@@ -40,6 +59,7 @@ public class TaskQueryImpl implements TaskQuery {
     private Boolean isRead;
     private Boolean isTransferred;
     private String[] customFields;
+    private boolean includeArchived;
     private String[] porCompanyIn;
     private String porCompanyLike;
     private String[] porSystemIn;
@@ -50,6 +70,13 @@ public class TaskQueryImpl implements TaskQuery {
     private String porTypeLike;
     private String[] porValueIn;
     private String porValueLike;
+    private TaskSortKey sortKey;
+    // seek position and row limit of listAfter(), only set during its execution
+    private Object cursorValue;
+    private String cursorId;
+    private Integer fetchLimit;
+    // change sequence after which tasks are read, only set during the execution of modifiedSince()
+    private Long changedAfter;
 
     public TaskQueryImpl(TaskanaEngine taskanaEngine) {
         this.taskanaEngineImpl = (TaskanaEngineImpl) taskanaEngine;
@@ -182,11 +209,23 @@ public class TaskQueryImpl implements TaskQuery {
         return this;
     }
 
+    @Override
+    public TaskQuery includeArchived() {
+        this.includeArchived = true;
+        return this;
+    }
+
     @Override
     public ObjectReferenceQuery createObjectReferenceQuery() {
         return new ObjectReferenceQueryImpl(taskanaEngineImpl);
     }
 
+    @Override
+    public TaskQuery orderBy(TaskSortKey sortKey) {
+        this.sortKey = sortKey;
+        return this;
+    }
+
     @Override
     public List<Task> list() throws NotAuthorizedException {
         LOGGER.debug("entry to list(), this = {}", this);
@@ -195,15 +234,9 @@ public class TaskQueryImpl implements TaskQuery {
             taskanaEngineImpl.openConnection();
             checkAuthorization();
             List<TaskImpl> tasks = taskanaEngineImpl.getSqlSession().selectList(LINK_TO_MAPPER, this);
+            setClassifications(tasks);
             for (TaskImpl taskImpl : tasks) {
                 TaskServiceImpl.setPrimaryObjRef(taskImpl);
-                try {
-                    Classification classification = this.classificationService.getClassificationByTask(taskImpl);
-                    taskImpl.setClassification(classification);
-                } catch (ClassificationNotFoundException e) {
-                    throw new SystemException(
-                        this.toString() + " failed to find a classification for task " + taskImpl);
-                }
                 result.add(taskImpl);
             }
             return result;
@@ -226,15 +259,9 @@ public class TaskQueryImpl implements TaskQuery {
             checkAuthorization();
             RowBounds rowBounds = new RowBounds(offset, limit);
             List<TaskImpl> tasks = taskanaEngineImpl.getSqlSession().selectList(LINK_TO_MAPPER, this, rowBounds);
+            setClassifications(tasks);
             for (TaskImpl taskImpl : tasks) {
                 TaskServiceImpl.setPrimaryObjRef(taskImpl);
-                try {
-                    Classification classification = this.classificationService.getClassificationByTask(taskImpl);
-                    taskImpl.setClassification(classification);
-                } catch (ClassificationNotFoundException e) {
-                    throw new SystemException(
-                        this.toString() + " failed to find a classification for task " + taskImpl);
-                }
                 result.add(taskImpl);
             }
             return result;
@@ -248,6 +275,166 @@ public class TaskQueryImpl implements TaskQuery {
         }
     }
 
+    @Override
+    public List<TaskSummary> listSummaries() throws NotAuthorizedException {
+        return listSummaries(RowBounds.DEFAULT);
+    }
+
+    @Override
+    public List<TaskSummary> listSummaries(int offset, int limit) throws NotAuthorizedException {
+        return listSummaries(new RowBounds(offset, limit));
+    }
+
+    private List<TaskSummary> listSummaries(RowBounds rowBounds) throws NotAuthorizedException {
+        LOGGER.debug("entry to listSummaries(offset = {}, limit = {}), this = {}", rowBounds.getOffset(),
+            rowBounds.getLimit(), this);
+        List<TaskSummary> result = null;
+        try {
+            taskanaEngineImpl.openConnection();
+            checkAuthorization();
+            result = taskanaEngineImpl.getSqlSession().selectList(LINK_TO_SUMMARY_MAPPER, this, rowBounds);
+            return result;
+        } finally {
+            taskanaEngineImpl.returnConnection();
+            if (LOGGER.isDebugEnabled()) {
+                int numberOfResultObjects = result == null ? 0 : result.size();
+                LOGGER.debug("exit from listSummaries(). Returning {} resulting Objects: {} ", numberOfResultObjects,
+                    LoggerUtils.listToString(result));
+            }
+        }
+    }
+
+    @Override
+    public TaskPage listAfter(String cursor, int limit) throws NotAuthorizedException, InvalidArgumentException {
+        LOGGER.debug("entry to listAfter(cursor = {}, limit = {}), this = {}", cursor, limit, this);
+        if (limit <= 0) {
+            throw new InvalidArgumentException("The limit of a page must be positive, but was " + limit);
+        }
+        TaskSortKey sortKeyBeforePaging = this.sortKey;
+        TaskPage page = null;
+        try {
+            taskanaEngineImpl.openConnection();
+            checkAuthorization();
+            if (this.sortKey == null) {
+                this.sortKey = TaskSortKey.CREATED;
+            }
+            if (cursor != null) {
+                decodeCursor(cursor);
+            }
+            // one more row than requested tells whether there is a next page
+            this.fetchLimit = limit + 1;
+            List<TaskImpl> tasks = taskanaEngineImpl.getSqlSession().selectList(LINK_TO_MAPPER, this);
+            String nextCursor = null;
+            if (tasks.size() > limit) {
+                tasks = tasks.subList(0, limit);
+                nextCursor = encodeCursor(tasks.get(limit - 1));
+            }
+            setClassifications(tasks);
+            List<Task> result = new ArrayList<>(tasks.size());
+            for (TaskImpl taskImpl : tasks) {
+                TaskServiceImpl.setPrimaryObjRef(taskImpl);
+                result.add(taskImpl);
+            }
+            page = new TaskPage(result, nextCursor);
+            return page;
+        } finally {
+            this.sortKey = sortKeyBeforePaging;
+            this.cursorValue = null;
+            this.cursorId = null;
+            this.fetchLimit = null;
+            taskanaEngineImpl.returnConnection();
+            LOGGER.debug("exit from listAfter(cursor, limit). Returning {}", page);
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<Task> action) throws NotAuthorizedException {
+        LOGGER.debug("entry to forEach(), this = {}", this);
+        int numberOfTasks = 0;
+        try {
+            taskanaEngineImpl.openConnection();
+            checkAuthorization();
+            try (Cursor<TaskImpl> cursor = taskanaEngineImpl.getSqlSession()
+                .selectCursor(LINK_TO_MAPPER + TaskanaEngineImpl.STREAMING_STATEMENT_SUFFIX, this)) {
+                // each classification is read once per stream, whether the classification cache holds it or not
+                Map<ClassificationCache.Key, Classification> classifications = new HashMap<>();
+                for (TaskImpl taskImpl : cursor) {
+                    TaskServiceImpl.setPrimaryObjRef(taskImpl);
+                    taskImpl.setClassification(getClassification(taskImpl, classifications));
+                    action.accept(taskImpl);
+                    numberOfTasks++;
+                }
+            } catch (IOException e) {
+                throw new SystemException(this.toString() + " failed to close the result cursor. " + e.getMessage());
+            }
+        } finally {
+            taskanaEngineImpl.returnConnection();
+            LOGGER.debug("exit from forEach(). Processed {} tasks", numberOfTasks);
+        }
+    }
+
+    @Override
+    public TaskChanges modifiedSince(long cursor) throws NotAuthorizedException, InvalidArgumentException {
+        LOGGER.debug("entry to modifiedSince(cursor = {}), this = {}", cursor, this);
+        if (cursor < 0) {
+            throw new InvalidArgumentException("The cursor of a change query must not be negative, but was " + cursor);
+        }
+        TaskChanges changes = null;
+        try {
+            taskanaEngineImpl.openConnection();
+            checkAuthorization();
+            // changes written before this time are committed, so the next cursor may pass them
+            long settledBefore = System.currentTimeMillis()
+                - taskanaEngineImpl.getConfiguration().getChangeCursorLag().toMillis();
+            long nextCursor = cursor;
+            this.changedAfter = cursor > 0 ? cursor : null;
+            List<TaskImpl> tasks = taskanaEngineImpl.getSqlSession().selectList(LINK_TO_MAPPER, this);
+            Set<String> changedIds = new HashSet<>();
+            for (TaskImpl taskImpl : tasks) {
+                changedIds.add(taskImpl.getId());
+                nextCursor = advanceCursor(nextCursor, taskImpl, settledBefore);
+            }
+            // the first call returns the complete result, so there is nothing to remove
+            List<String> removedIds = new ArrayList<>();
+            if (cursor > 0) {
+                // tasks which left the workbaskets and states of the query, or are still in them but no longer
+                // match, so no ids of workbaskets the user has not been authorized for are returned
+                List<TaskImpl> changedTasks = taskanaEngineImpl.getSqlSession().getMapper(QueryMapper.class)
+                    .queryTaskChanges(cursor, this.workbasketKey, this.states);
+                Set<String> removedIdSet = new HashSet<>();
+                for (TaskImpl changedTask : changedTasks) {
+                    if (!changedIds.contains(changedTask.getId()) && removedIdSet.add(changedTask.getId())) {
+                        removedIds.add(changedTask.getId());
+                    }
+                    nextCursor = advanceCursor(nextCursor, changedTask, settledBefore);
+                }
+            }
+            setClassifications(tasks);
+            List<Task> result = new ArrayList<>(tasks.size());
+            for (TaskImpl taskImpl : tasks) {
+                TaskServiceImpl.setPrimaryObjRef(taskImpl);
+                result.add(taskImpl);
+            }
+            changes = new TaskChanges(result, removedIds, nextCursor);
+            return changes;
+        } finally {
+            this.changedAfter = null;
+            taskanaEngineImpl.returnConnection();
+            LOGGER.debug("exit from modifiedSince(cursor). Returning {}", changes);
+        }
+    }
+
+    /**
+     * Moves the cursor to the change sequence of the task if the change is old enough to be committed. Sequence values
+     * assigned later may still belong to running transactions.
+     */
+    private long advanceCursor(long cursor, TaskImpl task, long settledBefore) {
+        if (task.getModified() == null || task.getModified().getTime() < settledBefore) {
+            return Math.max(cursor, task.getChangeSequence());
+        }
+        return cursor;
+    }
+
     @Override
     public TaskImpl single() throws NotAuthorizedException {
         LOGGER.debug("entry to single(), this = {}", this);
@@ -271,6 +458,79 @@ public class TaskQueryImpl implements TaskQuery {
         }
     }
 
+    /**
+     * Returns the classification of a streamed task, the classifications already read in the stream are reused.
+     */
+    private Classification getClassification(TaskImpl taskImpl,
+        Map<ClassificationCache.Key, Classification> classifications) {
+        ClassificationCache.Key key = new ClassificationCache.Key(taskImpl.getClassificationKey(),
+            taskImpl.getDomain(), ClassificationServiceImpl.CURRENT_CLASSIFICATIONS_VALID_UNTIL);
+        Classification classification = classifications.get(key);
+        if (classification == null) {
+            try {
+                classification = this.classificationService.getClassificationByTask(taskImpl);
+            } catch (ClassificationNotFoundException e) {
+                throw new SystemException(this.toString() + " failed to find a classification for task " + taskImpl);
+            }
+            // without a domain the classification is found via the workbasket of the task, which may differ
+            if (taskImpl.getDomain() != null) {
+                classifications.put(key, classification);
+            }
+        }
+        return classification;
+    }
+
+    private void setClassifications(List<TaskImpl> tasks) {
+        try {
+            this.classificationService.setClassificationsOfTasks(tasks);
+        } catch (ClassificationNotFoundException e) {
+            throw new SystemException(this.toString() + " failed to find a classification. " + e.getMessage());
+        }
+    }
+
+    /**
+     * The cursor contains the sort key, the sort value and the id of the last task of a page, separated by '|' and
+     * Base64 encoded, so it can be passed around as opaque, URL safe string.
+     */
+    private String encodeCursor(TaskImpl lastTask) {
+        Object value;
+        switch (sortKey) {
+            case PRIORITY:
+                value = lastTask.getPriority();
+                break;
+            case DUE:
+                value = lastTask.getDue();
+                break;
+            default:
+                value = lastTask.getCreated();
+                break;
+        }
+        String cursor = sortKey.name() + CURSOR_SEPARATOR + (value == null ? "" : value.toString()) + CURSOR_SEPARATOR
+            + lastTask.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void decodeCursor(String cursor) throws InvalidArgumentException {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                .split(Pattern.quote(CURSOR_SEPARATOR), 3);
+            if (parts.length != 3 || !sortKey.name().equals(parts[0]) || parts[2].isEmpty()) {
+                throw new InvalidArgumentException("The cursor " + cursor + " does not belong to a query ordered by "
+                    + sortKey);
+            }
+            if (parts[1].isEmpty()) {
+                this.cursorValue = null;
+            } else if (sortKey == TaskSortKey.PRIORITY) {
+                this.cursorValue = Integer.valueOf(parts[1]);
+            } else {
+                this.cursorValue = Timestamp.valueOf(parts[1]);
+            }
+            this.cursorId = parts[2];
+        } catch (IllegalArgumentException e) {
+            throw new InvalidArgumentException("The cursor " + cursor + " is invalid");
+        }
+    }
+
     private void checkAuthorization() throws NotAuthorizedException {
         if (this.workbasketKey != null && this.workbasketKey.length > 0) {
             for (String wbKey : this.workbasketKey) {
@@ -370,6 +630,63 @@ public class TaskQueryImpl implements TaskQuery {
         return porValueLike;
     }
 
+    public TaskSortKey getSortKey() {
+        return sortKey;
+    }
+
+    /**
+     * Returns the column of the current sort key.
+     *
+     * @return the column or null if the result is not sorted
+     */
+    public String getSortColumn() {
+        if (sortKey == null) {
+            return null;
+        }
+        switch (sortKey) {
+            case PRIORITY:
+                // TaskImpl reads a missing priority as 0, the cursor can't tell it from NULL
+                return "COALESCE(t.PRIORITY, 0)";
+            case DUE:
+                return "t.DUE";
+            default:
+                return "t.CREATED";
+        }
+    }
+
+    public String getSortDirection() {
+        return sortKey == TaskSortKey.PRIORITY ? "DESC" : "ASC";
+    }
+
+    /**
+     * Returns the comparison operator that selects the rows behind the cursor.
+     *
+     * @return the operator matching the sort direction
+     */
+    public String getSeekOperator() {
+        return sortKey == TaskSortKey.PRIORITY ? "<" : ">";
+    }
+
+    public Object getCursorValue() {
+        return cursorValue;
+    }
+
+    public String getCursorId() {
+        return cursorId;
+    }
+
+    public Long getChangedAfter() {
+        return changedAfter;
+    }
+
+    public boolean isIncludeArchived() {
+        return includeArchived;
+    }
+
+    public Integer getFetchLimit() {
+        return fetchLimit;
+    }
+
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
@@ -415,6 +732,10 @@ public class TaskQueryImpl implements TaskQuery {
         builder.append(Arrays.toString(porValueIn));
         builder.append(", porValueLike=");
         builder.append(porValueLike);
+        builder.append(", includeArchived=");
+        builder.append(includeArchived);
+        builder.append(", sortKey=");
+        builder.append(sortKey);
         builder.append("]");
         return builder.toString();
     }
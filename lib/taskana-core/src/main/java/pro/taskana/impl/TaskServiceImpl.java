@@ -1,17 +1,33 @@
 package pro.taskana.impl;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.IntSupplier;
 
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.session.SqlSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import pro.taskana.Attachment;
 import pro.taskana.Classification;
 import pro.taskana.Task;
+import pro.taskana.TaskHistoryQuery;
 import pro.taskana.TaskQuery;
 import pro.taskana.TaskService;
 import pro.taskana.TaskanaEngine;
@@ -27,15 +43,21 @@ import pro.taskana.exceptions.NotAuthorizedException;
 import pro.taskana.exceptions.SystemException;
 import pro.taskana.exceptions.TaskAlreadyExistException;
 import pro.taskana.exceptions.TaskNotFoundException;
+import pro.taskana.exceptions.TaskanaException;
 import pro.taskana.exceptions.WorkbasketNotFoundException;
 import pro.taskana.impl.util.IdGenerator;
 import pro.taskana.impl.util.LoggerUtils;
+import pro.taskana.model.BulkOperationResults;
 import pro.taskana.model.ObjectReference;
+import pro.taskana.model.TaskCounter;
+import pro.taskana.model.TaskEventType;
 import pro.taskana.model.TaskState;
 import pro.taskana.model.TaskSummary;
 import pro.taskana.model.WorkbasketAuthorization;
 import pro.taskana.model.mappings.AttachmentMapper;
 import pro.taskana.model.mappings.ObjectReferenceMapper;
+import pro.taskana.model.mappings.TaskCounterMapper;
+import pro.taskana.model.mappings.TaskEventMapper;
 import pro.taskana.model.mappings.TaskMapper;
 import pro.taskana.security.CurrentUserContext;
 
@@ -49,6 +71,9 @@ public class TaskServiceImpl implements TaskService {
     private static final String ID_PREFIX_ATTACHMENT = "TAI";
     private static final String ID_PREFIX_TASK = "TKI";
     private static final String ID_PREFIX_BUSINESS_PROCESS = "BPI";
+    // properties which only claim and completeTask change, updateTask() does not write them
+    private static final List<String> TRANSITION_PROPERTIES = Arrays.asList("state", "owner", "claimed",
+        "completed");
     private TaskanaEngine taskanaEngine;
     private TaskanaEngineImpl taskanaEngineImpl;
     private WorkbasketService workbasketService;
@@ -56,9 +81,13 @@ public class TaskServiceImpl implements TaskService {
     private TaskMapper taskMapper;
     private ObjectReferenceMapper objectReferenceMapper;
     private AttachmentMapper attachmentMapper;
+    private TaskEventMapper taskEventMapper;
+    private TaskHistoryWriter taskHistoryWriter;
+    private TaskCounterMapper taskCounterMapper;
 
     public TaskServiceImpl(TaskanaEngine taskanaEngine, TaskMapper taskMapper,
-        ObjectReferenceMapper objectReferenceMapper, AttachmentMapper attachmentMapper) {
+        ObjectReferenceMapper objectReferenceMapper, AttachmentMapper attachmentMapper,
+        TaskEventMapper taskEventMapper, TaskHistoryWriter taskHistoryWriter, TaskCounterMapper taskCounterMapper) {
         super();
         this.taskanaEngine = taskanaEngine;
         this.taskanaEngineImpl = (TaskanaEngineImpl) taskanaEngine;
@@ -66,6 +95,9 @@ public class TaskServiceImpl implements TaskService {
         this.objectReferenceMapper = objectReferenceMapper;
         this.workbasketService = taskanaEngineImpl.getWorkbasketService();
         this.attachmentMapper = attachmentMapper;
+        this.taskEventMapper = taskEventMapper;
+        this.taskHistoryWriter = taskHistoryWriter;
+        this.taskCounterMapper = taskCounterMapper;
         this.classificationService = (ClassificationServiceImpl) taskanaEngineImpl.getClassificationService();
     }
 
@@ -77,39 +109,74 @@ public class TaskServiceImpl implements TaskService {
 
     @Override
     public Task claim(String taskId, boolean forceClaim)
+        throws TaskNotFoundException, InvalidStateException, InvalidOwnerException {
+        LOGGER.debug("entry to claim(id = {}, forceClaim = {})", taskId, forceClaim);
+        Task result = null;
+        try {
+            taskanaEngineImpl.openConnection();
+            claimWithoutResult(taskId, forceClaim);
+            result = getTask(taskId);
+            return result;
+        } finally {
+            taskanaEngineImpl.returnConnection();
+            LOGGER.debug("exit from claim()");
+        }
+    }
+
+    @Override
+    public void claimWithoutResult(String taskId, boolean forceClaim)
         throws TaskNotFoundException, InvalidStateException, InvalidOwnerException {
         String userId = CurrentUserContext.getUserid();
-        LOGGER.debug("entry to claim(id = {}, forceClaim = {}, userId = {})", taskId, forceClaim, userId);
-        TaskImpl task = null;
+        LOGGER.debug("entry to claimWithoutResult(id = {}, forceClaim = {}, userId = {})", taskId, forceClaim,
+            userId);
         try {
             taskanaEngineImpl.openConnection();
-            task = (TaskImpl) getTask(taskId);
-            TaskState state = task.getState();
-            if (state == TaskState.COMPLETED) {
-                LOGGER.warn("Method claim() found that task {} is already completed. Throwing InvalidStateException",
-                    taskId);
-                throw new InvalidStateException("Task is already completed");
-            }
-            if (state == TaskState.CLAIMED && !forceClaim) {
-                LOGGER.warn(
-                    "Method claim() found that task {} is claimed by {} and forceClaim is false. Throwing InvalidOwnerException",
-                    taskId, task.getOwner());
-                throw new InvalidOwnerException("Task is already claimed by user " + task.getOwner());
-            }
-            Timestamp now = new Timestamp(System.currentTimeMillis());
-            task.setOwner(userId);
-            task.setModified(now);
-            task.setClaimed(now);
-            task.setRead(true);
-            task.setState(TaskState.CLAIMED);
-            taskMapper.update(task);
-            LOGGER.debug("Method claim() claimed task '{}' for user '{}'.", taskId, userId);
+            transitions().claim(taskId, userId, forceClaim, new Timestamp(System.currentTimeMillis()));
+            LOGGER.debug("Method claimWithoutResult() claimed task '{}' for user '{}'.", taskId, userId);
+        } finally {
+            taskanaEngineImpl.returnConnection();
+            LOGGER.debug("exit from claimWithoutResult()");
+        }
+    }
 
+    @Override
+    public Task claimNext(String... workbasketKeys) throws NotAuthorizedException, InvalidArgumentException {
+        String userId = CurrentUserContext.getUserid();
+        LOGGER.debug("entry to claimNext(workbasketKeys = {}, userId = {})", Arrays.toString(workbasketKeys), userId);
+        Task result = null;
+        try {
+            taskanaEngineImpl.openConnection();
+            if (workbasketKeys == null || workbasketKeys.length == 0) {
+                throw new InvalidArgumentException("claimNext requires at least one workbasket key");
+            }
+            for (String workbasketKey : workbasketKeys) {
+                workbasketService.checkAuthorization(workbasketKey, WorkbasketAuthorization.OPEN);
+            }
+            TaskTransitions transitions = transitions();
+            List<String> keys = Arrays.asList(workbasketKeys);
+            int limit = taskanaEngine.getConfiguration().getClaimNextCandidates();
+            // candidates may be claimed by other workers in the meantime, so they are tried in order and read again
+            // when all of them are gone
+            List<String> candidates = taskMapper.findClaimCandidates(keys, limit);
+            while (!candidates.isEmpty()) {
+                Timestamp now = new Timestamp(System.currentTimeMillis());
+                for (String taskId : candidates) {
+                    if (transitions.claimIfReady(taskId, userId, now)) {
+                        LOGGER.debug("Method claimNext() claimed task '{}' for user '{}'.", taskId, userId);
+                        result = getTask(taskId);
+                        return result;
+                    }
+                }
+                candidates = taskMapper.findClaimCandidates(keys, limit);
+            }
+            LOGGER.debug("Method claimNext() found no READY task in workbaskets {}.", keys);
+            return null;
+        } catch (TaskNotFoundException e) {
+            throw new SystemException("TaskService.claimNext could not read the claimed task " + e.getMessage());
         } finally {
             taskanaEngineImpl.returnConnection();
-            LOGGER.debug("exit from claim()");
+            LOGGER.debug("exit from claimNext(). Returning result {} ", result);
         }
-        return task;
     }
 
     @Override
@@ -122,41 +189,32 @@ public class TaskServiceImpl implements TaskService {
     public Task completeTask(String taskId, boolean isForced)
         throws TaskNotFoundException, InvalidOwnerException, InvalidStateException {
         LOGGER.debug("entry to completeTask(id = {}, isForced {})", taskId, isForced);
-        TaskImpl task = null;
+        Task result = null;
         try {
             taskanaEngineImpl.openConnection();
-            task = (TaskImpl) this.getTask(taskId);
-
-            // check pre-conditions for non-forced invocation
-            if (!isForced) {
-                if (task.getClaimed() == null || task.getState() != TaskState.CLAIMED) {
-                    LOGGER.warn("Method completeTask() does expect a task which need to be CLAIMED before. TaskId={}",
-                        taskId);
-                    throw new InvalidStateException(taskId);
-                } else if (CurrentUserContext.getUserid() != task.getOwner()) {
-                    LOGGER.warn(
-                        "Method completeTask() does expect to be invoced by the task-owner or a administrator. TaskId={}, TaskOwner={}, CurrentUser={}",
-                        taskId, task.getOwner(), CurrentUserContext.getUserid());
-                    throw new InvalidOwnerException(
-                        "TaskOwner is" + task.getOwner() + ", but current User is " + CurrentUserContext.getUserid());
-                }
-            } else {
-                // CLAIM-forced, if task was not already claimed before.
-                if (task.getClaimed() == null || task.getState() != TaskState.CLAIMED) {
-                    task = (TaskImpl) this.claim(taskId, true);
-                }
-            }
-            Timestamp now = new Timestamp(System.currentTimeMillis());
-            task.setCompleted(now);
-            task.setModified(now);
-            task.setState(TaskState.COMPLETED);
-            taskMapper.update(task);
-            LOGGER.debug("Method completeTask() completed Task '{}'.", taskId);
+            completeTaskWithoutResult(taskId, isForced);
+            result = getTask(taskId);
+            return result;
         } finally {
             taskanaEngineImpl.returnConnection();
             LOGGER.debug("exit from completeTask()");
         }
-        return task;
+    }
+
+    @Override
+    public void completeTaskWithoutResult(String taskId, boolean isForced)
+        throws TaskNotFoundException, InvalidOwnerException, InvalidStateException {
+        LOGGER.debug("entry to completeTaskWithoutResult(id = {}, isForced {})", taskId, isForced);
+        try {
+            taskanaEngineImpl.openConnection();
+            // a forced completion claims the task for the current user if it was not claimed before
+            transitions().complete(taskId, CurrentUserContext.getUserid(), isForced,
+                new Timestamp(System.currentTimeMillis()));
+            LOGGER.debug("Method completeTaskWithoutResult() completed Task '{}'.", taskId);
+        } finally {
+            taskanaEngineImpl.returnConnection();
+            LOGGER.debug("exit from completeTaskWithoutResult()");
+        }
     }
 
     @Override
@@ -184,7 +242,13 @@ public class TaskServiceImpl implements TaskService {
                 validateAttachments(task);
                 task.setDomain(workbasket.getDomain());
                 standardSettings(task);
+                insertAttachments(task, attachmentMapper);
                 this.taskMapper.insert(task);
+                TaskTransitions transitions = transitions();
+                transitions.countCreated(Collections.singletonList(task.getId()));
+                transitions.recordEvents(TaskEventType.CREATED, Collections.singletonList(task.getId()),
+                    task.getCreated());
+                task.trackChanges();
                 LOGGER.debug("Method createTask() created Task '{}'.", task.getId());
             }
             return task;
@@ -194,6 +258,204 @@ public class TaskServiceImpl implements TaskService {
         }
     }
 
+    @Override
+    public BulkOperationResults<Task, TaskanaException> createTasks(List<Task> tasksToCreate) {
+        LOGGER.debug("entry to createTasks(tasks = {})", tasksToCreate);
+        BulkOperationResults<Task, TaskanaException> bulkLog = new BulkOperationResults<>();
+        if (tasksToCreate == null || tasksToCreate.isEmpty()) {
+            LOGGER.debug("exit from createTasks(), nothing to create.");
+            return bulkLog;
+        }
+        int createdTasks = 0;
+        try {
+            taskanaEngineImpl.openConnection();
+            // workbaskets and classifications are validated only once per distinct key
+            Map<String, Workbasket> workbaskets = new HashMap<>();
+            Map<String, TaskanaException> workbasketErrors = new HashMap<>();
+            Map<List<String>, Classification> classifications = new HashMap<>();
+            Map<List<String>, TaskanaException> classificationErrors = new HashMap<>();
+            List<TaskImpl> validTasks = new ArrayList<>();
+            for (Task taskToCreate : tasksToCreate) {
+                TaskImpl task = (TaskImpl) taskToCreate;
+                try {
+                    if (task.getId() != null && !task.getId().isEmpty()) {
+                        throw new TaskAlreadyExistException(task.getId());
+                    }
+                    Workbasket workbasket = getWorkbasketForCreate(task.getWorkbasketKey(), workbaskets,
+                        workbasketErrors);
+                    String classificationKey = task.getClassificationKey();
+                    if (classificationKey == null || classificationKey.length() == 0) {
+                        throw new InvalidArgumentException("classificationKey of task must not be empty");
+                    }
+                    Classification classification = getClassificationForCreate(classificationKey,
+                        workbasket.getDomain(), classifications, classificationErrors);
+                    validateObjectReference(task.getPrimaryObjRef(), "primary ObjectReference", "Task");
+                    validateAttachments(task);
+                    task.setClassification(classification);
+                    task.setDomain(workbasket.getDomain());
+                    validTasks.add(task);
+                } catch (TaskanaException e) {
+                    LOGGER.debug("Method createTasks() rejected task {} because of {}.", task, e.toString());
+                    bulkLog.addError(task, e);
+                }
+            }
+
+            if (!validTasks.isEmpty()) {
+                Connection connection = taskanaEngineImpl.getSqlSession().getConnection();
+                Savepoint savepoint = setSavepoint(connection);
+                try {
+                    insertBatch(validTasks);
+                    if (savepoint != null) {
+                        releaseSavepoint(connection, savepoint);
+                    }
+                    createdTasks = validTasks.size();
+                } catch (PersistenceException e) {
+                    if (savepoint == null) {
+                        throw e;
+                    }
+                    // a row the database rejects fails the whole batch, so the rows of the batch are undone and the
+                    // tasks are inserted one by one to report only the rejected ones
+                    LOGGER.warn("Batch insert of {} tasks failed, inserting them one by one. Cause: {}",
+                        validTasks.size(), e.getMessage());
+                    rollbackTo(connection, savepoint);
+                    createdTasks = insertOneByOne(validTasks, connection, bulkLog);
+                }
+            }
+            return bulkLog;
+        } finally {
+            taskanaEngineImpl.returnConnection();
+            LOGGER.debug("exit from createTasks(). Created {} tasks, returning result {} ", createdTasks, bulkLog);
+        }
+    }
+
+    /**
+     * Inserts the tasks and their attachments with one batch, then counts them and records their events.
+     */
+    private void insertBatch(List<TaskImpl> validTasks) {
+        List<String> createdIds = new ArrayList<>();
+        try (SqlSession batchSession = taskanaEngineImpl.openBatchSession()) {
+            TaskMapper batchTaskMapper = batchSession.getMapper(TaskMapper.class);
+            AttachmentMapper batchAttachmentMapper = batchSession.getMapper(AttachmentMapper.class);
+            // all tasks before all attachments, the batch executor only batches consecutive statements
+            for (TaskImpl task : validTasks) {
+                standardSettings(task);
+                batchTaskMapper.insert(task);
+                task.trackChanges();
+                createdIds.add(task.getId());
+            }
+            for (TaskImpl task : validTasks) {
+                insertAttachments(task, batchAttachmentMapper);
+            }
+            batchSession.flushStatements();
+        }
+        // counters, events and history are written with the managed session once the inserts have succeeded
+        recordCreated(createdIds);
+    }
+
+    /**
+     * Inserts the tasks one by one, each behind a savepoint. A task the database rejects is reported in the bulk log
+     * and the others are created, counted and recorded.
+     *
+     * @return the number of created tasks
+     */
+    private int insertOneByOne(List<TaskImpl> tasks, Connection connection,
+        BulkOperationResults<Task, TaskanaException> bulkLog) {
+        List<String> createdIds = new ArrayList<>();
+        for (TaskImpl task : tasks) {
+            Savepoint savepoint = setSavepoint(connection);
+            try {
+                taskMapper.insert(task);
+                insertAttachments(task, attachmentMapper);
+                releaseSavepoint(connection, savepoint);
+                createdIds.add(task.getId());
+            } catch (PersistenceException e) {
+                rollbackTo(connection, savepoint);
+                LOGGER.debug("Method createTasks() rejected task {} because of {}.", task, e.toString());
+                task.setId(null);
+                bulkLog.addError(task, new InvalidArgumentException("Task could not be inserted: " + e.getMessage()));
+            }
+        }
+        recordCreated(createdIds);
+        return createdIds.size();
+    }
+
+    private void recordCreated(List<String> createdIds) {
+        TaskTransitions transitions = transitions();
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (List<String> chunk : chunks(createdIds)) {
+            transitions.countCreated(chunk);
+            transitions.recordEvents(TaskEventType.CREATED, chunk, now);
+        }
+    }
+
+    /**
+     * Sets a savepoint on the connection of the current API call.
+     *
+     * @return the savepoint, null if the connection is in auto-commit mode and each statement is committed anyway
+     */
+    private Savepoint setSavepoint(Connection connection) {
+        try {
+            return connection.getAutoCommit() ? null : connection.setSavepoint();
+        } catch (SQLException e) {
+            throw new SystemException("Setting a savepoint failed. " + e.getMessage());
+        }
+    }
+
+    private void releaseSavepoint(Connection connection, Savepoint savepoint) {
+        try {
+            connection.releaseSavepoint(savepoint);
+        } catch (SQLException e) {
+            throw new SystemException("Releasing a savepoint failed. " + e.getMessage());
+        }
+    }
+
+    private void rollbackTo(Connection connection, Savepoint savepoint) {
+        try {
+            connection.rollback(savepoint);
+        } catch (SQLException e) {
+            throw new SystemException("Rolling back to a savepoint failed. " + e.getMessage());
+        }
+    }
+
+    private Workbasket getWorkbasketForCreate(String workbasketKey, Map<String, Workbasket> workbaskets,
+        Map<String, TaskanaException> workbasketErrors) throws TaskanaException {
+        if (workbasketErrors.containsKey(workbasketKey)) {
+            throw workbasketErrors.get(workbasketKey);
+        }
+        Workbasket workbasket = workbaskets.get(workbasketKey);
+        if (workbasket == null) {
+            try {
+                workbasket = workbasketService.getWorkbasketByKey(workbasketKey);
+                workbasketService.checkAuthorization(workbasketKey, WorkbasketAuthorization.APPEND);
+            } catch (WorkbasketNotFoundException | NotAuthorizedException e) {
+                workbasketErrors.put(workbasketKey, e);
+                throw e;
+            }
+            workbaskets.put(workbasketKey, workbasket);
+        }
+        return workbasket;
+    }
+
+    private Classification getClassificationForCreate(String classificationKey, String domain,
+        Map<List<String>, Classification> classifications, Map<List<String>, TaskanaException> classificationErrors)
+        throws TaskanaException {
+        List<String> cacheKey = Arrays.asList(classificationKey, domain);
+        if (classificationErrors.containsKey(cacheKey)) {
+            throw classificationErrors.get(cacheKey);
+        }
+        Classification classification = classifications.get(cacheKey);
+        if (classification == null) {
+            try {
+                classification = classificationService.getClassification(classificationKey, domain);
+            } catch (ClassificationNotFoundException e) {
+                classificationErrors.put(cacheKey, e);
+                throw e;
+            }
+            classifications.put(cacheKey, classification);
+        }
+        return classification;
+    }
+
     @Override
     public Task getTask(String id) throws TaskNotFoundException {
         LOGGER.debug("entry to getTaskById(id = {})", id);
@@ -219,6 +481,7 @@ public class TaskServiceImpl implements TaskService {
                 }
 
                 result.setClassification(classification);
+                result.trackChanges();
                 return result;
             } else {
                 LOGGER.warn("Method getTaskById() didn't find task with id {}. Throwing TaskNotFoundException", id);
@@ -237,35 +500,46 @@ public class TaskServiceImpl implements TaskService {
         Task result = null;
         try {
             taskanaEngineImpl.openConnection();
-            TaskImpl task = (TaskImpl) getTask(taskId);
+            transferWithoutResult(taskId, destinationWorkbasketKey);
+            result = getTask(taskId);
+            return result;
+        } finally {
+            taskanaEngineImpl.returnConnection();
+            LOGGER.debug("exit from transfer(). Returning result {} ", result);
+        }
+    }
+
+    @Override
+    public void transferWithoutResult(String taskId, String destinationWorkbasketKey)
+        throws TaskNotFoundException, WorkbasketNotFoundException, NotAuthorizedException, InvalidWorkbasketException {
+        LOGGER.debug("entry to transferWithoutResult(taskId = {}, destinationWorkbasketKey = {})", taskId,
+            destinationWorkbasketKey);
+        try {
+            taskanaEngineImpl.openConnection();
+            TaskTransitions transitions = transitions();
+            String sourceWorkbasketKey = transitions.getState(taskId).getWorkbasketKey();
 
             // transfer requires TRANSFER in source and APPEND on destination workbasket
             workbasketService.checkAuthorization(destinationWorkbasketKey, WorkbasketAuthorization.APPEND);
-            workbasketService.checkAuthorization(task.getWorkbasketKey(), WorkbasketAuthorization.TRANSFER);
-
-            // if security is disabled, the implicit existance check on the
-            // destination workbasket has been skipped and needs to be performed
-            if (!taskanaEngine.getConfiguration().isSecurityEnabled()) {
-                workbasketService.getWorkbasketByKey(destinationWorkbasketKey);
-            }
+            workbasketService.checkAuthorization(sourceWorkbasketKey, WorkbasketAuthorization.TRANSFER);
 
-            // reset read flag and set transferred flag
-            task.setRead(false);
-            task.setTransferred(true);
+            // reading the destination workbasket also checks its existence if security is disabled
+            Workbasket destinationWorkbasket = workbasketService.getWorkbasketByKey(destinationWorkbasketKey);
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
 
-            // transfer task from source to destination workbasket
-            task.setWorkbasketKey(destinationWorkbasketKey);
-            task.setDomain(workbasketService.getWorkbasketByKey(destinationWorkbasketKey).getDomain());
-            task.setModified(Timestamp.valueOf(LocalDateTime.now()));
-            taskMapper.update(task);
+            // reset read flag, set transferred flag and move the task, provided it is still in the source workbasket.
+            // Otherwise the TRANSFER permission has to be checked on the workbasket it has been moved to.
+            while (!transitions.transfer(taskId, sourceWorkbasketKey, destinationWorkbasketKey,
+                destinationWorkbasket.getDomain(), now)) {
+                sourceWorkbasketKey = transitions.getState(taskId).getWorkbasketKey();
+                workbasketService.checkAuthorization(sourceWorkbasketKey, WorkbasketAuthorization.TRANSFER);
+            }
 
-            result = getTask(taskId);
-            LOGGER.debug("Method transfer() transferred Task '{}' to destination workbasket {}", taskId,
+            LOGGER.debug("Method transferWithoutResult() transferred Task '{}' to destination workbasket {}", taskId,
                 destinationWorkbasketKey);
-            return result;
         } finally {
             taskanaEngineImpl.returnConnection();
-            LOGGER.debug("exit from transfer(). Returning result {} ", result);
+            LOGGER.debug("exit from transferWithoutResult()");
         }
     }
 
@@ -276,12 +550,8 @@ public class TaskServiceImpl implements TaskService {
         Task result = null;
         try {
             taskanaEngineImpl.openConnection();
-            TaskImpl task = (TaskImpl) getTask(taskId);
-            task.setRead(true);
-            task.setModified(Timestamp.valueOf(LocalDateTime.now()));
-            taskMapper.update(task);
+            setTaskReadWithoutResult(taskId, isRead);
             result = getTask(taskId);
-            LOGGER.debug("Method setTaskRead() set read property of Task '{}' to {} ", result, isRead);
             return result;
         } finally {
             taskanaEngineImpl.returnConnection();
@@ -289,11 +559,290 @@ public class TaskServiceImpl implements TaskService {
         }
     }
 
+    @Override
+    public void setTaskReadWithoutResult(String taskId, boolean isRead)
+        throws TaskNotFoundException {
+        LOGGER.debug("entry to setTaskReadWithoutResult(taskId = {}, isRead = {})", taskId, isRead);
+        try {
+            taskanaEngineImpl.openConnection();
+            transitions().setRead(taskId, isRead, Timestamp.valueOf(LocalDateTime.now()));
+            LOGGER.debug("Method setTaskReadWithoutResult() set read property of Task '{}' to {} ", taskId, isRead);
+        } finally {
+            taskanaEngineImpl.returnConnection();
+            LOGGER.debug("exit from setTaskReadWithoutResult(taskId, isRead)");
+        }
+    }
+
+    @Override
+    public BulkOperationResults<String, TaskanaException> transferTasks(String destinationWorkbasketKey,
+        List<String> taskIds) throws NotAuthorizedException, WorkbasketNotFoundException {
+        LOGGER.debug("entry to transferTasks(destinationWorkbasketKey = {}, taskIds = {})", destinationWorkbasketKey,
+            taskIds);
+        BulkOperationResults<String, TaskanaException> bulkLog = new BulkOperationResults<>();
+        try {
+            taskanaEngineImpl.openConnection();
+            workbasketService.checkAuthorization(destinationWorkbasketKey, WorkbasketAuthorization.APPEND);
+            Workbasket destinationWorkbasket = workbasketService.getWorkbasketByKey(destinationWorkbasketKey);
+            if (taskIds == null || taskIds.isEmpty()) {
+                return bulkLog;
+            }
+            TaskTransitions transitions = transitions();
+            Map<String, NotAuthorizedException> checkedWorkbaskets = new HashMap<>();
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            for (List<String> chunk : chunks(taskIds)) {
+                List<String> remaining = chunk;
+                // tasks which have been moved to another workbasket concurrently are transferred again after the
+                // TRANSFER permission has been checked on that workbasket
+                while (!remaining.isEmpty()) {
+                    List<TaskImpl> tasks = authorizeTasks(remaining, transitions.getStates(remaining),
+                        WorkbasketAuthorization.TRANSFER, checkedWorkbaskets, bulkLog);
+                    remaining = new ArrayList<>();
+                    // the tasks are moved per source workbasket, which is where they have to be counted off
+                    for (Map.Entry<String, List<String>> source : idsByWorkbasket(tasks).entrySet()) {
+                        String sourceWorkbasketKey = source.getKey();
+                        List<String> candidates = source.getValue();
+                        String domain = destinationWorkbasket.getDomain();
+                        if (transitionAll(candidates.size(), () -> transitions.transferAll(candidates,
+                            sourceWorkbasketKey, destinationWorkbasketKey, domain, now))) {
+                            transitions.moved(candidates, null, sourceWorkbasketKey, now);
+                            transitions.recordEvents(TaskEventType.TRANSFERRED, candidates, destinationWorkbasketKey,
+                                now);
+                            continue;
+                        }
+                        for (String taskId : candidates) {
+                            try {
+                                if (!transitions.transfer(taskId, sourceWorkbasketKey, destinationWorkbasketKey,
+                                    domain, now)) {
+                                    remaining.add(taskId);
+                                }
+                            } catch (TaskNotFoundException e) {
+                                bulkLog.addError(taskId, e);
+                            }
+                        }
+                    }
+                }
+            }
+            LOGGER.debug("Method transferTasks() transferred tasks to destination workbasket {}",
+                destinationWorkbasketKey);
+            return bulkLog;
+        } finally {
+            taskanaEngineImpl.returnConnection();
+            LOGGER.debug("exit from transferTasks(). Returning result {} ", bulkLog);
+        }
+    }
+
+    @Override
+    public BulkOperationResults<String, TaskanaException> claimTasks(List<String> taskIds) {
+        String userId = CurrentUserContext.getUserid();
+        LOGGER.debug("entry to claimTasks(taskIds = {}, userId = {})", taskIds, userId);
+        BulkOperationResults<String, TaskanaException> bulkLog = new BulkOperationResults<>();
+        if (taskIds == null || taskIds.isEmpty()) {
+            LOGGER.debug("exit from claimTasks(), nothing to claim.");
+            return bulkLog;
+        }
+        try {
+            taskanaEngineImpl.openConnection();
+            TaskTransitions transitions = transitions();
+            Map<String, NotAuthorizedException> checkedWorkbaskets = new HashMap<>();
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            for (List<String> chunk : chunks(taskIds)) {
+                List<TaskImpl> candidates = new ArrayList<>();
+                for (TaskImpl task : authorizeTasks(chunk, transitions.getStates(chunk),
+                    WorkbasketAuthorization.OPEN, checkedWorkbaskets, bulkLog)) {
+                    if (task.getState() == TaskState.READY) {
+                        candidates.add(task);
+                    } else {
+                        bulkLog.addError(task.getId(), transitions.claimFailure(task, false));
+                    }
+                }
+                List<String> candidateIds = ids(candidates);
+                if (candidateIds.isEmpty() || transitionAll(candidateIds.size(),
+                    () -> transitions.claimAll(candidateIds, workbasketKeys(candidates), userId, now))) {
+                    transitions.moved(candidateIds, TaskState.READY, null, now);
+                    transitions.recordEvents(TaskEventType.CLAIMED, candidateIds, now);
+                    continue;
+                }
+                List<String> failedIds = new ArrayList<>();
+                for (String taskId : candidateIds) {
+                    if (!transitions.claimIfReady(taskId, userId, now)) {
+                        failedIds.add(taskId);
+                    }
+                }
+                // only the tasks which could not be claimed are read again to report the reason
+                Map<String, TaskImpl> states = transitions.getStates(failedIds);
+                for (String taskId : failedIds) {
+                    TaskImpl task = states.get(taskId);
+                    bulkLog.addError(taskId,
+                        task == null ? new TaskNotFoundException(taskId) : transitions.claimFailure(task, false));
+                }
+            }
+            return bulkLog;
+        } finally {
+            taskanaEngineImpl.returnConnection();
+            LOGGER.debug("exit from claimTasks(). Returning result {} ", bulkLog);
+        }
+    }
+
+    @Override
+    public BulkOperationResults<String, TaskanaException> completeTasks(List<String> taskIds) {
+        String userId = CurrentUserContext.getUserid();
+        LOGGER.debug("entry to completeTasks(taskIds = {}, userId = {})", taskIds, userId);
+        BulkOperationResults<String, TaskanaException> bulkLog = new BulkOperationResults<>();
+        if (taskIds == null || taskIds.isEmpty()) {
+            LOGGER.debug("exit from completeTasks(), nothing to complete.");
+            return bulkLog;
+        }
+        try {
+            taskanaEngineImpl.openConnection();
+            TaskTransitions transitions = transitions();
+            Map<String, NotAuthorizedException> checkedWorkbaskets = new HashMap<>();
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            for (List<String> chunk : chunks(taskIds)) {
+                List<TaskImpl> candidates = new ArrayList<>();
+                for (TaskImpl task : authorizeTasks(chunk, transitions.getStates(chunk),
+                    WorkbasketAuthorization.OPEN, checkedWorkbaskets, bulkLog)) {
+                    if (task.getState() == TaskState.CLAIMED && Objects.equals(userId, task.getOwner())) {
+                        candidates.add(task);
+                    } else {
+                        bulkLog.addError(task.getId(), transitions.completeFailure(task, userId, false));
+                    }
+                }
+                List<String> candidateIds = ids(candidates);
+                if (candidateIds.isEmpty() || transitionAll(candidateIds.size(),
+                    () -> transitions.completeAll(candidateIds, workbasketKeys(candidates), userId, now))) {
+                    transitions.moved(candidateIds, TaskState.CLAIMED, null, now);
+                    transitions.recordEvents(TaskEventType.COMPLETED, candidateIds, now);
+                    continue;
+                }
+                List<String> failedIds = new ArrayList<>();
+                for (String taskId : candidateIds) {
+                    if (!transitions.completeIfClaimed(taskId, userId, now)) {
+                        failedIds.add(taskId);
+                    }
+                }
+                Map<String, TaskImpl> states = transitions.getStates(failedIds);
+                for (String taskId : failedIds) {
+                    TaskImpl task = states.get(taskId);
+                    bulkLog.addError(taskId, task == null ? new TaskNotFoundException(taskId)
+                        : transitions.completeFailure(task, userId, false));
+                }
+            }
+            return bulkLog;
+        } finally {
+            taskanaEngineImpl.returnConnection();
+            LOGGER.debug("exit from completeTasks(). Returning result {} ", bulkLog);
+        }
+    }
+
+    /**
+     * Runs a bulk transition behind a savepoint. If it changes fewer rows than expected, a concurrent change has
+     * interfered and the rows changed by this call cannot be told apart from the others, so the bulk transition is
+     * undone and the caller transitions the tasks one by one, where each affected row count identifies a changed task.
+     *
+     * @return true if all tasks have been transitioned, false if the caller has to transition them one by one
+     */
+    private boolean transitionAll(int expectedCount, IntSupplier bulkTransition) {
+        Connection connection = taskanaEngineImpl.getSqlSession().getConnection();
+        Savepoint savepoint = setSavepoint(connection);
+        if (savepoint == null) {
+            // a partial bulk update would already be committed
+            return false;
+        }
+        if (bulkTransition.getAsInt() == expectedCount) {
+            releaseSavepoint(connection, savepoint);
+            return true;
+        }
+        rollbackTo(connection, savepoint);
+        return false;
+    }
+
+    /**
+     * Splits the distinct task ids into chunks of the configured bulk operation chunk size.
+     */
+    private List<List<String>> chunks(List<String> taskIds) {
+        int chunkSize = Math.max(1, taskanaEngine.getConfiguration().getBulkOperationChunkSize());
+        List<String> distinctIds = new ArrayList<>(new LinkedHashSet<>(taskIds));
+        List<List<String>> chunks = new ArrayList<>();
+        for (int i = 0; i < distinctIds.size(); i += chunkSize) {
+            chunks.add(distinctIds.subList(i, Math.min(i + chunkSize, distinctIds.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Checks the permission on the workbaskets of the tasks, each workbasket is checked only once per bulk operation.
+     * Tasks which do not exist or are in a workbasket without the permission are recorded as failed.
+     *
+     * @return the tasks the current user is authorized for
+     */
+    private List<TaskImpl> authorizeTasks(List<String> taskIds, Map<String, TaskImpl> states,
+        WorkbasketAuthorization permission, Map<String, NotAuthorizedException> checkedWorkbaskets,
+        BulkOperationResults<String, TaskanaException> bulkLog) {
+        List<TaskImpl> authorizedTasks = new ArrayList<>();
+        for (String taskId : taskIds) {
+            TaskImpl task = states.get(taskId);
+            if (task == null) {
+                LOGGER.debug("Task {} of bulk operation was not found.", taskId);
+                bulkLog.addError(taskId, new TaskNotFoundException(taskId));
+                continue;
+            }
+            String workbasketKey = task.getWorkbasketKey();
+            if (!checkedWorkbaskets.containsKey(workbasketKey)) {
+                try {
+                    workbasketService.checkAuthorization(workbasketKey, permission);
+                    checkedWorkbaskets.put(workbasketKey, null);
+                } catch (NotAuthorizedException e) {
+                    checkedWorkbaskets.put(workbasketKey, e);
+                }
+            }
+            NotAuthorizedException authorizationError = checkedWorkbaskets.get(workbasketKey);
+            if (authorizationError != null) {
+                bulkLog.addError(taskId, authorizationError);
+            } else {
+                authorizedTasks.add(task);
+            }
+        }
+        return authorizedTasks;
+    }
+
+    private List<String> ids(List<TaskImpl> tasks) {
+        List<String> ids = new ArrayList<>();
+        for (TaskImpl task : tasks) {
+            ids.add(task.getId());
+        }
+        return ids;
+    }
+
+    private Set<String> workbasketKeys(List<TaskImpl> tasks) {
+        Set<String> workbasketKeys = new HashSet<>();
+        for (TaskImpl task : tasks) {
+            workbasketKeys.add(task.getWorkbasketKey());
+        }
+        return workbasketKeys;
+    }
+
+    private Map<String, List<String>> idsByWorkbasket(List<TaskImpl> tasks) {
+        Map<String, List<String>> idsByWorkbasket = new TreeMap<>();
+        for (TaskImpl task : tasks) {
+            idsByWorkbasket.computeIfAbsent(task.getWorkbasketKey(), key -> new ArrayList<>()).add(task.getId());
+        }
+        return idsByWorkbasket;
+    }
+
+    private TaskTransitions transitions() {
+        return new TaskTransitions(taskMapper, taskEventMapper, taskHistoryWriter, taskCounterMapper);
+    }
+
     @Override
     public TaskQuery createTaskQuery() {
         return new TaskQueryImpl(taskanaEngine);
     }
 
+    @Override
+    public TaskHistoryQuery createTaskHistoryQuery() {
+        return new TaskHistoryQueryImpl(taskanaEngine);
+    }
+
     @Override
     public List<Task> getTasksByWorkbasketKeyAndState(String workbasketKey, TaskState taskState)
         throws WorkbasketNotFoundException, NotAuthorizedException {
@@ -327,13 +876,31 @@ public class TaskServiceImpl implements TaskService {
         String userId = CurrentUserContext.getUserid();
         LOGGER.debug("entry to updateTask(task = {}, userId = {})", task, userId);
         TaskImpl newTaskImpl = (TaskImpl) task;
-        TaskImpl oldTaskImpl = null;
         try {
             taskanaEngineImpl.openConnection();
-            oldTaskImpl = (TaskImpl) getTask(newTaskImpl.getId());
-            standardUpdateActions(oldTaskImpl, newTaskImpl);
+            standardUpdateActions(newTaskImpl);
 
-            taskMapper.update(newTaskImpl);
+            // the update is conditional on the version the task had when it was read, so it fails instead of
+            // overwriting a concurrent change. Only the changed columns are written if the task has been read
+            // before, which in particular avoids serializing the custom attributes if they are unchanged
+            Set<String> changes = newTaskImpl.changedProperties();
+            if (!Collections.disjoint(changes, TRANSITION_PROPERTIES)) {
+                checkTransitionPropertiesUnchanged(newTaskImpl);
+            }
+            List<String> taskIds = Collections.singletonList(newTaskImpl.getId());
+            TaskTransitions transitions = transitions();
+            // the counters read here belong to the updated version, otherwise the update fails
+            boolean countersChange = changes.contains("due");
+            List<TaskCounter> countersBefore = countersChange ? transitions.countersBefore(taskIds) : null;
+            if (taskMapper.update(newTaskImpl, changes) == 0) {
+                diagnoseUpdateFailure(newTaskImpl);
+            }
+            if (countersChange) {
+                transitions.countChanged(countersBefore, taskIds);
+            }
+            newTaskImpl.setVersion(newTaskImpl.getVersion() + 1);
+            transitions.recordEvents(TaskEventType.UPDATED, taskIds, newTaskImpl.getModified());
+            newTaskImpl.trackChanges();
             LOGGER.debug("Method updateTask() updated task '{}' for user '{}'.", task.getId(), userId);
 
         } finally {
@@ -343,6 +910,38 @@ public class TaskServiceImpl implements TaskService {
         return task;
     }
 
+    /**
+     * Rejects an update which changes the state, the owner or the claimed or completed timestamp of the task. For a
+     * task which has been read before this is only called if one of them has been modified, a task assembled by the
+     * caller is compared with the stored one.
+     */
+    private void checkTransitionPropertiesUnchanged(TaskImpl task)
+        throws TaskNotFoundException, InvalidArgumentException {
+        TaskImpl storedTask = taskMapper.findById(task.getId());
+        if (storedTask == null) {
+            throw new TaskNotFoundException(task.getId());
+        }
+        if (task.getState() != storedTask.getState() || !Objects.equals(task.getOwner(), storedTask.getOwner())
+            || !Objects.equals(task.getClaimed(), storedTask.getClaimed())
+            || !Objects.equals(task.getCompleted(), storedTask.getCompleted())) {
+            LOGGER.warn("Method updateTask() found a changed state, owner, claimed or completed in task {}. "
+                + "Throwing InvalidArgumentException", task.getId());
+            throw new InvalidArgumentException(
+                "A task's state, owner, claimed and completed cannot be changed via update of the task");
+        }
+    }
+
+    private void diagnoseUpdateFailure(TaskImpl task)
+        throws TaskNotFoundException, InvalidArgumentException, ConcurrencyException {
+        TaskImpl storedTask = transitions().getState(task.getId());
+        if (task.getWorkbasketKey() != null && !task.getWorkbasketKey().equals(storedTask.getWorkbasketKey())) {
+            throw new InvalidArgumentException("A task's Workbasket cannot be changed via update of the task");
+        }
+        LOGGER.warn("Method updateTask() found version {} of task {} outdated. Throwing ConcurrencyException",
+            task.getVersion(), task.getId());
+        throw new ConcurrencyException("The task has already been updated by another user");
+    }
+
     private void standardSettings(TaskImpl task) {
         Timestamp now = new Timestamp(System.currentTimeMillis());
         task.setId(IdGenerator.generateWithPrefix(ID_PREFIX_TASK));
@@ -383,7 +982,7 @@ public class TaskServiceImpl implements TaskService {
             }
         }
 
-        // insert Attachments if needed
+        // prepare Attachments if needed
         List<Attachment> attachments = task.getAttachments();
         if (attachments != null) {
             for (Attachment attachment : attachments) {
@@ -392,7 +991,6 @@ public class TaskServiceImpl implements TaskService {
                 attImpl.setTaskId(task.getId());
                 attImpl.setCreated(now);
                 attImpl.setModified(now);
-                attachmentMapper.insert(attImpl);
             }
         }
 
@@ -408,6 +1006,15 @@ public class TaskServiceImpl implements TaskService {
         // }
     }
 
+    private void insertAttachments(TaskImpl task, AttachmentMapper mapper) {
+        List<Attachment> attachments = task.getAttachments();
+        if (attachments != null) {
+            for (Attachment attachment : attachments) {
+                mapper.insert((AttachmentImpl) attachment);
+            }
+        }
+    }
+
     @Override
     public List<TaskSummary> getTaskSummariesByWorkbasketKey(String workbasketKey)
         throws WorkbasketNotFoundException, InvalidWorkbasketException, NotAuthorizedException {
@@ -507,36 +1114,22 @@ public class TaskServiceImpl implements TaskService {
         }
     }
 
-    private void standardUpdateActions(TaskImpl oldTaskImpl, TaskImpl newTaskImpl)
-        throws InvalidArgumentException, ConcurrencyException, WorkbasketNotFoundException, InvalidWorkbasketException,
-        ClassificationNotFoundException, NotAuthorizedException {
+    private void standardUpdateActions(TaskImpl newTaskImpl)
+        throws InvalidArgumentException, TaskNotFoundException, WorkbasketNotFoundException,
+        InvalidWorkbasketException, ClassificationNotFoundException, NotAuthorizedException {
         validateObjectReference(newTaskImpl.getPrimaryObjRef(), "primary ObjectReference", "Task");
-        if (oldTaskImpl.getModified() != null && !oldTaskImpl.getModified().equals(newTaskImpl.getModified())
-            || oldTaskImpl.getClaimed() != null && !oldTaskImpl.getClaimed().equals(newTaskImpl.getClaimed())
-            || oldTaskImpl.getState() != null && !oldTaskImpl.getState().equals(newTaskImpl.getState())) {
-            throw new ConcurrencyException("The task has already been updated by another user");
-        }
-
-        String newWorkbasketKey = newTaskImpl.getWorkbasketKey();
-        if (newWorkbasketKey != null && !newWorkbasketKey.equals(oldTaskImpl.getWorkbasketKey())) {
-            throw new InvalidArgumentException("A task's Workbasket cannot be changed via update of the task");
-        }
-
-        if (newTaskImpl.getPlanned() == null) {
-            newTaskImpl.setPlanned(oldTaskImpl.getPlanned());
-        }
-
-        // if no business process id is provided, use the id of the old task.
-        if (newTaskImpl.getBusinessProcessId() == null) {
-            newTaskImpl.setBusinessProcessId(oldTaskImpl.getBusinessProcessId());
+        if (newTaskImpl.getPlanned() == null || newTaskImpl.getBusinessProcessId() == null
+            || newTaskImpl.getClassification() == null && newTaskImpl.getClassificationKey() == null) {
+            // tasks read by getTask() have all these values, so only tasks assembled by the caller are read here
+            setStoredValues(newTaskImpl);
         }
 
         // insert Classification specifications if Classification is given.
-        Classification oldClassification = oldTaskImpl.getClassification();
-        Classification newClassification = oldClassification;
+        Classification newClassification = newTaskImpl.getClassification();
         String newClassificationKey = newTaskImpl.getClassificationKey();
 
-        if (newClassificationKey != null && !newClassificationKey.equals(oldClassification.getKey())) {
+        if (newClassificationKey != null
+            && (newClassification == null || !newClassificationKey.equals(newClassification.getKey()))) {
             Workbasket workbasket = workbasketService.getWorkbasketByKey(newTaskImpl.getWorkbasketKey());
             // set new classification
             newClassification = this.classificationService.getClassification(newClassificationKey,
@@ -569,4 +1162,26 @@ public class TaskServiceImpl implements TaskService {
         newTaskImpl.setModified(now);
     }
 
+    private void setStoredValues(TaskImpl newTaskImpl) throws TaskNotFoundException, ClassificationNotFoundException {
+        TaskImpl storedTask = taskMapper.findById(newTaskImpl.getId());
+        if (storedTask == null) {
+            LOGGER.warn("Method updateTask() didn't find task with id {}. Throwing TaskNotFoundException",
+                newTaskImpl.getId());
+            throw new TaskNotFoundException(newTaskImpl.getId());
+        }
+
+        if (newTaskImpl.getPlanned() == null) {
+            newTaskImpl.setPlanned(storedTask.getPlanned());
+        }
+
+        // if no business process id is provided, use the id of the old task.
+        if (newTaskImpl.getBusinessProcessId() == null) {
+            newTaskImpl.setBusinessProcessId(storedTask.getBusinessProcessId());
+        }
+
+        if (newTaskImpl.getClassification() == null && newTaskImpl.getClassificationKey() == null) {
+            newTaskImpl.setClassification(classificationService.getClassificationByTask(storedTask));
+        }
+    }
+
 }
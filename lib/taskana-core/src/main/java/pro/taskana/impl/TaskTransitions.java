@@ -0,0 +1,382 @@
+package pro.taskana.impl;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.exceptions.InvalidOwnerException;
+import pro.taskana.exceptions.InvalidStateException;
+import pro.taskana.exceptions.TaskNotFoundException;
+import pro.taskana.exceptions.TaskanaException;
+import pro.taskana.model.TaskCounter;
+import pro.taskana.model.TaskEventType;
+import pro.taskana.model.TaskState;
+import pro.taskana.model.mappings.TaskCounterMapper;
+import pro.taskana.model.mappings.TaskEventMapper;
+import pro.taskana.model.mappings.TaskMapper;
+import pro.taskana.security.CurrentUserContext;
+
+/**
+ * Executes the lifecycle transitions of tasks. Each transition is a single conditional UPDATE which contains the
+ * precondition of the transition in its WHERE clause, so concurrent transitions of the same task cannot both succeed.
+ * Only if no row was updated the current state of the task is read to report the reason. The updated task is not
+ * read again, the TaskService methods returning it read it afterwards, their variants without result do not. Successful transitions of single tasks update the task counters,
+ * record a tombstone of the state or workbasket they left and a task event with the same mapper session and a
+ * history entry, the bulk transitions leave this to the caller, which knows the affected tasks.
+ * <p>
+ * Claim and completion name the state the task is expected in, so the state the task had before is known exactly
+ * when the update succeeds. Forced transitions try each state they accept in turn.
+ */
+final class TaskTransitions {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskTransitions.class);
+
+    private final TaskMapper taskMapper;
+
+    private final TaskEventMapper taskEventMapper;
+
+    private final TaskHistoryWriter taskHistoryWriter;
+
+    private final TaskCounters taskCounters;
+
+    /**
+     * Creates the transitions of the given mappers.
+     *
+     * @param taskMapper
+     *            the mapper executing the transitions
+     * @param taskEventMapper
+     *            the mapper recording the task events, null if no events are recorded
+     * @param taskHistoryWriter
+     *            the writer of the task history, null if no history is kept
+     * @param taskCounterMapper
+     *            the mapper maintaining the task counters, null if no counters are maintained
+     */
+    TaskTransitions(TaskMapper taskMapper, TaskEventMapper taskEventMapper, TaskHistoryWriter taskHistoryWriter,
+        TaskCounterMapper taskCounterMapper) {
+        this.taskMapper = taskMapper;
+        this.taskEventMapper = taskEventMapper;
+        this.taskHistoryWriter = taskHistoryWriter;
+        this.taskCounters = taskCounterMapper == null ? null : new TaskCounters(taskCounterMapper);
+    }
+
+    /**
+     * Counts tasks which have just been inserted.
+     *
+     * @param taskIds
+     *            the ids of the new tasks
+     */
+    void countCreated(List<String> taskIds) {
+        if (taskCounters != null && !taskIds.isEmpty()) {
+            taskCounters.added(taskIds);
+        }
+    }
+
+    /**
+     * Moves the counts of tasks which have just changed their state or workbasket, see
+     * {@link TaskCounters#moved(List, TaskState, String)}, and records tombstones with the state and workbasket they
+     * left, which change queries report as removed.
+     *
+     * @param taskIds
+     *            the ids of the changed tasks
+     * @param fromState
+     *            the state all tasks were in before, null if it has not changed
+     * @param fromWorkbasketKey
+     *            the workbasket all tasks were in before, null if it has not changed
+     * @param now
+     *            the time of the change
+     */
+    void moved(List<String> taskIds, TaskState fromState, String fromWorkbasketKey, Timestamp now) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        if (taskCounters != null) {
+            taskCounters.moved(taskIds, fromState, fromWorkbasketKey);
+        }
+        taskMapper.insertTombstones(taskIds, fromState, fromWorkbasketKey, now);
+    }
+
+    /**
+     * Reads the counters of tasks before a change which may alter any of their keys.
+     *
+     * @param taskIds
+     *            the ids of the tasks
+     * @return the counters to pass to {@link #countChanged(List, List)} after the change, null if no counters are
+     *         maintained
+     */
+    List<TaskCounter> countersBefore(List<String> taskIds) {
+        return taskCounters == null ? null : taskCounters.count(taskIds);
+    }
+
+    /**
+     * Updates the counters of tasks which have been changed arbitrarily.
+     *
+     * @param before
+     *            the counters read by {@link #countersBefore(List)} in the same transaction before the change
+     * @param taskIds
+     *            the ids of the changed tasks
+     */
+    void countChanged(List<TaskCounter> before, List<String> taskIds) {
+        if (taskCounters != null) {
+            taskCounters.change(before, taskCounters.count(taskIds));
+        }
+    }
+
+    /**
+     * Records an event for each of the tasks, containing the state, owner and workbasket the task has now, and a
+     * history entry with the current user.
+     *
+     * @param type
+     *            the kind of change
+     * @param taskIds
+     *            the ids of the changed tasks
+     * @param now
+     *            the time of the change
+     */
+    void recordEvents(TaskEventType type, List<String> taskIds, Timestamp now) {
+        recordEvents(type, taskIds, null, now);
+    }
+
+    /**
+     * Records the events and history entries of tasks which have been transferred to a workbasket.
+     *
+     * @param type
+     *            the kind of change
+     * @param taskIds
+     *            the ids of the changed tasks
+     * @param workbasketKey
+     *            the destination workbasket, null if the tasks have not been transferred
+     * @param now
+     *            the time of the change
+     */
+    void recordEvents(TaskEventType type, List<String> taskIds, String workbasketKey, Timestamp now) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        String userId = CurrentUserContext.getUserid();
+        if (taskEventMapper != null) {
+            taskEventMapper.insertEvents(type, taskIds, userId, now);
+        }
+        if (taskHistoryWriter != null) {
+            taskHistoryWriter.record(type, taskIds, userId, workbasketKey, now);
+        }
+    }
+
+    /**
+     * Reads the state, owner and workbasket of a task.
+     *
+     * @param taskId
+     *            the id of the task
+     * @return a task containing only id, state, owner and workbasket key
+     * @throws TaskNotFoundException
+     *             if the task does not exist
+     */
+    TaskImpl getState(String taskId) throws TaskNotFoundException {
+        TaskImpl task = taskMapper.findStateById(taskId);
+        if (task == null) {
+            LOGGER.warn("Task {} was not found. Throwing TaskNotFoundException", taskId);
+            throw new TaskNotFoundException(taskId);
+        }
+        return task;
+    }
+
+    void claim(String taskId, String userId, boolean forceClaim, Timestamp now)
+        throws TaskNotFoundException, InvalidStateException, InvalidOwnerException {
+        if (claimIfReady(taskId, userId, now)) {
+            return;
+        }
+        // a claimed task stays claimed, so its counter does not change
+        if (forceClaim && taskMapper.claim(taskId, userId, now, TaskState.CLAIMED) > 0) {
+            recordEvents(TaskEventType.CLAIMED, Collections.singletonList(taskId), now);
+            return;
+        }
+        TaskanaException failure = claimFailure(getState(taskId), forceClaim);
+        if (failure instanceof InvalidOwnerException) {
+            throw (InvalidOwnerException) failure;
+        }
+        throw (InvalidStateException) failure;
+    }
+
+    /**
+     * Determines why a task in the given state cannot be claimed.
+     *
+     * @param task
+     *            the current state of the task as returned by {@link #getState(String)}
+     * @param forceClaim
+     *            whether a claim of an already claimed task is allowed
+     * @return an {@link InvalidStateException} or {@link InvalidOwnerException} describing the reason
+     */
+    TaskanaException claimFailure(TaskImpl task, boolean forceClaim) {
+        String taskId = task.getId();
+        if (task.getState() == TaskState.COMPLETED) {
+            LOGGER.warn("Task {} is already completed. Throwing InvalidStateException", taskId);
+            return new InvalidStateException("Task is already completed");
+        } else if (task.getState() == TaskState.CLAIMED && !forceClaim) {
+            LOGGER.warn("Task {} is claimed by {} and forceClaim is false. Throwing InvalidOwnerException", taskId,
+                task.getOwner());
+            return new InvalidOwnerException("Task is already claimed by user " + task.getOwner());
+        }
+        return modifiedConcurrently(taskId);
+    }
+
+    /**
+     * Claims a task for the user if it is still READY.
+     *
+     * @return true if the task has been claimed, false if it is no longer READY or does not exist
+     */
+    boolean claimIfReady(String taskId, String userId, Timestamp now) {
+        if (taskMapper.claim(taskId, userId, now, TaskState.READY) > 0) {
+            moved(Collections.singletonList(taskId), TaskState.READY, null, now);
+            recordEvents(TaskEventType.CLAIMED, Collections.singletonList(taskId), now);
+            return true;
+        }
+        return false;
+    }
+
+    void complete(String taskId, String userId, boolean isForced, Timestamp now)
+        throws TaskNotFoundException, InvalidStateException, InvalidOwnerException {
+        List<TaskState> expectedStates = isForced ? Arrays.asList(TaskState.CLAIMED, TaskState.READY)
+            : Collections.singletonList(TaskState.CLAIMED);
+        for (TaskState expectedState : expectedStates) {
+            if (completeIf(taskId, userId, expectedState, isForced, now)) {
+                return;
+            }
+        }
+        TaskanaException failure = completeFailure(getState(taskId), userId, isForced);
+        if (failure instanceof InvalidOwnerException) {
+            throw (InvalidOwnerException) failure;
+        }
+        throw (InvalidStateException) failure;
+    }
+
+    /**
+     * Completes a task if it is still CLAIMED by the user.
+     *
+     * @return true if the task has been completed, false if it is no longer claimed by the user or does not exist
+     */
+    boolean completeIfClaimed(String taskId, String userId, Timestamp now) {
+        return completeIf(taskId, userId, TaskState.CLAIMED, false, now);
+    }
+
+    private boolean completeIf(String taskId, String userId, TaskState expectedState, boolean isForced,
+        Timestamp now) {
+        if (taskMapper.complete(taskId, userId, now, expectedState, isForced) > 0) {
+            moved(Collections.singletonList(taskId), expectedState, null, now);
+            recordEvents(TaskEventType.COMPLETED, Collections.singletonList(taskId), now);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Determines why a task in the given state cannot be completed by the user.
+     *
+     * @param task
+     *            the current state of the task as returned by {@link #getState(String)}
+     * @param userId
+     *            the user completing the task
+     * @param isForced
+     *            whether the completion of a task which is not claimed by the user is allowed
+     * @return an {@link InvalidStateException} or {@link InvalidOwnerException} describing the reason
+     */
+    TaskanaException completeFailure(TaskImpl task, String userId, boolean isForced) {
+        String taskId = task.getId();
+        if (task.getState() == TaskState.COMPLETED && isForced) {
+            LOGGER.warn("Task {} is already completed. Throwing InvalidStateException", taskId);
+            return new InvalidStateException("Task is already completed");
+        } else if (task.getState() != TaskState.CLAIMED && !isForced) {
+            LOGGER.warn("Completion of task {} requires the task to be CLAIMED before. Throwing InvalidStateException",
+                taskId);
+            return new InvalidStateException(taskId);
+        } else if (!isForced && !Objects.equals(userId, task.getOwner())) {
+            LOGGER.warn("Task {} can only be completed by its owner {}, but current user is {}. "
+                + "Throwing InvalidOwnerException", taskId, task.getOwner(), userId);
+            return new InvalidOwnerException("TaskOwner is" + task.getOwner() + ", but current User is " + userId);
+        }
+        return modifiedConcurrently(taskId);
+    }
+
+    /**
+     * Moves a task to the destination workbasket if it is still in the source workbasket.
+     *
+     * @return true if the task has been transferred, false if it is no longer in the source workbasket
+     * @throws TaskNotFoundException
+     *             if the task does not exist
+     */
+    boolean transfer(String taskId, String sourceWorkbasketKey, String destinationWorkbasketKey, String domain,
+        Timestamp now) throws TaskNotFoundException {
+        if (taskMapper.transfer(taskId, sourceWorkbasketKey, destinationWorkbasketKey, domain, now) > 0) {
+            moved(Collections.singletonList(taskId), null, sourceWorkbasketKey, now);
+            recordEvents(TaskEventType.TRANSFERRED, Collections.singletonList(taskId), destinationWorkbasketKey, now);
+            return true;
+        }
+        getState(taskId);
+        LOGGER.debug("Task {} has been moved out of workbasket {} concurrently.", taskId, sourceWorkbasketKey);
+        return false;
+    }
+
+    /**
+     * Reads the state, owner and workbasket of several tasks with one statement. Tasks which do not exist are missing
+     * in the result.
+     *
+     * @param taskIds
+     *            the ids of the tasks
+     * @return the tasks containing only id, state, owner and workbasket key, keyed by their id
+     */
+    Map<String, TaskImpl> getStates(List<String> taskIds) {
+        Map<String, TaskImpl> states = new HashMap<>();
+        for (TaskImpl task : taskMapper.findStatesByIds(taskIds)) {
+            states.put(task.getId(), task);
+        }
+        return states;
+    }
+
+    /**
+     * Claims all READY tasks of the list which are still in one of the given workbaskets.
+     *
+     * @return the number of claimed tasks
+     */
+    int claimAll(List<String> taskIds, Collection<String> workbasketKeys, String userId, Timestamp now) {
+        return taskMapper.claimAll(taskIds, workbasketKeys, userId, now);
+    }
+
+    /**
+     * Completes all tasks of the list which are still claimed by the user and in one of the given workbaskets.
+     *
+     * @return the number of completed tasks
+     */
+    int completeAll(List<String> taskIds, Collection<String> workbasketKeys, String userId, Timestamp now) {
+        return taskMapper.completeAll(taskIds, workbasketKeys, userId, now);
+    }
+
+    /**
+     * Moves all tasks of the list which are still in the source workbasket to the destination workbasket. There is
+     * only one source workbasket, so the workbasket the transferred tasks are counted in before is known.
+     *
+     * @return the number of transferred tasks
+     */
+    int transferAll(List<String> taskIds, String sourceWorkbasketKey, String destinationWorkbasketKey,
+        String domain, Timestamp now) {
+        return taskMapper.transferAll(taskIds, Collections.singleton(sourceWorkbasketKey), destinationWorkbasketKey,
+            domain, now);
+    }
+
+    void setRead(String taskId, boolean isRead, Timestamp now) throws TaskNotFoundException {
+        if (taskMapper.setRead(taskId, isRead, now) == 0) {
+            LOGGER.warn("Task {} was not found. Throwing TaskNotFoundException", taskId);
+            throw new TaskNotFoundException(taskId);
+        }
+    }
+
+    private InvalidStateException modifiedConcurrently(String taskId) {
+        LOGGER.warn("Task {} has been modified concurrently. Throwing InvalidStateException", taskId);
+        return new InvalidStateException("Task " + taskId + " has been modified concurrently");
+    }
+}
@@ -1,20 +1,34 @@
 package pro.taskana.impl;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
 import java.util.Stack;
 
+import javax.sql.DataSource;
+
 import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.mapping.VendorDatabaseIdProvider;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultSetType;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
 import org.apache.ibatis.session.SqlSessionManager;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
+import org.apache.ibatis.transaction.Transaction;
 import org.apache.ibatis.transaction.TransactionFactory;
+import org.apache.ibatis.transaction.jdbc.JdbcTransaction;
 import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.apache.ibatis.transaction.managed.ManagedTransaction;
 import org.apache.ibatis.transaction.managed.ManagedTransactionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import pro.taskana.ClassificationService;
+import pro.taskana.TaskEventListener;
 import pro.taskana.TaskMonitorService;
 import pro.taskana.TaskService;
 import pro.taskana.TaskanaEngine;
@@ -22,12 +36,19 @@ import pro.taskana.WorkbasketService;
 import pro.taskana.configuration.TaskanaEngineConfiguration;
 import pro.taskana.exceptions.AutocommitFailedException;
 import pro.taskana.exceptions.ConnectionNotSetException;
+import pro.taskana.exceptions.InvalidArgumentException;
 import pro.taskana.impl.persistence.MapTypeHandler;
+import pro.taskana.model.CacheStatistics;
 import pro.taskana.model.mappings.AttachmentMapper;
 import pro.taskana.model.mappings.ClassificationMapper;
+import pro.taskana.model.mappings.CustomAttributesMapper;
 import pro.taskana.model.mappings.DistributionTargetMapper;
 import pro.taskana.model.mappings.ObjectReferenceMapper;
 import pro.taskana.model.mappings.QueryMapper;
+import pro.taskana.model.mappings.TaskArchiveMapper;
+import pro.taskana.model.mappings.TaskCounterMapper;
+import pro.taskana.model.mappings.TaskEventMapper;
+import pro.taskana.model.mappings.TaskHistoryMapper;
 import pro.taskana.model.mappings.TaskMapper;
 import pro.taskana.model.mappings.TaskMonitorMapper;
 import pro.taskana.model.mappings.WorkbasketAccessMapper;
@@ -38,6 +59,8 @@ import pro.taskana.model.mappings.WorkbasketMapper;
  */
 public class TaskanaEngineImpl implements TaskanaEngine {
 
+    static final String STREAMING_STATEMENT_SUFFIX = "Streaming";
+
     private static final String DEFAULT = "default";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TaskanaEngineImpl.class);
@@ -56,17 +79,49 @@ public class TaskanaEngineImpl implements TaskanaEngine {
 
     protected java.sql.Connection connection = null;
 
+    protected ClassificationCache classificationCache;
+
+    protected WorkbasketAuthorizationCache authorizationCache;
+
+    protected MonitorReportCache monitorReportCache;
+
+    protected TaskEventDispatcher taskEventDispatcher;
+
+    protected TaskHistoryWriter taskHistoryWriter;
+
+    // actions of the current thread which must only run after the API call has been committed in mode AUTOCOMMIT
+    private final ThreadLocal<List<Runnable>> afterCommitActions = ThreadLocal.withInitial(ArrayList::new);
+
+    // actions of the current thread which run after the commit or rollback of the API call in mode AUTOCOMMIT
+    private final ThreadLocal<List<Runnable>> afterCompletionActions = ThreadLocal.withInitial(ArrayList::new);
+
     public TaskanaEngineImpl(TaskanaEngineConfiguration taskanaEngineConfiguration) {
         this.taskanaEngineConfiguration = taskanaEngineConfiguration;
         createTransactionFactory(taskanaEngineConfiguration.getUseManagedTransactions());
         this.sessionManager = createSqlSessionManager();
+        this.classificationCache = new ClassificationCache(taskanaEngineConfiguration.getClassificationCacheSize(),
+            taskanaEngineConfiguration.getClassificationCacheTimeToLive());
+        this.authorizationCache = new WorkbasketAuthorizationCache(
+            taskanaEngineConfiguration.getAuthorizationCacheSize(),
+            taskanaEngineConfiguration.getAuthorizationCacheTimeToLive());
+        this.monitorReportCache = new MonitorReportCache(taskanaEngineConfiguration.getMonitorReportCacheSize(),
+            taskanaEngineConfiguration.getMonitorReportCacheTimeToLive());
+        this.taskEventDispatcher = new TaskEventDispatcher(this.sessionFactory, taskanaEngineConfiguration);
+        if (taskanaEngineConfiguration.isTaskHistoryEnabled()) {
+            this.taskHistoryWriter = new TaskHistoryWriter(this, this.sessionFactory,
+                this.sessionManager.getMapper(TaskHistoryMapper.class), taskanaEngineConfiguration);
+        }
     }
 
     @Override
     public TaskService getTaskService() {
         SqlSession session = this.sessionManager;
+        // without a TaskEventMapper the task service records no events
+        TaskEventMapper taskEventMapper = taskanaEngineConfiguration.isTaskEventsEnabled()
+            ? session.getMapper(TaskEventMapper.class) : null;
         TaskServiceImpl taskServiceImpl = new TaskServiceImpl(this, session.getMapper(TaskMapper.class),
-            session.getMapper(ObjectReferenceMapper.class), session.getMapper(AttachmentMapper.class));
+            session.getMapper(ObjectReferenceMapper.class), session.getMapper(AttachmentMapper.class),
+            taskEventMapper, taskHistoryWriter, session.getMapper(TaskCounterMapper.class));
         return taskServiceImpl;
     }
 
@@ -74,7 +129,7 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     public TaskMonitorService getTaskMonitorService() {
         SqlSession session = this.sessionManager;
         TaskMonitorServiceImpl taskMonitorServiceImpl = new TaskMonitorServiceImpl(this,
-            session.getMapper(TaskMonitorMapper.class));
+            session.getMapper(TaskMonitorMapper.class), this.monitorReportCache);
         return taskMonitorServiceImpl;
     }
 
@@ -84,14 +139,90 @@ public class TaskanaEngineImpl implements TaskanaEngine {
         WorkbasketServiceImpl workbasketServiceImpl = new WorkbasketServiceImpl(this,
             session.getMapper(WorkbasketMapper.class),
             session.getMapper(DistributionTargetMapper.class),
-            session.getMapper(WorkbasketAccessMapper.class));
+            session.getMapper(WorkbasketAccessMapper.class),
+            this.authorizationCache);
         return workbasketServiceImpl;
     }
 
     @Override
     public ClassificationService getClassificationService() {
         SqlSession session = this.sessionManager;
-        return new ClassificationServiceImpl(this, session.getMapper(ClassificationMapper.class));
+        return new ClassificationServiceImpl(this, session.getMapper(ClassificationMapper.class),
+            this.classificationCache);
+    }
+
+    @Override
+    public CacheStatistics getClassificationCacheStatistics() {
+        return this.classificationCache.getStatistics();
+    }
+
+    @Override
+    public CacheStatistics getAuthorizationCacheStatistics() {
+        return this.authorizationCache.getStatistics();
+    }
+
+    @Override
+    public CacheStatistics getMonitorReportCacheStatistics() {
+        return this.monitorReportCache.getStatistics();
+    }
+
+    @Override
+    public void registerTaskEventListener(String consumerId, TaskEventListener listener)
+        throws InvalidArgumentException {
+        if (consumerId == null || consumerId.isEmpty() || listener == null) {
+            throw new InvalidArgumentException("A task event listener requires a consumer id and a listener");
+        }
+        if (!taskEventDispatcher.register(consumerId, listener)) {
+            throw new InvalidArgumentException(
+                "A task event listener is already registered for consumer " + consumerId);
+        }
+    }
+
+    @Override
+    public void unregisterTaskEventListener(String consumerId) {
+        taskEventDispatcher.unregister(consumerId);
+    }
+
+    @Override
+    public void removeTaskEventConsumer(String consumerId) {
+        taskEventDispatcher.remove(consumerId);
+    }
+
+    @Override
+    public int archiveCompletedTasks() {
+        LOGGER.debug("entry to archiveCompletedTasks()");
+        int archived = new TaskArchiver(sessionFactory, taskanaEngineConfiguration).archive();
+        LOGGER.debug("exit from archiveCompletedTasks(). Archived {} tasks.", archived);
+        return archived;
+    }
+
+    @Override
+    public int reconcileTaskCounters() {
+        LOGGER.debug("entry to reconcileTaskCounters()");
+        int counters;
+        try (SqlSession session = openBackgroundSession(sessionFactory, ExecutorType.SIMPLE)) {
+            counters = new TaskCounters(session.getMapper(TaskCounterMapper.class)).rebuild();
+            session.commit(true);
+        }
+        LOGGER.debug("exit from reconcileTaskCounters(). Rebuilt {} task counters.", counters);
+        return counters;
+    }
+
+    @Override
+    public void flush() {
+        if (taskHistoryWriter != null) {
+            taskHistoryWriter.flush();
+        }
+    }
+
+    @Override
+    public void close() {
+        LOGGER.debug("entry to close()");
+        taskEventDispatcher.unregisterAll();
+        if (taskHistoryWriter != null) {
+            taskHistoryWriter.close();
+        }
+        LOGGER.debug("exit from close()");
     }
 
     @Override
@@ -194,19 +325,103 @@ public class TaskanaEngineImpl implements TaskanaEngine {
             popSessionFromStack();
             if (getSessionStack().isEmpty()
                 && this.sessionManager != null && this.sessionManager.isManagedSessionStarted()) {
+                List<Runnable> actions = afterCommitActions.get();
+                List<Runnable> completionActions = afterCompletionActions.get();
                 if (this.mode == ConnectionManagementMode.AUTOCOMMIT) {
                     try {
-                        this.sessionManager.commit();
+                        // force the commit, changes written by a batch session don't mark the managed session dirty
+                        this.sessionManager.commit(true);
                     } catch (Exception e) {
                         LOGGER.error("closeSession(): Tried to Autocommit and caught exception" + e);
+                        actions.clear();
+                        runActions(completionActions);
                         throw new AutocommitFailedException(e);
                     }
                 }
                 this.sessionManager.close();
+                runActions(actions);
+                runActions(completionActions);
             }
         }
     }
 
+    /**
+     * Registers an action which runs after the current API call has been committed. In mode AUTOCOMMIT the engine
+     * commits itself, in the other modes the action is handed to {@link #registerAfterCommit(Runnable)}. Must only be
+     * called between openConnection() and returnConnection().
+     *
+     * @param action
+     *            the action to run after the commit
+     * @return true if the action has been registered, false if the engine does not learn about the commit and the
+     *         caller has to do its work in the transaction instead
+     */
+    boolean runAfterCommit(Runnable action) {
+        if (this.mode != ConnectionManagementMode.AUTOCOMMIT) {
+            return registerAfterCommit(action);
+        }
+        afterCommitActions.get().add(action);
+        return true;
+    }
+
+    /**
+     * Registers an action which runs after the transaction of the current API call has been committed or rolled back.
+     * In mode AUTOCOMMIT the engine ends the transaction itself, in the other modes the action is handed to
+     * {@link #registerAfterCompletion(Runnable)}. Must only be called between openConnection() and returnConnection().
+     *
+     * @param action
+     *            the action to run after the end of the transaction
+     * @return true if the action has been registered, false if the engine does not learn about the end of the
+     *         transaction
+     */
+    boolean runAfterCompletion(Runnable action) {
+        if (this.mode != ConnectionManagementMode.AUTOCOMMIT) {
+            return registerAfterCompletion(action);
+        }
+        afterCompletionActions.get().add(action);
+        return true;
+    }
+
+    /**
+     * Registers an action which runs after the client has committed its transaction, in the modes EXPLICIT and
+     * PARTICIPATE. It is not run if the transaction is rolled back. This engine does not learn about the commit of the
+     * client and returns false, so the work is done in the transaction instead. Engines taking part in transactions
+     * whose commit they can observe, like the one of the taskana-spring module, override this, so queued history
+     * entries and cache invalidations are released by the commit.
+     *
+     * @param action
+     *            the action to run after the commit
+     * @return true if the action has been registered, false if the engine does not learn about the commit
+     */
+    protected boolean registerAfterCommit(Runnable action) {
+        return false;
+    }
+
+    /**
+     * Registers an action which runs after the client has committed or rolled back its transaction, in the modes
+     * EXPLICIT and PARTICIPATE. This engine does not learn about the end of the transaction of the client and returns
+     * false. Engines taking part in transactions whose end they can observe, like the one of the taskana-spring
+     * module, override this, so caches drop rows read in the transaction once it has ended.
+     *
+     * @param action
+     *            the action to run after the end of the transaction
+     * @return true if the action has been registered, false if the engine does not learn about the end of the
+     *         transaction
+     */
+    protected boolean registerAfterCompletion(Runnable action) {
+        return false;
+    }
+
+    private void runActions(List<Runnable> actions) {
+        if (actions.isEmpty()) {
+            return;
+        }
+        List<Runnable> committed = new ArrayList<>(actions);
+        actions.clear();
+        for (Runnable action : committed) {
+            action.run();
+        }
+    }
+
     /**
      * retrieve the SqlSession used by taskana.
      *
@@ -216,6 +431,39 @@ public class TaskanaEngineImpl implements TaskanaEngine {
         return this.sessionManager;
     }
 
+    /**
+     * Opens a SqlSession with ExecutorType.BATCH on the connection of the current managed session. Statements issued
+     * via this session are collected and sent to the database on flushStatements(). The session takes part in the
+     * transaction of the current API call, closing it does neither commit nor close the connection. In mode EXPLICIT
+     * this is the connection of the client, so its commit includes the flushed statements. Must only be called between
+     * openConnection() and returnConnection().
+     *
+     * @return a batching SqlSession sharing the connection of the managed session
+     */
+    SqlSession openBatchSession() {
+        Configuration configuration = this.sessionFactory.getConfiguration();
+        Transaction transaction = new ManagedTransaction(this.sessionManager.getConnection(), false);
+        return new DefaultSqlSession(configuration, configuration.newExecutor(transaction, ExecutorType.BATCH),
+            false);
+    }
+
+    /**
+     * Opens a SqlSession for work done outside of API calls, like archiving, history writing or event delivery. The
+     * session uses its own connection of the datasource with a JdbcTransaction, regardless of whether the engine uses
+     * managed transactions, so its commit and rollback take effect. Closing the session closes the connection.
+     *
+     * @param sessionFactory
+     *            the session factory of the engine
+     * @param executorType
+     *            the executor type of the session
+     * @return a session with its own transaction, which must be committed explicitly
+     */
+    static SqlSession openBackgroundSession(SqlSessionFactory sessionFactory, ExecutorType executorType) {
+        Configuration configuration = sessionFactory.getConfiguration();
+        Transaction transaction = new JdbcTransaction(configuration.getEnvironment().getDataSource(), null, false);
+        return new DefaultSqlSession(configuration, configuration.newExecutor(transaction, executorType), false);
+    }
+
     /**
      * This method creates the sqlSessionManager of myBatis. It integrates all the SQL mappers
      *
@@ -225,6 +473,11 @@ public class TaskanaEngineImpl implements TaskanaEngine {
         Environment environment = new Environment(DEFAULT, this.transactionFactory,
             taskanaEngineConfiguration.getDatasource());
         Configuration configuration = new Configuration(environment);
+        // mappers can use vendor specific SQL by testing _databaseId
+        configuration.setDatabaseId(getDatabaseId(taskanaEngineConfiguration.getDatasource()));
+        // register the type handler before the mappers, so their result maps use this configured instance
+        configuration.getTypeHandlerRegistry()
+            .register(new MapTypeHandler(taskanaEngineConfiguration.getAttributeCodec()));
         // add mappers
         configuration.addMapper(TaskMapper.class);
         configuration.addMapper(TaskMonitorMapper.class);
@@ -235,10 +488,46 @@ public class TaskanaEngineImpl implements TaskanaEngine {
         configuration.addMapper(ObjectReferenceMapper.class);
         configuration.addMapper(QueryMapper.class);
         configuration.addMapper(AttachmentMapper.class);
-        configuration.getTypeHandlerRegistry().register(MapTypeHandler.class);
-        SqlSessionFactory sessionFactory = new SqlSessionFactoryBuilder().build(configuration);
-        SqlSessionManager sessionManager = SqlSessionManager.newInstance(sessionFactory);
-        return sessionManager;
+        configuration.addMapper(CustomAttributesMapper.class);
+        configuration.addMapper(TaskEventMapper.class);
+        configuration.addMapper(TaskHistoryMapper.class);
+        configuration.addMapper(TaskArchiveMapper.class);
+        configuration.addMapper(TaskCounterMapper.class);
+        addStreamingStatement(configuration, QueryMapper.class.getName() + ".queryTasks");
+        this.sessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+        return SqlSessionManager.newInstance(this.sessionFactory);
+    }
+
+    private String getDatabaseId(DataSource dataSource) {
+        Properties databaseIds = new Properties();
+        databaseIds.setProperty("H2", "h2");
+        databaseIds.setProperty("DB2", "db2");
+        VendorDatabaseIdProvider databaseIdProvider = new VendorDatabaseIdProvider();
+        databaseIdProvider.setProperties(databaseIds);
+        return databaseIdProvider.getDatabaseId(dataSource);
+    }
+
+    /**
+     * Registers a copy of a query statement with the suffix "Streaming" that uses a forward only result set and the
+     * configured streaming fetch size. The copy is meant to be used with SqlSession.selectCursor().
+     *
+     * @param configuration
+     *            the MyBatis configuration containing the query statement
+     * @param statementId
+     *            the id of the query statement
+     */
+    private void addStreamingStatement(Configuration configuration, String statementId) {
+        MappedStatement statement = configuration.getMappedStatement(statementId);
+        MappedStatement streamingStatement = new MappedStatement.Builder(configuration,
+            statementId + STREAMING_STATEMENT_SUFFIX, statement.getSqlSource(), statement.getSqlCommandType())
+                .resource(statement.getResource())
+                .statementType(statement.getStatementType())
+                .resultMaps(statement.getResultMaps())
+                .resultSetType(ResultSetType.FORWARD_ONLY)
+                .fetchSize(taskanaEngineConfiguration.getStreamingFetchSize())
+                .useCache(false)
+                .build();
+        configuration.addMappedStatement(streamingStatement);
     }
 
     /**
@@ -0,0 +1,168 @@
+package pro.taskana.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.model.CacheStatistics;
+import pro.taskana.model.WorkbasketAuthorization;
+
+/**
+ * Bounded, thread safe cache of workbasket authorization decisions, shared by all services of a TaskanaEngine.
+ * Entries are keyed by the sorted access ids of the user, the workbasket key and the permission and expire after a
+ * configurable time to live. Positive and negative decisions are cached. The WorkbasketService invalidates the whole
+ * cache when it creates, updates or deletes a workbasket authorization and again after the commit, if the engine
+ * learns about it; changes made to the database by other means become visible when the entries expire.
+ */
+class WorkbasketAuthorizationCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WorkbasketAuthorizationCache.class);
+    private static final String NAME = "workbasketAuthorizations";
+
+    private final int maxSize;
+    private final long timeToLiveMillis;
+    private final Map<Key, Entry> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    // incremented on every invalidation, decisions that overlap an invalidation are not cached
+    private long generation;
+
+    /**
+     * Creates a cache that holds up to maxSize decisions for the given time. A cache with maxSize 0 or a time to live
+     * of zero does not cache at all.
+     *
+     * @param maxSize
+     *            the maximum number of cached decisions
+     * @param timeToLive
+     *            the time a decision is cached
+     */
+    WorkbasketAuthorizationCache(int maxSize, Duration timeToLive) {
+        this.timeToLiveMillis = timeToLive == null || timeToLive.isNegative() ? 0 : timeToLive.toMillis();
+        this.maxSize = timeToLiveMillis == 0 ? 0 : Math.max(maxSize, 0);
+        this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > WorkbasketAuthorizationCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns whether the access ids have the permission on the workbasket, using the loader if the decision is not
+     * cached or expired.
+     *
+     * @param accessIds
+     *            the access ids of the current user
+     * @param workbasketKey
+     *            the key of the workbasket
+     * @param authorization
+     *            the requested permission
+     * @param loader
+     *            reads the decision from the database
+     * @return true if the permission is granted, false otherwise
+     */
+    boolean isAuthorized(List<String> accessIds, String workbasketKey, WorkbasketAuthorization authorization,
+        BooleanSupplier loader) {
+        Key key = new Key(accessIds, workbasketKey, authorization);
+        long generationBeforeLoad;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt > System.currentTimeMillis()) {
+                    hits.incrementAndGet();
+                    return entry.authorized;
+                }
+                entries.remove(key);
+            }
+            generationBeforeLoad = generation;
+        }
+        misses.incrementAndGet();
+        boolean authorized = loader.getAsBoolean();
+        synchronized (this) {
+            if (maxSize > 0 && generationBeforeLoad == generation) {
+                entries.put(key, new Entry(authorized, System.currentTimeMillis() + timeToLiveMillis));
+            }
+        }
+        return authorized;
+    }
+
+    /**
+     * Removes all cached decisions.
+     */
+    synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+        LOGGER.debug("invalidated all cached workbasket authorizations");
+    }
+
+    synchronized CacheStatistics getStatistics() {
+        return new CacheStatistics(NAME, hits.get(), misses.get(), evictions.get(), entries.size(), maxSize);
+    }
+
+    /**
+     * A cached decision.
+     */
+    private static final class Entry {
+
+        private final boolean authorized;
+        private final long expiresAt;
+
+        Entry(boolean authorized, long expiresAt) {
+            this.authorized = authorized;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Key of a cached decision.
+     */
+    private static final class Key {
+
+        private final List<String> accessIds;
+        private final String workbasketKey;
+        private final WorkbasketAuthorization authorization;
+
+        Key(List<String> accessIds, String workbasketKey, WorkbasketAuthorization authorization) {
+            List<String> sortedAccessIds = new ArrayList<>(accessIds);
+            sortedAccessIds.sort(Comparator.nullsFirst(Comparator.naturalOrder()));
+            this.accessIds = sortedAccessIds;
+            this.workbasketKey = workbasketKey;
+            this.authorization = authorization;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(accessIds, workbasketKey, authorization);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return accessIds.equals(other.accessIds) && Objects.equals(workbasketKey, other.workbasketKey)
+                && authorization == other.authorization;
+        }
+    }
+}
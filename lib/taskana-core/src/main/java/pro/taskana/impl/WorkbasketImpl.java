@@ -2,7 +2,10 @@ package pro.taskana.impl;
 
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import pro.taskana.Workbasket;
 import pro.taskana.model.WorkbasketType;
@@ -30,6 +33,9 @@ public class WorkbasketImpl implements Workbasket {
     private String orgLevel2;
     private String orgLevel3;
     private String orgLevel4;
+    private int version;
+
+    private final ChangeTracker changeTracker = new ChangeTracker();
 
     WorkbasketImpl() {
     }
@@ -195,6 +201,52 @@ public class WorkbasketImpl implements Workbasket {
         this.orgLevel4 = orgLevel4;
     }
 
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
+    /**
+     * Remembers the current property values as the persistent state of the workbasket. Afterwards
+     * {@link #changedProperties()} reports only the properties which have been modified since.
+     */
+    public void trackChanges() {
+        changeTracker.track(propertyValues());
+    }
+
+    /**
+     * Returns the persistent properties which have been modified since {@link #trackChanges()} was called. If the
+     * changes of this workbasket are not tracked, all persistent properties are returned.
+     *
+     * @return the names of the changed properties
+     */
+    public Set<String> changedProperties() {
+        return changeTracker.changedProperties(propertyValues());
+    }
+
+    private Map<String, Object> propertyValues() {
+        Map<String, Object> values = new HashMap<>();
+        values.put("key", key);
+        values.put("name", name);
+        values.put("domain", domain);
+        values.put("type", type);
+        values.put("description", description);
+        values.put("owner", owner);
+        values.put("custom1", custom1);
+        values.put("custom2", custom2);
+        values.put("custom3", custom3);
+        values.put("custom4", custom4);
+        values.put("orgLevel1", orgLevel1);
+        values.put("orgLevel2", orgLevel2);
+        values.put("orgLevel3", orgLevel3);
+        values.put("orgLevel4", orgLevel4);
+        return values;
+    }
+
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
@@ -234,6 +286,8 @@ public class WorkbasketImpl implements Workbasket {
         builder.append(orgLevel3);
         builder.append(", orgLevel4=");
         builder.append(orgLevel4);
+        builder.append(", version=");
+        builder.append(version);
         builder.append("]");
         return builder.toString();
     }
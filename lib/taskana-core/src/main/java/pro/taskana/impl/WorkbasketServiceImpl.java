@@ -1,6 +1,7 @@
 package pro.taskana.impl;
 
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -13,6 +14,7 @@ import pro.taskana.TaskanaEngine;
 import pro.taskana.Workbasket;
 import pro.taskana.WorkbasketQuery;
 import pro.taskana.WorkbasketService;
+import pro.taskana.exceptions.ConcurrencyException;
 import pro.taskana.exceptions.InvalidWorkbasketException;
 import pro.taskana.exceptions.NotAuthorizedException;
 import pro.taskana.exceptions.WorkbasketNotFoundException;
@@ -38,24 +40,29 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     private WorkbasketMapper workbasketMapper;
     private DistributionTargetMapper distributionTargetMapper;
     private WorkbasketAccessMapper workbasketAccessMapper;
+    private WorkbasketAuthorizationCache authorizationCache;
 
     public WorkbasketServiceImpl() {
     }
 
     public WorkbasketServiceImpl(TaskanaEngine taskanaEngine, WorkbasketMapper workbasketMapper,
-        DistributionTargetMapper distributionTargetMapper, WorkbasketAccessMapper workbasketAccessMapper) {
+        DistributionTargetMapper distributionTargetMapper, WorkbasketAccessMapper workbasketAccessMapper,
+        WorkbasketAuthorizationCache authorizationCache) {
         this.taskanaEngine = taskanaEngine;
         this.taskanaEngineImpl = (TaskanaEngineImpl) taskanaEngine;
         this.workbasketMapper = workbasketMapper;
         this.distributionTargetMapper = distributionTargetMapper;
         this.workbasketAccessMapper = workbasketAccessMapper;
+        // without a cache of the engine every check goes to the database
+        this.authorizationCache = authorizationCache != null ? authorizationCache
+            : new WorkbasketAuthorizationCache(0, Duration.ZERO);
     }
 
     @Override
     public Workbasket getWorkbasket(String workbasketId)
         throws WorkbasketNotFoundException, NotAuthorizedException {
         LOGGER.debug("entry to getWorkbasket(workbasketId = {})", workbasketId);
-        Workbasket result = null;
+        WorkbasketImpl result = null;
         try {
             taskanaEngineImpl.openConnection();
             result = workbasketMapper.findById(workbasketId);
@@ -65,6 +72,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
                     workbasketId);
                 throw new WorkbasketNotFoundException(workbasketId);
             }
+            result.trackChanges();
             this.checkAuthorization(result.getKey(), WorkbasketAuthorization.READ);
             return result;
         } finally {
@@ -77,7 +85,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     public Workbasket getWorkbasketByKey(String workbasketKey)
         throws WorkbasketNotFoundException, NotAuthorizedException {
         LOGGER.debug("entry to getWorkbasketByKey(workbasketKey = {})", workbasketKey);
-        Workbasket result = null;
+        WorkbasketImpl result = null;
         try {
             taskanaEngineImpl.openConnection();
             result = workbasketMapper.findByKey(workbasketKey);
@@ -87,6 +95,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
                     workbasketKey);
                 throw new WorkbasketNotFoundException(workbasketKey);
             }
+            result.trackChanges();
             this.checkAuthorization(workbasketKey, WorkbasketAuthorization.READ);
             return result;
         } finally {
@@ -144,7 +153,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     public Workbasket createWorkbasket(Workbasket newWorkbasket)
         throws InvalidWorkbasketException, WorkbasketNotFoundException, NotAuthorizedException {
         LOGGER.debug("entry to createtWorkbasket(workbasket)", newWorkbasket);
-        Workbasket result = null;
+        WorkbasketImpl result = null;
         WorkbasketImpl workbasket = (WorkbasketImpl) newWorkbasket;
         try {
             taskanaEngineImpl.openConnection();
@@ -167,7 +176,9 @@ public class WorkbasketServiceImpl implements WorkbasketService {
                         workbasket.getId(), distributionTarget.getId());
                 }
             }
+            workbasket.trackChanges();
             result = workbasketMapper.findById(workbasket.getId());
+            result.trackChanges();
             return result;
         } finally {
             taskanaEngineImpl.returnConnection();
@@ -177,15 +188,24 @@ public class WorkbasketServiceImpl implements WorkbasketService {
 
     @Override
     public Workbasket updateWorkbasket(Workbasket workbasketToUpdate)
-        throws NotAuthorizedException, WorkbasketNotFoundException, InvalidWorkbasketException {
+        throws NotAuthorizedException, WorkbasketNotFoundException, InvalidWorkbasketException, ConcurrencyException {
         LOGGER.debug("entry to updateWorkbasket(workbasket)", workbasketToUpdate);
 
-        Workbasket result = null;
+        WorkbasketImpl result = null;
         WorkbasketImpl workbasket = (WorkbasketImpl) workbasketToUpdate;
         try {
             taskanaEngineImpl.openConnection();
             workbasket.setModified(new Timestamp(System.currentTimeMillis()));
-            workbasketMapper.update(workbasket);
+            // only the changed columns are written if the workbasket has been read before, and only if it has not been
+            // updated since
+            if (workbasketMapper.update(workbasket, workbasket.changedProperties()) == 0) {
+                if (workbasketMapper.findById(workbasket.getId()) == null) {
+                    throw new WorkbasketNotFoundException(workbasket.getId());
+                }
+                throw new ConcurrencyException("The workbasket has already been updated by another user");
+            }
+            workbasket.setVersion(workbasket.getVersion() + 1);
+            workbasket.trackChanges();
             LOGGER.debug("Method updateWorkbasket() updated workbasket '{}'", workbasket.getId());
             List<String> oldDistributionTargets = distributionTargetMapper.findBySourceId(workbasket.getId());
             List<Workbasket> newDistributionTargets = workbasket.getDistributionTargets();
@@ -207,6 +227,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
                     workbasket.getId(), LoggerUtils.listToString(oldDistributionTargets));
             }
             result = workbasketMapper.findById(workbasket.getId());
+            result.trackChanges();
             return result;
         } finally {
             taskanaEngineImpl.returnConnection();
@@ -225,12 +246,23 @@ public class WorkbasketServiceImpl implements WorkbasketService {
                 workbasketAccessItem);
             return workbasketAccessItem;
         } finally {
+            invalidateAuthorizationCache();
             taskanaEngineImpl.returnConnection();
             LOGGER.debug("exit from createWorkbasketAuthorization(workbasketAccessItem). Returning result {}",
                 workbasketAccessItem);
         }
     }
 
+    /**
+     * Invalidates the cached authorization decisions. A concurrent check between this invalidation and the commit reads
+     * the old authorizations and may cache them, so they are invalidated again after the commit, if the engine learns
+     * about it.
+     */
+    private void invalidateAuthorizationCache() {
+        authorizationCache.invalidateAll();
+        taskanaEngineImpl.runAfterCommit(authorizationCache::invalidateAll);
+    }
+
     @Override
     public WorkbasketAccessItem getWorkbasketAuthorization(String id) {
         LOGGER.debug("entry to getWorkbasketAuthorization(id = {})", id);
@@ -253,6 +285,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
             workbasketAccessMapper.delete(id);
             LOGGER.debug("Method deleteWorkbasketAuthorization() deleted workbasketAccessItem wit Id {}", id);
         } finally {
+            invalidateAuthorizationCache();
             taskanaEngineImpl.returnConnection();
             LOGGER.debug("exit from deleteWorkbasketAuthorization(id).");
         }
@@ -295,10 +328,11 @@ public class WorkbasketServiceImpl implements WorkbasketService {
             LOGGER.debug("checkAuthorization: Verifying that {} has the permission {} on workbasket {}",
                 CurrentUserContext.getUserid(), workbasketAuthorization.name(), workbasketKey);
 
-            List<WorkbasketAccessItem> accessItems = workbasketAccessMapper
-                .findByWorkbasketAndAccessIdAndAuthorizations(workbasketKey, accessIds, workbasketAuthorization.name());
+            boolean isPermitted = authorizationCache.isAuthorized(accessIds, workbasketKey, workbasketAuthorization,
+                () -> !workbasketAccessMapper.findByWorkbasketAndAccessIdAndAuthorizations(workbasketKey, accessIds,
+                    workbasketAuthorization.name()).isEmpty());
 
-            if (accessItems.size() <= 0) {
+            if (!isPermitted) {
                 throw new NotAuthorizedException("Not authorized. Authorization '" + workbasketAuthorization.name()
                     + "' on workbasket '" + workbasketKey + "' is needed.");
             }
@@ -321,6 +355,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
                 workbasketAccessItem);
             return workbasketAccessItem;
         } finally {
+            invalidateAuthorizationCache();
             taskanaEngineImpl.returnConnection();
             LOGGER.debug("exit from updateWorkbasketAuthorization(workbasketAccessItem). Returning {}",
                 workbasketAccessItem);
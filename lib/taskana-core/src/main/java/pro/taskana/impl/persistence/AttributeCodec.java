@@ -0,0 +1,42 @@
+package pro.taskana.impl.persistence;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Converts the custom attributes of tasks and attachments to the bytes stored in the CUSTOM_ATTRIBUTES column and
+ * back. The first byte of the encoded data is the format marker of the codec, so rows written by different codecs can
+ * be read side by side. Implementations must be thread safe.
+ */
+public interface AttributeCodec {
+
+    /**
+     * Returns the byte every encoded value of this codec starts with. The value 0xAC is taken by the Java
+     * serialization that was used by earlier versions of taskana.
+     *
+     * @return the format marker
+     */
+    byte getFormatMarker();
+
+    /**
+     * Encodes the attributes.
+     *
+     * @param attributes
+     *            the attributes to encode
+     * @return the encoded attributes, starting with the format marker
+     * @throws IOException
+     *             if an attribute value can't be encoded
+     */
+    byte[] encode(Map<String, Object> attributes) throws IOException;
+
+    /**
+     * Decodes attributes that were encoded by this codec.
+     *
+     * @param data
+     *            the encoded attributes, starting with the format marker
+     * @return the decoded attributes
+     * @throws IOException
+     *             if the data can't be decoded
+     */
+    Map<String, Object> decode(byte[] data) throws IOException;
+}
@@ -0,0 +1,165 @@
+package pro.taskana.impl.persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Stores the attributes as length prefixed list of entries. Keys and String, Integer, Long, Boolean and Double values
+ * are written without any class descriptors, other serializable values fall back to Java serialization of the single
+ * value. The layout is: format marker, number of entries, then for each entry the key, a type tag and the value.
+ * Counts and lengths are written as unsigned variable length integers, Strings as UTF-8.
+ */
+public class CompactAttributeCodec implements AttributeCodec {
+
+    public static final byte FORMAT_MARKER = 0x01;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_INTEGER = 2;
+    private static final byte TYPE_LONG = 3;
+    private static final byte TYPE_BOOLEAN = 4;
+    private static final byte TYPE_DOUBLE = 5;
+    private static final byte TYPE_SERIALIZED = 6;
+
+    @Override
+    public byte getFormatMarker() {
+        return FORMAT_MARKER;
+    }
+
+    @Override
+    public byte[] encode(Map<String, Object> attributes) throws IOException {
+        ByteArrayOutputStream byteOut = new ByteArrayOutputStream(16 + attributes.size() * 32);
+        DataOutputStream out = new DataOutputStream(byteOut);
+        out.writeByte(FORMAT_MARKER);
+        writeLength(out, attributes.size());
+        for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+            if (entry.getKey() == null) {
+                throw new IOException("Attributes with key null can't be encoded");
+            }
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+        out.flush();
+        return byteOut.toByteArray();
+    }
+
+    @Override
+    public Map<String, Object> decode(byte[] data) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        if (in.readByte() != FORMAT_MARKER) {
+            throw new IOException("The data was not written by " + getClass().getSimpleName());
+        }
+        int size = readLength(in);
+        Map<String, Object> attributes = new LinkedHashMap<>(size * 4 / 3 + 1);
+        for (int i = 0; i < size; i++) {
+            String key = readString(in);
+            attributes.put(key, readValue(in));
+        }
+        return attributes;
+    }
+
+    private void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof String) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(TYPE_INTEGER);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Double) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Serializable) {
+            out.writeByte(TYPE_SERIALIZED);
+            ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOut = new ObjectOutputStream(byteOut)) {
+                objectOut.writeObject(value);
+            }
+            writeLength(out, byteOut.size());
+            byteOut.writeTo(out);
+        } else {
+            throw new IOException("The attribute value of type " + value.getClass().getName()
+                + " is not serializable");
+        }
+    }
+
+    private Object readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case TYPE_NULL:
+                return null;
+            case TYPE_STRING:
+                return readString(in);
+            case TYPE_INTEGER:
+                return in.readInt();
+            case TYPE_LONG:
+                return in.readLong();
+            case TYPE_BOOLEAN:
+                return in.readBoolean();
+            case TYPE_DOUBLE:
+                return in.readDouble();
+            case TYPE_SERIALIZED:
+                byte[] serialized = new byte[readLength(in)];
+                in.readFully(serialized);
+                try (ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+                    return objectIn.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new IOException("The class of an attribute value is unknown", e);
+                }
+            default:
+                throw new IOException("Unknown attribute type " + type);
+        }
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeLength(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readLength(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void writeLength(DataOutputStream out, int length) throws IOException {
+        int remaining = length;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    private int readLength(DataInputStream in) throws IOException {
+        int length = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            length |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (length < 0) {
+                    break;
+                }
+                return length;
+            }
+        }
+        throw new IOException("Invalid length in encoded attributes");
+    }
+}
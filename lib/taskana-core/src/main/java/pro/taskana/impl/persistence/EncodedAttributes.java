@@ -0,0 +1,26 @@
+package pro.taskana.impl.persistence;
+
+/**
+ * The raw content of the CUSTOM_ATTRIBUTES column of a single row.
+ */
+public class EncodedAttributes {
+
+    private String id;
+    private byte[] data;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    public void setData(byte[] data) {
+        this.data = data;
+    }
+}
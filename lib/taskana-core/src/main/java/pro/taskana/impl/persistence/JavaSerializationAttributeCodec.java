@@ -0,0 +1,42 @@
+package pro.taskana.impl.persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamConstants;
+import java.util.Map;
+
+/**
+ * Stores the attributes as serialized Java object, the format used by earlier versions of taskana. Its format marker
+ * is the first byte of the Java serialization stream header.
+ */
+public class JavaSerializationAttributeCodec implements AttributeCodec {
+
+    public static final byte FORMAT_MARKER = (byte) (ObjectStreamConstants.STREAM_MAGIC >>> 8);
+
+    @Override
+    public byte getFormatMarker() {
+        return FORMAT_MARKER;
+    }
+
+    @Override
+    public byte[] encode(Map<String, Object> attributes) throws IOException {
+        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(byteOut)) {
+            out.writeObject(attributes);
+        }
+        return byteOut.toByteArray();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> decode(byte[] data) throws IOException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            return (Map<String, Object>) in.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("The data does not contain serialized attributes", e);
+        }
+    }
+}
@@ -3,14 +3,14 @@ package pro.taskana.impl.persistence;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.io.InputStream;
 import java.sql.Blob;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.ibatis.type.BaseTypeHandler;
@@ -19,7 +19,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * This Typehandler will transfer a Map into an xml blob and back.
+ * This Typehandler will transfer a Map into a blob and back. Maps are written with the configured
+ * {@link AttributeCodec}. When reading, the codec is chosen by the format marker in the first byte of the blob, so
+ * rows written by the Java serialization of earlier versions and by the {@link CompactAttributeCodec} can always be
+ * read.
  * @author EH
  */
 @SuppressWarnings("rawtypes")
@@ -27,18 +30,67 @@ public class MapTypeHandler extends BaseTypeHandler<Map> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MapTypeHandler.class);
 
+    private final AttributeCodec writeCodec;
+    private final Map<Byte, AttributeCodec> readCodecs = new HashMap<>();
+
+    public MapTypeHandler() {
+        this(new CompactAttributeCodec());
+    }
+
+    public MapTypeHandler(AttributeCodec writeCodec) {
+        this.writeCodec = writeCodec != null ? writeCodec : new CompactAttributeCodec();
+        addReadCodec(new JavaSerializationAttributeCodec());
+        addReadCodec(new CompactAttributeCodec());
+        addReadCodec(this.writeCodec);
+    }
+
+    public AttributeCodec getWriteCodec() {
+        return writeCodec;
+    }
+
+    /**
+     * Encodes the attributes with the write codec.
+     *
+     * @param attributes
+     *            the attributes to encode
+     * @return the encoded attributes
+     * @throws IOException
+     *             if an attribute value can't be encoded
+     */
+    @SuppressWarnings("unchecked")
+    public byte[] encode(Map attributes) throws IOException {
+        return writeCodec.encode(attributes);
+    }
+
+    /**
+     * Decodes attributes with the codec that matches the format marker of the data.
+     *
+     * @param data
+     *            the encoded attributes
+     * @return the decoded attributes
+     * @throws IOException
+     *             if the format is unknown or the data can't be decoded
+     */
+    public Map<String, Object> decode(byte[] data) throws IOException {
+        if (data.length == 0) {
+            throw new IOException("The encoded attributes are empty");
+        }
+        AttributeCodec codec = readCodecs.get(data[0]);
+        if (codec == null) {
+            throw new IOException("Unknown format marker " + data[0] + " of encoded attributes");
+        }
+        return codec.decode(data);
+    }
+
     @Override
     public void setNonNullParameter(PreparedStatement ps, int i, Map parameter, JdbcType jdbcType) throws SQLException {
         if (parameter != null && parameter.size() > 0) {
-            LOGGER.debug("Input-Map before serializing: ", parameter);
-            // Convert Map to byte array
-            try (ByteArrayOutputStream byteOut = new ByteArrayOutputStream()) {
-                ObjectOutputStream out = new ObjectOutputStream(byteOut);
-                out.writeObject(parameter);
-                ps.setBlob(i, new ByteArrayInputStream(byteOut.toByteArray()));
-                out.close();
+            LOGGER.debug("Input-Map before serializing: {}", parameter);
+            try {
+                ps.setBlob(i, new ByteArrayInputStream(encode(parameter)));
             } catch (IOException e) {
                 LOGGER.error("During serialization of 'customAttributes' an error occured: ", e);
+                throw new SQLException("The custom attributes can't be serialized", e);
             }
         } else {
             ps.setNull(i, Types.BLOB);
@@ -47,49 +99,44 @@ public class MapTypeHandler extends BaseTypeHandler<Map> {
 
     @Override
     public Map getNullableResult(ResultSet rs, String columnName) throws SQLException {
-        Blob fieldValue = rs.getBlob(columnName);
-        if (fieldValue != null) {
-            // Parse byte array to Map
-            Map result = null;
-            try (ObjectInputStream in = new ObjectInputStream(fieldValue.getBinaryStream())) {
-                result = (Map) in.readObject();
-            } catch (ClassNotFoundException | IOException e) {
-                LOGGER.error("During deserialization of 'customAttributes' an error occured: ", e);
-            }
-            return result;
-        }
-        return null;
+        return toMap(rs.getBlob(columnName));
     }
 
     @Override
     public Map getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
-        Blob fieldValue = rs.getBlob(columnIndex);
-        if (fieldValue != null) {
-            // Parse byte array to Map
-            Map result = null;
-            try (ObjectInputStream in = new ObjectInputStream(fieldValue.getBinaryStream())) {
-                result = (Map) in.readObject();
-            } catch (ClassNotFoundException | IOException e) {
-                LOGGER.error("During deserialization of 'customAttributes' an error occured: ", e);
-            }
-            return result;
-        }
-        return null;
+        return toMap(rs.getBlob(columnIndex));
     }
 
     @Override
     public Map getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
-        Blob fieldValue = cs.getBlob(columnIndex);
-        if (fieldValue != null) {
-            // Parse byte array to Map
-            Map result = null;
-            try (ObjectInputStream in = new ObjectInputStream(fieldValue.getBinaryStream())) {
-                result = (Map) in.readObject();
-            } catch (ClassNotFoundException | IOException e) {
-                LOGGER.error("During deserialization of 'customAttributes' an error occured: ", e);
-            }
-            return result;
+        return toMap(cs.getBlob(columnIndex));
+    }
+
+    private Map toMap(Blob fieldValue) throws SQLException {
+        if (fieldValue == null) {
+            return null;
+        }
+        // Parse byte array to Map
+        Map result = null;
+        try (InputStream in = fieldValue.getBinaryStream()) {
+            result = decode(readFully(in));
+        } catch (IOException e) {
+            LOGGER.error("During deserialization of 'customAttributes' an error occured: ", e);
+        }
+        return result;
+    }
+
+    private void addReadCodec(AttributeCodec codec) {
+        readCodecs.put(codec.getFormatMarker(), codec);
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
         }
-        return null;
+        return out.toByteArray();
     }
 }
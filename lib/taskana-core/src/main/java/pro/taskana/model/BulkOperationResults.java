@@ -0,0 +1,87 @@
+package pro.taskana.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a bulk operation. Items that were processed successfully are not listed, for each item that failed the
+ * reason of the failure is kept.
+ *
+ * @param <K>
+ *            type of the key identifying an item of the bulk operation
+ * @param <V>
+ *            type of the error reported for a failed item
+ */
+public class BulkOperationResults<K, V> {
+
+    private Map<K, V> errorMap = new LinkedHashMap<>();
+
+    /**
+     * Records the error of a failed item. An error that was recorded before for the same key is replaced.
+     *
+     * @param key
+     *            the key of the failed item
+     * @param error
+     *            the reason of the failure
+     */
+    public void addError(K key, V error) {
+        errorMap.put(key, error);
+    }
+
+    /**
+     * Adds all errors of another result to this result.
+     *
+     * @param other
+     *            the result whose errors are added
+     */
+    public void addAllErrors(BulkOperationResults<K, V> other) {
+        if (other != null) {
+            errorMap.putAll(other.errorMap);
+        }
+    }
+
+    /**
+     * Returns true if at least one item of the bulk operation failed.
+     *
+     * @return true if errors were recorded, false otherwise
+     */
+    public boolean containsErrors() {
+        return !errorMap.isEmpty();
+    }
+
+    /**
+     * Returns the error that was recorded for an item.
+     *
+     * @param key
+     *            the key of the item
+     * @return the error of the item or null if the item did not fail
+     */
+    public V getErrorForId(K key) {
+        return errorMap.get(key);
+    }
+
+    /**
+     * Returns the keys of all failed items in the order in which their errors were recorded.
+     *
+     * @return list of the keys of the failed items
+     */
+    public List<K> getFailedIds() {
+        return new ArrayList<>(errorMap.keySet());
+    }
+
+    public Map<K, V> getErrorMap() {
+        return Collections.unmodifiableMap(errorMap);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("BulkOperationResults [errorMap=");
+        builder.append(errorMap);
+        builder.append("]");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,100 @@
+package pro.taskana.model;
+
+/**
+ * Snapshot of the usage counters of a cache.
+ */
+public class CacheStatistics {
+
+    private String name;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private int size;
+    private int maxSize;
+    private long coalesced;
+
+    public CacheStatistics(String name, long hits, long misses, long evictions, int size, int maxSize) {
+        this(name, hits, misses, evictions, size, maxSize, 0);
+    }
+
+    public CacheStatistics(String name, long hits, long misses, long evictions, int size, int maxSize,
+        long coalesced) {
+        this.name = name;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+        this.maxSize = maxSize;
+        this.coalesced = coalesced;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of entries that were dropped because the cache reached its maximum size.
+     *
+     * @return the number of evicted entries
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the number of lookups that waited for the load of a concurrent identical lookup instead of loading
+     * themselves. They are counted neither as hits nor as misses.
+     *
+     * @return the number of coalesced lookups
+     */
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    /**
+     * Returns the ratio of hits to lookups.
+     *
+     * @return the hit ratio between 0 and 1, 0 if the cache was not used yet
+     */
+    public double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("CacheStatistics [name=");
+        builder.append(name);
+        builder.append(", hits=");
+        builder.append(hits);
+        builder.append(", misses=");
+        builder.append(misses);
+        builder.append(", evictions=");
+        builder.append(evictions);
+        builder.append(", size=");
+        builder.append(size);
+        builder.append(", maxSize=");
+        builder.append(maxSize);
+        builder.append(", coalesced=");
+        builder.append(coalesced);
+        builder.append("]");
+        return builder.toString();
+    }
+}
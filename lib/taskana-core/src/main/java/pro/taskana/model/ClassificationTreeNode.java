@@ -0,0 +1,36 @@
+package pro.taskana.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import pro.taskana.Classification;
+
+/**
+ * A classification of the classification tree together with the classifications whose parent it is.
+ */
+public class ClassificationTreeNode {
+
+    private Classification classification;
+    private List<ClassificationTreeNode> children = new ArrayList<>();
+
+    public Classification getClassification() {
+        return classification;
+    }
+
+    public void setClassification(Classification classification) {
+        this.classification = classification;
+    }
+
+    public List<ClassificationTreeNode> getChildren() {
+        return children;
+    }
+
+    public void setChildren(List<ClassificationTreeNode> children) {
+        this.children = children;
+    }
+
+    @Override
+    public String toString() {
+        return "ClassificationTreeNode [classification=" + classification + ", children=" + children.size() + "]";
+    }
+}
@@ -9,6 +9,7 @@ public class DueWorkbasketCounter {
 
     private Date due;
     private String workbasketId;
+    private String workbasketName;
     private long taskCounter;
 
     public Date getDue() {
@@ -27,6 +28,19 @@ public class DueWorkbasketCounter {
         this.workbasketId = workbasketId;
     }
 
+    /**
+     * Returns the name of the workbasket, which is only read for the workbasket due date report.
+     *
+     * @return the name of the workbasket
+     */
+    public String getWorkbasketName() {
+        return workbasketName;
+    }
+
+    public void setWorkbasketName(String workbasketName) {
+        this.workbasketName = workbasketName;
+    }
+
     public long getTaskCounter() {
         return taskCounter;
     }
@@ -0,0 +1,50 @@
+package pro.taskana.model;
+
+/**
+ * The number of open tasks of a group of a {@link TaskAgingReport} in one of its buckets.
+ */
+public class TaskAgingCounter {
+
+    private String groupKey;
+    private String classificationCategory;
+    private int bucket;
+    private long counter;
+
+    public String getGroupKey() {
+        return groupKey;
+    }
+
+    public void setGroupKey(String groupKey) {
+        this.groupKey = groupKey;
+    }
+
+    public String getClassificationCategory() {
+        return classificationCategory;
+    }
+
+    public void setClassificationCategory(String classificationCategory) {
+        this.classificationCategory = classificationCategory;
+    }
+
+    public int getBucket() {
+        return bucket;
+    }
+
+    public void setBucket(int bucket) {
+        this.bucket = bucket;
+    }
+
+    public long getCounter() {
+        return counter;
+    }
+
+    public void setCounter(long counter) {
+        this.counter = counter;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskAgingCounter [groupKey=" + groupKey + ", classificationCategory=" + classificationCategory
+            + ", bucket=" + bucket + ", counter=" + counter + "]";
+    }
+}
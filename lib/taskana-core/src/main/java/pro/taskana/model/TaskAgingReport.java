@@ -0,0 +1,46 @@
+package pro.taskana.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The number of open tasks per group and age of their due date. The day boundaries are offsets to today in ascending
+ * order, a negative offset lies in the past. n boundaries divide the due dates into n + 1 buckets: the first bucket
+ * holds the tasks due before the first boundary, bucket i the tasks due from boundary i - 1 up to the day before
+ * boundary i and the last bucket the tasks due on or after the last boundary. Each line holds one counter per bucket.
+ */
+public class TaskAgingReport {
+
+    private List<Integer> dayBoundaries = new ArrayList<>();
+    private TaskAgingReportGrouping grouping;
+    private List<TaskAgingReportLine> lines = new ArrayList<>();
+
+    public List<Integer> getDayBoundaries() {
+        return dayBoundaries;
+    }
+
+    public void setDayBoundaries(List<Integer> dayBoundaries) {
+        this.dayBoundaries = dayBoundaries;
+    }
+
+    public TaskAgingReportGrouping getGrouping() {
+        return grouping;
+    }
+
+    public void setGrouping(TaskAgingReportGrouping grouping) {
+        this.grouping = grouping;
+    }
+
+    public List<TaskAgingReportLine> getLines() {
+        return lines;
+    }
+
+    public void setLines(List<TaskAgingReportLine> lines) {
+        this.lines = lines;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskAgingReport [dayBoundaries=" + dayBoundaries + ", grouping=" + grouping + ", lines=" + lines + "]";
+    }
+}
@@ -0,0 +1,19 @@
+package pro.taskana.model;
+
+/**
+ * The groups of the lines of a {@link TaskAgingReport}.
+ */
+public enum TaskAgingReportGrouping {
+    /** One line per workbasket key. */
+    WORKBASKET,
+    /** One line per workbasket key and category of the classification of the tasks. */
+    WORKBASKET_AND_CLASSIFICATION_CATEGORY,
+    /** One line per value of the first organization level of the workbaskets. */
+    ORG_LEVEL_1,
+    /** One line per value of the second organization level of the workbaskets. */
+    ORG_LEVEL_2,
+    /** One line per value of the third organization level of the workbaskets. */
+    ORG_LEVEL_3,
+    /** One line per value of the fourth organization level of the workbaskets. */
+    ORG_LEVEL_4
+}
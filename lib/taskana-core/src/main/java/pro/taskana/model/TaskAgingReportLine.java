@@ -0,0 +1,64 @@
+package pro.taskana.model;
+
+import java.util.List;
+
+/**
+ * A line of the {@link TaskAgingReport}, holding the bucket counters of one group.
+ */
+public class TaskAgingReportLine {
+
+    private String groupKey;
+    private String classificationCategory;
+    private List<Long> taskCounters;
+    private long totalCount;
+
+    /**
+     * Returns the workbasket key or the value of the organization level the line belongs to, depending on the
+     * grouping of the report.
+     *
+     * @return the key of the group
+     */
+    public String getGroupKey() {
+        return groupKey;
+    }
+
+    public void setGroupKey(String groupKey) {
+        this.groupKey = groupKey;
+    }
+
+    /**
+     * Returns the classification category of the line, if the report is grouped by
+     * {@link TaskAgingReportGrouping#WORKBASKET_AND_CLASSIFICATION_CATEGORY}.
+     *
+     * @return the classification category or null
+     */
+    public String getClassificationCategory() {
+        return classificationCategory;
+    }
+
+    public void setClassificationCategory(String classificationCategory) {
+        this.classificationCategory = classificationCategory;
+    }
+
+    public List<Long> getTaskCounters() {
+        return taskCounters;
+    }
+
+    public void setTaskCounters(List<Long> taskCounters) {
+        this.taskCounters = taskCounters;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(long totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskAgingReportLine [groupKey=" + groupKey + ", classificationCategory=" + classificationCategory
+            + ", taskCounters=" + taskCounters + ", totalCount=" + totalCount + "]";
+    }
+}
@@ -0,0 +1,66 @@
+package pro.taskana.model;
+
+import java.util.List;
+
+import pro.taskana.Task;
+
+/**
+ * The changes of the tasks of a query since a cursor, as returned by TaskQuery.modifiedSince(). It contains the
+ * changed tasks which match the query, the ids of changed tasks which no longer match it and the cursor for the next
+ * call.
+ */
+public class TaskChanges {
+
+    private List<Task> changedTasks;
+    private List<String> removedTaskIds;
+    private long cursor;
+
+    public TaskChanges(List<Task> changedTasks, List<String> removedTaskIds, long cursor) {
+        this.changedTasks = changedTasks;
+        this.removedTaskIds = removedTaskIds;
+        this.cursor = cursor;
+    }
+
+    /**
+     * Returns the tasks which match the query and have been created or changed since the cursor.
+     *
+     * @return the changed tasks
+     */
+    public List<Task> getChangedTasks() {
+        return changedTasks;
+    }
+
+    /**
+     * Returns the ids of tasks which have been changed since the cursor and do not match the query any more, e.g.
+     * because they have been transferred to another workbasket, completed or archived. Only tasks which were in the
+     * workbaskets and states of the query before are returned. The list may contain ids of such tasks which did not
+     * match the other filters of the query, these can be ignored.
+     *
+     * @return the ids of the removed tasks
+     */
+    public List<String> getRemovedTaskIds() {
+        return removedTaskIds;
+    }
+
+    /**
+     * Returns the cursor to pass to the next call of TaskQuery.modifiedSince().
+     *
+     * @return the cursor
+     */
+    public long getCursor() {
+        return cursor;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("TaskChanges [changedTasks=");
+        builder.append(changedTasks);
+        builder.append(", removedTaskIds=");
+        builder.append(removedTaskIds);
+        builder.append(", cursor=");
+        builder.append(cursor);
+        builder.append("]");
+        return builder.toString();
+    }
+}
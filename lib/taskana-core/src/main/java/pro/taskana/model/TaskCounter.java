@@ -0,0 +1,52 @@
+package pro.taskana.model;
+
+import java.sql.Date;
+
+/**
+ * The number of tasks of a workbasket in a state which are due on a day.
+ */
+public class TaskCounter {
+
+    private String workbasketKey;
+    private TaskState state;
+    private Date dueDate;
+    private long counter;
+
+    public String getWorkbasketKey() {
+        return workbasketKey;
+    }
+
+    public void setWorkbasketKey(String workbasketKey) {
+        this.workbasketKey = workbasketKey;
+    }
+
+    public TaskState getState() {
+        return state;
+    }
+
+    public void setState(TaskState state) {
+        this.state = state;
+    }
+
+    public Date getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(Date dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public long getCounter() {
+        return counter;
+    }
+
+    public void setCounter(long counter) {
+        this.counter = counter;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskCounter [workbasketKey=" + workbasketKey + ", state=" + state + ", dueDate=" + dueDate
+            + ", counter=" + counter + "]";
+    }
+}
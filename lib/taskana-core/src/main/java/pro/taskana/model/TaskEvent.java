@@ -0,0 +1,111 @@
+package pro.taskana.model;
+
+import java.sql.Timestamp;
+
+/**
+ * A change of a task, recorded in the same transaction as the change itself. The state, owner and workbasket are the
+ * values of the task right after the change. Events are numbered in ascending order of their recording.
+ */
+public class TaskEvent {
+
+    private long id;
+    private String taskId;
+    private TaskEventType type;
+    private String workbasketKey;
+    private TaskState state;
+    private String owner;
+    private String userId;
+    private Timestamp created;
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(String taskId) {
+        this.taskId = taskId;
+    }
+
+    public TaskEventType getType() {
+        return type;
+    }
+
+    public void setType(TaskEventType type) {
+        this.type = type;
+    }
+
+    public String getWorkbasketKey() {
+        return workbasketKey;
+    }
+
+    public void setWorkbasketKey(String workbasketKey) {
+        this.workbasketKey = workbasketKey;
+    }
+
+    public TaskState getState() {
+        return state;
+    }
+
+    public void setState(TaskState state) {
+        this.state = state;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * Returns the user who changed the task.
+     *
+     * @return the id of the user
+     */
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public Timestamp getCreated() {
+        return created;
+    }
+
+    public void setCreated(Timestamp created) {
+        this.created = created;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("TaskEvent [id=");
+        builder.append(id);
+        builder.append(", taskId=");
+        builder.append(taskId);
+        builder.append(", type=");
+        builder.append(type);
+        builder.append(", workbasketKey=");
+        builder.append(workbasketKey);
+        builder.append(", state=");
+        builder.append(state);
+        builder.append(", owner=");
+        builder.append(owner);
+        builder.append(", userId=");
+        builder.append(userId);
+        builder.append(", created=");
+        builder.append(created);
+        builder.append("]");
+        return builder.toString();
+    }
+}
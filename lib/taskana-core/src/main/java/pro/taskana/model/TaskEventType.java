@@ -0,0 +1,8 @@
+package pro.taskana.model;
+
+/**
+ * The kinds of changes of a task which are recorded as {@link TaskEvent}.
+ */
+public enum TaskEventType {
+    CREATED, CLAIMED, COMPLETED, TRANSFERRED, UPDATED
+}
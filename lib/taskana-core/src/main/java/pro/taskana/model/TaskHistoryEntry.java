@@ -0,0 +1,88 @@
+package pro.taskana.model;
+
+import java.sql.Timestamp;
+
+/**
+ * An entry of the task history, telling which user changed the lifecycle of a task at which time.
+ */
+public class TaskHistoryEntry {
+
+    private long id;
+    private String taskId;
+    private TaskEventType action;
+    private String userId;
+    private String workbasketKey;
+    private Timestamp created;
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(String taskId) {
+        this.taskId = taskId;
+    }
+
+    public TaskEventType getAction() {
+        return action;
+    }
+
+    public void setAction(TaskEventType action) {
+        this.action = action;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * Returns the workbasket a task has been transferred to. Entries of other actions have no workbasket.
+     *
+     * @return the key of the destination workbasket of a transfer, null otherwise
+     */
+    public String getWorkbasketKey() {
+        return workbasketKey;
+    }
+
+    public void setWorkbasketKey(String workbasketKey) {
+        this.workbasketKey = workbasketKey;
+    }
+
+    public Timestamp getCreated() {
+        return created;
+    }
+
+    public void setCreated(Timestamp created) {
+        this.created = created;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("TaskHistoryEntry [id=");
+        builder.append(id);
+        builder.append(", taskId=");
+        builder.append(taskId);
+        builder.append(", action=");
+        builder.append(action);
+        builder.append(", userId=");
+        builder.append(userId);
+        builder.append(", workbasketKey=");
+        builder.append(workbasketKey);
+        builder.append(", created=");
+        builder.append(created);
+        builder.append("]");
+        return builder.toString();
+    }
+}
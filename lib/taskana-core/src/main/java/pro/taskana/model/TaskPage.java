@@ -0,0 +1,47 @@
+package pro.taskana.model;
+
+import java.util.List;
+
+import pro.taskana.Task;
+
+/**
+ * One page of tasks returned by keyset pagination, together with the cursor that addresses the next page.
+ */
+public class TaskPage {
+
+    private List<Task> tasks;
+    private String nextCursor;
+
+    public TaskPage(List<Task> tasks, String nextCursor) {
+        this.tasks = tasks;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Task> getTasks() {
+        return tasks;
+    }
+
+    /**
+     * Returns the cursor to pass to TaskQuery.listAfter() for the next page.
+     *
+     * @return the cursor of the next page or null if this is the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("TaskPage [tasks=");
+        builder.append(tasks);
+        builder.append(", nextCursor=");
+        builder.append(nextCursor);
+        builder.append("]");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,14 @@
+package pro.taskana.model;
+
+/**
+ * The orders in which tasks can be paged. Each order ends with the task id, so tasks with equal sort values have a
+ * stable order. Tasks without a sort value come last.
+ */
+public enum TaskSortKey {
+    /** Highest priority first. */
+    PRIORITY,
+    /** Earliest due date first. */
+    DUE,
+    /** Oldest task first. */
+    CREATED
+}
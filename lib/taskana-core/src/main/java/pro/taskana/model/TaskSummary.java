@@ -1,5 +1,7 @@
 package pro.taskana.model;
 
+import java.sql.Timestamp;
+
 /**
  * Entity which contains the most important informations about a Task.
  */
@@ -7,6 +9,10 @@ public class TaskSummary {
 
     private String taskId;
     private String taskName;
+    private TaskState state;
+    private int priority;
+    private Timestamp due;
+    private String owner;
     private String workbasketKey;
     private String workbasketName;
     private String classificationKey;
@@ -28,6 +34,38 @@ public class TaskSummary {
         this.taskName = taskName;
     }
 
+    public TaskState getState() {
+        return state;
+    }
+
+    public void setState(TaskState state) {
+        this.state = state;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public void setPriority(int priority) {
+        this.priority = priority;
+    }
+
+    public Timestamp getDue() {
+        return due;
+    }
+
+    public void setDue(Timestamp due) {
+        this.due = due;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
     public String getWorkbasketKey() {
         return workbasketKey;
     }
@@ -66,6 +104,10 @@ public class TaskSummary {
         int result = 1;
         result = prime * result + ((classificationKey == null) ? 0 : classificationKey.hashCode());
         result = prime * result + ((classificationName == null) ? 0 : classificationName.hashCode());
+        result = prime * result + ((due == null) ? 0 : due.hashCode());
+        result = prime * result + ((owner == null) ? 0 : owner.hashCode());
+        result = prime * result + priority;
+        result = prime * result + ((state == null) ? 0 : state.hashCode());
         result = prime * result + ((taskId == null) ? 0 : taskId.hashCode());
         result = prime * result + ((taskName == null) ? 0 : taskName.hashCode());
         result = prime * result + ((workbasketKey == null) ? 0 : workbasketKey.hashCode());
@@ -99,6 +141,26 @@ public class TaskSummary {
         } else if (!classificationName.equals(other.classificationName)) {
             return false;
         }
+        if (due == null) {
+            if (other.due != null) {
+                return false;
+            }
+        } else if (!due.equals(other.due)) {
+            return false;
+        }
+        if (owner == null) {
+            if (other.owner != null) {
+                return false;
+            }
+        } else if (!owner.equals(other.owner)) {
+            return false;
+        }
+        if (priority != other.priority) {
+            return false;
+        }
+        if (state != other.state) {
+            return false;
+        }
         if (taskId == null) {
             if (other.taskId != null) {
                 return false;
@@ -137,6 +199,14 @@ public class TaskSummary {
         builder.append(taskId);
         builder.append(", taskName=");
         builder.append(taskName);
+        builder.append(", state=");
+        builder.append(state);
+        builder.append(", priority=");
+        builder.append(priority);
+        builder.append(", due=");
+        builder.append(due);
+        builder.append(", owner=");
+        builder.append(owner);
         builder.append(", workbasketKey=");
         builder.append(workbasketKey);
         builder.append(", workbasketName=");
@@ -0,0 +1,36 @@
+package pro.taskana.model;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The number of tasks of each workbasket per day of their due date. The report has a line for every workbasket, each
+ * line holds one counter for every date of the report, in the same order.
+ */
+public class WorkbasketDueDateReport {
+
+    private List<Date> dates = new ArrayList<>();
+    private List<WorkbasketDueDateReportLine> lines = new ArrayList<>();
+
+    public List<Date> getDates() {
+        return dates;
+    }
+
+    public void setDates(List<Date> dates) {
+        this.dates = dates;
+    }
+
+    public List<WorkbasketDueDateReportLine> getLines() {
+        return lines;
+    }
+
+    public void setLines(List<WorkbasketDueDateReportLine> lines) {
+        this.lines = lines;
+    }
+
+    @Override
+    public String toString() {
+        return "WorkbasketDueDateReport [dates=" + dates + ", lines=" + lines + "]";
+    }
+}
@@ -0,0 +1,43 @@
+package pro.taskana.model;
+
+import java.util.List;
+
+/**
+ * A line of the {@link WorkbasketDueDateReport}, holding the task counters of one workbasket.
+ */
+public class WorkbasketDueDateReportLine {
+
+    private String workbasketKey;
+    private String workbasketName;
+    private List<Long> taskCounters;
+
+    public String getWorkbasketKey() {
+        return workbasketKey;
+    }
+
+    public void setWorkbasketKey(String workbasketKey) {
+        this.workbasketKey = workbasketKey;
+    }
+
+    public String getWorkbasketName() {
+        return workbasketName;
+    }
+
+    public void setWorkbasketName(String workbasketName) {
+        this.workbasketName = workbasketName;
+    }
+
+    public List<Long> getTaskCounters() {
+        return taskCounters;
+    }
+
+    public void setTaskCounters(List<Long> taskCounters) {
+        this.taskCounters = taskCounters;
+    }
+
+    @Override
+    public String toString() {
+        return "WorkbasketDueDateReportLine [workbasketKey=" + workbasketKey + ", workbasketName=" + workbasketName
+            + ", taskCounters=" + taskCounters + "]";
+    }
+}
@@ -2,6 +2,7 @@ package pro.taskana.model.mappings;
 
 import java.sql.Date;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Param;
@@ -19,7 +20,7 @@ public interface ClassificationMapper {
 
     String VALID_UNTIL = "9999-12-31";
 
-    @Select("SELECT ID, KEY, PARENT_CLASSIFICATION_KEY, CATEGORY, TYPE, DOMAIN, VALID_IN_DOMAIN, CREATED, NAME, DESCRIPTION, PRIORITY, SERVICE_LEVEL, APPLICATION_ENTRY_POINT, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, VALID_FROM, VALID_UNTIL "
+    @Select("SELECT ID, KEY, PARENT_CLASSIFICATION_KEY, CATEGORY, TYPE, DOMAIN, VALID_IN_DOMAIN, CREATED, NAME, DESCRIPTION, PRIORITY, SERVICE_LEVEL, APPLICATION_ENTRY_POINT, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, VALID_FROM, VALID_UNTIL, VERSION "
         + "FROM CLASSIFICATION "
         + "WHERE KEY = #{key}"
         + "AND DOMAIN = #{domain}"
@@ -46,11 +47,12 @@ public interface ClassificationMapper {
         @Result(property = "custom7", column = "CUSTOM_7"),
         @Result(property = "custom8", column = "CUSTOM_8"),
         @Result(property = "validFrom", column = "VALID_FROM"),
-        @Result(property = "validUntil", column = "VALID_UNTIL")})
+        @Result(property = "validUntil", column = "VALID_UNTIL"),
+        @Result(property = "version", column = "VERSION")})
     ClassificationImpl findByKeyAndDomain(@Param("key") String key, @Param("domain") String domain,
         @Param("valid_until") Date validUntil);
 
-    @Select("SELECT ID, KEY, PARENT_CLASSIFICATION_KEY, CATEGORY, TYPE, DOMAIN, VALID_IN_DOMAIN, CREATED, NAME, DESCRIPTION, PRIORITY, SERVICE_LEVEL, APPLICATION_ENTRY_POINT, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, VALID_FROM, VALID_UNTIL "
+    @Select("SELECT ID, KEY, PARENT_CLASSIFICATION_KEY, CATEGORY, TYPE, DOMAIN, VALID_IN_DOMAIN, CREATED, NAME, DESCRIPTION, PRIORITY, SERVICE_LEVEL, APPLICATION_ENTRY_POINT, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, VALID_FROM, VALID_UNTIL, VERSION "
         + "FROM CLASSIFICATION "
         + "WHERE ID = #{id} ")
     @Results({@Result(property = "id", column = "ID"),
@@ -75,15 +77,37 @@ public interface ClassificationMapper {
         @Result(property = "custom7", column = "CUSTOM_7"),
         @Result(property = "custom8", column = "CUSTOM_8"),
         @Result(property = "validFrom", column = "VALID_FROM"),
-        @Result(property = "validUntil", column = "VALID_UNTIL")})
+        @Result(property = "validUntil", column = "VALID_UNTIL"),
+        @Result(property = "version", column = "VERSION")})
     ClassificationImpl findById(@Param("id") String id);
 
     @Insert("INSERT INTO CLASSIFICATION (ID, KEY, PARENT_CLASSIFICATION_KEY, CATEGORY, TYPE, DOMAIN, VALID_IN_DOMAIN, CREATED, NAME, DESCRIPTION, PRIORITY, SERVICE_LEVEL, APPLICATION_ENTRY_POINT, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, VALID_FROM, VALID_UNTIL) VALUES (#{classification.id}, #{classification.key}, #{classification.parentClassificationKey}, #{classification.category}, #{classification.type}, #{classification.domain}, #{classification.isValidInDomain}, #{classification.created}, #{classification.name}, #{classification.description}, #{classification.priority}, #{classification.serviceLevel}, #{classification.applicationEntryPoint}, #{classification.custom1}, #{classification.custom2}, #{classification.custom3}, #{classification.custom4}, #{classification.custom5}, #{classification.custom6}, #{classification.custom7}, #{classification.custom8}, #{classification.validFrom}, #{classification.validUntil})")
     void insert(@Param("classification") ClassificationImpl classification);
 
-    @Update(
-        value = "UPDATE CLASSIFICATION SET KEY = #{classification.key}, PARENT_CLASSIFICATION_KEY = #{classification.parentClassificationKey}, CATEGORY = #{classification.category}, TYPE = #{classification.type}, NAME = #{classification.name}, DESCRIPTION = #{classification.description}, PRIORITY = #{classification.priority}, SERVICE_LEVEL = #{classification.serviceLevel}, DOMAIN = #{classification.domain}, VALID_IN_DOMAIN = #{classification.isValidInDomain}, APPLICATION_ENTRY_POINT = #{classification.applicationEntryPoint}, CUSTOM_1 = #{classification.custom1}, CUSTOM_2 = #{classification.custom2}, CUSTOM_3 = #{classification.custom3}, CUSTOM_4 = #{classification.custom4}, CUSTOM_5 = #{classification.custom5}, CUSTOM_6 = #{classification.custom6}, CUSTOM_7 = #{classification.custom7}, CUSTOM_8 = #{classification.custom8}, VALID_FROM = #{classification.validFrom}, VALID_UNTIL = #{classification.validUntil} WHERE ID = #{classification.id}")
-    void update(@Param("classification") ClassificationImpl classification);
+    @Update("<script>UPDATE CLASSIFICATION <set>VERSION = VERSION + 1, "
+        + "<if test=\"changes.contains('key')\">KEY = #{classification.key}, </if>"
+        + "<if test=\"changes.contains('parentClassificationKey')\">PARENT_CLASSIFICATION_KEY = #{classification.parentClassificationKey}, </if>"
+        + "<if test=\"changes.contains('category')\">CATEGORY = #{classification.category}, </if>"
+        + "<if test=\"changes.contains('type')\">TYPE = #{classification.type}, </if>"
+        + "<if test=\"changes.contains('name')\">NAME = #{classification.name}, </if>"
+        + "<if test=\"changes.contains('description')\">DESCRIPTION = #{classification.description}, </if>"
+        + "<if test=\"changes.contains('priority')\">PRIORITY = #{classification.priority}, </if>"
+        + "<if test=\"changes.contains('serviceLevel')\">SERVICE_LEVEL = #{classification.serviceLevel}, </if>"
+        + "<if test=\"changes.contains('domain')\">DOMAIN = #{classification.domain}, </if>"
+        + "<if test=\"changes.contains('isValidInDomain')\">VALID_IN_DOMAIN = #{classification.isValidInDomain}, </if>"
+        + "<if test=\"changes.contains('applicationEntryPoint')\">APPLICATION_ENTRY_POINT = #{classification.applicationEntryPoint}, </if>"
+        + "<if test=\"changes.contains('custom1')\">CUSTOM_1 = #{classification.custom1}, </if>"
+        + "<if test=\"changes.contains('custom2')\">CUSTOM_2 = #{classification.custom2}, </if>"
+        + "<if test=\"changes.contains('custom3')\">CUSTOM_3 = #{classification.custom3}, </if>"
+        + "<if test=\"changes.contains('custom4')\">CUSTOM_4 = #{classification.custom4}, </if>"
+        + "<if test=\"changes.contains('custom5')\">CUSTOM_5 = #{classification.custom5}, </if>"
+        + "<if test=\"changes.contains('custom6')\">CUSTOM_6 = #{classification.custom6}, </if>"
+        + "<if test=\"changes.contains('custom7')\">CUSTOM_7 = #{classification.custom7}, </if>"
+        + "<if test=\"changes.contains('custom8')\">CUSTOM_8 = #{classification.custom8}, </if>"
+        + "<if test=\"changes.contains('validFrom')\">VALID_FROM = #{classification.validFrom}, </if>"
+        + "<if test=\"changes.contains('validUntil')\">VALID_UNTIL = #{classification.validUntil}, </if>"
+        + "</set> WHERE ID = #{classification.id} AND VERSION = #{classification.version}</script>")
+    int update(@Param("classification") ClassificationImpl classification, @Param("changes") Set<String> changes);
 
     @Select("<script>"
         + "SELECT * "
@@ -114,11 +138,76 @@ public interface ClassificationMapper {
         @Result(property = "custom7", column = "CUSTOM_7"),
         @Result(property = "custom8", column = "CUSTOM_8"),
         @Result(property = "validFrom", column = "VALID_FROM"),
-        @Result(property = "validUntil", column = "VALID_UNTIL")})
+        @Result(property = "validUntil", column = "VALID_UNTIL"),
+        @Result(property = "version", column = "VERSION")})
     List<ClassificationImpl> getAllClassificationsWithKey(@Param("key") String key, @Param("domain") String domain);
 
+    @Select("<script>"
+        + "SELECT ID, KEY, PARENT_CLASSIFICATION_KEY, CATEGORY, TYPE, DOMAIN, VALID_IN_DOMAIN, CREATED, NAME, DESCRIPTION, PRIORITY, SERVICE_LEVEL, APPLICATION_ENTRY_POINT, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, VALID_FROM, VALID_UNTIL, VERSION "
+        + "FROM CLASSIFICATION "
+        + "WHERE KEY IN(<foreach item='item' collection='keys' separator=',' >#{item}</foreach>) "
+        + "AND DOMAIN IN(<foreach item='item' collection='domains' separator=',' >#{item}</foreach>) "
+        + "AND VALID_UNTIL = #{valid_until}"
+        + "</script>")
+    @Results({@Result(property = "id", column = "ID"),
+        @Result(property = "key", column = "KEY"),
+        @Result(property = "parentClassificationKey", column = "PARENT_CLASSIFICATION_KEY"),
+        @Result(property = "category", column = "CATEGORY"),
+        @Result(property = "type", column = "TYPE"),
+        @Result(property = "domain", column = "DOMAIN"),
+        @Result(property = "isValidInDomain", column = "VALID_IN_DOMAIN"),
+        @Result(property = "created", column = "CREATED"),
+        @Result(property = "name", column = "NAME"),
+        @Result(property = "description", column = "DESCRIPTION"),
+        @Result(property = "priority", column = "PRIORITY"),
+        @Result(property = "serviceLevel", column = "SERVICE_LEVEL"),
+        @Result(property = "applicationEntryPoint", column = "APPLICATION_ENTRY_POINT"),
+        @Result(property = "custom1", column = "CUSTOM_1"),
+        @Result(property = "custom2", column = "CUSTOM_2"),
+        @Result(property = "custom3", column = "CUSTOM_3"),
+        @Result(property = "custom4", column = "CUSTOM_4"),
+        @Result(property = "custom5", column = "CUSTOM_5"),
+        @Result(property = "custom6", column = "CUSTOM_6"),
+        @Result(property = "custom7", column = "CUSTOM_7"),
+        @Result(property = "custom8", column = "CUSTOM_8"),
+        @Result(property = "validFrom", column = "VALID_FROM"),
+        @Result(property = "validUntil", column = "VALID_UNTIL"),
+        @Result(property = "version", column = "VERSION")})
+    List<ClassificationImpl> findByKeysAndDomains(@Param("keys") List<String> keys,
+        @Param("domains") List<String> domains, @Param("valid_until") Date validUntil);
+
+    @Select("SELECT ID, KEY, PARENT_CLASSIFICATION_KEY, CATEGORY, TYPE, DOMAIN, VALID_IN_DOMAIN, CREATED, NAME, DESCRIPTION, PRIORITY, SERVICE_LEVEL, APPLICATION_ENTRY_POINT, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, VALID_FROM, VALID_UNTIL, VERSION "
+        + "FROM CLASSIFICATION "
+        + "WHERE VALID_UNTIL = #{valid_until} "
+        + "ORDER BY KEY, DOMAIN")
+    @Results({@Result(property = "id", column = "ID"),
+        @Result(property = "key", column = "KEY"),
+        @Result(property = "parentClassificationKey", column = "PARENT_CLASSIFICATION_KEY"),
+        @Result(property = "category", column = "CATEGORY"),
+        @Result(property = "type", column = "TYPE"),
+        @Result(property = "domain", column = "DOMAIN"),
+        @Result(property = "isValidInDomain", column = "VALID_IN_DOMAIN"),
+        @Result(property = "created", column = "CREATED"),
+        @Result(property = "name", column = "NAME"),
+        @Result(property = "description", column = "DESCRIPTION"),
+        @Result(property = "priority", column = "PRIORITY"),
+        @Result(property = "serviceLevel", column = "SERVICE_LEVEL"),
+        @Result(property = "applicationEntryPoint", column = "APPLICATION_ENTRY_POINT"),
+        @Result(property = "custom1", column = "CUSTOM_1"),
+        @Result(property = "custom2", column = "CUSTOM_2"),
+        @Result(property = "custom3", column = "CUSTOM_3"),
+        @Result(property = "custom4", column = "CUSTOM_4"),
+        @Result(property = "custom5", column = "CUSTOM_5"),
+        @Result(property = "custom6", column = "CUSTOM_6"),
+        @Result(property = "custom7", column = "CUSTOM_7"),
+        @Result(property = "custom8", column = "CUSTOM_8"),
+        @Result(property = "validFrom", column = "VALID_FROM"),
+        @Result(property = "validUntil", column = "VALID_UNTIL"),
+        @Result(property = "version", column = "VERSION")})
+    List<ClassificationImpl> findAllByValidUntil(@Param("valid_until") Date validUntil);
+
     @Select("SELECT C.ID, C.KEY, C.PARENT_CLASSIFICATION_KEY, C.CATEGORY, C.TYPE, C.DOMAIN, C.VALID_IN_DOMAIN, C.CREATED, C.NAME, C.DESCRIPTION, C.PRIORITY, C.SERVICE_LEVEL, C.APPLICATION_ENTRY_POINT, "
-        + "C.CUSTOM_1, C.CUSTOM_2, C.CUSTOM_3, C.CUSTOM_4, C.CUSTOM_5, C.CUSTOM_6, C.CUSTOM_7, C.CUSTOM_8, C.VALID_FROM, C.VALID_UNTIL "
+        + "C.CUSTOM_1, C.CUSTOM_2, C.CUSTOM_3, C.CUSTOM_4, C.CUSTOM_5, C.CUSTOM_6, C.CUSTOM_7, C.CUSTOM_8, C.VALID_FROM, C.VALID_UNTIL, C.VERSION "
         + "FROM CLASSIFICATION AS C LEFT JOIN WORKBASKET AS W ON C.DOMAIN = W.DOMAIN "
         + "WHERE c.KEY = #{classificationKey}"
         + "AND W.KEY = #{workbasketKey}"
@@ -145,7 +234,8 @@ public interface ClassificationMapper {
         @Result(property = "custom7", column = "CUSTOM_7"),
         @Result(property = "custom8", column = "CUSTOM_8"),
         @Result(property = "validFrom", column = "VALID_FROM"),
-        @Result(property = "validUntil", column = "VALID_UNTIL")})
+        @Result(property = "validUntil", column = "VALID_UNTIL"),
+        @Result(property = "version", column = "VERSION")})
     ClassificationImpl findByTask(@Param("classificationKey") String classificationKey,
         @Param("workbasketKey") String workbasketKey,
         @Param("valid_until") Date validUntil);
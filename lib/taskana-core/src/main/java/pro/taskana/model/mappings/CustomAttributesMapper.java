@@ -0,0 +1,33 @@
+package pro.taskana.model.mappings;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.type.JdbcType;
+
+import pro.taskana.impl.persistence.EncodedAttributes;
+
+/**
+ * This class is the mybatis mapping of the raw CUSTOM_ATTRIBUTES column of TASK and ATTACHMENT. The table name is
+ * inserted literally and must be one of these two tables.
+ */
+public interface CustomAttributesMapper {
+
+    @Select("SELECT ID, CUSTOM_ATTRIBUTES FROM ${table} "
+        + "WHERE CUSTOM_ATTRIBUTES IS NOT NULL AND ID > #{lastId} "
+        + "ORDER BY ID")
+    @Results(value = {
+        @Result(property = "id", column = "ID"),
+        @Result(property = "data", column = "CUSTOM_ATTRIBUTES", jdbcType = JdbcType.BLOB, javaType = byte[].class)
+    })
+    List<EncodedAttributes> findAfter(@Param("table") String table, @Param("lastId") String lastId,
+        RowBounds rowBounds);
+
+    @Update("UPDATE ${table} SET CUSTOM_ATTRIBUTES = #{data,jdbcType=BLOB} WHERE ID = #{id}")
+    void update(@Param("table") String table, @Param("id") String id, @Param("data") byte[] data);
+}
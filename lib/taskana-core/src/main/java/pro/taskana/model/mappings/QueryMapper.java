@@ -3,6 +3,7 @@ package pro.taskana.model.mappings;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Many;
+import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Result;
 import org.apache.ibatis.annotations.Results;
 import org.apache.ibatis.annotations.Select;
@@ -10,11 +11,15 @@ import org.apache.ibatis.annotations.Select;
 import pro.taskana.impl.ClassificationImpl;
 import pro.taskana.impl.ClassificationQueryImpl;
 import pro.taskana.impl.ObjectReferenceQueryImpl;
+import pro.taskana.impl.TaskHistoryQueryImpl;
 import pro.taskana.impl.TaskImpl;
 import pro.taskana.impl.TaskQueryImpl;
 import pro.taskana.impl.WorkbasketImpl;
 import pro.taskana.impl.WorkbasketQueryImpl;
 import pro.taskana.model.ObjectReference;
+import pro.taskana.model.TaskHistoryEntry;
+import pro.taskana.model.TaskState;
+import pro.taskana.model.TaskSummary;
 
 /**
  * This class provides a mapper for all queries.
@@ -25,9 +30,14 @@ public interface QueryMapper {
     String CLASSIFICATION_FINDBYKEYANDDOMAIN = "pro.taskana.model.mappings.ClassificationMapper.findByKeyAndDomain";
     String CLASSIFICATION_FINDBYID = "pro.taskana.model.mappings.ClassificationMapper.findById";
 
-    @Select("<script>SELECT t.ID, t.CREATED, t.CLAIMED, t.COMPLETED, t.MODIFIED, t.PLANNED, t.DUE, t.NAME, t.DESCRIPTION, t.PRIORITY, t.STATE, t.CLASSIFICATION_KEY, t.DOMAIN, t.WORKBASKET_KEY, t.BUSINESS_PROCESS_ID, t.PARENT_BUSINESS_PROCESS_ID, t.OWNER, t.POR_COMPANY, t.POR_SYSTEM, t.POR_INSTANCE, t.POR_TYPE, t.POR_VALUE, t.IS_READ, t.IS_TRANSFERRED, t.CUSTOM_1, t.CUSTOM_2, t.CUSTOM_3, t.CUSTOM_4, t.CUSTOM_5, t.CUSTOM_6, t.CUSTOM_7, t.CUSTOM_8, t.CUSTOM_9, t.CUSTOM_10 "
-        + "FROM TASK t "
-        + "<where>"
+    // source, filter and order of task queries, shared by the statements returning tasks and task summaries
+    String TASK_QUERY_FROM = "FROM <choose>"
+        + "<when test='includeArchived'>(SELECT " + TaskArchiveMapper.TASK_COLUMNS + " FROM TASK UNION ALL SELECT "
+        + TaskArchiveMapper.TASK_COLUMNS + " FROM TASK_ARCHIVE) t </when>"
+        + "<otherwise>TASK t </otherwise>"
+        + "</choose>";
+
+    String TASK_QUERY_WHERE = "<where>"
         + "<if test='name != null'>AND t.NAME IN(<foreach item='item' collection='name' separator=',' >#{item}</foreach>)</if> "
         + "<if test='description != null'>AND t.DESCRIPTION like #{description}</if> "
         + "<if test='priority != null'>AND t.PRIORITY IN(<foreach item='item' collection='priority' separator=',' >#{item}</foreach>)</if> "
@@ -49,7 +59,20 @@ public interface QueryMapper {
         + "<if test='porValueIn != null'>AND t.POR_VALUE IN(<foreach item='item' collection='porValueIn' separator=',' >#{item}</foreach>)</if> "
         + "<if test='porValueLike != null'>AND t.POR_VALUE like #{porValueLike}</if> "
         + "<if test='customFields != null'>AND (t.CUSTOM_1 IN(<foreach item='item' collection='customFields' separator=',' >#{item}</foreach>) OR t.CUSTOM_2 IN(<foreach item='item' collection='customFields' separator=',' >#{item}</foreach>) OR t.CUSTOM_3 IN(<foreach item='item' collection='customFields' separator=',' >#{item}</foreach>) OR t.CUSTOM_4 IN(<foreach item='item' collection='customFields' separator=',' >#{item}</foreach>) OR t.CUSTOM_5 IN(<foreach item='item' collection='customFields' separator=',' >#{item}</foreach>) OR t.CUSTOM_6 IN(<foreach item='item' collection='customFields' separator=',' >#{item}</foreach>) OR t.CUSTOM_7 IN(<foreach item='item' collection='customFields' separator=',' >#{item}</foreach>) OR t.CUSTOM_8 IN(<foreach item='item' collection='customFields' separator=',' >#{item}</foreach>) OR t.CUSTOM_9 IN(<foreach item='item' collection='customFields' separator=',' >#{item}</foreach>) OR t.CUSTOM_10 IN(<foreach item='item' collection='customFields' separator=',' >#{item}</foreach>))</if> "
-        + "</where>"
+        + "<if test='cursorId != null'>AND (<choose>"
+        + "<when test='cursorValue != null'>${sortColumn} ${seekOperator} #{cursorValue} OR (${sortColumn} = #{cursorValue} AND t.ID ${seekOperator} #{cursorId}) OR ${sortColumn} IS NULL</when>"
+        + "<otherwise>${sortColumn} IS NULL AND t.ID ${seekOperator} #{cursorId}</otherwise>"
+        + "</choose>)</if> "
+        + "<if test='changedAfter != null'>AND t.CHANGE_SEQ &gt; #{changedAfter}</if> "
+        + "</where>";
+
+    String TASK_QUERY_ORDER = "<if test='sortKey != null'>ORDER BY ${sortColumn} ${sortDirection} NULLS LAST, t.ID ${sortDirection} </if>";
+
+    @Select("<script>SELECT t.ID, t.CREATED, t.CLAIMED, t.COMPLETED, t.MODIFIED, t.PLANNED, t.DUE, t.NAME, t.DESCRIPTION, t.PRIORITY, t.STATE, t.CLASSIFICATION_KEY, t.DOMAIN, t.WORKBASKET_KEY, t.BUSINESS_PROCESS_ID, t.PARENT_BUSINESS_PROCESS_ID, t.OWNER, t.POR_COMPANY, t.POR_SYSTEM, t.POR_INSTANCE, t.POR_TYPE, t.POR_VALUE, t.IS_READ, t.IS_TRANSFERRED, t.CUSTOM_1, t.CUSTOM_2, t.CUSTOM_3, t.CUSTOM_4, t.CUSTOM_5, t.CUSTOM_6, t.CUSTOM_7, t.CUSTOM_8, t.CUSTOM_9, t.CUSTOM_10, t.VERSION, t.CHANGE_SEQ "
+        + TASK_QUERY_FROM
+        + TASK_QUERY_WHERE
+        + TASK_QUERY_ORDER
+        + "<if test='fetchLimit != null'>FETCH FIRST ${fetchLimit} ROWS ONLY</if>"
         + "</script>")
     @Results(value = { @Result(property = "id", column = "ID"),
         @Result(property = "created", column = "CREATED"),
@@ -84,10 +107,47 @@ public interface QueryMapper {
         @Result(property = "custom7", column = "CUSTOM_7"),
         @Result(property = "custom8", column = "CUSTOM_8"),
         @Result(property = "custom9", column = "CUSTOM_9"),
-        @Result(property = "custom10", column = "CUSTOM_10") })
+        @Result(property = "custom10", column = "CUSTOM_10"),
+        @Result(property = "version", column = "VERSION"),
+        @Result(property = "changeSequence", column = "CHANGE_SEQ") })
     List<TaskImpl> queryTasks(TaskQueryImpl taskQuery);
 
-    @Select("<script>SELECT ID, KEY, PARENT_CLASSIFICATION_KEY, CATEGORY, TYPE, DOMAIN, VALID_IN_DOMAIN, CREATED, NAME, DESCRIPTION, PRIORITY, SERVICE_LEVEL, APPLICATION_ENTRY_POINT, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, VALID_FROM, VALID_UNTIL "
+    // tasks which left the given workbaskets or states, and tasks still in them, changed after the cursor
+    String TASK_CHANGES_FILTER = "<if test='workbasketKeys != null'>AND WORKBASKET_KEY IN(<foreach item='item' collection='workbasketKeys' separator=',' >#{item}</foreach>)</if> "
+        + "<if test='states != null'>AND STATE IN(<foreach item='item' collection='states' separator=',' >#{item}</foreach>)</if> ";
+
+    @Select("<script>SELECT TASK_ID AS ID, CREATED AS MODIFIED, CHANGE_SEQ FROM TASK_TOMBSTONE "
+        + "WHERE CHANGE_SEQ &gt; #{changedAfter} " + TASK_CHANGES_FILTER
+        + "UNION ALL SELECT ID, MODIFIED, CHANGE_SEQ FROM TASK "
+        + "WHERE CHANGE_SEQ &gt; #{changedAfter} " + TASK_CHANGES_FILTER
+        + "</script>")
+    @Results(value = { @Result(property = "id", column = "ID"),
+        @Result(property = "modified", column = "MODIFIED"),
+        @Result(property = "changeSequence", column = "CHANGE_SEQ") })
+    List<TaskImpl> queryTaskChanges(@Param("changedAfter") long changedAfter,
+        @Param("workbasketKeys") String[] workbasketKeys, @Param("states") TaskState[] states);
+
+    @Select("<script>SELECT t.ID, t.NAME, t.STATE, t.PRIORITY, t.DUE, t.OWNER, t.WORKBASKET_KEY, w.NAME AS WORKBASKET_NAME, t.CLASSIFICATION_KEY, COALESCE(c.NAME, rc.NAME) AS CLASSIFICATION_NAME "
+        + TASK_QUERY_FROM
+        + "LEFT JOIN WORKBASKET w ON w.KEY = t.WORKBASKET_KEY "
+        + "LEFT JOIN CLASSIFICATION c ON c.KEY = t.CLASSIFICATION_KEY AND c.DOMAIN = t.DOMAIN AND c.VALID_UNTIL = '9999-12-31' "
+        + "LEFT JOIN CLASSIFICATION rc ON rc.KEY = t.CLASSIFICATION_KEY AND rc.DOMAIN = '' AND rc.VALID_UNTIL = '9999-12-31' "
+        + TASK_QUERY_WHERE
+        + TASK_QUERY_ORDER
+        + "</script>")
+    @Results(value = { @Result(property = "taskId", column = "ID"),
+        @Result(property = "taskName", column = "NAME"),
+        @Result(property = "state", column = "STATE"),
+        @Result(property = "priority", column = "PRIORITY"),
+        @Result(property = "due", column = "DUE"),
+        @Result(property = "owner", column = "OWNER"),
+        @Result(property = "workbasketKey", column = "WORKBASKET_KEY"),
+        @Result(property = "workbasketName", column = "WORKBASKET_NAME"),
+        @Result(property = "classificationKey", column = "CLASSIFICATION_KEY"),
+        @Result(property = "classificationName", column = "CLASSIFICATION_NAME") })
+    List<TaskSummary> queryTaskSummaries(TaskQueryImpl taskQuery);
+
+    @Select("<script>SELECT ID, KEY, PARENT_CLASSIFICATION_KEY, CATEGORY, TYPE, DOMAIN, VALID_IN_DOMAIN, CREATED, NAME, DESCRIPTION, PRIORITY, SERVICE_LEVEL, APPLICATION_ENTRY_POINT, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, VALID_FROM, VALID_UNTIL, VERSION "
         + "FROM CLASSIFICATION "
         + "<where>"
         + "<if test='key != null'>AND KEY IN(<foreach item='item' collection='key' separator=',' >#{item}</foreach>)</if> "
@@ -127,7 +187,8 @@ public interface QueryMapper {
         @Result(property = "custom7", column = "CUSTOM_7"),
         @Result(property = "custom8", column = "CUSTOM_8"),
         @Result(property = "validFrom", column = "VALID_FROM"),
-        @Result(property = "validUntil", column = "VALID_UNTIL") })
+        @Result(property = "validUntil", column = "VALID_UNTIL"),
+        @Result(property = "version", column = "VERSION") })
     List<ClassificationImpl> queryClassification(ClassificationQueryImpl classificationQuery);
 
     @Select("<script>SELECT ID, COMPANY, SYSTEM, SYSTEM_INSTANCE, TYPE, VALUE "
@@ -149,7 +210,27 @@ public interface QueryMapper {
         @Result(property = "value", column = "VALUE") })
     List<ObjectReference> queryObjectReference(ObjectReferenceQueryImpl objectReference);
 
-    @Select("<script>SELECT w.ID, w.KEY, w.CREATED, w.MODIFIED, w.NAME, w.DOMAIN, W.TYPE, w.DESCRIPTION, w.OWNER, w.CUSTOM_1, w.CUSTOM_2, w.CUSTOM_3, w.CUSTOM_4, w.ORG_LEVEL_1, w.ORG_LEVEL_2, w.ORG_LEVEL_3, w.ORG_LEVEL_4 from WORKBASKET w "
+    @Select("<script>SELECT ID, TASK_ID, ACTION, USER_ID, WORKBASKET_KEY, CREATED "
+        + "FROM TASK_HISTORY "
+        + "<where>"
+        + "<if test='taskId != null'>AND TASK_ID IN(<foreach item='item' collection='taskId' separator=',' >#{item}</foreach>)</if> "
+        + "<if test='userId != null'>AND USER_ID IN(<foreach item='item' collection='userId' separator=',' >#{item}</foreach>)</if> "
+        + "<if test='action != null'>AND ACTION IN(<foreach item='item' collection='action' separator=',' >#{item}</foreach>)</if> "
+        + "<if test='createdAfter != null'>AND CREATED &gt; #{createdAfter}</if> "
+        + "<if test='createdBefore != null'>AND CREATED &lt; #{createdBefore}</if> "
+        + "</where>"
+        + "ORDER BY ID"
+        + "</script>")
+    @Results({
+        @Result(property = "id", column = "ID"),
+        @Result(property = "taskId", column = "TASK_ID"),
+        @Result(property = "action", column = "ACTION"),
+        @Result(property = "userId", column = "USER_ID"),
+        @Result(property = "workbasketKey", column = "WORKBASKET_KEY"),
+        @Result(property = "created", column = "CREATED") })
+    List<TaskHistoryEntry> queryTaskHistory(TaskHistoryQueryImpl taskHistoryQuery);
+
+    @Select("<script>SELECT w.ID, w.KEY, w.CREATED, w.MODIFIED, w.NAME, w.DOMAIN, W.TYPE, w.DESCRIPTION, w.OWNER, w.CUSTOM_1, w.CUSTOM_2, w.CUSTOM_3, w.CUSTOM_4, w.ORG_LEVEL_1, w.ORG_LEVEL_2, w.ORG_LEVEL_3, w.ORG_LEVEL_4, w.VERSION from WORKBASKET w "
         + "<if test='accessId != null'>LEFT OUTER JOIN WORKBASKET_ACCESS_LIST a on w.KEY = a.WORKBASKET_KEY</if> "
         + "<where>"
         + "<if test='owner != null'>AND w.OWNER IN(<foreach item='item' collection='owner' separator=',' >#{item}</foreach>)</if> "
@@ -199,7 +280,8 @@ public interface QueryMapper {
         @Result(property = "orgLevel1", column = "ORG_LEVEL_1"),
         @Result(property = "orgLevel2", column = "ORG_LEVEL_2"),
         @Result(property = "orgLevel3", column = "ORG_LEVEL_3"),
-        @Result(property = "orgLevel4", column = "ORG_LEVEL_4") })
+        @Result(property = "orgLevel4", column = "ORG_LEVEL_4"),
+        @Result(property = "version", column = "VERSION") })
     List<WorkbasketImpl> queryWorkbasket(WorkbasketQueryImpl workbasketQuery);
 
     @Select("<script>SELECT TARGET_ID from DISTRIBUTION_TARGETS "
@@ -0,0 +1,52 @@
+package pro.taskana.model.mappings;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+
+/**
+ * This class is the mybatis mapping of the archival, which moves completed tasks and their attachments from TASK and
+ * ATTACHMENT to TASK_ARCHIVE and ATTACHMENT_ARCHIVE. The columns are listed explicitly, because the column order of
+ * tables which have been migrated differs from new ones.
+ */
+public interface TaskArchiveMapper {
+
+    String TASK_COLUMNS = "ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, DUE, NAME, DESCRIPTION, PRIORITY, STATE, "
+        + "CLASSIFICATION_KEY, WORKBASKET_KEY, DOMAIN, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, OWNER, "
+        + "POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, IS_READ, IS_TRANSFERRED, CUSTOM_ATTRIBUTES, "
+        + "CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, CUSTOM_9, CUSTOM_10, "
+        + "VERSION, CHANGE_SEQ";
+
+    String ATTACHMENT_COLUMNS = "ID, TASK_ID, CREATED, MODIFIED, CLASSIFICATION_KEY, REF_COMPANY, REF_SYSTEM, "
+        + "REF_INSTANCE, REF_TYPE, REF_VALUE, CHANNEL, RECEIVED, CUSTOM_ATTRIBUTES";
+
+    @Select("SELECT ID FROM TASK WHERE STATE = 'COMPLETED' AND COMPLETED < #{completedBefore} "
+        + "FETCH FIRST ${limit} ROWS ONLY")
+    List<String> findArchivableTaskIds(@Param("completedBefore") Timestamp completedBefore,
+        @Param("limit") int limit);
+
+    @Insert("<script>INSERT INTO TASK_ARCHIVE (" + TASK_COLUMNS + ") SELECT " + TASK_COLUMNS + " FROM TASK "
+        + "WHERE STATE = 'COMPLETED' AND ID IN (<foreach item='item' collection='taskIds' separator=','>#{item}</foreach>)"
+        + "</script>")
+    int archiveTasks(@Param("taskIds") List<String> taskIds);
+
+    @Insert("<script>INSERT INTO ATTACHMENT_ARCHIVE (" + ATTACHMENT_COLUMNS + ") SELECT " + ATTACHMENT_COLUMNS
+        + " FROM ATTACHMENT "
+        + "WHERE TASK_ID IN (<foreach item='item' collection='taskIds' separator=','>#{item}</foreach>)"
+        + "</script>")
+    int archiveAttachments(@Param("taskIds") List<String> taskIds);
+
+    @Delete("<script>DELETE FROM ATTACHMENT "
+        + "WHERE TASK_ID IN (<foreach item='item' collection='taskIds' separator=','>#{item}</foreach>)"
+        + "</script>")
+    int deleteAttachments(@Param("taskIds") List<String> taskIds);
+
+    @Delete("<script>DELETE FROM TASK "
+        + "WHERE STATE = 'COMPLETED' AND ID IN (<foreach item='item' collection='taskIds' separator=','>#{item}</foreach>)"
+        + "</script>")
+    int deleteTasks(@Param("taskIds") List<String> taskIds);
+}
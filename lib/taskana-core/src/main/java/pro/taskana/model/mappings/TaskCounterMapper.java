@@ -0,0 +1,49 @@
+package pro.taskana.model.mappings;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+import pro.taskana.model.TaskCounter;
+
+/**
+ * This class is the mybatis mapping of the TASK_COUNTER table, which holds the number of tasks per workbasket, state
+ * and day of their due date. Tasks without a due date are counted on 0001-01-01.
+ */
+public interface TaskCounterMapper {
+
+    String NO_DUE_DATE = "DATE '0001-01-01'";
+
+    @Select("<script>SELECT WORKBASKET_KEY, STATE, COALESCE(CAST(DUE AS DATE), " + NO_DUE_DATE + ") AS DUE_DATE, "
+        + "COUNT(*) AS COUNTER FROM TASK "
+        + "WHERE ID IN (<foreach item='item' collection='taskIds' separator=','>#{item}</foreach>) "
+        + "GROUP BY WORKBASKET_KEY, STATE, COALESCE(CAST(DUE AS DATE), " + NO_DUE_DATE + ")"
+        + "</script>")
+    @Results({@Result(property = "workbasketKey", column = "WORKBASKET_KEY"),
+        @Result(property = "state", column = "STATE"),
+        @Result(property = "dueDate", column = "DUE_DATE"),
+        @Result(property = "counter", column = "COUNTER")})
+    List<TaskCounter> countTasks(@Param("taskIds") List<String> taskIds);
+
+    @Update("UPDATE TASK_COUNTER SET COUNTER = COUNTER + #{counter} "
+        + "WHERE WORKBASKET_KEY = #{workbasketKey} AND STATE = #{state} AND DUE_DATE = #{dueDate}")
+    int add(TaskCounter delta);
+
+    @Insert("INSERT INTO TASK_COUNTER (WORKBASKET_KEY, STATE, DUE_DATE, COUNTER) "
+        + "VALUES (#{workbasketKey}, #{state}, #{dueDate}, #{counter})")
+    void insert(TaskCounter counter);
+
+    @Delete("DELETE FROM TASK_COUNTER")
+    int deleteAll();
+
+    @Insert("INSERT INTO TASK_COUNTER (WORKBASKET_KEY, STATE, DUE_DATE, COUNTER) "
+        + "SELECT WORKBASKET_KEY, STATE, COALESCE(CAST(DUE AS DATE), " + NO_DUE_DATE + "), COUNT(*) FROM TASK "
+        + "GROUP BY WORKBASKET_KEY, STATE, COALESCE(CAST(DUE AS DATE), " + NO_DUE_DATE + ")")
+    int insertCountedTasks();
+}
@@ -0,0 +1,70 @@
+package pro.taskana.model.mappings;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+import pro.taskana.model.TaskEvent;
+import pro.taskana.model.TaskEventType;
+
+/**
+ * This class is the mybatis mapping of the task event outbox and the positions of its consumers.
+ */
+public interface TaskEventMapper {
+
+    @Insert("<script>INSERT INTO TASK_EVENT (TASK_ID, TYPE, WORKBASKET_KEY, STATE, OWNER, USER_ID, CREATED) "
+        + "SELECT ID, #{type}, WORKBASKET_KEY, STATE, OWNER, #{userId}, #{now} FROM TASK "
+        + "WHERE ID IN (<foreach item='item' collection='taskIds' separator=','>#{item}</foreach>)"
+        + "</script>")
+    void insertEvents(@Param("type") TaskEventType type, @Param("taskIds") List<String> taskIds,
+        @Param("userId") String userId, @Param("now") Timestamp now);
+
+    @Select("SELECT ID, TASK_ID, TYPE, WORKBASKET_KEY, STATE, OWNER, USER_ID, CREATED "
+        + "FROM TASK_EVENT "
+        + "WHERE ID > #{afterId} "
+        + "ORDER BY ID ASC "
+        + "FETCH FIRST ${limit} ROWS ONLY")
+    @Results(value = {
+        @Result(property = "id", column = "ID"),
+        @Result(property = "taskId", column = "TASK_ID"),
+        @Result(property = "type", column = "TYPE"),
+        @Result(property = "workbasketKey", column = "WORKBASKET_KEY"),
+        @Result(property = "state", column = "STATE"),
+        @Result(property = "owner", column = "OWNER"),
+        @Result(property = "userId", column = "USER_ID"),
+        @Result(property = "created", column = "CREATED")})
+    List<TaskEvent> findEvents(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    @Select("SELECT EVENT_ID FROM TASK_EVENT_OFFSET WHERE CONSUMER_ID = #{consumerId}")
+    Long findOffset(@Param("consumerId") String consumerId);
+
+    @Insert("INSERT INTO TASK_EVENT_OFFSET (CONSUMER_ID, EVENT_ID, MODIFIED) VALUES (#{consumerId}, #{eventId}, #{now})")
+    void insertOffset(@Param("consumerId") String consumerId, @Param("eventId") long eventId,
+        @Param("now") Timestamp now);
+
+    @Update("UPDATE TASK_EVENT_OFFSET SET EVENT_ID = #{eventId}, MODIFIED = #{now} "
+        + "WHERE CONSUMER_ID = #{consumerId} AND EVENT_ID = #{previousEventId}")
+    int updateOffset(@Param("consumerId") String consumerId, @Param("previousEventId") long previousEventId,
+        @Param("eventId") long eventId, @Param("now") Timestamp now);
+
+    @Update("UPDATE TASK_EVENT_OFFSET SET MODIFIED = #{now} "
+        + "WHERE CONSUMER_ID = #{consumerId} AND MODIFIED < #{modifiedBefore}")
+    int refreshOffset(@Param("consumerId") String consumerId, @Param("modifiedBefore") Timestamp modifiedBefore,
+        @Param("now") Timestamp now);
+
+    @Delete("DELETE FROM TASK_EVENT_OFFSET WHERE CONSUMER_ID = #{consumerId}")
+    int deleteOffset(@Param("consumerId") String consumerId);
+
+    @Delete("DELETE FROM TASK_EVENT_OFFSET WHERE MODIFIED < #{modifiedBefore}")
+    int deleteExpiredOffsets(@Param("modifiedBefore") Timestamp modifiedBefore);
+
+    @Delete("DELETE FROM TASK_EVENT WHERE ID <= (SELECT MIN(EVENT_ID) FROM TASK_EVENT_OFFSET)")
+    int deleteConsumedEvents();
+}
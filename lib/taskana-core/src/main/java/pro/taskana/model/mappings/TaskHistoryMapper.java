@@ -0,0 +1,24 @@
+package pro.taskana.model.mappings;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+
+import pro.taskana.model.TaskHistoryEntry;
+
+/**
+ * This class is the mybatis mapping of the task history. The history is read via the QueryMapper.
+ */
+public interface TaskHistoryMapper {
+
+    @Insert("INSERT INTO TASK_HISTORY (TASK_ID, ACTION, USER_ID, WORKBASKET_KEY, CREATED) "
+        + "VALUES (#{taskId}, #{action}, #{userId}, #{workbasketKey}, #{created})")
+    void insert(TaskHistoryEntry entry);
+
+    @Insert("<script>INSERT INTO TASK_HISTORY (TASK_ID, ACTION, USER_ID, WORKBASKET_KEY, CREATED) VALUES "
+        + "<foreach item='item' collection='entries' separator=','>"
+        + "(#{item.taskId}, #{item.action}, #{item.userId}, #{item.workbasketKey}, #{item.created})"
+        + "</foreach></script>")
+    void insertEntries(@Param("entries") List<TaskHistoryEntry> entries);
+}
@@ -1,8 +1,11 @@
 package pro.taskana.model.mappings;
 
 import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
@@ -31,7 +34,7 @@ public interface TaskMapper {
     String CLASSIFICATION_FINDBYKEYANDDOMAIN = "pro.taskana.model.mappings.ClassificationMapper.findByKeyAndDomain";
     String CLASSIFICATION_FINDBYID = "pro.taskana.model.mappings.ClassificationMapper.findById";
 
-    @Select("SELECT ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, DUE, NAME, DESCRIPTION, PRIORITY, STATE, CLASSIFICATION_KEY, WORKBASKET_KEY, DOMAIN, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, OWNER, POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, IS_READ, IS_TRANSFERRED, CUSTOM_ATTRIBUTES, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, CUSTOM_9, CUSTOM_10 "
+    @Select("SELECT ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, DUE, NAME, DESCRIPTION, PRIORITY, STATE, CLASSIFICATION_KEY, WORKBASKET_KEY, DOMAIN, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, OWNER, POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, IS_READ, IS_TRANSFERRED, CUSTOM_ATTRIBUTES, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, CUSTOM_9, CUSTOM_10, VERSION "
         + "FROM TASK "
         + "WHERE ID = #{id}")
     @Results(value = {
@@ -70,7 +73,8 @@ public interface TaskMapper {
         @Result(property = "custom7", column = "CUSTOM_7"),
         @Result(property = "custom8", column = "CUSTOM_8"),
         @Result(property = "custom9", column = "CUSTOM_9"),
-        @Result(property = "custom10", column = "CUSTOM_10")
+        @Result(property = "custom10", column = "CUSTOM_10"),
+        @Result(property = "version", column = "VERSION")
     })
     TaskImpl findById(@Param("id") String id);
 
@@ -80,19 +84,130 @@ public interface TaskMapper {
     List<DueWorkbasketCounter> getTaskCountByWorkbasketIdAndDaysInPastAndState(@Param("fromDate") Date fromDate,
         @Param("status") List<TaskState> states);
 
-    @Insert("INSERT INTO TASK(ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, DUE, NAME, DESCRIPTION, PRIORITY, STATE, CLASSIFICATION_KEY, WORKBASKET_KEY, DOMAIN, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, OWNER, POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, IS_READ, IS_TRANSFERRED, CUSTOM_ATTRIBUTES, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, CUSTOM_9, CUSTOM_10) "
-        + "VALUES(#{id}, #{created}, #{claimed}, #{completed}, #{modified}, #{planned}, #{due}, #{name}, #{description}, #{priority}, #{state}, #{classification.key}, #{workbasketKey}, #{domain}, #{businessProcessId}, #{parentBusinessProcessId}, #{owner}, #{primaryObjRef.company},#{primaryObjRef.system},#{primaryObjRef.systemInstance},#{primaryObjRef.type},#{primaryObjRef.value},  #{isRead}, #{isTransferred}, #{customAttributes,jdbcType=BLOB,javaType=java.util.Map,typeHandler=pro.taskana.impl.persistence.MapTypeHandler}, #{custom1}, #{custom2}, #{custom3}, #{custom4}, #{custom5}, #{custom6}, #{custom7}, #{custom8}, #{custom9}, #{custom10})")
+    @Insert("INSERT INTO TASK(ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, DUE, NAME, DESCRIPTION, PRIORITY, STATE, CLASSIFICATION_KEY, WORKBASKET_KEY, DOMAIN, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, OWNER, POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, IS_READ, IS_TRANSFERRED, CUSTOM_ATTRIBUTES, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, CUSTOM_9, CUSTOM_10, CHANGE_SEQ) "
+        + "VALUES(#{id}, #{created}, #{claimed}, #{completed}, #{modified}, #{planned}, #{due}, #{name}, #{description}, #{priority}, #{state}, #{classification.key}, #{workbasketKey}, #{domain}, #{businessProcessId}, #{parentBusinessProcessId}, #{owner}, #{primaryObjRef.company},#{primaryObjRef.system},#{primaryObjRef.systemInstance},#{primaryObjRef.type},#{primaryObjRef.value},  #{isRead}, #{isTransferred}, #{customAttributes,jdbcType=BLOB,javaType=java.util.Map,typeHandler=pro.taskana.impl.persistence.MapTypeHandler}, #{custom1}, #{custom2}, #{custom3}, #{custom4}, #{custom5}, #{custom6}, #{custom7}, #{custom8}, #{custom9}, #{custom10}, NEXT VALUE FOR TASK_CHANGE_SEQ)")
     @Options(keyProperty = "id", keyColumn = "ID")
     void insert(TaskImpl task);
 
-    @Update("UPDATE TASK SET CLAIMED = #{claimed}, COMPLETED = #{completed}, MODIFIED = #{modified}, PLANNED = #{planned}, DUE = #{due}, NAME = #{name}, DESCRIPTION = #{description}, PRIORITY = #{priority}, STATE = #{state}, CLASSIFICATION_KEY = #{classification.key}, WORKBASKET_KEY = #{workbasketKey}, DOMAIN = #{domain}, BUSINESS_PROCESS_ID = #{businessProcessId}, PARENT_BUSINESS_PROCESS_ID = #{parentBusinessProcessId}, OWNER = #{owner}, POR_COMPANY = #{primaryObjRef.company}, POR_SYSTEM = #{primaryObjRef.system}, POR_INSTANCE = #{primaryObjRef.systemInstance}, POR_TYPE = #{primaryObjRef.type}, POR_VALUE = #{primaryObjRef.value}, IS_READ = #{isRead}, IS_TRANSFERRED = #{isTransferred}, CUSTOM_ATTRIBUTES = #{customAttributes,jdbcType=BLOB,javaType=java.util.Map,typeHandler=pro.taskana.impl.persistence.MapTypeHandler}, CUSTOM_1 = #{custom1}, CUSTOM_2 = #{custom2}, CUSTOM_3 = #{custom3}, CUSTOM_4 = #{custom4}, CUSTOM_5 = #{custom5}, CUSTOM_6 = #{custom6}, CUSTOM_7 = #{custom7}, CUSTOM_8 = #{custom8}, CUSTOM_9 = #{custom9}, CUSTOM_10 = #{custom10} "
-        + "WHERE ID = #{id}")
-    void update(TaskImpl task);
+    @Update("<script>UPDATE TASK <set>VERSION = VERSION + 1, CHANGE_SEQ = NEXT VALUE FOR TASK_CHANGE_SEQ, MODIFIED = #{task.modified}, "
+        + "<if test=\"changes.contains('planned')\">PLANNED = #{task.planned}, </if>"
+        + "<if test=\"changes.contains('due')\">DUE = #{task.due}, </if>"
+        + "<if test=\"changes.contains('name')\">NAME = #{task.name}, </if>"
+        + "<if test=\"changes.contains('description')\">DESCRIPTION = #{task.description}, </if>"
+        + "<if test=\"changes.contains('priority')\">PRIORITY = #{task.priority}, </if>"
+        + "<if test=\"changes.contains('classification')\">CLASSIFICATION_KEY = #{task.classification.key}, </if>"
+        + "<if test=\"changes.contains('domain')\">DOMAIN = #{task.domain}, </if>"
+        + "<if test=\"changes.contains('businessProcessId')\">BUSINESS_PROCESS_ID = #{task.businessProcessId}, </if>"
+        + "<if test=\"changes.contains('parentBusinessProcessId')\">PARENT_BUSINESS_PROCESS_ID = #{task.parentBusinessProcessId}, </if>"
+        + "<if test=\"changes.contains('primaryObjRef')\">POR_COMPANY = #{task.primaryObjRef.company}, POR_SYSTEM = #{task.primaryObjRef.system}, POR_INSTANCE = #{task.primaryObjRef.systemInstance}, POR_TYPE = #{task.primaryObjRef.type}, POR_VALUE = #{task.primaryObjRef.value}, </if>"
+        + "<if test=\"changes.contains('isRead')\">IS_READ = #{task.isRead}, </if>"
+        + "<if test=\"changes.contains('isTransferred')\">IS_TRANSFERRED = #{task.isTransferred}, </if>"
+        + "<if test=\"changes.contains('customAttributes')\">CUSTOM_ATTRIBUTES = #{task.customAttributes,jdbcType=BLOB,javaType=java.util.Map,typeHandler=pro.taskana.impl.persistence.MapTypeHandler}, </if>"
+        + "<if test=\"changes.contains('custom1')\">CUSTOM_1 = #{task.custom1}, </if>"
+        + "<if test=\"changes.contains('custom2')\">CUSTOM_2 = #{task.custom2}, </if>"
+        + "<if test=\"changes.contains('custom3')\">CUSTOM_3 = #{task.custom3}, </if>"
+        + "<if test=\"changes.contains('custom4')\">CUSTOM_4 = #{task.custom4}, </if>"
+        + "<if test=\"changes.contains('custom5')\">CUSTOM_5 = #{task.custom5}, </if>"
+        + "<if test=\"changes.contains('custom6')\">CUSTOM_6 = #{task.custom6}, </if>"
+        + "<if test=\"changes.contains('custom7')\">CUSTOM_7 = #{task.custom7}, </if>"
+        + "<if test=\"changes.contains('custom8')\">CUSTOM_8 = #{task.custom8}, </if>"
+        + "<if test=\"changes.contains('custom9')\">CUSTOM_9 = #{task.custom9}, </if>"
+        + "<if test=\"changes.contains('custom10')\">CUSTOM_10 = #{task.custom10}, </if>"
+        + "</set> WHERE ID = #{task.id} AND VERSION = #{task.version}"
+        + "<if test='task.workbasketKey != null'> AND WORKBASKET_KEY = #{task.workbasketKey}</if></script>")
+    int update(@Param("task") TaskImpl task, @Param("changes") Set<String> changes);
 
     @Delete("DELETE FROM TASK WHERE ID = #{id}")
     void delete(String id);
 
-    @Select("SELECT ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, DUE, NAME, DESCRIPTION, PRIORITY, STATE, CLASSIFICATION_KEY, WORKBASKET_KEY, DOMAIN, OWNER, POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, IS_READ, IS_TRANSFERRED, CUSTOM_ATTRIBUTES, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, CUSTOM_9, CUSTOM_10 "
+    @Insert("<script>INSERT INTO TASK_TOMBSTONE (TASK_ID, WORKBASKET_KEY, STATE, CHANGE_SEQ, CREATED) "
+        + "SELECT ID, <choose><when test='fromWorkbasketKey != null'>#{fromWorkbasketKey}</when><otherwise>WORKBASKET_KEY</otherwise></choose>, "
+        + "<choose><when test='fromState != null'>#{fromState}</when><otherwise>STATE</otherwise></choose>, "
+        + "NEXT VALUE FOR TASK_CHANGE_SEQ, #{now} FROM TASK "
+        + "WHERE ID IN (<foreach item='item' collection='taskIds' separator=','>#{item}</foreach>)"
+        + "</script>")
+    void insertTombstones(@Param("taskIds") List<String> taskIds, @Param("fromState") TaskState fromState,
+        @Param("fromWorkbasketKey") String fromWorkbasketKey, @Param("now") Timestamp now);
+
+    @Delete("DELETE FROM TASK_TOMBSTONE WHERE CREATED < #{createdBefore}")
+    int deleteTombstones(@Param("createdBefore") Timestamp createdBefore);
+
+    @Select("SELECT ID, STATE, OWNER, WORKBASKET_KEY FROM TASK WHERE ID = #{id}")
+    @Results(value = {
+        @Result(property = "id", column = "ID"),
+        @Result(property = "state", column = "STATE"),
+        @Result(property = "owner", column = "OWNER"),
+        @Result(property = "workbasketKey", column = "WORKBASKET_KEY")})
+    TaskImpl findStateById(@Param("id") String id);
+
+    @Select("<script>SELECT ID FROM TASK "
+        + "WHERE STATE = 'READY' AND WORKBASKET_KEY IN (<foreach item='item' collection='workbasketKeys' separator=','>#{item}</foreach>) "
+        + "ORDER BY COALESCE(PRIORITY, 0) DESC, DUE ASC NULLS LAST, ID ASC "
+        + "<choose><when test=\"_databaseId == 'db2'\">FETCH FIRST 1 ROWS ONLY WITH RS USE AND KEEP UPDATE LOCKS SKIP LOCKED DATA</when>"
+        + "<otherwise>FETCH FIRST ${limit} ROWS ONLY</otherwise></choose>"
+        + "</script>")
+    List<String> findClaimCandidates(@Param("workbasketKeys") List<String> workbasketKeys, @Param("limit") int limit);
+
+    @Update("<script>UPDATE TASK SET VERSION = VERSION + 1, CHANGE_SEQ = NEXT VALUE FOR TASK_CHANGE_SEQ, OWNER = #{owner}, CLAIMED = #{now}, MODIFIED = #{now}, IS_READ = TRUE, STATE = 'CLAIMED' "
+        + "WHERE ID = #{id} AND STATE = #{state}"
+        + "</script>")
+    int claim(@Param("id") String id, @Param("owner") String owner, @Param("now") Timestamp now,
+        @Param("state") TaskState state);
+
+    @Update("<script>UPDATE TASK SET VERSION = VERSION + 1, CHANGE_SEQ = NEXT VALUE FOR TASK_CHANGE_SEQ, COMPLETED = #{now}, MODIFIED = #{now}, STATE = 'COMPLETED' "
+        + "<if test='isForced'>, OWNER = CASE WHEN STATE = 'CLAIMED' THEN OWNER ELSE #{owner} END, "
+        + "CLAIMED = CASE WHEN STATE = 'CLAIMED' THEN CLAIMED ELSE #{now} END, "
+        + "IS_READ = CASE WHEN STATE = 'CLAIMED' THEN IS_READ ELSE TRUE END </if>"
+        + "WHERE ID = #{id} AND STATE = #{state}"
+        + "<if test='!isForced'> AND <choose><when test='owner == null'>OWNER IS NULL</when><otherwise>OWNER = #{owner}</otherwise></choose></if>"
+        + "</script>")
+    int complete(@Param("id") String id, @Param("owner") String owner, @Param("now") Timestamp now,
+        @Param("state") TaskState state, @Param("isForced") boolean isForced);
+
+    @Update("UPDATE TASK SET VERSION = VERSION + 1, CHANGE_SEQ = NEXT VALUE FOR TASK_CHANGE_SEQ, WORKBASKET_KEY = #{destinationWorkbasketKey}, DOMAIN = #{domain}, IS_READ = FALSE, IS_TRANSFERRED = TRUE, MODIFIED = #{now} "
+        + "WHERE ID = #{id} AND WORKBASKET_KEY = #{sourceWorkbasketKey}")
+    int transfer(@Param("id") String id, @Param("sourceWorkbasketKey") String sourceWorkbasketKey,
+        @Param("destinationWorkbasketKey") String destinationWorkbasketKey, @Param("domain") String domain,
+        @Param("now") Timestamp now);
+
+    @Select("<script>SELECT ID, STATE, OWNER, WORKBASKET_KEY FROM TASK "
+        + "WHERE ID IN (<foreach item='item' collection='ids' separator=','>#{item}</foreach>)"
+        + "</script>")
+    @Results(value = {
+        @Result(property = "id", column = "ID"),
+        @Result(property = "state", column = "STATE"),
+        @Result(property = "owner", column = "OWNER"),
+        @Result(property = "workbasketKey", column = "WORKBASKET_KEY")})
+    List<TaskImpl> findStatesByIds(@Param("ids") List<String> ids);
+
+    @Update("<script>UPDATE TASK SET VERSION = VERSION + 1, CHANGE_SEQ = NEXT VALUE FOR TASK_CHANGE_SEQ, OWNER = #{owner}, CLAIMED = #{now}, MODIFIED = #{now}, IS_READ = TRUE, STATE = 'CLAIMED' "
+        + "WHERE ID IN (<foreach item='item' collection='ids' separator=','>#{item}</foreach>) AND STATE = 'READY' "
+        + "AND WORKBASKET_KEY IN (<foreach item='item' collection='workbasketKeys' separator=','>#{item}</foreach>)"
+        + "</script>")
+    int claimAll(@Param("ids") List<String> ids, @Param("workbasketKeys") Collection<String> workbasketKeys,
+        @Param("owner") String owner, @Param("now") Timestamp now);
+
+    @Update("<script>UPDATE TASK SET VERSION = VERSION + 1, CHANGE_SEQ = NEXT VALUE FOR TASK_CHANGE_SEQ, COMPLETED = #{now}, MODIFIED = #{now}, STATE = 'COMPLETED' "
+        + "WHERE ID IN (<foreach item='item' collection='ids' separator=','>#{item}</foreach>) AND STATE = 'CLAIMED' "
+        + "AND <choose><when test='owner == null'>OWNER IS NULL</when><otherwise>OWNER = #{owner}</otherwise></choose> "
+        + "AND WORKBASKET_KEY IN (<foreach item='item' collection='workbasketKeys' separator=','>#{item}</foreach>)"
+        + "</script>")
+    int completeAll(@Param("ids") List<String> ids, @Param("workbasketKeys") Collection<String> workbasketKeys,
+        @Param("owner") String owner, @Param("now") Timestamp now);
+
+    @Update("<script>UPDATE TASK SET VERSION = VERSION + 1, CHANGE_SEQ = NEXT VALUE FOR TASK_CHANGE_SEQ, WORKBASKET_KEY = #{destinationWorkbasketKey}, DOMAIN = #{domain}, IS_READ = FALSE, IS_TRANSFERRED = TRUE, MODIFIED = #{now} "
+        + "WHERE ID IN (<foreach item='item' collection='ids' separator=','>#{item}</foreach>) "
+        + "AND WORKBASKET_KEY IN (<foreach item='item' collection='sourceWorkbasketKeys' separator=','>#{item}</foreach>)"
+        + "</script>")
+    int transferAll(@Param("ids") List<String> ids,
+        @Param("sourceWorkbasketKeys") Collection<String> sourceWorkbasketKeys,
+        @Param("destinationWorkbasketKey") String destinationWorkbasketKey, @Param("domain") String domain,
+        @Param("now") Timestamp now);
+
+    @Update("UPDATE TASK SET VERSION = VERSION + 1, CHANGE_SEQ = NEXT VALUE FOR TASK_CHANGE_SEQ, IS_READ = #{isRead}, MODIFIED = #{now} WHERE ID = #{id}")
+    int setRead(@Param("id") String id, @Param("isRead") boolean isRead, @Param("now") Timestamp now);
+
+    @Select("SELECT ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, DUE, NAME, DESCRIPTION, PRIORITY, STATE, CLASSIFICATION_KEY, WORKBASKET_KEY, DOMAIN, OWNER, POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, IS_READ, IS_TRANSFERRED, CUSTOM_ATTRIBUTES, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, CUSTOM_9, CUSTOM_10, VERSION "
         + "FROM TASK "
         + "WHERE WORKBASKET_KEY = #{workbasketKey} "
         + "AND STATE = #{taskState}")
@@ -131,7 +246,8 @@ public interface TaskMapper {
         @Result(property = "custom7", column = "CUSTOM_7"),
         @Result(property = "custom8", column = "CUSTOM_8"),
         @Result(property = "custom9", column = "CUSTOM_9"),
-        @Result(property = "custom10", column = "CUSTOM_10")})
+        @Result(property = "custom10", column = "CUSTOM_10"),
+        @Result(property = "version", column = "VERSION")})
     List<TaskImpl> findTasksByWorkbasketIdAndState(@Param("workbasketKey") String workbasketKey,
         @Param("taskState") TaskState taskState);
 
@@ -1,6 +1,7 @@
 package pro.taskana.model.mappings;
 
 import java.sql.Date;
+import java.sql.Timestamp;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Param;
@@ -9,44 +10,109 @@ import org.apache.ibatis.annotations.Results;
 import org.apache.ibatis.annotations.Select;
 
 import pro.taskana.model.DueWorkbasketCounter;
+import pro.taskana.model.TaskAgingCounter;
+import pro.taskana.model.TaskAgingReportGrouping;
 import pro.taskana.model.TaskState;
 import pro.taskana.model.TaskStateCounter;
 
 /**
- * This class is the mybatis mapping of task monitoring.
+ * This class is the mybatis mapping of task monitoring. The counts are read from the TASK_COUNTER table, which holds
+ * one row per workbasket, state and due date, so the statements do not depend on the number of tasks. Only the aging
+ * report, which groups by the classification and organization levels as well, reads the TASK table.
  */
 public interface TaskMonitorMapper {
 
     @Select("<script>"
-        + "SELECT STATE, COUNT (STATE) as counter "
-        + "FROM TASK "
+        + "SELECT STATE, SUM(COUNTER) as counter "
+        + "FROM TASK_COUNTER "
         + "WHERE STATE IN (<foreach collection='status' item='state' separator=','>#{state}</foreach>) "
-        + "GROUP BY STATE"
+        + "GROUP BY STATE "
+        + "HAVING SUM(COUNTER) > 0"
         + "</script>")
     @Results({ @Result(column = "STATE", property = "state"), @Result(column = "counter", property = "counter") })
     List<TaskStateCounter> getTaskCountForState(@Param("status") List<TaskState> status);
 
     @Select("<script>"
-        + "SELECT COUNT (*) "
-        + "FROM TASK "
-        + "WHERE WORKBASKETID = #{workbasketId} "
-        + "AND DUE >= #{fromDate} "
+        + "SELECT COALESCE(SUM(COUNTER), 0) "
+        + "FROM TASK_COUNTER "
+        + "WHERE WORKBASKET_KEY = #{workbasketId} "
+        + "AND DUE_DATE >= #{fromDate} "
         + "AND STATE IN (<foreach collection='status' item='state' separator=','>#{state}</foreach>)"
         + "</script>")
     long getTaskCountForWorkbasketByDaysInPastAndState(@Param("workbasketId") String workbasketId,
         @Param("fromDate") Date fromDate, @Param("status") List<TaskState> states);
 
     @Select("<script>"
-        + "SELECT CAST(DUE AS DATE) as DUE_DATE, WORKBASKETID, COUNT (*) as counter "
-        + "FROM TASK "
-        + "WHERE DUE >= #{fromDate} "
+        + "SELECT DUE_DATE, WORKBASKET_KEY, SUM(COUNTER) as counter "
+        + "FROM TASK_COUNTER "
+        + "WHERE DUE_DATE >= #{fromDate} "
         + "AND STATE IN (<foreach collection='status' item='state' separator=','>#{state}</foreach>) "
-        + "GROUP BY DUE_DATE, WORKBASKETID"
+        + "GROUP BY DUE_DATE, WORKBASKET_KEY "
+        + "HAVING SUM(COUNTER) > 0"
         + "</script>")
     @Results({ @Result(column = "DUE_DATE", property = "due"),
-        @Result(column = "WORKBASKETID", property = "workbasketId"),
+        @Result(column = "WORKBASKET_KEY", property = "workbasketId"),
         @Result(column = "counter", property = "taskCounter") })
     List<DueWorkbasketCounter> getTaskCountByWorkbasketIdAndDaysInPastAndState(@Param("fromDate") Date fromDate,
         @Param("status") List<TaskState> states);
 
+    @Select("<script>"
+        + "SELECT W.KEY AS WORKBASKET_KEY, W.NAME AS WORKBASKET_NAME, C.DUE_DATE, SUM(C.COUNTER) as counter "
+        + "FROM WORKBASKET W LEFT JOIN TASK_COUNTER C ON C.WORKBASKET_KEY = W.KEY "
+        + "AND C.DUE_DATE BETWEEN #{fromDate} AND #{toDate} "
+        + "AND C.STATE IN (<foreach collection='status' item='state' separator=','>#{state}</foreach>) "
+        + "GROUP BY W.KEY, W.NAME, C.DUE_DATE "
+        + "ORDER BY W.NAME, W.KEY"
+        + "</script>")
+    @Results({ @Result(column = "DUE_DATE", property = "due"),
+        @Result(column = "WORKBASKET_KEY", property = "workbasketId"),
+        @Result(column = "WORKBASKET_NAME", property = "workbasketName"),
+        @Result(column = "counter", property = "taskCounter") })
+    List<DueWorkbasketCounter> getTaskCountPerWorkbasketAndDueDate(@Param("fromDate") Date fromDate,
+        @Param("toDate") Date toDate, @Param("status") List<TaskState> states);
+
+    /**
+     * Counts the tasks per group and bucket in one pass over the tasks in the given states. The bucket of a task is the
+     * index of the first limit its due date lies before, or the number of limits if it is due after all of them. Tasks
+     * without a due date are not counted.
+     */
+    @Select("<script>"
+        + "SELECT GROUP_KEY, CATEGORY, BUCKET, COUNT(*) as counter FROM ("
+        + "SELECT <choose>"
+        + "<when test=\"grouping.name().startsWith('ORG_LEVEL_')\">W.${grouping}</when>"
+        + "<otherwise>T.WORKBASKET_KEY</otherwise>"
+        + "</choose> AS GROUP_KEY, "
+        + "<choose>"
+        + "<when test=\"grouping.name() == 'WORKBASKET_AND_CLASSIFICATION_CATEGORY'\">"
+        + "COALESCE(C.CATEGORY, RC.CATEGORY)"
+        + "</when>"
+        + "<otherwise>CAST(NULL AS VARCHAR(32))</otherwise>"
+        + "</choose> AS CATEGORY, "
+        + "CASE <foreach collection='limits' item='limit' index='bucket'>"
+        + "WHEN T.DUE &lt; #{limit} THEN ${bucket} "
+        + "</foreach>"
+        + "ELSE ${limits.size()} END AS BUCKET "
+        + "FROM TASK T "
+        + "<if test=\"grouping.name().startsWith('ORG_LEVEL_')\">"
+        + "JOIN WORKBASKET W ON W.KEY = T.WORKBASKET_KEY "
+        + "</if>"
+        + "<if test=\"grouping.name() == 'WORKBASKET_AND_CLASSIFICATION_CATEGORY'\">"
+        + "LEFT JOIN CLASSIFICATION C ON C.KEY = T.CLASSIFICATION_KEY AND C.DOMAIN = T.DOMAIN "
+        + "AND C.VALID_UNTIL = '9999-12-31' "
+        + "LEFT JOIN CLASSIFICATION RC ON RC.KEY = T.CLASSIFICATION_KEY AND RC.DOMAIN = '' "
+        + "AND RC.VALID_UNTIL = '9999-12-31' "
+        + "</if>"
+        + "WHERE T.STATE IN (<foreach collection='status' item='state' separator=','>#{state}</foreach>) "
+        + "AND T.DUE IS NOT NULL"
+        + ") B "
+        + "GROUP BY GROUP_KEY, CATEGORY, BUCKET "
+        + "ORDER BY GROUP_KEY, CATEGORY, BUCKET"
+        + "</script>")
+    @Results({ @Result(column = "GROUP_KEY", property = "groupKey"),
+        @Result(column = "CATEGORY", property = "classificationCategory"),
+        @Result(column = "BUCKET", property = "bucket"),
+        @Result(column = "counter", property = "counter") })
+    List<TaskAgingCounter> getTaskAgingCounters(@Param("limits") List<Timestamp> limits,
+        @Param("grouping") TaskAgingReportGrouping grouping, @Param("status") List<TaskState> states);
+
 }
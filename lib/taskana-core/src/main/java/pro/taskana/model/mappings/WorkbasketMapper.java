@@ -1,6 +1,7 @@
 package pro.taskana.model.mappings;
 
 import java.util.List;
+import java.util.Set;
 
 import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
@@ -21,7 +22,7 @@ import pro.taskana.model.WorkbasketAuthorization;
  */
 public interface WorkbasketMapper {
 
-    @Select("SELECT ID, KEY, CREATED, MODIFIED, NAME, DOMAIN, TYPE, DESCRIPTION, OWNER, CUSTOM_1 ,CUSTOM_2 ,CUSTOM_3 ,CUSTOM_4 ,ORG_LEVEL_1 ,ORG_LEVEL_2 ,ORG_LEVEL_3 ,ORG_LEVEL_4 FROM WORKBASKET WHERE ID = #{id}")
+    @Select("SELECT ID, KEY, CREATED, MODIFIED, NAME, DOMAIN, TYPE, DESCRIPTION, OWNER, CUSTOM_1 ,CUSTOM_2 ,CUSTOM_3 ,CUSTOM_4 ,ORG_LEVEL_1 ,ORG_LEVEL_2 ,ORG_LEVEL_3 ,ORG_LEVEL_4, VERSION FROM WORKBASKET WHERE ID = #{id}")
     @Results(value = { @Result(property = "id", column = "ID"),
         @Result(property = "key", column = "KEY"),
         @Result(property = "created", column = "CREATED"),
@@ -42,10 +43,11 @@ public interface WorkbasketMapper {
         @Result(property = "custom7", column = "CUSTOM_7"),
         @Result(property = "custom8", column = "CUSTOM_8"),
         @Result(property = "custom9", column = "CUSTOM_9"),
-        @Result(property = "custom10", column = "CUSTOM_10") })
+        @Result(property = "custom10", column = "CUSTOM_10"),
+        @Result(property = "version", column = "VERSION") })
     WorkbasketImpl findById(@Param("id") String id);
 
-    @Select("SELECT ID, KEY, CREATED, MODIFIED, NAME, DOMAIN, TYPE, DESCRIPTION, OWNER, CUSTOM_1 ,CUSTOM_2 ,CUSTOM_3 ,CUSTOM_4 ,ORG_LEVEL_1 ,ORG_LEVEL_2 ,ORG_LEVEL_3 ,ORG_LEVEL_4 FROM WORKBASKET WHERE KEY = #{key}")
+    @Select("SELECT ID, KEY, CREATED, MODIFIED, NAME, DOMAIN, TYPE, DESCRIPTION, OWNER, CUSTOM_1 ,CUSTOM_2 ,CUSTOM_3 ,CUSTOM_4 ,ORG_LEVEL_1 ,ORG_LEVEL_2 ,ORG_LEVEL_3 ,ORG_LEVEL_4, VERSION FROM WORKBASKET WHERE KEY = #{key}")
     @Results(value = { @Result(property = "id", column = "ID"),
         @Result(property = "key", column = "KEY"),
         @Result(property = "created", column = "CREATED"),
@@ -66,7 +68,8 @@ public interface WorkbasketMapper {
         @Result(property = "custom7", column = "CUSTOM_7"),
         @Result(property = "custom8", column = "CUSTOM_8"),
         @Result(property = "custom9", column = "CUSTOM_9"),
-        @Result(property = "custom10", column = "CUSTOM_10") })
+        @Result(property = "custom10", column = "CUSTOM_10"),
+        @Result(property = "version", column = "VERSION") })
     WorkbasketImpl findByKey(@Param("key") String key);
 
     @Select("SELECT * FROM WORKBASKET WHERE id IN (SELECT TARGET_ID FROM DISTRIBUTION_TARGETS WHERE SOURCE_ID = #{id})")
@@ -91,7 +94,8 @@ public interface WorkbasketMapper {
         @Result(property = "custom7", column = "CUSTOM_7"),
         @Result(property = "custom8", column = "CUSTOM_8"),
         @Result(property = "custom9", column = "CUSTOM_9"),
-        @Result(property = "custom10", column = "CUSTOM_10") })
+        @Result(property = "custom10", column = "CUSTOM_10"),
+        @Result(property = "version", column = "VERSION") })
     List<WorkbasketImpl> findByDistributionTargets(@Param("id") String id);
 
     @Select("SELECT * FROM WORKBASKET ORDER BY id")
@@ -116,10 +120,11 @@ public interface WorkbasketMapper {
         @Result(property = "custom7", column = "CUSTOM_7"),
         @Result(property = "custom8", column = "CUSTOM_8"),
         @Result(property = "custom9", column = "CUSTOM_9"),
-        @Result(property = "custom10", column = "CUSTOM_10") })
+        @Result(property = "custom10", column = "CUSTOM_10"),
+        @Result(property = "version", column = "VERSION") })
     List<WorkbasketImpl> findAll();
 
-    @Select("<script>SELECT W.ID, W.KEY, W.CREATED, W.MODIFIED, W.NAME, W.DESCRIPTION, W.OWNER FROM WORKBASKET AS W "
+    @Select("<script>SELECT W.ID, W.KEY, W.CREATED, W.MODIFIED, W.NAME, W.DESCRIPTION, W.OWNER, W.VERSION FROM WORKBASKET AS W "
         + "INNER JOIN WORKBASKET_ACCESS_LIST AS ACL "
         + "ON (W.KEY = ACL.WORKBASKET_KEY AND ACL.ACCESS_ID = #{accessId}) "
         + "WHERE <foreach collection='authorizations' item='authorization' separator=' AND '>"
@@ -158,7 +163,8 @@ public interface WorkbasketMapper {
         @Result(property = "custom7", column = "CUSTOM_7"),
         @Result(property = "custom8", column = "CUSTOM_8"),
         @Result(property = "custom9", column = "CUSTOM_9"),
-        @Result(property = "custom10", column = "CUSTOM_10") })
+        @Result(property = "custom10", column = "CUSTOM_10"),
+        @Result(property = "version", column = "VERSION") })
     List<WorkbasketImpl> findByPermission(@Param("authorizations") List<WorkbasketAuthorization> authorizations,
         @Param("accessId") String accessId);
 
@@ -166,8 +172,23 @@ public interface WorkbasketMapper {
     @Options(keyProperty = "id", keyColumn = "ID")
     void insert(@Param("workbasket") WorkbasketImpl workbasket);
 
-    @Update("UPDATE WORKBASKET SET MODIFIED = #{workbasket.modified}, KEY = #{workbasket.key}, NAME = #{workbasket.name}, DOMAIN = #{workbasket.domain}, TYPE = #{workbasket.type}, DESCRIPTION = #{workbasket.description}, OWNER = #{workbasket.owner}, CUSTOM_1 = #{workbasket.custom1}, CUSTOM_2 = #{workbasket.custom2}, CUSTOM_3 = #{workbasket.custom3}, CUSTOM_4 = #{workbasket.custom4}, ORG_LEVEL_1 = #{workbasket.orgLevel1}, ORG_LEVEL_2 = #{workbasket.orgLevel2}, ORG_LEVEL_3 = #{workbasket.orgLevel3}, ORG_LEVEL_4 = #{workbasket.orgLevel4}  WHERE id = #{workbasket.id}")
-    void update(@Param("workbasket") WorkbasketImpl workbasket);
+    @Update("<script>UPDATE WORKBASKET <set>VERSION = VERSION + 1, MODIFIED = #{workbasket.modified}, "
+        + "<if test=\"changes.contains('key')\">KEY = #{workbasket.key}, </if>"
+        + "<if test=\"changes.contains('name')\">NAME = #{workbasket.name}, </if>"
+        + "<if test=\"changes.contains('domain')\">DOMAIN = #{workbasket.domain}, </if>"
+        + "<if test=\"changes.contains('type')\">TYPE = #{workbasket.type}, </if>"
+        + "<if test=\"changes.contains('description')\">DESCRIPTION = #{workbasket.description}, </if>"
+        + "<if test=\"changes.contains('owner')\">OWNER = #{workbasket.owner}, </if>"
+        + "<if test=\"changes.contains('custom1')\">CUSTOM_1 = #{workbasket.custom1}, </if>"
+        + "<if test=\"changes.contains('custom2')\">CUSTOM_2 = #{workbasket.custom2}, </if>"
+        + "<if test=\"changes.contains('custom3')\">CUSTOM_3 = #{workbasket.custom3}, </if>"
+        + "<if test=\"changes.contains('custom4')\">CUSTOM_4 = #{workbasket.custom4}, </if>"
+        + "<if test=\"changes.contains('orgLevel1')\">ORG_LEVEL_1 = #{workbasket.orgLevel1}, </if>"
+        + "<if test=\"changes.contains('orgLevel2')\">ORG_LEVEL_2 = #{workbasket.orgLevel2}, </if>"
+        + "<if test=\"changes.contains('orgLevel3')\">ORG_LEVEL_3 = #{workbasket.orgLevel3}, </if>"
+        + "<if test=\"changes.contains('orgLevel4')\">ORG_LEVEL_4 = #{workbasket.orgLevel4}, </if>"
+        + "</set> WHERE ID = #{workbasket.id} AND VERSION = #{workbasket.version}</script>")
+    int update(@Param("workbasket") WorkbasketImpl workbasket, @Param("changes") Set<String> changes);
 
     @Delete("DELETE FROM WORKBASKET where id = #{id}")
     void delete(@Param("id") String id);
@@ -0,0 +1,9 @@
+CREATE INDEX IDX_TASK_WORKBASKET_STATE ON TASK(WORKBASKET_KEY, STATE) ALLOW REVERSE SCANS;
+CREATE INDEX IDX_TASK_STATE ON TASK(STATE) ALLOW REVERSE SCANS;
+CREATE INDEX IDX_TASK_OWNER ON TASK(OWNER) ALLOW REVERSE SCANS;
+CREATE INDEX IDX_TASK_DUE ON TASK(DUE) ALLOW REVERSE SCANS;
+CREATE INDEX IDX_TASK_BUSINESS_PROCESS ON TASK(BUSINESS_PROCESS_ID) ALLOW REVERSE SCANS;
+CREATE INDEX IDX_ATTACHMENT_TASK ON ATTACHMENT(TASK_ID) ALLOW REVERSE SCANS;
+CREATE INDEX IDX_WORKBASKET_KEY ON WORKBASKET(KEY) ALLOW REVERSE SCANS;
+CREATE INDEX IDX_ACCESS_LIST_WORKBASKET ON WORKBASKET_ACCESS_LIST(WORKBASKET_KEY, ACCESS_ID) ALLOW REVERSE SCANS;
+CREATE INDEX IDX_CLASSIFICATION_KEY ON CLASSIFICATION(KEY, DOMAIN, VALID_UNTIL) ALLOW REVERSE SCANS;
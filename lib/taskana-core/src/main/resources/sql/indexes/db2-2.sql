@@ -0,0 +1 @@
+CREATE INDEX IDX_TASK_CHANGE_SEQ ON TASK(CHANGE_SEQ) ALLOW REVERSE SCANS;
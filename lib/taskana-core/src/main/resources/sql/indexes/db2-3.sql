@@ -0,0 +1 @@
+CREATE INDEX IDX_TASK_HISTORY_TASK ON TASK_HISTORY(TASK_ID, ID) ALLOW REVERSE SCANS;
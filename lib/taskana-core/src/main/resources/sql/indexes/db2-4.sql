@@ -0,0 +1,2 @@
+CREATE INDEX IDX_TASK_ARCHIVE_WORKBASKET_STATE ON TASK_ARCHIVE(WORKBASKET_KEY, STATE) ALLOW REVERSE SCANS;
+CREATE INDEX IDX_ATTACHMENT_ARCHIVE_TASK ON ATTACHMENT_ARCHIVE(TASK_ID) ALLOW REVERSE SCANS;
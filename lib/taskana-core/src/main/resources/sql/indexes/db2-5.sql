@@ -0,0 +1 @@
+CREATE INDEX IDX_TASK_TOMBSTONE_CHANGE_SEQ ON TASK_TOMBSTONE(CHANGE_SEQ) ALLOW REVERSE SCANS;
@@ -0,0 +1,9 @@
+CREATE INDEX IF NOT EXISTS IDX_TASK_WORKBASKET_STATE ON TASK(WORKBASKET_KEY, STATE);
+CREATE INDEX IF NOT EXISTS IDX_TASK_STATE ON TASK(STATE);
+CREATE INDEX IF NOT EXISTS IDX_TASK_OWNER ON TASK(OWNER);
+CREATE INDEX IF NOT EXISTS IDX_TASK_DUE ON TASK(DUE);
+CREATE INDEX IF NOT EXISTS IDX_TASK_BUSINESS_PROCESS ON TASK(BUSINESS_PROCESS_ID);
+CREATE INDEX IF NOT EXISTS IDX_ATTACHMENT_TASK ON ATTACHMENT(TASK_ID);
+CREATE INDEX IF NOT EXISTS IDX_WORKBASKET_KEY ON WORKBASKET(KEY);
+CREATE INDEX IF NOT EXISTS IDX_ACCESS_LIST_WORKBASKET ON WORKBASKET_ACCESS_LIST(WORKBASKET_KEY, ACCESS_ID);
+CREATE INDEX IF NOT EXISTS IDX_CLASSIFICATION_KEY ON CLASSIFICATION(KEY, DOMAIN, VALID_UNTIL);
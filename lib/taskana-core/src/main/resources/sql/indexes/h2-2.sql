@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS IDX_TASK_CHANGE_SEQ ON TASK(CHANGE_SEQ);
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS IDX_TASK_HISTORY_TASK ON TASK_HISTORY(TASK_ID, ID);
@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS IDX_TASK_ARCHIVE_WORKBASKET_STATE ON TASK_ARCHIVE(WORKBASKET_KEY, STATE);
+CREATE INDEX IF NOT EXISTS IDX_ATTACHMENT_ARCHIVE_TASK ON ATTACHMENT_ARCHIVE(TASK_ID);
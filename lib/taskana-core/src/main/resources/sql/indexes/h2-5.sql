@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS IDX_TASK_TOMBSTONE_CHANGE_SEQ ON TASK_TOMBSTONE(CHANGE_SEQ);
@@ -0,0 +1,3 @@
+ALTER TABLE TASK ADD COLUMN VERSION INT NOT NULL DEFAULT 0;
+ALTER TABLE WORKBASKET ADD COLUMN VERSION INT NOT NULL DEFAULT 0;
+ALTER TABLE CLASSIFICATION ADD COLUMN VERSION INT NOT NULL DEFAULT 0;
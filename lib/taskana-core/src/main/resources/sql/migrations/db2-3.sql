@@ -0,0 +1,2 @@
+ALTER TABLE TASK ADD COLUMN CHANGE_SEQ BIGINT NOT NULL DEFAULT 0;
+CREATE SEQUENCE TASK_CHANGE_SEQ START WITH 1;
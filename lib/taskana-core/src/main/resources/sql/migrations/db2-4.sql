@@ -0,0 +1,9 @@
+CREATE TABLE TASK_HISTORY(
+    ID BIGINT NOT NULL GENERATED BY DEFAULT AS IDENTITY,
+    TASK_ID CHAR(40) NOT NULL,
+    ACTION VARCHAR(32) NOT NULL,
+    USER_ID VARCHAR(255) NULL,
+    WORKBASKET_KEY VARCHAR(32) NULL,
+    CREATED TIMESTAMP NOT NULL,
+    PRIMARY KEY (ID)
+);
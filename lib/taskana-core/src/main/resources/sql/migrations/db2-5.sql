@@ -0,0 +1,57 @@
+CREATE TABLE TASK_ARCHIVE (
+	ID CHAR(40) NOT NULL,
+	CREATED TIMESTAMP NULL,
+	CLAIMED TIMESTAMP NULL,
+	COMPLETED TIMESTAMP NULL,
+	MODIFIED TIMESTAMP NULL,
+	PLANNED TIMESTAMP NULL,
+	DUE TIMESTAMP NULL,
+	NAME VARCHAR(1024) NULL,
+	DESCRIPTION VARCHAR(4096) NULL,
+	PRIORITY INT NULL,
+	STATE VARCHAR(20) NULL,
+	CLASSIFICATION_KEY VARCHAR(32) NULL,
+	WORKBASKET_KEY VARCHAR(32) NULL,
+	DOMAIN VARCHAR(32) NULL,
+	BUSINESS_PROCESS_ID VARCHAR(128) NULL,
+    PARENT_BUSINESS_PROCESS_ID VARCHAR(128) NULL,
+	OWNER VARCHAR(255) NULL,
+	POR_COMPANY VARCHAR(32) NOT NULL,
+    POR_SYSTEM VARCHAR(32) NOT NULL,
+    POR_INSTANCE VARCHAR(32) NOT NULL,
+    POR_TYPE VARCHAR(32) NOT NULL,
+    POR_VALUE VARCHAR(128) NOT NULL,
+	IS_READ BOOLEAN NOT NULL,
+	IS_TRANSFERRED BOOLEAN NOT NULL,
+	CUSTOM_ATTRIBUTES BLOB NULL,
+	CUSTOM_1 VARCHAR(255) NULL,
+	CUSTOM_2 VARCHAR(255) NULL,
+	CUSTOM_3 VARCHAR(255) NULL,
+	CUSTOM_4 VARCHAR(255) NULL,
+	CUSTOM_5 VARCHAR(255) NULL,
+	CUSTOM_6 VARCHAR(255) NULL,
+	CUSTOM_7 VARCHAR(255) NULL,
+	CUSTOM_8 VARCHAR(255) NULL,
+	CUSTOM_9 VARCHAR(255) NULL,
+	CUSTOM_10 VARCHAR(255) NULL,
+	VERSION INT NOT NULL DEFAULT 0,
+	CHANGE_SEQ BIGINT NOT NULL DEFAULT 0,
+	PRIMARY KEY (ID)
+);
+
+CREATE TABLE ATTACHMENT_ARCHIVE(
+    ID CHAR(40) NOT NULL,
+    TASK_ID CHAR(40) NOT NULL,
+    CREATED TIMESTAMP NULL,
+    MODIFIED TIMESTAMP NULL,
+    CLASSIFICATION_KEY VARCHAR(32) NULL,
+    REF_COMPANY VARCHAR(32) NOT NULL,
+    REF_SYSTEM VARCHAR(32) NOT NULL,
+    REF_INSTANCE VARCHAR(32) NOT NULL,
+    REF_TYPE VARCHAR(32) NOT NULL,
+    REF_VALUE VARCHAR(128) NOT NULL,
+    CHANNEL VARCHAR(64) NULL,
+    RECEIVED TIMESTAMP NULL,
+    CUSTOM_ATTRIBUTES BLOB NULL,
+    PRIMARY KEY (ID)
+);
@@ -0,0 +1,3 @@
+ALTER TABLE TASK ADD COLUMN IF NOT EXISTS VERSION INT NOT NULL DEFAULT 0;
+ALTER TABLE WORKBASKET ADD COLUMN IF NOT EXISTS VERSION INT NOT NULL DEFAULT 0;
+ALTER TABLE CLASSIFICATION ADD COLUMN IF NOT EXISTS VERSION INT NOT NULL DEFAULT 0;
@@ -0,0 +1,18 @@
+CREATE TABLE IF NOT EXISTS TASK_EVENT(
+    ID BIGINT NOT NULL GENERATED BY DEFAULT AS IDENTITY,
+    TASK_ID CHAR(40) NOT NULL,
+    TYPE VARCHAR(32) NOT NULL,
+    WORKBASKET_KEY VARCHAR(32) NULL,
+    STATE VARCHAR(20) NULL,
+    OWNER VARCHAR(255) NULL,
+    USER_ID VARCHAR(255) NULL,
+    CREATED TIMESTAMP NOT NULL,
+    PRIMARY KEY (ID)
+);
+
+CREATE TABLE IF NOT EXISTS TASK_EVENT_OFFSET(
+    CONSUMER_ID VARCHAR(255) NOT NULL,
+    EVENT_ID BIGINT NOT NULL,
+    MODIFIED TIMESTAMP NOT NULL,
+    PRIMARY KEY (CONSUMER_ID)
+);
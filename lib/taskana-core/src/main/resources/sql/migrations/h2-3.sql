@@ -0,0 +1,2 @@
+ALTER TABLE TASK ADD COLUMN IF NOT EXISTS CHANGE_SEQ BIGINT NOT NULL DEFAULT 0;
+CREATE SEQUENCE IF NOT EXISTS TASK_CHANGE_SEQ START WITH 1;
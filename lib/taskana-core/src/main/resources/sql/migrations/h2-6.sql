@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS TASK_COUNTER(
+    WORKBASKET_KEY VARCHAR(32) NOT NULL,
+    STATE VARCHAR(20) NOT NULL,
+    DUE_DATE DATE NOT NULL,
+    COUNTER BIGINT NOT NULL,
+    PRIMARY KEY (WORKBASKET_KEY, STATE, DUE_DATE)
+);
+
+-- count the existing tasks, like TaskanaEngine.reconcileTaskCounters()
+DELETE FROM TASK_COUNTER;
+INSERT INTO TASK_COUNTER (WORKBASKET_KEY, STATE, DUE_DATE, COUNTER)
+    SELECT WORKBASKET_KEY, STATE, COALESCE(CAST(DUE AS DATE), DATE '0001-01-01'), COUNT(*) FROM TASK
+    GROUP BY WORKBASKET_KEY, STATE, COALESCE(CAST(DUE AS DATE), DATE '0001-01-01');
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS TASK_TOMBSTONE(
+    ID BIGINT NOT NULL GENERATED BY DEFAULT AS IDENTITY,
+    TASK_ID CHAR(40) NOT NULL,
+    WORKBASKET_KEY VARCHAR(32) NOT NULL,
+    STATE VARCHAR(20) NOT NULL,
+    CHANGE_SEQ BIGINT NOT NULL,
+    CREATED TIMESTAMP NOT NULL,
+    PRIMARY KEY (ID)
+);
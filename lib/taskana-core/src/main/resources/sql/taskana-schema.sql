@@ -41,9 +41,13 @@ CREATE TABLE TASK (
 	CUSTOM_8 VARCHAR(255) NULL,
 	CUSTOM_9 VARCHAR(255) NULL,
 	CUSTOM_10 VARCHAR(255) NULL,
+	VERSION INT NOT NULL DEFAULT 0,
+	CHANGE_SEQ BIGINT NOT NULL DEFAULT 0,
 	PRIMARY KEY (ID)
 );
 
+CREATE SEQUENCE TASK_CHANGE_SEQ START WITH 1;
+
 CREATE TABLE WORKBASKET(
 	ID CHAR(40) NOT NULL,
 	KEY VARCHAR(32) NOT NULL,
@@ -62,6 +66,7 @@ CREATE TABLE WORKBASKET(
     ORG_LEVEL_2 VARCHAR(255) NULL,
     ORG_LEVEL_3 VARCHAR(255) NULL,
     ORG_LEVEL_4 VARCHAR(255) NULL,
+	VERSION INT NOT NULL DEFAULT 0,
 	PRIMARY KEY (ID),
 	CONSTRAINT UC_NAME UNIQUE (NAME)
 );
@@ -95,7 +100,8 @@ CREATE TABLE CLASSIFICATION(
 	CUSTOM_7 VARCHAR(255) NULL,
 	CUSTOM_8 VARCHAR(255) NULL,
 	VALID_FROM DATE NOT NULL,
-	VALID_UNTIL DATE NOT NULL
+	VALID_UNTIL DATE NOT NULL,
+	VERSION INT NOT NULL DEFAULT 0
 );
 
 CREATE TABLE WORKBASKET_ACCESS_LIST(
@@ -143,3 +149,112 @@ CREATE TABLE ATTACHMENT(
     CUSTOM_ATTRIBUTES BLOB NULL,
     PRIMARY KEY (ID)
 );
+
+CREATE TABLE TASK_EVENT(
+    ID BIGINT NOT NULL GENERATED BY DEFAULT AS IDENTITY,
+    TASK_ID CHAR(40) NOT NULL,
+    TYPE VARCHAR(32) NOT NULL,
+    WORKBASKET_KEY VARCHAR(32) NULL,
+    STATE VARCHAR(20) NULL,
+    OWNER VARCHAR(255) NULL,
+    USER_ID VARCHAR(255) NULL,
+    CREATED TIMESTAMP NOT NULL,
+    PRIMARY KEY (ID)
+);
+
+CREATE TABLE TASK_EVENT_OFFSET(
+    CONSUMER_ID VARCHAR(255) NOT NULL,
+    EVENT_ID BIGINT NOT NULL,
+    MODIFIED TIMESTAMP NOT NULL,
+    PRIMARY KEY (CONSUMER_ID)
+);
+
+-- previous workbasket and state of tasks which left them, so change queries can report them as removed
+CREATE TABLE TASK_TOMBSTONE(
+    ID BIGINT NOT NULL GENERATED BY DEFAULT AS IDENTITY,
+    TASK_ID CHAR(40) NOT NULL,
+    WORKBASKET_KEY VARCHAR(32) NOT NULL,
+    STATE VARCHAR(20) NOT NULL,
+    CHANGE_SEQ BIGINT NOT NULL,
+    CREATED TIMESTAMP NOT NULL,
+    PRIMARY KEY (ID)
+);
+
+CREATE TABLE TASK_HISTORY(
+    ID BIGINT NOT NULL GENERATED BY DEFAULT AS IDENTITY,
+    TASK_ID CHAR(40) NOT NULL,
+    ACTION VARCHAR(32) NOT NULL,
+    USER_ID VARCHAR(255) NULL,
+    WORKBASKET_KEY VARCHAR(32) NULL,
+    CREATED TIMESTAMP NOT NULL,
+    PRIMARY KEY (ID)
+);
+
+-- number of tasks per workbasket, state and day of their due date, maintained with each change of a task.
+-- Tasks without a due date are counted on 0001-01-01
+CREATE TABLE TASK_COUNTER(
+    WORKBASKET_KEY VARCHAR(32) NOT NULL,
+    STATE VARCHAR(20) NOT NULL,
+    DUE_DATE DATE NOT NULL,
+    COUNTER BIGINT NOT NULL,
+    PRIMARY KEY (WORKBASKET_KEY, STATE, DUE_DATE)
+);
+
+-- completed tasks and their attachments are moved here by the archival, the columns must match TASK and ATTACHMENT
+CREATE TABLE TASK_ARCHIVE (
+	ID CHAR(40) NOT NULL,
+	CREATED TIMESTAMP NULL,
+	CLAIMED TIMESTAMP NULL,
+	COMPLETED TIMESTAMP NULL,
+	MODIFIED TIMESTAMP NULL,
+	PLANNED TIMESTAMP NULL,
+	DUE TIMESTAMP NULL,
+	NAME VARCHAR(1024) NULL,
+	DESCRIPTION VARCHAR(4096) NULL,
+	PRIORITY INT NULL,
+	STATE VARCHAR(20) NULL,
+	CLASSIFICATION_KEY VARCHAR(32) NULL,
+	WORKBASKET_KEY VARCHAR(32) NULL,
+	DOMAIN VARCHAR(32) NULL,
+	BUSINESS_PROCESS_ID VARCHAR(128) NULL,
+    PARENT_BUSINESS_PROCESS_ID VARCHAR(128) NULL,
+	OWNER VARCHAR(255) NULL,
+	POR_COMPANY VARCHAR(32) NOT NULL,
+    POR_SYSTEM VARCHAR(32) NOT NULL,
+    POR_INSTANCE VARCHAR(32) NOT NULL,
+    POR_TYPE VARCHAR(32) NOT NULL,
+    POR_VALUE VARCHAR(128) NOT NULL,
+	IS_READ BOOLEAN NOT NULL,
+	IS_TRANSFERRED BOOLEAN NOT NULL,
+	CUSTOM_ATTRIBUTES BLOB NULL,
+	CUSTOM_1 VARCHAR(255) NULL,
+	CUSTOM_2 VARCHAR(255) NULL,
+	CUSTOM_3 VARCHAR(255) NULL,
+	CUSTOM_4 VARCHAR(255) NULL,
+	CUSTOM_5 VARCHAR(255) NULL,
+	CUSTOM_6 VARCHAR(255) NULL,
+	CUSTOM_7 VARCHAR(255) NULL,
+	CUSTOM_8 VARCHAR(255) NULL,
+	CUSTOM_9 VARCHAR(255) NULL,
+	CUSTOM_10 VARCHAR(255) NULL,
+	VERSION INT NOT NULL DEFAULT 0,
+	CHANGE_SEQ BIGINT NOT NULL DEFAULT 0,
+	PRIMARY KEY (ID)
+);
+
+CREATE TABLE ATTACHMENT_ARCHIVE(
+    ID CHAR(40) NOT NULL,
+    TASK_ID CHAR(40) NOT NULL,
+    CREATED TIMESTAMP NULL,
+    MODIFIED TIMESTAMP NULL,
+    CLASSIFICATION_KEY VARCHAR(32) NULL,
+    REF_COMPANY VARCHAR(32) NOT NULL,
+    REF_SYSTEM VARCHAR(32) NOT NULL,
+    REF_INSTANCE VARCHAR(32) NOT NULL,
+    REF_TYPE VARCHAR(32) NOT NULL,
+    REF_VALUE VARCHAR(128) NOT NULL,
+    CHANNEL VARCHAR(64) NULL,
+    RECEIVED TIMESTAMP NULL,
+    CUSTOM_ATTRIBUTES BLOB NULL,
+    PRIMARY KEY (ID)
+);
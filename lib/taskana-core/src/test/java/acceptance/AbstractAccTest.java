@@ -2,7 +2,9 @@ package acceptance;
 
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.sql.DataSource;
@@ -10,6 +12,8 @@ import javax.sql.DataSource;
 import org.junit.BeforeClass;
 
 import pro.taskana.Attachment;
+import pro.taskana.Task;
+import pro.taskana.TaskService;
 import pro.taskana.TaskanaEngine;
 import pro.taskana.TaskanaEngine.ConnectionManagementMode;
 import pro.taskana.configuration.TaskanaEngineConfiguration;
@@ -58,6 +62,40 @@ public abstract class AbstractAccTest {
         return objectReference;
     }
 
+    /**
+     * Returns a new, not yet created task of classification T2100 in workbasket USER_1_1.
+     */
+    protected Task newTask(TaskService taskService) {
+        Task newTask = taskService.newTask();
+        newTask.setClassificationKey("T2100");
+        newTask.setPrimaryObjRef(createObjectReference("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "1234567"));
+        newTask.setWorkbasketKey("USER_1_1");
+        return newTask;
+    }
+
+    /**
+     * Returns new, not yet created tasks in workbasket USER_1_1, which cycle through the classifications T2100,
+     * L12010 and L1050.
+     */
+    protected List<Task> newTasks(TaskService taskService, int numberOfTasks) {
+        String[] classificationKeys = {"T2100", "L12010", "L1050"};
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < numberOfTasks; i++) {
+            Task newTask = newTask(taskService);
+            newTask.setClassificationKey(classificationKeys[i % classificationKeys.length]);
+            tasks.add(newTask);
+        }
+        return tasks;
+    }
+
+    protected List<String> ids(List<Task> tasks) {
+        List<String> ids = new ArrayList<>();
+        for (Task task : tasks) {
+            ids.add(task.getId());
+        }
+        return ids;
+    }
+
     protected Map<String, Object> createSimpleCustomProperties(int propertiesCount) {
         HashMap<String, Object> properties = new HashMap<>();
         for (int i = 1; i <= propertiesCount; i++) {
@@ -11,9 +11,12 @@ import org.junit.Test;
 import acceptance.AbstractAccTest;
 import pro.taskana.Classification;
 import pro.taskana.ClassificationService;
+import pro.taskana.exceptions.ClassificationAlreadyExistException;
 import pro.taskana.exceptions.ClassificationNotFoundException;
 import pro.taskana.exceptions.InvalidArgumentException;
 import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.model.CacheStatistics;
+import pro.taskana.model.ClassificationTreeNode;
 
 /**
  * Acceptance test for all "get classification" scenarios.
@@ -28,10 +31,54 @@ public class GetClassificationAccTest extends AbstractAccTest {
     public void testFindAllClassifications()
         throws SQLException, ClassificationNotFoundException, NotAuthorizedException, InvalidArgumentException {
         ClassificationService classificationService = taskanaEngine.getClassificationService();
-        List<Classification> classificationList = classificationService.getClassificationTree();
+        List<ClassificationTreeNode> classificationList = classificationService.getClassificationTree();
         Assert.assertNotNull(classificationList);
     }
 
+    @Test
+    public void testClassificationTreeIsNestedAndCachedUntilAClassificationChanges()
+        throws SQLException, ClassificationAlreadyExistException {
+        ClassificationService classificationService = taskanaEngine.getClassificationService();
+        Classification parent = classificationService.newClassification();
+        parent.setKey("TREE_PARENT");
+        parent.setDomain("DOMAIN_B");
+        classificationService.createClassification(parent);
+        Classification child = classificationService.newClassification();
+        child.setKey("TREE_CHILD");
+        child.setDomain("DOMAIN_B");
+        child.setParentClassificationKey("TREE_PARENT");
+        classificationService.createClassification(child);
+
+        List<ClassificationTreeNode> tree = classificationService.getClassificationTree();
+        ClassificationTreeNode parentNode = findNode(tree, "TREE_PARENT", "DOMAIN_B");
+        Assert.assertEquals(1, parentNode.getChildren().size());
+        Assert.assertEquals("TREE_CHILD", parentNode.getChildren().get(0).getClassification().getKey());
+        Assert.assertNull(findNode(tree, "TREE_CHILD", "DOMAIN_B"));
+
+        CacheStatistics statisticsBefore = taskanaEngine.getClassificationCacheStatistics();
+        Assert.assertEquals(tree.size(), classificationService.getClassificationTree().size());
+        Assert.assertEquals(statisticsBefore.getHits() + 1, taskanaEngine.getClassificationCacheStatistics()
+            .getHits());
+
+        Classification grandChild = classificationService.newClassification();
+        grandChild.setKey("TREE_GRANDCHILD");
+        grandChild.setDomain("DOMAIN_B");
+        grandChild.setParentClassificationKey("TREE_CHILD");
+        classificationService.createClassification(grandChild);
+        parentNode = findNode(classificationService.getClassificationTree(), "TREE_PARENT", "DOMAIN_B");
+        Assert.assertEquals("TREE_GRANDCHILD", parentNode.getChildren().get(0).getChildren().get(0)
+            .getClassification().getKey());
+    }
+
+    private ClassificationTreeNode findNode(List<ClassificationTreeNode> roots, String key, String domain) {
+        for (ClassificationTreeNode node : roots) {
+            if (key.equals(node.getClassification().getKey()) && domain.equals(node.getClassification().getDomain())) {
+                return node;
+            }
+        }
+        return null;
+    }
+
     @Test
     public void testGetOneClassificationForDomain() throws SQLException, ClassificationNotFoundException {
         ClassificationService classificationService = taskanaEngine.getClassificationService();
@@ -58,6 +105,42 @@ public class GetClassificationAccTest extends AbstractAccTest {
         Assert.assertEquals(999L, classification.getPriority());
     }
 
+    @Test
+    public void testRepeatedGetClassificationIsServedFromCache() throws SQLException, ClassificationNotFoundException {
+        ClassificationService classificationService = taskanaEngine.getClassificationService();
+        Classification classification = classificationService.getClassification("L140101", "DOMAIN_A");
+        CacheStatistics statisticsBefore = taskanaEngine.getClassificationCacheStatistics();
+        classification.setName("changed by the caller");
+
+        Classification cachedClassification = classificationService.getClassification("L140101", "DOMAIN_A");
+
+        CacheStatistics statisticsAfter = taskanaEngine.getClassificationCacheStatistics();
+        Assert.assertEquals(statisticsBefore.getHits() + 1, statisticsAfter.getHits());
+        Assert.assertEquals(statisticsBefore.getMisses(), statisticsAfter.getMisses());
+        Assert.assertEquals(classification.getId(), cachedClassification.getId());
+        Assert.assertNotEquals("changed by the caller", cachedClassification.getName());
+    }
+
+    @Test
+    public void testCreateClassificationInvalidatesCachedRootDomainFallback()
+        throws SQLException, ClassificationNotFoundException, ClassificationAlreadyExistException {
+        ClassificationService classificationService = taskanaEngine.getClassificationService();
+        try {
+            classificationService.getClassification("CACHE_TEST", "DOMAIN_B");
+            Assert.fail("ClassificationNotFoundException was expected");
+        } catch (ClassificationNotFoundException e) {
+            // the missing classification is cached now
+        }
+        Classification newClassification = classificationService.newClassification();
+        newClassification.setKey("CACHE_TEST");
+        newClassification.setDomain("DOMAIN_B");
+        classificationService.createClassification(newClassification);
+
+        Classification classification = classificationService.getClassification("CACHE_TEST", "DOMAIN_B");
+
+        Assert.assertEquals("DOMAIN_B", classification.getDomain());
+    }
+
     @AfterClass
     public static void cleanUpClass() {
         FileUtils.deleteRecursive("~/data", true);
@@ -0,0 +1,97 @@
+package acceptance.monitor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.h2.store.fs.FileUtils;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.TaskMonitorService;
+import pro.taskana.TaskService;
+import pro.taskana.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.configuration.TaskanaEngineConfiguration;
+import pro.taskana.database.TestDataGenerator;
+import pro.taskana.impl.TaskanaEngineImpl;
+import pro.taskana.impl.configuration.DBCleaner;
+import pro.taskana.impl.configuration.TaskanaEngineConfigurationTest;
+import pro.taskana.model.CacheStatistics;
+import pro.taskana.model.TaskState;
+import pro.taskana.model.TaskStateCounter;
+import pro.taskana.security.JAASRunner;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for the caching of monitor reports.
+ */
+@RunWith(JAASRunner.class)
+public class MonitorReportCacheAccTest extends AbstractAccTest {
+
+    // replaces the setup of AbstractAccTest, the engine of this test shares monitor reports
+    @BeforeClass
+    public static void setupTest() throws SQLException {
+        DataSource dataSource = TaskanaEngineConfigurationTest.getDataSource();
+        DBCleaner cleaner = new DBCleaner();
+        cleaner.clearDb(dataSource, true);
+        taskanaEngineConfiguration = new TaskanaEngineConfiguration(dataSource, false, true);
+        taskanaEngineConfiguration.setMonitorReportCacheTimeToLive(Duration.ofMinutes(10));
+        taskanaEngine = taskanaEngineConfiguration.buildTaskanaEngine();
+        ((TaskanaEngineImpl) taskanaEngine).setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+        cleaner.clearDb(dataSource, false);
+        new TestDataGenerator().generateTestData(dataSource);
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = { "group_1" })
+    @Test
+    public void testRequestsWithEqualParametersShareTheResult() throws Exception {
+        TaskMonitorService monitorService = taskanaEngine.getTaskMonitorService();
+        List<TaskStateCounter> first = monitorService.getTaskCountForState(
+            Arrays.asList(TaskState.READY, TaskState.CLAIMED));
+        CacheStatistics before = taskanaEngine.getMonitorReportCacheStatistics();
+
+        TaskService taskService = taskanaEngine.getTaskService();
+        taskService.createTask(newTask(taskService));
+        List<TaskStateCounter> second = taskanaEngine.getTaskMonitorService().getTaskCountForState(
+            Arrays.asList(TaskState.CLAIMED, TaskState.READY, TaskState.CLAIMED));
+
+        CacheStatistics after = taskanaEngine.getMonitorReportCacheStatistics();
+        assertSame(first, second);
+        assertEquals(before.getHits() + 1, after.getHits());
+        assertEquals(before.getMisses(), after.getMisses());
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = { "group_1" })
+    @Test
+    public void testRequestsWithOtherParametersAreReadFromTheDatabase() throws Exception {
+        TaskMonitorService monitorService = taskanaEngine.getTaskMonitorService();
+        monitorService.getTaskCountForWorkbasketByDaysInPastAndState("USER_1_1", 3,
+            Arrays.asList(TaskState.READY));
+        CacheStatistics before = taskanaEngine.getMonitorReportCacheStatistics();
+
+        monitorService.getTaskCountForWorkbasketByDaysInPastAndState("USER_1_2", 3, Arrays.asList(TaskState.READY));
+        monitorService.getTaskCountForWorkbasketByDaysInPastAndState("USER_1_1", 4, Arrays.asList(TaskState.READY));
+
+        CacheStatistics after = taskanaEngine.getMonitorReportCacheStatistics();
+        assertEquals(before.getHits(), after.getHits());
+        assertEquals(before.getMisses() + 2, after.getMisses());
+    }
+
+    @AfterClass
+    public static void cleanUpClass() {
+        FileUtils.deleteRecursive("~/data", true);
+    }
+}
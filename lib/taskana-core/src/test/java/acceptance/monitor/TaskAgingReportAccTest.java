@@ -0,0 +1,136 @@
+package acceptance.monitor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.h2.store.fs.FileUtils;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.Task;
+import pro.taskana.TaskMonitorService;
+import pro.taskana.TaskService;
+import pro.taskana.exceptions.InvalidArgumentException;
+import pro.taskana.model.TaskAgingReport;
+import pro.taskana.model.TaskAgingReportGrouping;
+import pro.taskana.model.TaskAgingReportLine;
+import pro.taskana.security.JAASRunner;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for the report of the open tasks per age of their due date.
+ */
+@RunWith(JAASRunner.class)
+public class TaskAgingReportAccTest extends AbstractAccTest {
+
+    private static final List<Integer> DAY_BOUNDARIES = Arrays.asList(-3, 0, 2, 6);
+
+    public TaskAgingReportAccTest() {
+        super();
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testReportCountsOpenTasksPerWorkbasketAndBucket() throws Exception {
+        TaskService taskService = taskanaEngine.getTaskService();
+        TaskMonitorService monitorService = taskanaEngine.getTaskMonitorService();
+        TaskAgingReport before = monitorService.getTaskAgingReport(DAY_BOUNDARIES, TaskAgingReportGrouping.WORKBASKET);
+
+        Task task = taskService.createTask(newTask(taskService));
+        Task completed = taskService.createTask(newTask(taskService));
+        taskService.completeTask(completed.getId(), true);
+        TaskAgingReport after = monitorService.getTaskAgingReport(DAY_BOUNDARIES, TaskAgingReportGrouping.WORKBASKET);
+
+        int bucket = bucket(task);
+        List<Long> expected = counters(before, "USER_1_1", null);
+        expected.set(bucket, expected.get(bucket) + 1);
+        assertEquals(expected, counters(after, "USER_1_1", null));
+        assertEquals(5, line(after, "USER_1_1", null).getTaskCounters().size());
+        assertEquals(line(before, "USER_1_1", null).getTotalCount() + 1, line(after, "USER_1_1", null)
+            .getTotalCount());
+        assertNull(line(after, "USER_1_1", null).getClassificationCategory());
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testReportGroupsByClassificationCategoryAndOrgLevel() throws Exception {
+        TaskService taskService = taskanaEngine.getTaskService();
+        TaskMonitorService monitorService = taskanaEngine.getTaskMonitorService();
+        TaskAgingReport byCategory = monitorService.getTaskAgingReport(DAY_BOUNDARIES,
+            TaskAgingReportGrouping.WORKBASKET_AND_CLASSIFICATION_CATEGORY);
+        TaskAgingReport byOrgLevel = monitorService.getTaskAgingReport(DAY_BOUNDARIES,
+            TaskAgingReportGrouping.ORG_LEVEL_1);
+
+        Task task = taskService.createTask(newTask(taskService));
+
+        int bucket = bucket(task);
+        List<Long> expected = counters(byCategory, "USER_1_1", "MANUAL");
+        expected.set(bucket, expected.get(bucket) + 1);
+        assertEquals(expected, counters(monitorService.getTaskAgingReport(DAY_BOUNDARIES,
+            TaskAgingReportGrouping.WORKBASKET_AND_CLASSIFICATION_CATEGORY), "USER_1_1", "MANUAL"));
+        expected = counters(byOrgLevel, "", null);
+        expected.set(bucket, expected.get(bucket) + 1);
+        assertEquals(expected, counters(monitorService.getTaskAgingReport(DAY_BOUNDARIES,
+            TaskAgingReportGrouping.ORG_LEVEL_1), "", null));
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test(expected = InvalidArgumentException.class)
+    public void testDayBoundariesMustBeAscending() throws Exception {
+        taskanaEngine.getTaskMonitorService().getTaskAgingReport(Arrays.asList(0, 0, 2),
+            TaskAgingReportGrouping.WORKBASKET);
+    }
+
+    private int bucket(Task task) {
+        long days = ChronoUnit.DAYS.between(LocalDate.now(), task.getDue().toLocalDateTime().toLocalDate());
+        int bucket = 0;
+        while (bucket < DAY_BOUNDARIES.size() && days >= DAY_BOUNDARIES.get(bucket)) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private List<Long> counters(TaskAgingReport report, String groupKey, String classificationCategory) {
+        TaskAgingReportLine line = findLine(report, groupKey, classificationCategory);
+        return new ArrayList<>(line == null ? Collections.nCopies(DAY_BOUNDARIES.size() + 1, 0L)
+            : line.getTaskCounters());
+    }
+
+    private TaskAgingReportLine line(TaskAgingReport report, String groupKey, String classificationCategory) {
+        TaskAgingReportLine line = findLine(report, groupKey, classificationCategory);
+        if (line == null) {
+            throw new AssertionError("no line for group " + groupKey);
+        }
+        return line;
+    }
+
+    private TaskAgingReportLine findLine(TaskAgingReport report, String groupKey, String classificationCategory) {
+        for (TaskAgingReportLine line : report.getLines()) {
+            if (groupKey.equals(line.getGroupKey())
+                && (classificationCategory == null || classificationCategory.equals(line.getClassificationCategory()))) {
+                return line;
+            }
+        }
+        return null;
+    }
+
+    @AfterClass
+    public static void cleanUpClass() {
+        FileUtils.deleteRecursive("~/data", true);
+    }
+}
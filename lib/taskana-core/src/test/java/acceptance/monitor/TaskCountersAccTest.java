@@ -0,0 +1,116 @@
+package acceptance.monitor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.h2.store.fs.FileUtils;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.Task;
+import pro.taskana.TaskMonitorService;
+import pro.taskana.TaskService;
+import pro.taskana.model.DueWorkbasketCounter;
+import pro.taskana.model.TaskState;
+import pro.taskana.model.TaskStateCounter;
+import pro.taskana.security.JAASRunner;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for the task counters read by the monitor.
+ */
+@RunWith(JAASRunner.class)
+public class TaskCountersAccTest extends AbstractAccTest {
+
+    private static final List<TaskState> ALL_STATES = Arrays.asList(TaskState.READY, TaskState.CLAIMED,
+        TaskState.COMPLETED);
+
+    private static final long ALL_DAYS = 100000;
+
+    public TaskCountersAccTest() {
+        super();
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testCountersFollowTheLifecycleOfTasks() throws Exception {
+        TaskService taskService = taskanaEngine.getTaskService();
+        TaskMonitorService monitorService = taskanaEngine.getTaskMonitorService();
+        long ready = monitorService.getTaskCountForWorkbasketByDaysInPastAndState("USER_1_1", 1,
+            Collections.singletonList(TaskState.READY));
+        long claimed = monitorService.getTaskCountForWorkbasketByDaysInPastAndState("USER_1_1", 1,
+            Collections.singletonList(TaskState.CLAIMED));
+
+        String taskId = taskService.createTask(newTask(taskService)).getId();
+        assertEquals(ready + 1, monitorService.getTaskCountForWorkbasketByDaysInPastAndState("USER_1_1", 1,
+            Collections.singletonList(TaskState.READY)));
+
+        taskService.claim(taskId);
+        assertEquals(ready, monitorService.getTaskCountForWorkbasketByDaysInPastAndState("USER_1_1", 1,
+            Collections.singletonList(TaskState.READY)));
+        assertEquals(claimed + 1, monitorService.getTaskCountForWorkbasketByDaysInPastAndState("USER_1_1", 1,
+            Collections.singletonList(TaskState.CLAIMED)));
+
+        taskService.transfer(taskId, "USER_1_2");
+        assertEquals(claimed, monitorService.getTaskCountForWorkbasketByDaysInPastAndState("USER_1_1", 1,
+            Collections.singletonList(TaskState.CLAIMED)));
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testMaintainedCountersMatchTheReconciledCounters() throws Exception {
+        TaskService taskService = taskanaEngine.getTaskService();
+        Task claimed = taskService.createTask(newTask(taskService));
+        taskService.claim(claimed.getId());
+        taskService.claim(claimed.getId(), true);
+        taskService.completeTask(taskService.createTask(newTask(taskService)).getId(), true);
+        taskService.transfer(taskService.createTask(newTask(taskService)).getId(), "USER_1_2");
+        Task updated = taskService.createTask(newTask(taskService));
+        updated.setPlanned(Timestamp.valueOf(LocalDateTime.now().plusDays(3)));
+        taskService.updateTask(updated);
+
+        List<Task> bulkTasks = Arrays.asList(newTask(taskService), newTask(taskService), newTask(taskService));
+        assertFalse(taskService.createTasks(bulkTasks).containsErrors());
+        List<String> bulkIds = ids(bulkTasks);
+        assertFalse(taskService.claimTasks(bulkIds).containsErrors());
+        assertFalse(taskService.completeTasks(bulkIds.subList(0, 2)).containsErrors());
+        assertFalse(taskService.transferTasks("USER_1_2", bulkIds.subList(2, 3)).containsErrors());
+
+        List<String> maintained = counters();
+        taskanaEngine.reconcileTaskCounters();
+
+        assertEquals(counters(), maintained);
+    }
+
+    private List<String> counters() {
+        TaskMonitorService monitorService = taskanaEngine.getTaskMonitorService();
+        List<String> counters = new ArrayList<>();
+        for (TaskStateCounter counter : monitorService.getTaskCountForState(ALL_STATES)) {
+            counters.add(counter.getState() + ": " + counter.getCounter());
+        }
+        for (DueWorkbasketCounter counter : monitorService.getTaskCountByWorkbasketAndDaysInPastAndState(ALL_DAYS,
+            ALL_STATES)) {
+            counters.add(counter.getWorkbasketId() + " " + counter.getDue() + ": " + counter.getTaskCounter());
+        }
+        Collections.sort(counters);
+        return counters;
+    }
+
+    @AfterClass
+    public static void cleanUpClass() {
+        FileUtils.deleteRecursive("~/data", true);
+    }
+}
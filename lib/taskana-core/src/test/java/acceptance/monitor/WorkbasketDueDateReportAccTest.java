@@ -0,0 +1,73 @@
+package acceptance.monitor;
+
+import static org.junit.Assert.assertEquals;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+
+import org.h2.store.fs.FileUtils;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.Task;
+import pro.taskana.TaskMonitorService;
+import pro.taskana.TaskService;
+import pro.taskana.model.TaskState;
+import pro.taskana.model.WorkbasketDueDateReport;
+import pro.taskana.model.WorkbasketDueDateReportLine;
+import pro.taskana.security.JAASRunner;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for the report of the tasks per workbasket and due date.
+ */
+@RunWith(JAASRunner.class)
+public class WorkbasketDueDateReportAccTest extends AbstractAccTest {
+
+    private static final List<TaskState> OPEN_STATES = Arrays.asList(TaskState.READY, TaskState.CLAIMED);
+
+    public WorkbasketDueDateReportAccTest() {
+        super();
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testReportContainsEveryWorkbasketAndCountsPerDueDate() throws Exception {
+        TaskService taskService = taskanaEngine.getTaskService();
+        TaskMonitorService monitorService = taskanaEngine.getTaskMonitorService();
+        WorkbasketDueDateReport before = monitorService.getWorkbasketDueDateReport(2, 400, OPEN_STATES);
+
+        Task task = taskService.createTask(newTask(taskService));
+        WorkbasketDueDateReport after = monitorService.getWorkbasketDueDateReport(2, 400, OPEN_STATES);
+
+        assertEquals(403, after.getDates().size());
+        assertEquals(Date.valueOf(LocalDate.now().minusDays(2)), after.getDates().get(0));
+        assertEquals(taskanaEngine.getWorkbasketService().getWorkbaskets().size(), after.getLines().size());
+        int day = (int) ChronoUnit.DAYS.between(LocalDate.now().minusDays(2), task.getDue().toLocalDateTime()
+            .toLocalDate());
+        assertEquals(line(before, "USER_1_1").getTaskCounters().get(day) + 1,
+            (long) line(after, "USER_1_1").getTaskCounters().get(day));
+        assertEquals(line(before, "USER_1_2").getTaskCounters(), line(after, "USER_1_2").getTaskCounters());
+    }
+
+    private WorkbasketDueDateReportLine line(WorkbasketDueDateReport report, String workbasketKey) {
+        for (WorkbasketDueDateReportLine line : report.getLines()) {
+            if (workbasketKey.equals(line.getWorkbasketKey())) {
+                return line;
+            }
+        }
+        throw new AssertionError("no line for workbasket " + workbasketKey);
+    }
+
+    @AfterClass
+    public static void cleanUpClass() {
+        FileUtils.deleteRecursive("~/data", true);
+    }
+}
@@ -0,0 +1,137 @@
+package acceptance.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.h2.store.fs.FileUtils;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.Task;
+import pro.taskana.TaskService;
+import pro.taskana.exceptions.TaskNotFoundException;
+import pro.taskana.impl.configuration.TaskanaEngineConfigurationTest;
+import pro.taskana.model.TaskState;
+import pro.taskana.security.JAASRunner;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for the archival of completed tasks.
+ */
+@RunWith(JAASRunner.class)
+public class ArchiveCompletedTasksAccTest extends AbstractAccTest {
+
+    private Duration defaultAge = taskanaEngineConfiguration.getTaskArchiveAge();
+
+    private int defaultChunkSize = taskanaEngineConfiguration.getTaskArchiveChunkSize();
+
+    public ArchiveCompletedTasksAccTest() {
+        super();
+    }
+
+    @After
+    public void resetConfiguration() {
+        taskanaEngineConfiguration.setTaskArchiveAge(defaultAge);
+        taskanaEngineConfiguration.setTaskArchiveChunkSize(defaultChunkSize);
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testCompletedTasksAreMovedWithTheirAttachmentsInChunks() throws Exception {
+        TaskService taskService = taskanaEngine.getTaskService();
+        Task taskWithAttachment = newTask(taskService);
+        taskWithAttachment.addAttachment(createAttachment("DOKTYP_DEFAULT",
+            createObjectReference("COMPANY_A", "SYSTEM_B", "INSTANCE_B", "ArchiveId", "12345678901234567890"),
+            "E-MAIL", "2018-01-15", createSimpleCustomProperties(3)));
+        List<String> completedIds = new ArrayList<>();
+        completedIds.add(taskService.createTask(taskWithAttachment).getId());
+        completedIds.add(taskService.createTask(newTask(taskService)).getId());
+        completedIds.add(taskService.createTask(newTask(taskService)).getId());
+        for (String taskId : completedIds) {
+            taskService.claim(taskId);
+            taskService.completeTask(taskId);
+        }
+        String openId = taskService.createTask(newTask(taskService)).getId();
+        Thread.sleep(10);
+
+        taskanaEngineConfiguration.setTaskArchiveAge(Duration.ZERO);
+        taskanaEngineConfiguration.setTaskArchiveChunkSize(2);
+        int archived = taskanaEngine.archiveCompletedTasks();
+
+        assertTrue(archived >= completedIds.size());
+        assertEquals(0, taskanaEngine.archiveCompletedTasks());
+        for (String taskId : completedIds) {
+            assertTaskNotFound(taskService, taskId);
+        }
+        assertEquals(openId, taskService.getTask(openId).getId());
+        List<String> completedInTaskTable = ids(taskService.createTaskQuery()
+            .workbasketKeyIn("USER_1_1")
+            .state(TaskState.COMPLETED)
+            .list());
+        assertFalse(completedInTaskTable.contains(completedIds.get(0)));
+        List<String> completedWithArchive = ids(taskService.createTaskQuery()
+            .workbasketKeyIn("USER_1_1")
+            .state(TaskState.COMPLETED)
+            .includeArchived()
+            .list());
+        assertTrue(completedWithArchive.containsAll(completedIds));
+        assertEquals(1, countAttachments("ATTACHMENT_ARCHIVE", completedIds.get(0)));
+        assertEquals(0, countAttachments("ATTACHMENT", completedIds.get(0)));
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testTasksCompletedRecentlyStayInTheTaskTable() throws Exception {
+        TaskService taskService = taskanaEngine.getTaskService();
+        String taskId = taskService.createTask(newTask(taskService)).getId();
+        taskService.claim(taskId);
+        taskService.completeTask(taskId);
+
+        taskanaEngineConfiguration.setTaskArchiveAge(Duration.ofHours(1));
+        taskanaEngine.archiveCompletedTasks();
+
+        assertEquals(TaskState.COMPLETED, taskService.getTask(taskId).getState());
+    }
+
+    private void assertTaskNotFound(TaskService taskService, String taskId) {
+        try {
+            taskService.getTask(taskId);
+        } catch (TaskNotFoundException e) {
+            return;
+        }
+        throw new AssertionError("task " + taskId + " has not been archived");
+    }
+
+    private int countAttachments(String table, String taskId) throws SQLException {
+        try (Connection connection = TaskanaEngineConfigurationTest.getDataSource().getConnection();
+            PreparedStatement statement = connection.prepareStatement(
+                "SELECT COUNT(*) FROM " + table + " WHERE TASK_ID = ?")) {
+            statement.setString(1, taskId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getInt(1);
+            }
+        }
+    }
+
+    @AfterClass
+    public static void cleanUpClass() {
+        FileUtils.deleteRecursive("~/data", true);
+    }
+}
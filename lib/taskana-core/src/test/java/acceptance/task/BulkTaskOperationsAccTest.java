@@ -0,0 +1,164 @@
+package acceptance.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.h2.store.fs.FileUtils;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.Task;
+import pro.taskana.TaskService;
+import pro.taskana.exceptions.InvalidOwnerException;
+import pro.taskana.exceptions.InvalidStateException;
+import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.exceptions.TaskNotFoundException;
+import pro.taskana.exceptions.TaskanaException;
+import pro.taskana.exceptions.WorkbasketNotFoundException;
+import pro.taskana.model.BulkOperationResults;
+import pro.taskana.model.TaskState;
+import pro.taskana.security.JAASRunner;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for claiming, completing and transferring lists of tasks.
+ */
+@RunWith(JAASRunner.class)
+public class BulkTaskOperationsAccTest extends AbstractAccTest {
+
+    private static final String NOT_EXISTING_TASK = "TKI:NOT_EXISTING";
+
+    // task of the sample data in workbasket key1, on which user_1_1 has no permissions
+    private static final String FOREIGN_TASK = "1";
+
+    private int defaultChunkSize = taskanaEngineConfiguration.getBulkOperationChunkSize();
+
+    public BulkTaskOperationsAccTest() {
+        super();
+    }
+
+    @After
+    public void resetChunkSize() {
+        taskanaEngineConfiguration.setBulkOperationChunkSize(defaultChunkSize);
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testClaimAndCompleteTasksInChunks() throws SQLException, TaskNotFoundException {
+        taskanaEngineConfiguration.setBulkOperationChunkSize(2);
+        TaskService taskService = taskanaEngine.getTaskService();
+        List<String> taskIds = createTasks(taskService, 5);
+        List<String> requestedIds = new ArrayList<>(taskIds);
+        requestedIds.add(NOT_EXISTING_TASK);
+        requestedIds.add(FOREIGN_TASK);
+
+        BulkOperationResults<String, TaskanaException> results = taskService.claimTasks(requestedIds);
+
+        assertEquals(Arrays.asList(NOT_EXISTING_TASK, FOREIGN_TASK), results.getFailedIds());
+        assertTrue(results.getErrorForId(NOT_EXISTING_TASK) instanceof TaskNotFoundException);
+        assertTrue(results.getErrorForId(FOREIGN_TASK) instanceof NotAuthorizedException);
+        for (String taskId : taskIds) {
+            Task task = taskService.getTask(taskId);
+            assertEquals(TaskState.CLAIMED, task.getState());
+            assertEquals("user_1_1", task.getOwner());
+            assertTrue(task.isRead());
+        }
+        assertEquals(TaskState.READY, taskService.getTask(FOREIGN_TASK).getState());
+
+        results = taskService.completeTasks(taskIds);
+
+        assertFalse(results.containsErrors());
+        for (String taskId : taskIds) {
+            Task task = taskService.getTask(taskId);
+            assertEquals(TaskState.COMPLETED, task.getState());
+            assertTrue(task.getCompleted() != null);
+        }
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testBulkOperationsReportTasksInWrongState() throws SQLException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        List<String> taskIds = createTasks(taskService, 3);
+        List<String> readyIds = taskIds.subList(0, 1);
+        List<String> claimedIds = taskIds.subList(1, 3);
+        assertFalse(taskService.claimTasks(claimedIds).containsErrors());
+
+        BulkOperationResults<String, TaskanaException> results = taskService.completeTasks(taskIds);
+        assertEquals(readyIds, results.getFailedIds());
+        assertTrue(results.getErrorForId(readyIds.get(0)) instanceof InvalidStateException);
+
+        // the claimed tasks have been completed by the previous call
+        results = taskService.claimTasks(taskIds);
+        assertEquals(claimedIds, results.getFailedIds());
+        for (String taskId : claimedIds) {
+            assertTrue(results.getErrorForId(taskId) instanceof InvalidStateException);
+        }
+
+        results = taskService.claimTasks(readyIds);
+        assertTrue(results.getErrorForId(readyIds.get(0)) instanceof InvalidOwnerException);
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testTransferTasks()
+        throws SQLException, NotAuthorizedException, WorkbasketNotFoundException, TaskNotFoundException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        List<String> taskIds = createTasks(taskService, 4);
+        List<String> requestedIds = new ArrayList<>(taskIds);
+        requestedIds.add(FOREIGN_TASK);
+        requestedIds.add(taskIds.get(0));
+
+        BulkOperationResults<String, TaskanaException> results = taskService.transferTasks("USER_1_2",
+            requestedIds);
+
+        assertEquals(Arrays.asList(FOREIGN_TASK), results.getFailedIds());
+        assertTrue(results.getErrorForId(FOREIGN_TASK) instanceof NotAuthorizedException);
+        for (String taskId : taskIds) {
+            Task task = taskService.getTask(taskId);
+            assertEquals("USER_1_2", task.getWorkbasketKey());
+            assertTrue(task.isTransferred());
+            assertFalse(task.isRead());
+        }
+        assertEquals("key1", taskService.getTask(FOREIGN_TASK).getWorkbasketKey());
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test(expected = NotAuthorizedException.class)
+    public void testTransferTasksRequiresAppendOnDestination()
+        throws SQLException, NotAuthorizedException, WorkbasketNotFoundException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        taskService.transferTasks("key1", createTasks(taskService, 1));
+    }
+
+    private List<String> createTasks(TaskService taskService, int numberOfTasks) {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < numberOfTasks; i++) {
+            tasks.add(newTask(taskService));
+        }
+        assertFalse(taskService.createTasks(tasks).containsErrors());
+        return ids(tasks);
+    }
+
+    @AfterClass
+    public static void cleanUpClass() {
+        FileUtils.deleteRecursive("~/data", true);
+    }
+}
@@ -0,0 +1,150 @@
+package acceptance.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.sql.SQLException;
+
+import org.h2.store.fs.FileUtils;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.Task;
+import pro.taskana.TaskService;
+import pro.taskana.exceptions.ClassificationNotFoundException;
+import pro.taskana.exceptions.InvalidArgumentException;
+import pro.taskana.exceptions.InvalidOwnerException;
+import pro.taskana.exceptions.InvalidStateException;
+import pro.taskana.exceptions.InvalidWorkbasketException;
+import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.exceptions.TaskAlreadyExistException;
+import pro.taskana.exceptions.TaskNotFoundException;
+import pro.taskana.exceptions.WorkbasketNotFoundException;
+import pro.taskana.model.TaskState;
+import pro.taskana.security.JAASRunner;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for the claim and complete scenarios.
+ */
+@RunWith(JAASRunner.class)
+public class ClaimAndCompleteTaskAccTest extends AbstractAccTest {
+
+    public ClaimAndCompleteTaskAccTest() {
+        super();
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testClaimAndCompleteTask()
+        throws SQLException, NotAuthorizedException, InvalidArgumentException, ClassificationNotFoundException,
+        WorkbasketNotFoundException, TaskAlreadyExistException, InvalidWorkbasketException, TaskNotFoundException,
+        InvalidStateException, InvalidOwnerException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        Task task = createReadyTask(taskService);
+
+        Task claimedTask = taskService.claim(task.getId());
+
+        assertEquals(TaskState.CLAIMED, claimedTask.getState());
+        assertEquals("user_1_1", claimedTask.getOwner());
+        assertNotNull(claimedTask.getClaimed());
+        assertTrue(claimedTask.isRead());
+
+        Task completedTask = taskService.completeTask(task.getId());
+
+        assertEquals(TaskState.COMPLETED, completedTask.getState());
+        assertEquals("user_1_1", completedTask.getOwner());
+        assertEquals(claimedTask.getClaimed(), completedTask.getClaimed());
+        assertNotNull(completedTask.getCompleted());
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testSecondClaimOfTaskFails()
+        throws SQLException, NotAuthorizedException, InvalidArgumentException, ClassificationNotFoundException,
+        WorkbasketNotFoundException, TaskAlreadyExistException, InvalidWorkbasketException, TaskNotFoundException,
+        InvalidStateException, InvalidOwnerException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        Task task = createReadyTask(taskService);
+        taskService.claim(task.getId());
+
+        try {
+            taskService.claim(task.getId());
+            fail("InvalidOwnerException expected");
+        } catch (InvalidOwnerException e) {
+            // expected
+        }
+
+        taskService.completeTask(task.getId());
+        try {
+            taskService.claim(task.getId(), true);
+            fail("InvalidStateException expected");
+        } catch (InvalidStateException e) {
+            // expected
+        }
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testForcedCompletionClaimsReadyTask()
+        throws SQLException, NotAuthorizedException, InvalidArgumentException, ClassificationNotFoundException,
+        WorkbasketNotFoundException, TaskAlreadyExistException, InvalidWorkbasketException, TaskNotFoundException,
+        InvalidStateException, InvalidOwnerException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        Task task = createReadyTask(taskService);
+
+        try {
+            taskService.completeTask(task.getId());
+            fail("InvalidStateException expected");
+        } catch (InvalidStateException e) {
+            // expected
+        }
+        Task completedTask = taskService.completeTask(task.getId(), true);
+
+        assertEquals(TaskState.COMPLETED, completedTask.getState());
+        assertEquals("user_1_1", completedTask.getOwner());
+        assertNotNull(completedTask.getClaimed());
+        assertEquals(completedTask.getClaimed(), completedTask.getCompleted());
+        assertTrue(completedTask.isRead());
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testSetTaskReadAndUnread()
+        throws SQLException, NotAuthorizedException, InvalidArgumentException, ClassificationNotFoundException,
+        WorkbasketNotFoundException, TaskAlreadyExistException, InvalidWorkbasketException, TaskNotFoundException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        Task task = createReadyTask(taskService);
+
+        assertTrue(taskService.setTaskRead(task.getId(), true).isRead());
+        assertFalse(taskService.setTaskRead(task.getId(), false).isRead());
+    }
+
+    private Task createReadyTask(TaskService taskService)
+        throws NotAuthorizedException, InvalidArgumentException, ClassificationNotFoundException,
+        WorkbasketNotFoundException, TaskAlreadyExistException, InvalidWorkbasketException {
+        Task newTask = taskService.newTask();
+        newTask.setClassificationKey("L10000");
+        newTask.setWorkbasketKey("USER_1_1");
+        newTask.setPrimaryObjRef(createObjectReference("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "1234567"));
+        return taskService.createTask(newTask);
+    }
+
+    @AfterClass
+    public static void cleanUpClass() {
+        FileUtils.deleteRecursive("~/data", true);
+    }
+}
@@ -0,0 +1,136 @@
+package acceptance.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.h2.store.fs.FileUtils;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.Task;
+import pro.taskana.TaskService;
+import pro.taskana.exceptions.ClassificationNotFoundException;
+import pro.taskana.exceptions.InvalidArgumentException;
+import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.model.TaskState;
+import pro.taskana.security.JAASRunner;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for claiming the next task of workbaskets by competing workers.
+ */
+@RunWith(JAASRunner.class)
+public class ClaimNextTaskAccTest extends AbstractAccTest {
+
+    private static final int NUMBER_OF_TASKS = 200;
+
+    public ClaimNextTaskAccTest() {
+        super();
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testClaimNextTakesTasksInOrderOfPriorityAndDue()
+        throws SQLException, NotAuthorizedException, InvalidArgumentException, ClassificationNotFoundException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        taskService.createTasks(newTasks(taskService, 10));
+
+        List<Task> claimedTasks = new ArrayList<>();
+        Task task = taskService.claimNext("USER_1_1");
+        while (task != null) {
+            assertEquals(TaskState.CLAIMED, task.getState());
+            assertEquals("user_1_1", task.getOwner());
+            claimedTasks.add(task);
+            task = taskService.claimNext("USER_1_1");
+        }
+
+        assertTrue(claimedTasks.size() >= 10);
+        for (int i = 1; i < claimedTasks.size(); i++) {
+            Task previous = claimedTasks.get(i - 1);
+            Task current = claimedTasks.get(i);
+            assertTrue(previous.getPriority() >= current.getPriority());
+            if (previous.getPriority() == current.getPriority() && previous.getDue() != null) {
+                assertTrue(current.getDue() == null || !previous.getDue().after(current.getDue()));
+            }
+        }
+        assertNull(taskService.claimNext("USER_1_1"));
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test(expected = NotAuthorizedException.class)
+    public void testClaimNextRequiresOpenPermission()
+        throws SQLException, NotAuthorizedException, InvalidArgumentException {
+        taskanaEngine.getTaskService().claimNext("USER_1_1", "USER_2_1");
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testCompetingWorkersNeverClaimTheSameTask() throws Exception {
+        int[] numbersOfWorkers = {1, 4, 8};
+        for (int numberOfWorkers : numbersOfWorkers) {
+            TaskService taskService = taskanaEngine.getTaskService();
+            taskService.createTasks(newTasks(taskService, NUMBER_OF_TASKS));
+
+            Set<String> claimedIds = ConcurrentHashMap.newKeySet();
+            AtomicInteger doubleClaims = new AtomicInteger();
+            List<Throwable> errors = new CopyOnWriteArrayList<>();
+            List<Thread> workers = new ArrayList<>();
+            for (int i = 0; i < numberOfWorkers; i++) {
+                // threads created here inherit the security context of the test
+                workers.add(new Thread(() -> {
+                    try {
+                        Task task = taskService.claimNext("USER_1_1");
+                        while (task != null) {
+                            if (!claimedIds.add(task.getId())) {
+                                doubleClaims.incrementAndGet();
+                            }
+                            task = taskService.claimNext("USER_1_1");
+                        }
+                    } catch (Throwable e) {
+                        errors.add(e);
+                    }
+                }));
+            }
+            // the throughput per number of workers is measured by the ClaimNextBenchmark of taskana-benchmarks
+            for (Thread worker : workers) {
+                worker.start();
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+
+            assertEquals(Collections.emptyList(), errors);
+            assertEquals(0, doubleClaims.get());
+            assertTrue(claimedIds.size() >= NUMBER_OF_TASKS);
+            assertFalse(taskService.createTaskQuery()
+                .workbasketKeyIn("USER_1_1")
+                .list()
+                .stream()
+                .anyMatch(task -> task.getState() == TaskState.READY));
+        }
+    }
+
+    @AfterClass
+    public static void cleanUpClass() {
+        FileUtils.deleteRecursive("~/data", true);
+    }
+}
@@ -1,9 +1,15 @@
 package acceptance.task;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.h2.store.fs.FileUtils;
 import org.junit.AfterClass;
@@ -21,7 +27,9 @@ import pro.taskana.exceptions.InvalidWorkbasketException;
 import pro.taskana.exceptions.NotAuthorizedException;
 import pro.taskana.exceptions.TaskAlreadyExistException;
 import pro.taskana.exceptions.TaskNotFoundException;
+import pro.taskana.exceptions.TaskanaException;
 import pro.taskana.exceptions.WorkbasketNotFoundException;
+import pro.taskana.model.BulkOperationResults;
 import pro.taskana.model.TaskState;
 import pro.taskana.security.JAASRunner;
 import pro.taskana.security.WithAccessId;
@@ -403,6 +411,99 @@ public class CreateTaskAccTest extends AbstractAccTest {
         assertEquals(workbasket.getDomain(), createdTask.getDomain());
     }
 
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testCreateMultipleTasksInOneCall()
+        throws SQLException, NotAuthorizedException, InvalidArgumentException, ClassificationNotFoundException,
+        WorkbasketNotFoundException, TaskAlreadyExistException, InvalidWorkbasketException, TaskNotFoundException {
+
+        TaskService taskService = taskanaEngine.getTaskService();
+        List<Task> newTasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Task newTask = makeNewTask(taskService);
+            newTask.addAttachment(createAttachment("DOKTYP_DEFAULT",
+                createObjectReference("COMPANY_A", "SYSTEM_B", "INSTANCE_B", "ArchiveId", "1234567890" + i),
+                "E-MAIL", "2018-01-15", createSimpleCustomProperties(3)));
+            newTasks.add(newTask);
+        }
+        BulkOperationResults<Task, TaskanaException> results = taskService.createTasks(newTasks);
+
+        assertFalse(results.containsErrors());
+        for (Task createdTask : newTasks) {
+            assertNotNull(createdTask.getId());
+            Task readTask = taskService.getTask(createdTask.getId());
+            assertEquals(TaskState.READY, readTask.getState());
+            assertEquals("L12010", readTask.getClassification().getKey());
+            assertEquals(createdTask.getDomain(), readTask.getDomain());
+            assertEquals(1, readTask.getAttachments().size());
+        }
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testCreateTasksReportsFailedTasksAndCreatesTheOthers()
+        throws SQLException, NotAuthorizedException, InvalidArgumentException, ClassificationNotFoundException,
+        WorkbasketNotFoundException, TaskAlreadyExistException, InvalidWorkbasketException, TaskNotFoundException {
+
+        TaskService taskService = taskanaEngine.getTaskService();
+        Task validTask = makeNewTask(taskService);
+        Task unknownWorkbasketTask = makeNewTask(taskService);
+        unknownWorkbasketTask.setWorkbasketKey("UNKNOWN");
+        Task notAuthorizedTask = makeNewTask(taskService);
+        notAuthorizedTask.setWorkbasketKey("GPK_KSC");
+        Task unknownClassificationTask = makeNewTask(taskService);
+        unknownClassificationTask.setClassificationKey("UNKNOWN");
+        Task invalidObjectReferenceTask = makeNewTask(taskService);
+        invalidObjectReferenceTask.setPrimaryObjRef(null);
+        Task secondValidTask = makeNewTask(taskService);
+
+        BulkOperationResults<Task, TaskanaException> results = taskService.createTasks(
+            Arrays.asList(validTask, unknownWorkbasketTask, notAuthorizedTask, unknownClassificationTask,
+                invalidObjectReferenceTask, secondValidTask));
+
+        assertTrue(results.containsErrors());
+        assertEquals(4, results.getFailedIds().size());
+        assertTrue(results.getErrorForId(unknownWorkbasketTask) instanceof WorkbasketNotFoundException);
+        assertTrue(results.getErrorForId(notAuthorizedTask) instanceof NotAuthorizedException);
+        assertTrue(results.getErrorForId(unknownClassificationTask) instanceof ClassificationNotFoundException);
+        assertTrue(results.getErrorForId(invalidObjectReferenceTask) instanceof InvalidArgumentException);
+        assertNull(unknownWorkbasketTask.getId());
+        assertNotNull(taskService.getTask(validTask.getId()));
+        assertNotNull(taskService.getTask(secondValidTask.getId()));
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testCreateTasksReportsTasksRejectedByTheDatabaseAndCreatesTheOthers()
+        throws SQLException, NotAuthorizedException, InvalidArgumentException, ClassificationNotFoundException,
+        WorkbasketNotFoundException, TaskAlreadyExistException, InvalidWorkbasketException, TaskNotFoundException {
+
+        TaskService taskService = taskanaEngine.getTaskService();
+        int tasksBefore = taskService.createTaskQuery().workbasketKeyIn("USER_1_1").list().size();
+        Task validTask = makeNewTask(taskService);
+        Task tooLongTask = makeNewTask(taskService);
+        char[] tooLong = new char[300];
+        Arrays.fill(tooLong, 'x');
+        tooLongTask.setCustom1(new String(tooLong));
+        Task secondValidTask = makeNewTask(taskService);
+
+        BulkOperationResults<Task, TaskanaException> results = taskService.createTasks(
+            Arrays.asList(validTask, tooLongTask, secondValidTask));
+
+        assertEquals(1, results.getFailedIds().size());
+        assertTrue(results.getErrorForId(tooLongTask) instanceof InvalidArgumentException);
+        assertNull(tooLongTask.getId());
+        assertNotNull(taskService.getTask(validTask.getId()));
+        assertNotNull(taskService.getTask(secondValidTask.getId()));
+        assertEquals(tasksBefore + 2, taskService.createTaskQuery().workbasketKeyIn("USER_1_1").list().size());
+    }
+
     @AfterClass
     public static void cleanUpClass() {
         FileUtils.deleteRecursive("~/data", true);
@@ -0,0 +1,126 @@
+package acceptance.task;
+
+import static org.junit.Assert.assertEquals;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.session.RowBounds;
+import org.h2.store.fs.FileUtils;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.Task;
+import pro.taskana.TaskService;
+import pro.taskana.TaskanaEngine;
+import pro.taskana.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.configuration.TaskanaEngineConfiguration;
+import pro.taskana.exceptions.ClassificationNotFoundException;
+import pro.taskana.exceptions.InvalidArgumentException;
+import pro.taskana.exceptions.InvalidWorkbasketException;
+import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.exceptions.TaskAlreadyExistException;
+import pro.taskana.exceptions.TaskNotFoundException;
+import pro.taskana.exceptions.WorkbasketNotFoundException;
+import pro.taskana.impl.CustomAttributesMigrator;
+import pro.taskana.impl.TaskImpl;
+import pro.taskana.impl.TaskanaEngineImpl;
+import pro.taskana.impl.TaskanaEngineProxyForTest;
+import pro.taskana.impl.configuration.TaskanaEngineConfigurationTest;
+import pro.taskana.impl.persistence.CompactAttributeCodec;
+import pro.taskana.impl.persistence.EncodedAttributes;
+import pro.taskana.impl.persistence.JavaSerializationAttributeCodec;
+import pro.taskana.model.mappings.CustomAttributesMapper;
+import pro.taskana.security.JAASRunner;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for reading and migrating custom attributes that were written by Java serialization.
+ */
+@RunWith(JAASRunner.class)
+public class MigrateCustomAttributesAccTest extends AbstractAccTest {
+
+    public MigrateCustomAttributesAccTest() {
+        super();
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testLegacyAttributesAreReadAndMigrated()
+        throws SQLException, NotAuthorizedException, InvalidArgumentException, ClassificationNotFoundException,
+        WorkbasketNotFoundException, TaskAlreadyExistException, InvalidWorkbasketException, TaskNotFoundException {
+        Map<String, Object> taskAttributes = new HashMap<>();
+        taskAttributes.put("text", "Wert mit Umlauten äöü");
+        taskAttributes.put("number", 42);
+        taskAttributes.put("flag", Boolean.TRUE);
+        taskAttributes.put("empty", null);
+        Task createdTask = createTaskWithLegacyEngine(taskAttributes);
+        assertEquals(JavaSerializationAttributeCodec.FORMAT_MARKER, readFormatMarker("TASK", createdTask.getId()));
+
+        TaskService taskService = taskanaEngine.getTaskService();
+        Task readTask = taskService.getTask(createdTask.getId());
+        assertEquals(taskAttributes, readTask.getCustomAttributes());
+        assertEquals(createSimpleCustomProperties(3), readTask.getAttachments().get(0).getCustomAttributes());
+
+        int migrated = new CustomAttributesMigrator(taskanaEngine).migrate(1);
+
+        assertEquals(2, migrated);
+        assertEquals(CompactAttributeCodec.FORMAT_MARKER, readFormatMarker("TASK", createdTask.getId()));
+        assertEquals(CompactAttributeCodec.FORMAT_MARKER,
+            readFormatMarker("ATTACHMENT", readTask.getAttachments().get(0).getId()));
+        readTask = taskService.getTask(createdTask.getId());
+        assertEquals(taskAttributes, readTask.getCustomAttributes());
+        assertEquals(createSimpleCustomProperties(3), readTask.getAttachments().get(0).getCustomAttributes());
+        assertEquals(0, new CustomAttributesMigrator(taskanaEngine).migrate(10));
+    }
+
+    private Task createTaskWithLegacyEngine(Map<String, Object> taskAttributes)
+        throws SQLException, NotAuthorizedException, InvalidArgumentException, ClassificationNotFoundException,
+        WorkbasketNotFoundException, TaskAlreadyExistException, InvalidWorkbasketException {
+        TaskanaEngineConfiguration legacyConfiguration = new TaskanaEngineConfiguration(
+            TaskanaEngineConfigurationTest.getDataSource(), false, false);
+        legacyConfiguration.setAttributeCodec(new JavaSerializationAttributeCodec());
+        TaskanaEngine legacyEngine = legacyConfiguration.buildTaskanaEngine();
+        legacyEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+
+        TaskService taskService = legacyEngine.getTaskService();
+        Task newTask = taskService.newTask();
+        newTask.setClassificationKey("L12010");
+        newTask.setPrimaryObjRef(createObjectReference("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "1234567"));
+        newTask.setWorkbasketKey("USER_1_1");
+        ((TaskImpl) newTask).setCustomAttributes(taskAttributes);
+        newTask.addAttachment(createAttachment("DOKTYP_DEFAULT",
+            createObjectReference("COMPANY_A", "SYSTEM_B", "INSTANCE_B", "ArchiveId", "123456"),
+            "E-MAIL", "2018-01-15", createSimpleCustomProperties(3)));
+        return taskService.createTask(newTask);
+    }
+
+    private byte readFormatMarker(String table, String id) {
+        TaskanaEngineProxyForTest engineProxy = new TaskanaEngineProxyForTest((TaskanaEngineImpl) taskanaEngine);
+        try {
+            engineProxy.openConnection();
+            List<EncodedAttributes> rows = engineProxy.getSqlSession()
+                .getMapper(CustomAttributesMapper.class)
+                .findAfter(table, "", RowBounds.DEFAULT);
+            for (EncodedAttributes row : rows) {
+                if (row.getId().equals(id)) {
+                    return row.getData()[0];
+                }
+            }
+            throw new IllegalStateException("No custom attributes found for " + table + " " + id);
+        } finally {
+            engineProxy.returnConnection();
+        }
+    }
+
+    @AfterClass
+    public static void cleanUpClass() {
+        FileUtils.deleteRecursive("~/data", true);
+    }
+}
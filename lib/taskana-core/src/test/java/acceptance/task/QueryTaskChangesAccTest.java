@@ -0,0 +1,174 @@
+package acceptance.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.h2.store.fs.FileUtils;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.TaskQuery;
+import pro.taskana.TaskService;
+import pro.taskana.exceptions.InvalidArgumentException;
+import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.model.TaskChanges;
+import pro.taskana.model.TaskState;
+import pro.taskana.security.JAASRunner;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for reading the changes of a task query since a cursor.
+ */
+@RunWith(JAASRunner.class)
+public class QueryTaskChangesAccTest extends AbstractAccTest {
+
+    private Duration defaultLag = taskanaEngineConfiguration.getChangeCursorLag();
+    private Duration defaultArchiveAge = taskanaEngineConfiguration.getTaskArchiveAge();
+
+    public QueryTaskChangesAccTest() {
+        super();
+    }
+
+    @After
+    public void resetLag() {
+        taskanaEngineConfiguration.setChangeCursorLag(defaultLag);
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testChangesContainChangedTasksAndTasksWhichLeftTheQuery() throws Exception {
+        taskanaEngineConfiguration.setChangeCursorLag(Duration.ZERO);
+        TaskService taskService = taskanaEngine.getTaskService();
+        String claimedId = taskService.createTask(newTask(taskService)).getId();
+        String transferredId = taskService.createTask(newTask(taskService)).getId();
+        String completedId = taskService.createTask(newTask(taskService)).getId();
+        String unchangedId = taskService.createTask(newTask(taskService)).getId();
+        Thread.sleep(10);
+
+        TaskChanges initial = readyOrClaimedTasks(taskService).modifiedSince(0);
+        assertTrue(ids(initial.getChangedTasks()).containsAll(
+            Arrays.asList(claimedId, transferredId, completedId, unchangedId)));
+        assertEquals(Collections.emptyList(), initial.getRemovedTaskIds());
+        assertTrue(initial.getCursor() > 0);
+
+        TaskChanges noChanges = readyOrClaimedTasks(taskService).modifiedSince(initial.getCursor());
+        assertEquals(Collections.emptyList(), noChanges.getChangedTasks());
+        assertEquals(Collections.emptyList(), noChanges.getRemovedTaskIds());
+        assertEquals(initial.getCursor(), noChanges.getCursor());
+
+        taskService.claim(claimedId);
+        taskService.transfer(transferredId, "USER_1_2");
+        taskService.claim(completedId);
+        taskService.completeTask(completedId);
+        Thread.sleep(10);
+
+        TaskChanges changes = readyOrClaimedTasks(taskService).modifiedSince(initial.getCursor());
+        assertEquals(Arrays.asList(claimedId), ids(changes.getChangedTasks()));
+        assertEquals(TaskState.CLAIMED, changes.getChangedTasks().get(0).getState());
+        assertTrue(changes.getRemovedTaskIds().containsAll(Arrays.asList(transferredId, completedId)));
+        assertTrue(!changes.getRemovedTaskIds().contains(unchangedId));
+        assertTrue(changes.getCursor() > initial.getCursor());
+
+        TaskChanges afterChanges = readyOrClaimedTasks(taskService).modifiedSince(changes.getCursor());
+        assertEquals(Collections.emptyList(), afterChanges.getChangedTasks());
+        assertEquals(Collections.emptyList(), afterChanges.getRemovedTaskIds());
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testChangesOfOtherWorkbasketsAreNotReportedAsRemoved() throws Exception {
+        taskanaEngineConfiguration.setChangeCursorLag(Duration.ZERO);
+        TaskService taskService = taskanaEngine.getTaskService();
+        String otherId = taskService.createTask(newTask(taskService)).getId();
+        taskService.transfer(otherId, "USER_1_2");
+        Thread.sleep(10);
+        long cursor = readyOrClaimedTasks(taskService).modifiedSince(0).getCursor();
+        // passes the transfer out of the workbasket
+        cursor = readyOrClaimedTasks(taskService).modifiedSince(cursor).getCursor();
+
+        taskService.claim(otherId);
+        Thread.sleep(10);
+
+        TaskChanges changes = readyOrClaimedTasks(taskService).modifiedSince(cursor);
+        assertEquals(Collections.emptyList(), changes.getChangedTasks());
+        assertEquals(Collections.emptyList(), changes.getRemovedTaskIds());
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testArchivedTasksAreReportedAsRemoved() throws Exception {
+        taskanaEngineConfiguration.setChangeCursorLag(Duration.ZERO);
+        TaskService taskService = taskanaEngine.getTaskService();
+        String archivedId = taskService.createTask(newTask(taskService)).getId();
+        taskService.claim(archivedId);
+        taskService.completeTask(archivedId);
+        Thread.sleep(10);
+        TaskQuery allTasks = taskService.createTaskQuery().workbasketKeyIn("USER_1_1");
+        long cursor = allTasks.modifiedSince(0).getCursor();
+
+        taskanaEngineConfiguration.setTaskArchiveAge(Duration.ZERO);
+        try {
+            taskanaEngine.archiveCompletedTasks();
+        } finally {
+            taskanaEngineConfiguration.setTaskArchiveAge(defaultArchiveAge);
+        }
+        Thread.sleep(10);
+
+        TaskChanges changes = allTasks.modifiedSince(cursor);
+        assertTrue(changes.getRemovedTaskIds().contains(archivedId));
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testCursorStaysBehindRecentChanges() throws Exception {
+        taskanaEngineConfiguration.setChangeCursorLag(Duration.ZERO);
+        TaskService taskService = taskanaEngine.getTaskService();
+        taskService.createTask(newTask(taskService));
+        Thread.sleep(10);
+        long cursor = readyOrClaimedTasks(taskService).modifiedSince(0).getCursor();
+
+        taskanaEngineConfiguration.setChangeCursorLag(Duration.ofHours(1));
+        String recentId = taskService.createTask(newTask(taskService)).getId();
+
+        TaskChanges changes = readyOrClaimedTasks(taskService).modifiedSince(cursor);
+        assertEquals(Arrays.asList(recentId), ids(changes.getChangedTasks()));
+        assertEquals(cursor, changes.getCursor());
+        // the change is returned again until it is older than the lag
+        assertEquals(Arrays.asList(recentId),
+            ids(readyOrClaimedTasks(taskService).modifiedSince(changes.getCursor()).getChangedTasks()));
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test(expected = InvalidArgumentException.class)
+    public void testNegativeCursorIsRejected() throws NotAuthorizedException, InvalidArgumentException {
+        readyOrClaimedTasks(taskanaEngine.getTaskService()).modifiedSince(-1);
+    }
+
+    private TaskQuery readyOrClaimedTasks(TaskService taskService) throws NotAuthorizedException {
+        return taskService.createTaskQuery()
+            .workbasketKeyIn("USER_1_1")
+            .state(TaskState.READY, TaskState.CLAIMED);
+    }
+
+    @AfterClass
+    public static void cleanUpClass() {
+        FileUtils.deleteRecursive("~/data", true);
+    }
+}
@@ -0,0 +1,96 @@
+package acceptance.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.h2.store.fs.FileUtils;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.Task;
+import pro.taskana.TaskService;
+import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.model.TaskSortKey;
+import pro.taskana.model.TaskSummary;
+import pro.taskana.security.JAASRunner;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for querying task summaries.
+ */
+@RunWith(JAASRunner.class)
+public class QueryTaskSummariesAccTest extends AbstractAccTest {
+
+    public QueryTaskSummariesAccTest() {
+        super();
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testSummariesMatchTheListedTasks() throws SQLException, NotAuthorizedException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        List<Task> tasks = taskService.createTaskQuery()
+            .classificationKeyIn("L10000")
+            .orderBy(TaskSortKey.CREATED)
+            .list();
+        List<TaskSummary> summaries = taskService.createTaskQuery()
+            .classificationKeyIn("L10000")
+            .orderBy(TaskSortKey.CREATED)
+            .listSummaries();
+
+        assertFalse(summaries.isEmpty());
+        assertEquals(tasks.size(), summaries.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            TaskSummary summary = summaries.get(i);
+            assertEquals(task.getId(), summary.getTaskId());
+            assertEquals(task.getName(), summary.getTaskName());
+            assertEquals(task.getState(), summary.getState());
+            assertEquals(task.getPriority(), summary.getPriority());
+            assertEquals(task.getOwner(), summary.getOwner());
+            assertEquals(task.getWorkbasketKey(), summary.getWorkbasketKey());
+            assertNotNull(summary.getWorkbasketName());
+            assertEquals("L10000", summary.getClassificationKey());
+            // the classification only exists in the root domain
+            assertEquals(task.getClassification().getName(), summary.getClassificationName());
+        }
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testListSummariesWithOffsetAndLimit() throws SQLException, NotAuthorizedException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        List<String> allIds = new ArrayList<>();
+        for (TaskSummary summary : taskService.createTaskQuery()
+            .classificationKeyIn("L10000")
+            .orderBy(TaskSortKey.CREATED)
+            .listSummaries()) {
+            allIds.add(summary.getTaskId());
+        }
+
+        List<TaskSummary> summaries = taskService.createTaskQuery()
+            .classificationKeyIn("L10000")
+            .orderBy(TaskSortKey.CREATED)
+            .listSummaries(1, 2);
+
+        assertEquals(2, summaries.size());
+        assertEquals(allIds.get(1), summaries.get(0).getTaskId());
+        assertEquals(allIds.get(2), summaries.get(1).getTaskId());
+    }
+
+    @AfterClass
+    public static void cleanUpClass() {
+        FileUtils.deleteRecursive("~/data", true);
+    }
+}
@@ -1,7 +1,22 @@
 package acceptance.task;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
 import org.h2.store.fs.FileUtils;
 import org.junit.AfterClass;
 import org.junit.Ignore;
@@ -9,8 +24,14 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import acceptance.AbstractAccTest;
+import pro.taskana.Task;
+import pro.taskana.TaskService;
+import pro.taskana.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.exceptions.ClassificationNotFoundException;
 import pro.taskana.exceptions.InvalidArgumentException;
 import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.impl.TaskanaEngineImpl;
+import pro.taskana.impl.TaskanaEngineProxyForTest;
 import pro.taskana.security.JAASRunner;
 import pro.taskana.security.WithAccessId;
 
@@ -50,6 +71,88 @@ public class QueryTasksByWorkbasketAccTest extends AbstractAccTest {
         // .list();
     }
 
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = { "group_1" })
+    @Test
+    public void testNumberOfStatementsDoesNotGrowWithNumberOfResults()
+        throws SQLException, NotAuthorizedException, InvalidArgumentException, ClassificationNotFoundException {
+        // the counter is added to the configuration of an engine of its own, it cannot be removed again. The engine
+        // caches neither classifications nor authorizations, so every statement of a query is counted each time
+        int classificationCacheSize = taskanaEngineConfiguration.getClassificationCacheSize();
+        Duration authorizationCacheTimeToLive = taskanaEngineConfiguration.getAuthorizationCacheTimeToLive();
+        TaskanaEngineImpl countingEngine;
+        try {
+            taskanaEngineConfiguration.setClassificationCacheSize(0);
+            taskanaEngineConfiguration.setAuthorizationCacheTimeToLive(Duration.ZERO);
+            countingEngine = (TaskanaEngineImpl) taskanaEngineConfiguration.buildTaskanaEngine();
+        } finally {
+            taskanaEngineConfiguration.setClassificationCacheSize(classificationCacheSize);
+            taskanaEngineConfiguration.setAuthorizationCacheTimeToLive(authorizationCacheTimeToLive);
+        }
+        countingEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+        StatementCounter statementCounter = new StatementCounter();
+        new TaskanaEngineProxyForTest(countingEngine).getSqlSession()
+            .getConfiguration()
+            .addInterceptor(statementCounter);
+        TaskService taskService = countingEngine.getTaskService();
+
+        taskService.createTasks(newTasks(taskService, 2));
+        statementCounter.reset();
+        List<Task> results = taskService.createTaskQuery()
+            .workbasketKeyIn("USER_1_1")
+            .list();
+        int statementsForSmallResult = statementCounter.getCount();
+        assertTrue(results.size() >= 2);
+
+        taskService.createTasks(newTasks(taskService, 30));
+        statementCounter.reset();
+        results = taskService.createTaskQuery()
+            .workbasketKeyIn("USER_1_1")
+            .list();
+
+        assertTrue(results.size() >= 32);
+        // the classifications of all tasks are read with one statement, however many tasks there are
+        assertEquals(statementsForSmallResult, statementCounter.getCount());
+        for (Task task : results) {
+            assertNotNull(task.getClassification());
+            assertEquals(task.getDomain(), task.getClassification().getDomain());
+        }
+    }
+
+    /**
+     * Counts the statements prepared by MyBatis.
+     */
+    @Intercepts({@Signature(type = StatementHandler.class, method = "prepare",
+        args = {Connection.class, Integer.class})})
+    public static class StatementCounter implements Interceptor {
+
+        private AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Object intercept(Invocation invocation) throws Throwable {
+            count.incrementAndGet();
+            return invocation.proceed();
+        }
+
+        @Override
+        public Object plugin(Object target) {
+            return Plugin.wrap(target, this);
+        }
+
+        @Override
+        public void setProperties(Properties properties) {
+        }
+
+        public int getCount() {
+            return count.get();
+        }
+
+        public void reset() {
+            count.set(0);
+        }
+    }
+
     @AfterClass
     public static void cleanUpClass() {
         FileUtils.deleteRecursive("~/data", true);
@@ -0,0 +1,128 @@
+package acceptance.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import org.h2.store.fs.FileUtils;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.Task;
+import pro.taskana.TaskService;
+import pro.taskana.exceptions.InvalidArgumentException;
+import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.model.TaskPage;
+import pro.taskana.model.TaskSortKey;
+import pro.taskana.security.JAASRunner;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for the keyset pagination of tasks.
+ */
+@RunWith(JAASRunner.class)
+public class QueryTasksWithPaginationAccTest extends AbstractAccTest {
+
+    public QueryTasksWithPaginationAccTest() {
+        super();
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testPagesContainEachTaskExactlyOnceInSortOrder()
+        throws SQLException, NotAuthorizedException, InvalidArgumentException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        for (TaskSortKey sortKey : TaskSortKey.values()) {
+            List<Task> expected = taskService.createTaskQuery()
+                .orderBy(sortKey)
+                .list();
+
+            List<String> pagedIds = new ArrayList<>();
+            String cursor = null;
+            do {
+                TaskPage page = taskService.createTaskQuery()
+                    .orderBy(sortKey)
+                    .listAfter(cursor, 3);
+                assertTrue(page.getTasks().size() <= 3);
+                for (Task task : page.getTasks()) {
+                    pagedIds.add(task.getId());
+                }
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+
+            List<String> expectedIds = new ArrayList<>();
+            for (Task task : expected) {
+                expectedIds.add(task.getId());
+            }
+            assertEquals(sortKey.name(), expectedIds, pagedIds);
+            assertEquals(pagedIds.size(), new HashSet<>(pagedIds).size());
+        }
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testFiltersApplyToPages()
+        throws SQLException, NotAuthorizedException, InvalidArgumentException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        int numberOfTasks = taskService.createTaskQuery()
+            .classificationKeyIn("L10000")
+            .list()
+            .size();
+
+        TaskPage page = taskService.createTaskQuery()
+            .classificationKeyIn("L10000")
+            .orderBy(TaskSortKey.PRIORITY)
+            .listAfter(null, numberOfTasks);
+
+        assertEquals(numberOfTasks, page.getTasks().size());
+        assertFalse(page.hasNext());
+        assertNull(page.getNextCursor());
+        for (int i = 1; i < page.getTasks().size(); i++) {
+            assertTrue(page.getTasks().get(i - 1).getPriority() >= page.getTasks().get(i).getPriority());
+        }
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test(expected = InvalidArgumentException.class)
+    public void testCursorOfOtherOrderIsRejected()
+        throws SQLException, NotAuthorizedException, InvalidArgumentException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        TaskPage page = taskService.createTaskQuery()
+            .orderBy(TaskSortKey.DUE)
+            .listAfter(null, 1);
+
+        taskService.createTaskQuery()
+            .orderBy(TaskSortKey.CREATED)
+            .listAfter(page.getNextCursor(), 1);
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test(expected = InvalidArgumentException.class)
+    public void testMalformedCursorIsRejected()
+        throws SQLException, NotAuthorizedException, InvalidArgumentException {
+        taskanaEngine.getTaskService()
+            .createTaskQuery()
+            .listAfter("not a cursor", 1);
+    }
+
+    @AfterClass
+    public static void cleanUpClass() {
+        FileUtils.deleteRecursive("~/data", true);
+    }
+}
@@ -0,0 +1,121 @@
+package acceptance.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.h2.store.fs.FileUtils;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.Classification;
+import pro.taskana.Task;
+import pro.taskana.TaskService;
+import pro.taskana.exceptions.ClassificationNotFoundException;
+import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.model.TaskSortKey;
+import pro.taskana.security.JAASRunner;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for streaming the result of a task query.
+ */
+@RunWith(JAASRunner.class)
+public class StreamTasksAccTest extends AbstractAccTest {
+
+    public StreamTasksAccTest() {
+        super();
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testForEachVisitsTheSameTasksAsList() throws SQLException, NotAuthorizedException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        List<String> expectedIds = new ArrayList<>();
+        for (Task task : taskService.createTaskQuery().orderBy(TaskSortKey.CREATED).list()) {
+            expectedIds.add(task.getId());
+        }
+
+        List<String> streamedIds = new ArrayList<>();
+        taskService.createTaskQuery()
+            .orderBy(TaskSortKey.CREATED)
+            .forEach(task -> {
+                assertNotNull(task.getClassification());
+                assertNotNull(task.getPrimaryObjRef());
+                streamedIds.add(task.getId());
+            });
+
+        assertEquals(expectedIds, streamedIds);
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testEngineIsUsableAfterActionFailed() throws SQLException, NotAuthorizedException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        try {
+            taskService.createTaskQuery().forEach(task -> {
+                throw new IllegalStateException("stop after the first task");
+            });
+            fail("the exception of the action is expected to be passed on");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        List<Task> tasks = new ArrayList<>();
+        taskService.createTaskQuery()
+            .classificationKeyIn("L10000")
+            .forEach(tasks::add);
+        assertEquals(taskService.createTaskQuery().classificationKeyIn("L10000").list().size(), tasks.size());
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testForEachReadsEachClassificationOnce() throws SQLException, NotAuthorizedException,
+        ClassificationNotFoundException {
+        TaskService taskService = taskanaEngine.getTaskService();
+        List<Task> newTasks = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            newTasks.add(newTask(taskService));
+        }
+        taskService.createTasks(newTasks);
+
+        Map<String, Classification> classifications = new HashMap<>();
+        AtomicInteger reusedClassifications = new AtomicInteger();
+        taskService.createTaskQuery()
+            .workbasketKeyIn("USER_1_1")
+            .classificationKeyIn("T2100")
+            .forEach(task -> {
+                String key = task.getClassification().getKey() + "/" + task.getDomain();
+                Classification classification = classifications.putIfAbsent(key, task.getClassification());
+                if (classification != null) {
+                    // the lookup of the first task of a classification is reused, not repeated
+                    assertSame(classification, task.getClassification());
+                    reusedClassifications.incrementAndGet();
+                }
+            });
+
+        assertTrue(reusedClassifications.get() > 0);
+    }
+
+    @AfterClass
+    public static void cleanUpClass() {
+        FileUtils.deleteRecursive("~/data", true);
+    }
+}
@@ -0,0 +1,288 @@
+package acceptance.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import org.h2.store.fs.FileUtils;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.Task;
+import pro.taskana.TaskService;
+import pro.taskana.exceptions.InvalidArgumentException;
+import pro.taskana.model.TaskEvent;
+import pro.taskana.model.TaskEventType;
+import pro.taskana.model.TaskState;
+import pro.taskana.security.JAASRunner;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for the delivery of task events to registered listeners.
+ */
+@RunWith(JAASRunner.class)
+public class TaskEventsAccTest extends AbstractAccTest {
+
+    private static final long TIMEOUT_MILLIS = 10000;
+
+    public TaskEventsAccTest() {
+        super();
+    }
+
+    @BeforeClass
+    public static void enableEvents() {
+        taskanaEngineConfiguration.setTaskEventsEnabled(true);
+        taskanaEngineConfiguration.setTaskEventPollInterval(Duration.ofMillis(20));
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testListenerReceivesTheChangesOfTasksInOrder() throws Exception {
+        List<TaskEvent> received = new CopyOnWriteArrayList<>();
+        taskanaEngine.registerTaskEventListener("ordered-consumer", received::addAll);
+        try {
+            TaskService taskService = taskanaEngine.getTaskService();
+            Task task = taskService.createTask(newTask(taskService));
+            taskService.claim(task.getId());
+            task = taskService.getTask(task.getId());
+            task.setCustom1("changed");
+            taskService.updateTask(task);
+            taskService.completeTask(task.getId());
+            Task transferredTask = taskService.createTask(newTask(taskService));
+            taskService.transfer(transferredTask.getId(), "USER_1_2");
+
+            awaitEvents(received, Collections.singletonList(task.getId()), 4);
+            awaitEvents(received, Collections.singletonList(transferredTask.getId()), 2);
+
+            List<TaskEvent> events = eventsOf(received, task.getId());
+            assertEquals(Arrays.asList(TaskEventType.CREATED, TaskEventType.CLAIMED, TaskEventType.UPDATED,
+                TaskEventType.COMPLETED), types(events));
+            assertEquals(TaskState.READY, events.get(0).getState());
+            assertEquals(TaskState.CLAIMED, events.get(1).getState());
+            assertEquals("user_1_1", events.get(1).getOwner());
+            assertEquals(TaskState.COMPLETED, events.get(3).getState());
+            assertEquals("user_1_1", events.get(3).getUserId());
+            List<TaskEvent> transferEvents = eventsOf(received, transferredTask.getId());
+            assertEquals(Arrays.asList(TaskEventType.CREATED, TaskEventType.TRANSFERRED), types(transferEvents));
+            assertEquals("USER_1_2", transferEvents.get(1).getWorkbasketKey());
+            for (int i = 1; i < received.size(); i++) {
+                assertTrue(received.get(i - 1).getId() < received.get(i).getId());
+            }
+        } finally {
+            taskanaEngine.removeTaskEventConsumer("ordered-consumer");
+        }
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testBulkOperationsRecordAnEventPerTask() throws Exception {
+        List<TaskEvent> received = new CopyOnWriteArrayList<>();
+        taskanaEngine.registerTaskEventListener("bulk-consumer", received::addAll);
+        try {
+            TaskService taskService = taskanaEngine.getTaskService();
+            List<Task> tasks = Arrays.asList(newTask(taskService), newTask(taskService), newTask(taskService));
+            assertFalse(taskService.createTasks(tasks).containsErrors());
+            List<String> taskIds = ids(tasks);
+            assertFalse(taskService.claimTasks(taskIds).containsErrors());
+            assertFalse(taskService.completeTasks(taskIds).containsErrors());
+
+            awaitEvents(received, taskIds, 3);
+
+            for (String taskId : taskIds) {
+                assertEquals(Arrays.asList(TaskEventType.CREATED, TaskEventType.CLAIMED, TaskEventType.COMPLETED),
+                    types(eventsOf(received, taskId)));
+            }
+        } finally {
+            taskanaEngine.removeTaskEventConsumer("bulk-consumer");
+        }
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testFailedBatchIsDeliveredAgainAndPositionIsKept() throws Exception {
+        TaskService taskService = taskanaEngine.getTaskService();
+        Task task = taskService.createTask(newTask(taskService));
+        AtomicBoolean failed = new AtomicBoolean();
+        List<TaskEvent> received = new CopyOnWriteArrayList<>();
+        taskanaEngine.registerTaskEventListener("failing-consumer", events -> {
+            if (failed.compareAndSet(false, true)) {
+                throw new IllegalStateException("first delivery fails");
+            }
+            received.addAll(events);
+        });
+        try {
+            awaitEvents(received, Collections.singletonList(task.getId()), 1);
+            assertTrue(failed.get());
+            assertEquals(1, eventsOf(received, task.getId()).size());
+        } finally {
+            taskanaEngine.unregisterTaskEventListener("failing-consumer");
+        }
+
+        taskService.claim(task.getId());
+        List<TaskEvent> receivedAfterRestart = new CopyOnWriteArrayList<>();
+        taskanaEngine.registerTaskEventListener("failing-consumer", receivedAfterRestart::addAll);
+        try {
+            awaitEvents(receivedAfterRestart, Collections.singletonList(task.getId()), 1);
+            assertEquals(Arrays.asList(TaskEventType.CLAIMED), types(eventsOf(receivedAfterRestart, task.getId())));
+        } finally {
+            taskanaEngine.removeTaskEventConsumer("failing-consumer");
+        }
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testRemovedConsumerNoLongerRetainsEvents() throws Exception {
+        TaskService taskService = taskanaEngine.getTaskService();
+        Task task = taskService.createTask(newTask(taskService));
+        List<TaskEvent> received = new CopyOnWriteArrayList<>();
+        taskanaEngine.registerTaskEventListener("removed-consumer", received::addAll);
+        awaitEvents(received, Collections.singletonList(task.getId()), 1);
+        taskanaEngine.unregisterTaskEventListener("removed-consumer");
+
+        taskService.claim(task.getId());
+        List<TaskEvent> receivedByActive = new CopyOnWriteArrayList<>();
+        taskanaEngine.registerTaskEventListener("active-consumer", receivedByActive::addAll);
+        try {
+            awaitEvents(receivedByActive, Collections.singletonList(task.getId()), 1);
+            assertEquals(1, countEvents(task.getId()));
+
+            taskanaEngine.removeTaskEventConsumer("removed-consumer");
+
+            awaitCount(() -> countEvents(task.getId()), 0);
+            assertEquals(0, countOffsets("removed-consumer"));
+        } finally {
+            taskanaEngine.removeTaskEventConsumer("removed-consumer");
+            taskanaEngine.removeTaskEventConsumer("active-consumer");
+        }
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testExpiredConsumerNoLongerRetainsEvents() throws Exception {
+        execute("INSERT INTO TASK_EVENT_OFFSET (CONSUMER_ID, EVENT_ID, MODIFIED) "
+            + "VALUES ('expired-consumer', 0, '2017-01-01 00:00:00')");
+        TaskService taskService = taskanaEngine.getTaskService();
+        Task task = taskService.createTask(newTask(taskService));
+        List<TaskEvent> received = new CopyOnWriteArrayList<>();
+        taskanaEngine.registerTaskEventListener("expiring-consumer", received::addAll);
+        try {
+            awaitEvents(received, Collections.singletonList(task.getId()), 1);
+
+            awaitCount(() -> countEvents(task.getId()), 0);
+            assertEquals(0, countOffsets("expired-consumer"));
+        } finally {
+            taskanaEngine.removeTaskEventConsumer("expiring-consumer");
+        }
+    }
+
+    @Test(expected = InvalidArgumentException.class)
+    public void testConsumerIdCanOnlyBeRegisteredOnce() throws InvalidArgumentException {
+        taskanaEngine.registerTaskEventListener("duplicate-consumer", events -> {
+        });
+        try {
+            taskanaEngine.registerTaskEventListener("duplicate-consumer", events -> {
+            });
+        } finally {
+            taskanaEngine.removeTaskEventConsumer("duplicate-consumer");
+        }
+    }
+
+    private void awaitEvents(List<TaskEvent> received, List<String> taskIds, int eventsPerTask)
+        throws InterruptedException {
+        BooleanSupplier complete = () -> taskIds.stream()
+            .allMatch(taskId -> eventsOf(received, taskId).size() >= eventsPerTask);
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!complete.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue("events have not been delivered in time: " + received, complete.getAsBoolean());
+    }
+
+    private void awaitCount(Callable<Integer> count, int expected) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (count.call() != expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(expected, (int) count.call());
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = taskanaEngineConfiguration.getDatasource().getConnection();
+            Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        }
+    }
+
+    private int countEvents(String taskId) throws SQLException {
+        return count("SELECT COUNT(*) FROM TASK_EVENT WHERE TASK_ID = ?", taskId);
+    }
+
+    private int countOffsets(String consumerId) throws SQLException {
+        return count("SELECT COUNT(*) FROM TASK_EVENT_OFFSET WHERE CONSUMER_ID = ?", consumerId);
+    }
+
+    private int count(String sql, String parameter) throws SQLException {
+        try (Connection connection = taskanaEngineConfiguration.getDatasource().getConnection();
+            PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, parameter);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getInt(1);
+            }
+        }
+    }
+
+    private List<TaskEvent> eventsOf(List<TaskEvent> events, String taskId) {
+        List<TaskEvent> eventsOfTask = new ArrayList<>();
+        for (TaskEvent event : events) {
+            if (taskId.equals(event.getTaskId().trim())) {
+                eventsOfTask.add(event);
+            }
+        }
+        return eventsOfTask;
+    }
+
+    private List<TaskEventType> types(List<TaskEvent> events) {
+        List<TaskEventType> types = new ArrayList<>();
+        for (TaskEvent event : events) {
+            types.add(event.getType());
+        }
+        return types;
+    }
+
+    @AfterClass
+    public static void cleanUpClass() {
+        FileUtils.deleteRecursive("~/data", true);
+    }
+}
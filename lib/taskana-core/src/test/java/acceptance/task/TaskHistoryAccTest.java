@@ -0,0 +1,191 @@
+package acceptance.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.h2.store.fs.FileUtils;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import acceptance.AbstractAccTest;
+import pro.taskana.Task;
+import pro.taskana.TaskService;
+import pro.taskana.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.configuration.TaskHistoryDurability;
+import pro.taskana.model.TaskEventType;
+import pro.taskana.model.TaskHistoryEntry;
+import pro.taskana.security.JAASRunner;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for the task history.
+ */
+@RunWith(JAASRunner.class)
+public class TaskHistoryAccTest extends AbstractAccTest {
+
+    private static final long TIMEOUT_MILLIS = 10000;
+
+    private TaskHistoryDurability defaultDurability = taskanaEngineConfiguration.getTaskHistoryDurability();
+
+    public TaskHistoryAccTest() {
+        super();
+    }
+
+    @After
+    public void resetDurability() {
+        taskanaEngineConfiguration.setTaskHistoryDurability(defaultDurability);
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testSynchronousHistoryIsWrittenByTheApiCall() throws Exception {
+        taskanaEngineConfiguration.setTaskHistoryDurability(TaskHistoryDurability.SYNCHRONOUS);
+        TaskService taskService = taskanaEngine.getTaskService();
+        Task task = taskService.createTask(newTask(taskService));
+        taskService.claim(task.getId());
+        taskService.transfer(task.getId(), "USER_1_2");
+
+        List<TaskHistoryEntry> history = taskService.createTaskHistoryQuery().taskIdIn(task.getId()).list();
+
+        assertEquals(Arrays.asList(TaskEventType.CREATED, TaskEventType.CLAIMED, TaskEventType.TRANSFERRED),
+            actions(history));
+        for (TaskHistoryEntry entry : history) {
+            assertEquals("user_1_1", entry.getUserId());
+        }
+        assertNull(history.get(1).getWorkbasketKey());
+        assertEquals("USER_1_2", history.get(2).getWorkbasketKey());
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testBatchedHistoryIsWrittenInTheBackground() throws Exception {
+        taskanaEngineConfiguration.setTaskHistoryDurability(TaskHistoryDurability.BATCHED);
+        TaskService taskService = taskanaEngine.getTaskService();
+        List<Task> tasks = Arrays.asList(newTask(taskService), newTask(taskService), newTask(taskService));
+        assertFalse(taskService.createTasks(tasks).containsErrors());
+        List<String> taskIds = ids(tasks);
+        assertFalse(taskService.claimTasks(taskIds).containsErrors());
+        assertFalse(taskService.completeTasks(taskIds).containsErrors());
+
+        String[] ids = taskIds.toArray(new String[0]);
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (taskService.createTaskHistoryQuery().taskIdIn(ids).list().size() < 9
+            && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        for (String taskId : taskIds) {
+            assertEquals(Arrays.asList(TaskEventType.CREATED, TaskEventType.CLAIMED, TaskEventType.COMPLETED),
+                actions(taskService.createTaskHistoryQuery().taskIdIn(taskId).list()));
+        }
+        List<TaskHistoryEntry> completions = taskService.createTaskHistoryQuery()
+            .taskIdIn(ids)
+            .actionIn(TaskEventType.COMPLETED)
+            .userIdIn("user_1_1")
+            .list();
+        assertEquals(3, completions.size());
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testFlushWritesTheQueuedHistory() throws Exception {
+        taskanaEngineConfiguration.setTaskHistoryDurability(TaskHistoryDurability.BATCHED);
+        TaskService taskService = taskanaEngine.getTaskService();
+        Task task = taskService.createTask(newTask(taskService));
+        taskService.claim(task.getId());
+
+        taskanaEngine.flush();
+
+        assertEquals(Arrays.asList(TaskEventType.CREATED, TaskEventType.CLAIMED),
+            actions(taskService.createTaskHistoryQuery().taskIdIn(task.getId()).list()));
+
+        taskService.completeTask(task.getId());
+        taskanaEngine.close();
+
+        assertEquals(Arrays.asList(TaskEventType.CREATED, TaskEventType.CLAIMED, TaskEventType.COMPLETED),
+            actions(taskService.createTaskHistoryQuery().taskIdIn(task.getId()).list()));
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testBatchedHistoryOfRolledBackChangeIsDiscarded() throws Exception {
+        taskanaEngineConfiguration.setTaskHistoryDurability(TaskHistoryDurability.BATCHED);
+        TaskService taskService = taskanaEngine.getTaskService();
+        Task task = taskService.createTask(newTask(taskService));
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (taskService.createTaskHistoryQuery().taskIdIn(task.getId()).list().isEmpty()
+            && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        try (Connection connection = taskanaEngineConfiguration.getDatasource().getConnection()) {
+            connection.setAutoCommit(false);
+            taskanaEngine.setConnection(connection);
+            taskService.claim(task.getId());
+            connection.rollback();
+        } finally {
+            taskanaEngine.closeConnection();
+            taskanaEngine.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+        }
+        // give a wrongly queued entry the time to be written
+        Thread.sleep(500);
+
+        assertEquals(Arrays.asList(TaskEventType.CREATED),
+            actions(taskService.createTaskHistoryQuery().taskIdIn(task.getId()).list()));
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testHistoryCanBeFilteredByCreationTime() throws Exception {
+        taskanaEngineConfiguration.setTaskHistoryDurability(TaskHistoryDurability.SYNCHRONOUS);
+        TaskService taskService = taskanaEngine.getTaskService();
+        Task task = taskService.createTask(newTask(taskService));
+        TaskHistoryEntry creation = taskService.createTaskHistoryQuery().taskIdIn(task.getId()).single();
+        Thread.sleep(10);
+        taskService.claim(task.getId());
+
+        List<TaskHistoryEntry> later = taskService.createTaskHistoryQuery()
+            .taskIdIn(task.getId())
+            .createdAfter(creation.getCreated())
+            .list();
+
+        assertEquals(Arrays.asList(TaskEventType.CLAIMED), actions(later));
+        assertTrue(taskService.createTaskHistoryQuery()
+            .taskIdIn(task.getId())
+            .createdBefore(creation.getCreated())
+            .list()
+            .isEmpty());
+    }
+
+    private List<TaskEventType> actions(List<TaskHistoryEntry> entries) {
+        List<TaskEventType> actions = new ArrayList<>();
+        for (TaskHistoryEntry entry : entries) {
+            actions.add(entry.getAction());
+        }
+        return actions;
+    }
+
+    @AfterClass
+    public static void cleanUpClass() {
+        FileUtils.deleteRecursive("~/data", true);
+    }
+}
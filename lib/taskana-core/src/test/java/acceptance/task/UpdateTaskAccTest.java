@@ -3,6 +3,8 @@ package acceptance.task;
 import static org.junit.Assert.assertEquals;
 
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.h2.store.fs.FileUtils;
 import org.junit.AfterClass;
@@ -17,11 +19,15 @@ import pro.taskana.TaskService;
 import pro.taskana.exceptions.ClassificationNotFoundException;
 import pro.taskana.exceptions.ConcurrencyException;
 import pro.taskana.exceptions.InvalidArgumentException;
+import pro.taskana.exceptions.InvalidOwnerException;
+import pro.taskana.exceptions.InvalidStateException;
 import pro.taskana.exceptions.InvalidWorkbasketException;
 import pro.taskana.exceptions.NotAuthorizedException;
 import pro.taskana.exceptions.TaskAlreadyExistException;
 import pro.taskana.exceptions.TaskNotFoundException;
 import pro.taskana.exceptions.WorkbasketNotFoundException;
+import pro.taskana.impl.TaskImpl;
+import pro.taskana.model.TaskState;
 import pro.taskana.security.JAASRunner;
 import pro.taskana.security.WithAccessId;
 
@@ -136,6 +142,130 @@ public class UpdateTaskAccTest extends AbstractAccTest {
 
     }
 
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testUpdateKeepsUnchangedCustomAttributes()
+        throws SQLException, NotAuthorizedException, InvalidArgumentException, ClassificationNotFoundException,
+        WorkbasketNotFoundException, TaskAlreadyExistException, InvalidWorkbasketException, TaskNotFoundException,
+        ConcurrencyException {
+
+        TaskService taskService = taskanaEngine.getTaskService();
+        String taskId = createTaskWithCustomAttributes(taskService);
+        Task task = taskService.getTask(taskId);
+        task.setCustom3("changed");
+        taskService.updateTask(task);
+
+        Task updatedTask = taskService.getTask(taskId);
+        assertEquals("changed", updatedTask.getCustom3());
+        assertEquals("value", updatedTask.getCustomAttributes().get("key"));
+        assertEquals("7654321", updatedTask.getPrimaryObjRef().getValue());
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testUpdateWritesCustomAttributesChangedInPlace()
+        throws SQLException, NotAuthorizedException, InvalidArgumentException, ClassificationNotFoundException,
+        WorkbasketNotFoundException, TaskAlreadyExistException, InvalidWorkbasketException, TaskNotFoundException,
+        ConcurrencyException {
+
+        TaskService taskService = taskanaEngine.getTaskService();
+        String taskId = createTaskWithCustomAttributes(taskService);
+        Task task = taskService.getTask(taskId);
+        task.getCustomAttributes().put("key", "other value");
+        task.getPrimaryObjRef().setValue("1111111");
+        taskService.updateTask(task);
+
+        Task updatedTask = taskService.getTask(taskId);
+        assertEquals("other value", updatedTask.getCustomAttributes().get("key"));
+        assertEquals("1111111", updatedTask.getPrimaryObjRef().getValue());
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testUpdateFailsIfTaskHasBeenClaimedSinceItWasRead()
+        throws SQLException, NotAuthorizedException, InvalidArgumentException, ClassificationNotFoundException,
+        WorkbasketNotFoundException, TaskAlreadyExistException, InvalidWorkbasketException, TaskNotFoundException,
+        ConcurrencyException, InvalidStateException, InvalidOwnerException {
+
+        TaskService taskService = taskanaEngine.getTaskService();
+        String taskId = createTaskWithCustomAttributes(taskService);
+        Task task = taskService.getTask(taskId);
+        assertEquals(0, task.getVersion());
+
+        Task claimedTask = taskService.claim(taskId);
+        assertEquals(1, claimedTask.getVersion());
+
+        task.setCustom1("outdated");
+        try {
+            taskService.updateTask(task);
+            Assert.fail("the update of an outdated task must fail");
+        } catch (ConcurrencyException ex) {
+            assertEquals("The task has already been updated by another user", ex.getMessage());
+        }
+
+        claimedTask.setCustom1("current");
+        taskService.updateTask(claimedTask);
+        assertEquals(2, claimedTask.getVersion());
+
+        Task updatedTask = taskService.getTask(taskId);
+        assertEquals("current", updatedTask.getCustom1());
+        assertEquals(2, updatedTask.getVersion());
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = {"group_1"})
+    @Test
+    public void testUpdateRejectsChangesOfStateAndOwner()
+        throws SQLException, NotAuthorizedException, InvalidArgumentException, ClassificationNotFoundException,
+        WorkbasketNotFoundException, TaskAlreadyExistException, InvalidWorkbasketException, TaskNotFoundException,
+        ConcurrencyException {
+
+        TaskService taskService = taskanaEngine.getTaskService();
+        String taskId = createTaskWithCustomAttributes(taskService);
+        Task task = taskService.getTask(taskId);
+        task.setOwner("user_1_2");
+        try {
+            taskService.updateTask(task);
+            Assert.fail("the owner must not be changed by an update");
+        } catch (InvalidArgumentException ex) {
+            // nothing to do
+        }
+
+        task = taskService.getTask(taskId);
+        ((TaskImpl) task).setState(TaskState.COMPLETED);
+        try {
+            taskService.updateTask(task);
+            Assert.fail("the state must not be changed by an update");
+        } catch (InvalidArgumentException ex) {
+            // nothing to do
+        }
+
+        Task storedTask = taskService.getTask(taskId);
+        assertEquals(TaskState.READY, storedTask.getState());
+        Assert.assertNull(storedTask.getOwner());
+        assertEquals(0, storedTask.getVersion());
+    }
+
+    private String createTaskWithCustomAttributes(TaskService taskService)
+        throws NotAuthorizedException, InvalidArgumentException, ClassificationNotFoundException,
+        WorkbasketNotFoundException, TaskAlreadyExistException, InvalidWorkbasketException {
+        Task newTask = taskService.newTask();
+        newTask.setClassificationKey("T2100");
+        newTask.setWorkbasketKey("USER_1_1");
+        newTask.setPrimaryObjRef(createObjectReference("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "7654321"));
+        Map<String, Object> customAttributes = new HashMap<>();
+        customAttributes.put("key", "value");
+        ((TaskImpl) newTask).setCustomAttributes(customAttributes);
+        return taskService.createTask(newTask).getId();
+    }
+
     @Ignore
     @WithAccessId(
         userName = "user_1_1",
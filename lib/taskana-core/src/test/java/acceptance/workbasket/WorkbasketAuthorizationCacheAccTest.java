@@ -0,0 +1,101 @@
+package acceptance.workbasket;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.h2.store.fs.FileUtils;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import pro.taskana.TaskanaEngine;
+import pro.taskana.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.WorkbasketService;
+import pro.taskana.configuration.TaskanaEngineConfiguration;
+import pro.taskana.database.TestDataGenerator;
+import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.impl.TaskanaEngineImpl;
+import pro.taskana.impl.configuration.DBCleaner;
+import pro.taskana.impl.configuration.TaskanaEngineConfigurationTest;
+import pro.taskana.model.CacheStatistics;
+import pro.taskana.model.WorkbasketAccessItem;
+import pro.taskana.model.WorkbasketAuthorization;
+import pro.taskana.security.JAASRunner;
+import pro.taskana.security.WithAccessId;
+
+/**
+ * Acceptance test for the caching of workbasket authorization checks.
+ */
+@RunWith(JAASRunner.class)
+public class WorkbasketAuthorizationCacheAccTest {
+
+    private static TaskanaEngine taskanaEngine;
+
+    @BeforeClass
+    public static void setupTest() throws SQLException {
+        DataSource dataSource = TaskanaEngineConfigurationTest.getDataSource();
+        DBCleaner cleaner = new DBCleaner();
+        cleaner.clearDb(dataSource, true);
+        TaskanaEngineConfiguration taskanaEngineConfiguration = new TaskanaEngineConfiguration(dataSource, false,
+            true);
+        taskanaEngine = taskanaEngineConfiguration.buildTaskanaEngine();
+        ((TaskanaEngineImpl) taskanaEngine).setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+        cleaner.clearDb(dataSource, false);
+        new TestDataGenerator().generateTestData(dataSource);
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = { "group_1" })
+    @Test
+    public void testRepeatedCheckIsServedFromCache() throws NotAuthorizedException {
+        WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+        workbasketService.checkAuthorization("USER_1_1", WorkbasketAuthorization.APPEND);
+        CacheStatistics before = taskanaEngine.getAuthorizationCacheStatistics();
+
+        workbasketService.checkAuthorization("USER_1_1", WorkbasketAuthorization.APPEND);
+        workbasketService.checkAuthorization("USER_1_1", WorkbasketAuthorization.APPEND);
+
+        CacheStatistics after = taskanaEngine.getAuthorizationCacheStatistics();
+        Assert.assertEquals(before.getHits() + 2, after.getHits());
+        Assert.assertEquals(before.getMisses(), after.getMisses());
+    }
+
+    @WithAccessId(
+        userName = "user_1_1",
+        groupNames = { "group_1" })
+    @Test
+    public void testChangedAuthorizationsAreVisibleImmediately() throws NotAuthorizedException {
+        WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+        assertNotAuthorized(workbasketService, "GPK_KSC", WorkbasketAuthorization.APPEND);
+
+        WorkbasketAccessItem accessItem = new WorkbasketAccessItem();
+        accessItem.setWorkbasketKey("GPK_KSC");
+        accessItem.setAccessId("user_1_1");
+        accessItem.setPermRead(true);
+        accessItem.setPermAppend(true);
+        accessItem = workbasketService.createWorkbasketAuthorization(accessItem);
+        workbasketService.checkAuthorization("GPK_KSC", WorkbasketAuthorization.APPEND);
+
+        workbasketService.deleteWorkbasketAuthorization(accessItem.getId());
+        assertNotAuthorized(workbasketService, "GPK_KSC", WorkbasketAuthorization.APPEND);
+    }
+
+    private void assertNotAuthorized(WorkbasketService workbasketService, String workbasketKey,
+        WorkbasketAuthorization authorization) {
+        try {
+            workbasketService.checkAuthorization(workbasketKey, authorization);
+            Assert.fail("NotAuthorizedException expected for " + authorization + " on " + workbasketKey);
+        } catch (NotAuthorizedException e) {
+            // expected
+        }
+    }
+
+    @AfterClass
+    public static void cleanUpClass() {
+        FileUtils.deleteRecursive("~/data", true);
+    }
+}
@@ -10,14 +10,17 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import java.sql.Date;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -26,8 +29,8 @@ import org.mockito.junit.MockitoJUnitRunner;
 import pro.taskana.Classification;
 import pro.taskana.exceptions.ClassificationAlreadyExistException;
 import pro.taskana.exceptions.ClassificationNotFoundException;
-import pro.taskana.exceptions.InvalidArgumentException;
-import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.exceptions.ConcurrencyException;
+import pro.taskana.model.ClassificationTreeNode;
 import pro.taskana.model.mappings.ClassificationMapper;
 
 /**
@@ -60,25 +63,30 @@ public class ClassificationServiceImplTest {
     }
 
     @Test
-    public void testGetClassificationTree() throws NotAuthorizedException, InvalidArgumentException {
-        List<Classification> classifications = new ArrayList<>();
+    public void testGetClassificationTree() {
+        List<ClassificationImpl> classifications = Arrays.asList(
+            createClassification("A", "", ""),
+            createClassification("A", "DOMAIN_A", ""),
+            createClassification("B", "", "A"),
+            createClassification("C", "DOMAIN_A", "A"),
+            createClassification("D", "DOMAIN_A", "MISSING"));
+        doReturn(classifications).when(classificationMapperMock)
+            .findAllByValidUntil(ClassificationServiceImpl.CURRENT_CLASSIFICATIONS_VALID_UNTIL);
+
+        List<ClassificationTreeNode> roots = cutSpy.getClassificationTree();
 
-        doReturn(classificationQueryImplMock).when(cutSpy).createClassificationQuery();
-        doReturn(classificationQueryImplMock).when(classificationQueryImplMock).parentClassificationKey("");
-        doReturn(classificationQueryImplMock).when(classificationQueryImplMock)
-            .validUntil(ClassificationServiceImpl.CURRENT_CLASSIFICATIONS_VALID_UNTIL);
-        doReturn(classifications).when(classificationQueryImplMock).list();
-
-        List<Classification> actaulResults = cutSpy.getClassificationTree();
-
-        verify(taskanaEngineImplMock, times(2)).openConnection();
-        verify(cutSpy, times(1)).createClassificationQuery();
-        verify(classificationQueryImplMock, times(1)).parentClassificationKey("");
-        verify(classificationQueryImplMock, times(1))
-            .validUntil(ClassificationServiceImpl.CURRENT_CLASSIFICATIONS_VALID_UNTIL);
-        verify(classificationQueryImplMock, times(1)).list();
-        verify(taskanaEngineImplMock, times(2)).returnConnection();
-        assertThat(actaulResults, equalTo(classifications));
+        verify(taskanaEngineImplMock, times(1)).openConnection();
+        verify(classificationMapperMock, times(1))
+            .findAllByValidUntil(ClassificationServiceImpl.CURRENT_CLASSIFICATIONS_VALID_UNTIL);
+        verify(taskanaEngineImplMock, times(1)).returnConnection();
+        verifyNoMoreInteractions(classificationMapperMock, taskanaEngineImplMock, classificationQueryImplMock);
+        assertThat(roots.size(), equalTo(3));
+        assertThat(roots.get(0).getClassification().getDomain(), equalTo(""));
+        assertThat(roots.get(0).getChildren().size(), equalTo(1));
+        assertThat(roots.get(0).getChildren().get(0).getClassification().getKey(), equalTo("B"));
+        assertThat(roots.get(1).getClassification().getDomain(), equalTo("DOMAIN_A"));
+        assertThat(roots.get(1).getChildren().get(0).getClassification().getKey(), equalTo("C"));
+        assertThat(roots.get(2).getClassification().getKey(), equalTo("D"));
     }
 
     @Test(expected = ClassificationAlreadyExistException.class)
@@ -95,6 +103,7 @@ public class ClassificationServiceImplTest {
             verify(classificationMapperMock, times(1)).findByKeyAndDomain(classification.getKey(),
                 classification.getDomain(), ClassificationServiceImpl.CURRENT_CLASSIFICATIONS_VALID_UNTIL);
             verify(taskanaEngineImplMock, times(1)).returnConnection();
+            verify(taskanaEngineImplMock, times(1)).runAfterCompletion(any());
             verifyNoMoreInteractions(classificationMapperMock, taskanaEngineImplMock, classificationQueryImplMock);
             throw e;
         }
@@ -119,6 +128,7 @@ public class ClassificationServiceImplTest {
         verify(classificationMapperMock, times(1)).findByKeyAndDomain(key, "", validUntil);
         verify(classificationMapperMock, times(1)).insert(any());
         verify(taskanaEngineImplMock, times(2)).returnConnection();
+        verify(taskanaEngineImplMock, times(2)).runAfterCompletion(any());
         verifyNoMoreInteractions(classificationMapperMock, taskanaEngineImplMock, classificationQueryImplMock);
         assertThat(classification.getCreated(), equalTo(today));
         assertThat(classification.getDomain(), equalTo(domain));
@@ -147,6 +157,7 @@ public class ClassificationServiceImplTest {
         verify(classificationMapperMock, times(2)).findByKeyAndDomain(key, "", validUntil);
         verify(classificationMapperMock, times(2)).insert(any());
         verify(taskanaEngineImplMock, times(2)).returnConnection();
+        verify(taskanaEngineImplMock, times(2)).runAfterCompletion(any());
         verifyNoMoreInteractions(classificationMapperMock, taskanaEngineImplMock, classificationQueryImplMock);
         assertThat(classification.getCreated(), equalTo(today));
         assertThat(classification.getDomain(), equalTo(domain));
@@ -171,6 +182,7 @@ public class ClassificationServiceImplTest {
             classification.getDomain(), ClassificationServiceImpl.CURRENT_CLASSIFICATIONS_VALID_UNTIL);
         verify(classificationMapperMock, times(1)).insert((ClassificationImpl) classification);
         verify(taskanaEngineImplMock, times(1)).returnConnection();
+        verify(taskanaEngineImplMock, times(1)).runAfterCompletion(any());
         verifyNoMoreInteractions(classificationMapperMock, taskanaEngineImplMock, classificationQueryImplMock);
         assertThat(classification.getCreated(), equalTo(today));
         assertThat(classification.getValidFrom(), equalTo(today));
@@ -179,7 +191,7 @@ public class ClassificationServiceImplTest {
     }
 
     @Test
-    public void testUpdateClassificationAtNewDomain() throws ClassificationNotFoundException {
+    public void testUpdateClassificationAtNewDomain() throws ClassificationNotFoundException, ConcurrencyException {
         Classification classification = createDummyClassification();
         Classification oldClassification = createDummyClassification();
         oldClassification.setDomain("");
@@ -191,6 +203,7 @@ public class ClassificationServiceImplTest {
         verify(cutSpy, times(1)).getClassification(classification.getKey(), classification.getDomain());
         verify(classificationMapperMock, times(1)).insert((ClassificationImpl) classification);
         verify(taskanaEngineImplMock, times(1)).returnConnection();
+        verify(taskanaEngineImplMock, times(1)).runAfterCompletion(any());
         verifyNoMoreInteractions(classificationMapperMock, taskanaEngineImplMock, classificationQueryImplMock);
         assertThat(classification.getCreated(), equalTo(today));
         assertThat(classification.getValidFrom(), equalTo(today));
@@ -199,24 +212,104 @@ public class ClassificationServiceImplTest {
     }
 
     @Test
-    public void testUpdateClassificationAtSameDomain() throws ClassificationNotFoundException {
+    public void testUpdateClassificationAtSameDomain() throws ClassificationNotFoundException, ConcurrencyException {
         Classification classification = createDummyClassification();
         ClassificationImpl oldClassification = (ClassificationImpl) createDummyClassification();
         oldClassification.setValidUntil(Date.valueOf(LocalDate.now()));
         Date yesterday = Date.valueOf(LocalDate.now().minusDays(1));
         doReturn(oldClassification).when(cutSpy).getClassification(classification.getKey(), classification.getDomain());
+        doReturn(1).when(classificationMapperMock).update(any(), any());
 
         cutSpy.updateClassification(classification);
 
         verify(taskanaEngineImplMock, times(1)).openConnection();
         verify(cutSpy, times(1)).getClassification(classification.getKey(), classification.getDomain());
-        verify(classificationMapperMock, times(1)).update(any());
+        verify(classificationMapperMock, times(1)).update(any(), any());
         verify(classificationMapperMock, times(1)).insert(any());
         verify(taskanaEngineImplMock, times(1)).returnConnection();
+        verify(taskanaEngineImplMock, times(1)).runAfterCompletion(any());
         verifyNoMoreInteractions(classificationMapperMock, taskanaEngineImplMock, classificationQueryImplMock);
         assertThat(oldClassification.getValidUntil(), equalTo(yesterday));
     }
 
+    @Test
+    public void testUpdateOfCachedClassificationWritesOnlyValidUntil()
+        throws ClassificationNotFoundException, ConcurrencyException {
+        ClassificationServiceImpl cut = new ClassificationServiceImpl(taskanaEngineImplMock, classificationMapperMock,
+            new ClassificationCache(10, Duration.ofMinutes(1)));
+        ClassificationImpl storedClassification = createDummyCLassificationImpl();
+        storedClassification.setValidUntil(ClassificationServiceImpl.CURRENT_CLASSIFICATIONS_VALID_UNTIL);
+        doReturn(storedClassification).when(classificationMapperMock).findByKeyAndDomain(
+            storedClassification.getKey(), storedClassification.getDomain(),
+            ClassificationServiceImpl.CURRENT_CLASSIFICATIONS_VALID_UNTIL);
+        doReturn(1).when(classificationMapperMock).update(any(), any());
+        Classification classification = cut.getClassification(storedClassification.getKey(),
+            storedClassification.getDomain());
+        classification.setName("CHANGED NAME");
+
+        cut.updateClassification(classification);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Set<String>> changes = ArgumentCaptor.forClass(Set.class);
+        // the old version is read from the cache, not from the database
+        verify(classificationMapperMock, times(1)).findByKeyAndDomain(storedClassification.getKey(),
+            storedClassification.getDomain(), ClassificationServiceImpl.CURRENT_CLASSIFICATIONS_VALID_UNTIL);
+        verify(classificationMapperMock, times(1)).update(any(), changes.capture());
+        assertThat(changes.getValue(), equalTo(Collections.singleton("validUntil")));
+    }
+
+    @Test
+    public void testCacheWithoutTimeToLiveReadsEveryClassification() throws ClassificationNotFoundException {
+        ClassificationServiceImpl cut = new ClassificationServiceImpl(taskanaEngineImplMock, classificationMapperMock,
+            new ClassificationCache(10, Duration.ZERO));
+        ClassificationImpl storedClassification = createDummyCLassificationImpl();
+        doReturn(storedClassification).when(classificationMapperMock).findByKeyAndDomain(
+            storedClassification.getKey(), storedClassification.getDomain(),
+            ClassificationServiceImpl.CURRENT_CLASSIFICATIONS_VALID_UNTIL);
+
+        cut.getClassification(storedClassification.getKey(), storedClassification.getDomain());
+        cut.getClassification(storedClassification.getKey(), storedClassification.getDomain());
+
+        verify(classificationMapperMock, times(2)).findByKeyAndDomain(storedClassification.getKey(),
+            storedClassification.getDomain(), ClassificationServiceImpl.CURRENT_CLASSIFICATIONS_VALID_UNTIL);
+        verifyNoMoreInteractions(classificationMapperMock);
+    }
+
+    @Test
+    public void testExpiredClassificationIsReadAgain() throws ClassificationNotFoundException, InterruptedException {
+        ClassificationServiceImpl cut = new ClassificationServiceImpl(taskanaEngineImplMock, classificationMapperMock,
+            new ClassificationCache(10, Duration.ofMillis(50)));
+        ClassificationImpl storedClassification = createDummyCLassificationImpl();
+        doReturn(storedClassification).when(classificationMapperMock).findByKeyAndDomain(
+            storedClassification.getKey(), storedClassification.getDomain(),
+            ClassificationServiceImpl.CURRENT_CLASSIFICATIONS_VALID_UNTIL);
+
+        cut.getClassification(storedClassification.getKey(), storedClassification.getDomain());
+        cut.getClassification(storedClassification.getKey(), storedClassification.getDomain());
+        Thread.sleep(100);
+        cut.getClassification(storedClassification.getKey(), storedClassification.getDomain());
+
+        verify(classificationMapperMock, times(2)).findByKeyAndDomain(storedClassification.getKey(),
+            storedClassification.getDomain(), ClassificationServiceImpl.CURRENT_CLASSIFICATIONS_VALID_UNTIL);
+        verifyNoMoreInteractions(classificationMapperMock);
+    }
+
+    @Test(expected = ConcurrencyException.class)
+    public void testUpdateClassificationChangedConcurrently()
+        throws ClassificationNotFoundException, ConcurrencyException {
+        Classification classification = createDummyClassification();
+        ClassificationImpl oldClassification = (ClassificationImpl) createDummyClassification();
+        doReturn(oldClassification).when(cutSpy).getClassification(classification.getKey(), classification.getDomain());
+        doReturn(0).when(classificationMapperMock).update(any(), any());
+
+        try {
+            cutSpy.updateClassification(classification);
+        } finally {
+            verify(classificationMapperMock, times(1)).update(any(), any());
+            verifyNoMoreInteractions(classificationMapperMock);
+        }
+    }
+
     @Test
     public void testGetAllClassificationWithId() {
         Classification dummyClassification = createDummyClassification();
@@ -308,6 +401,14 @@ public class ClassificationServiceImplTest {
         return classificationImpl;
     }
 
+    private ClassificationImpl createClassification(String key, String domain, String parentKey) {
+        ClassificationImpl classification = new ClassificationImpl();
+        classification.setKey(key);
+        classification.setDomain(domain);
+        classification.setParentClassificationKey(parentKey);
+        return classification;
+    }
+
     private ClassificationImpl createDummyCLassificationImpl() {
         return (ClassificationImpl) createDummyClassification();
     }
@@ -0,0 +1,114 @@
+package pro.taskana.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import org.junit.Test;
+
+import pro.taskana.model.CacheStatistics;
+
+/**
+ * Unit Test for MonitorReportCache.
+ */
+public class MonitorReportCacheTest {
+
+    private static final MonitorReportCache.Key KEY = new MonitorReportCache.Key("report", 1);
+
+    @Test
+    public void testConcurrentLookupsShareOneLoad() throws Exception {
+        MonitorReportCache cache = new MonitorReportCache(10, Duration.ZERO);
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> first = executor.submit(() -> cache.get(KEY, () -> {
+                loads.incrementAndGet();
+                loadStarted.countDown();
+                await(releaseLoad);
+                return "report";
+            }, UnaryOperator.identity()));
+            assertTrue(loadStarted.await(10, TimeUnit.SECONDS));
+            Future<Object> second = executor.submit(() -> cache.get(KEY, () -> {
+                loads.incrementAndGet();
+                return "other report";
+            }, UnaryOperator.identity()));
+            while (cache.getStatistics().getCoalesced() == 0) {
+                Thread.sleep(1);
+            }
+            releaseLoad.countDown();
+
+            assertEquals("report", first.get(10, TimeUnit.SECONDS));
+            assertEquals("report", second.get(10, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+            // nothing is kept without a time to live
+            assertEquals(0, cache.getStatistics().getSize());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFreshReportIsReusedUntilItExpires() throws Exception {
+        MonitorReportCache cache = new MonitorReportCache(10, Duration.ofMillis(50));
+        Object report = new Object();
+        assertSame(report, cache.get(KEY, () -> report, UnaryOperator.identity()));
+        assertSame(report, cache.get(new MonitorReportCache.Key("report", 1), Object::new, UnaryOperator.identity()));
+
+        Thread.sleep(100);
+
+        Object reloaded = new Object();
+        assertSame(reloaded, cache.get(KEY, () -> reloaded, UnaryOperator.identity()));
+        CacheStatistics statistics = cache.getStatistics();
+        assertEquals(1, statistics.getHits());
+        assertEquals(2, statistics.getMisses());
+    }
+
+    @Test
+    public void testFailedLoadIsNotCached() {
+        MonitorReportCache cache = new MonitorReportCache(10, Duration.ofMinutes(1));
+        try {
+            cache.get(KEY, () -> {
+                throw new IllegalStateException("database unavailable");
+            }, UnaryOperator.identity());
+            fail("IllegalStateException expected");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertEquals("report", cache.get(KEY, () -> "report", UnaryOperator.identity()));
+    }
+
+    @Test
+    public void testEveryCallerGetsItsOwnCopy() {
+        MonitorReportCache cache = new MonitorReportCache(10, Duration.ofMinutes(1));
+        List<Long> loaded = cache.get(KEY, () -> new ArrayList<>(Arrays.asList(1L, 2L)), ArrayList::new);
+        loaded.set(0, 42L);
+
+        List<Long> cached = cache.get(KEY, () -> new ArrayList<>(), ArrayList::new);
+        assertEquals(Arrays.asList(1L, 2L), cached);
+        cached.clear();
+        assertEquals(Arrays.asList(1L, 2L), cache.get(KEY, () -> new ArrayList<>(), ArrayList::new));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -9,6 +9,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -20,13 +23,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import pro.taskana.WorkbasketService;
 import pro.taskana.configuration.TaskanaEngineConfiguration;
+import pro.taskana.exceptions.InvalidArgumentException;
 import pro.taskana.model.DueWorkbasketCounter;
+import pro.taskana.model.TaskAgingCounter;
+import pro.taskana.model.TaskAgingReport;
+import pro.taskana.model.TaskAgingReportGrouping;
 import pro.taskana.model.TaskState;
 import pro.taskana.model.TaskStateCounter;
+import pro.taskana.model.WorkbasketDueDateReport;
 import pro.taskana.model.mappings.ObjectReferenceMapper;
 import pro.taskana.model.mappings.TaskMonitorMapper;
 
@@ -57,6 +66,9 @@ public class TaskMonitorServiceImplTest {
     @Mock
     private WorkbasketService workbasketServiceMock;
 
+    @Spy
+    private MonitorReportCache monitorReportCache = new MonitorReportCache(0, Duration.ZERO);
+
     @Before
     public void setup() {
         MockitoAnnotations.initMocks(this);
@@ -119,4 +131,93 @@ public class TaskMonitorServiceImplTest {
         assertThat(actualResult, equalTo(expectedResult));
     }
 
+    @Test
+    public void testGetWorkbasketDueDateReportPivotsTheCounters() throws InvalidArgumentException {
+        List<TaskState> taskStates = Arrays.asList(TaskState.READY, TaskState.CLAIMED);
+        LocalDate today = LocalDate.now();
+        List<DueWorkbasketCounter> counters = Arrays.asList(
+            dueWorkbasketCounter("WB_A", "Workbasket A", today.minusDays(1), 3),
+            dueWorkbasketCounter("WB_A", "Workbasket A", today.plusDays(1), 5),
+            dueWorkbasketCounter("WB_B", "Workbasket B", null, 0));
+        doReturn(counters).when(taskMonitorMapperMock).getTaskCountPerWorkbasketAndDueDate(
+            Date.valueOf(today.minusDays(1)), Date.valueOf(today.plusDays(1)), taskStates);
+
+        WorkbasketDueDateReport report = cut.getWorkbasketDueDateReport(1, 1, taskStates);
+
+        verify(taskanaEngineImpl, times(1)).openConnection();
+        verify(taskMonitorMapperMock, times(1)).getTaskCountPerWorkbasketAndDueDate(any(), any(), any());
+        verify(taskanaEngineImpl, times(1)).returnConnection();
+        verifyNoMoreInteractions(taskanaEngineConfigurationMock, taskanaEngineMock, taskanaEngineImpl,
+            taskMonitorMapperMock, objectReferenceMapperMock, workbasketServiceMock);
+        assertThat(report.getDates(), equalTo(Arrays.asList(Date.valueOf(today.minusDays(1)), Date.valueOf(today),
+            Date.valueOf(today.plusDays(1)))));
+        assertThat(report.getLines().size(), equalTo(2));
+        assertThat(report.getLines().get(0).getWorkbasketName(), equalTo("Workbasket A"));
+        assertThat(report.getLines().get(0).getTaskCounters(), equalTo(Arrays.asList(3L, 0L, 5L)));
+        assertThat(report.getLines().get(1).getWorkbasketKey(), equalTo("WB_B"));
+        assertThat(report.getLines().get(1).getTaskCounters(), equalTo(Arrays.asList(0L, 0L, 0L)));
+    }
+
+    @Test(expected = InvalidArgumentException.class)
+    public void testGetWorkbasketDueDateReportRejectsNegativeDays() throws InvalidArgumentException {
+        cut.getWorkbasketDueDateReport(-1, 1, Arrays.asList(TaskState.READY));
+    }
+
+    @Test
+    public void testGetTaskAgingReportBuildsOneLinePerGroup() throws InvalidArgumentException {
+        LocalDate today = LocalDate.now();
+        List<Timestamp> limits = Arrays.asList(Timestamp.valueOf(today.minusDays(3).atStartOfDay()),
+            Timestamp.valueOf(today.atStartOfDay()));
+        List<TaskAgingCounter> counters = Arrays.asList(
+            taskAgingCounter("WB_A", "EXTERNAL", 0, 2),
+            taskAgingCounter("WB_A", "EXTERNAL", 2, 4),
+            taskAgingCounter("WB_A", "MANUAL", 1, 1),
+            taskAgingCounter("WB_B", "MANUAL", 2, 7));
+        doReturn(counters).when(taskMonitorMapperMock).getTaskAgingCounters(limits,
+            TaskAgingReportGrouping.WORKBASKET_AND_CLASSIFICATION_CATEGORY,
+            Arrays.asList(TaskState.READY, TaskState.CLAIMED));
+
+        TaskAgingReport report = cut.getTaskAgingReport(Arrays.asList(-3, 0),
+            TaskAgingReportGrouping.WORKBASKET_AND_CLASSIFICATION_CATEGORY);
+
+        verify(taskanaEngineImpl, times(1)).openConnection();
+        verify(taskMonitorMapperMock, times(1)).getTaskAgingCounters(any(), any(), any());
+        verify(taskanaEngineImpl, times(1)).returnConnection();
+        verifyNoMoreInteractions(taskanaEngineConfigurationMock, taskanaEngineMock, taskanaEngineImpl,
+            taskMonitorMapperMock, objectReferenceMapperMock, workbasketServiceMock);
+        assertThat(report.getDayBoundaries(), equalTo(Arrays.asList(-3, 0)));
+        assertThat(report.getLines().size(), equalTo(3));
+        assertThat(report.getLines().get(0).getClassificationCategory(), equalTo("EXTERNAL"));
+        assertThat(report.getLines().get(0).getTaskCounters(), equalTo(Arrays.asList(2L, 0L, 4L)));
+        assertThat(report.getLines().get(0).getTotalCount(), equalTo(6L));
+        assertThat(report.getLines().get(1).getTaskCounters(), equalTo(Arrays.asList(0L, 1L, 0L)));
+        assertThat(report.getLines().get(2).getGroupKey(), equalTo("WB_B"));
+        assertThat(report.getLines().get(2).getTaskCounters(), equalTo(Arrays.asList(0L, 0L, 7L)));
+    }
+
+    @Test(expected = InvalidArgumentException.class)
+    public void testGetTaskAgingReportRejectsUnorderedBoundaries() throws InvalidArgumentException {
+        cut.getTaskAgingReport(Arrays.asList(2, -1), TaskAgingReportGrouping.WORKBASKET);
+    }
+
+    private TaskAgingCounter taskAgingCounter(String groupKey, String classificationCategory, int bucket,
+        long counter) {
+        TaskAgingCounter taskAgingCounter = new TaskAgingCounter();
+        taskAgingCounter.setGroupKey(groupKey);
+        taskAgingCounter.setClassificationCategory(classificationCategory);
+        taskAgingCounter.setBucket(bucket);
+        taskAgingCounter.setCounter(counter);
+        return taskAgingCounter;
+    }
+
+    private DueWorkbasketCounter dueWorkbasketCounter(String workbasketKey, String workbasketName, LocalDate due,
+        long taskCounter) {
+        DueWorkbasketCounter counter = new DueWorkbasketCounter();
+        counter.setWorkbasketId(workbasketKey);
+        counter.setWorkbasketName(workbasketName);
+        counter.setDue(due == null ? null : Date.valueOf(due));
+        counter.setTaskCounter(taskCounter);
+        return counter;
+    }
+
 }
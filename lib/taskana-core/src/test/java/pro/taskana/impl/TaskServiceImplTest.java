@@ -2,13 +2,16 @@ package pro.taskana.impl;
 
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -366,44 +369,81 @@ public class TaskServiceImplTest {
 
     @Test
     public void testClaimSuccessfulToOwner() throws Exception {
+        TaskServiceImpl cutSpy = Mockito.spy(cut);
         TaskImpl expectedTask = createUnitTestTask("1", "Unit Test Task 1", "1");
-        doReturn(null).when(attachmentMapperMock).findAttachmentsByTaskId(expectedTask.getId());
-        Mockito.doReturn(expectedTask).when(taskMapperMock).findById(expectedTask.getId());
-
-        Thread.sleep(SLEEP_TIME); // to have different timestamps
         String expectedOwner = "John Does";
-
         PowerMockito.mockStatic(CurrentUserContext.class);
         Mockito.when(CurrentUserContext.getUserid()).thenReturn(expectedOwner);
+        doReturn(1).when(taskMapperMock).claim(eq(expectedTask.getId()), eq(expectedOwner), any(),
+            eq(TaskState.READY));
+        doReturn(expectedTask).when(cutSpy).getTask(expectedTask.getId());
 
-        // Mockito.doReturn(expectedOwner).when(currentUserContext).getUserid();
-        Task acturalTask = cut.claim(expectedTask.getId(), true);
+        Task actualTask = cutSpy.claim(expectedTask.getId(), true);
 
         verify(taskanaEngineImpl, times(2)).openConnection();
-        verify(taskMapperMock, times(1)).findById(expectedTask.getId());
-        verify(attachmentMapperMock, times(1)).findAttachmentsByTaskId(expectedTask.getId());
-        verify(taskMapperMock, times(1)).update(any());
+        verify(taskMapperMock, times(1)).claim(eq(expectedTask.getId()), eq(expectedOwner), any(),
+            eq(TaskState.READY));
+        verify(taskMapperMock, times(1)).insertTombstones(any(), eq(TaskState.READY), any(), any());
+        verify(cutSpy, times(1)).getTask(expectedTask.getId());
         verify(taskanaEngineImpl, times(2)).returnConnection();
         verifyNoMoreInteractions(attachmentMapperMock, taskanaEngineConfigurationMock, taskanaEngineMock,
             taskanaEngineImpl, taskMapperMock, objectReferenceMapperMock, workbasketServiceMock);
 
-        assertThat(acturalTask.getState(), equalTo(TaskState.CLAIMED));
-        assertThat(acturalTask.getCreated(), not(equalTo(expectedTask.getModified())));
-        assertThat(acturalTask.getClaimed(), not(equalTo(null)));
-        assertThat(acturalTask.getOwner(), equalTo(expectedOwner));
+        assertThat(actualTask, sameInstance(expectedTask));
+    }
+
+    @Test
+    public void testClaimWithoutResultDoesNotReadTheTask() throws Exception {
+        TaskServiceImpl cutSpy = Mockito.spy(cut);
+        String expectedOwner = "John Does";
+        PowerMockito.mockStatic(CurrentUserContext.class);
+        Mockito.when(CurrentUserContext.getUserid()).thenReturn(expectedOwner);
+        doReturn(1).when(taskMapperMock).claim(eq("1"), eq(expectedOwner), any(), eq(TaskState.READY));
+
+        cutSpy.claimWithoutResult("1", false);
+
+        verify(taskanaEngineImpl, times(1)).openConnection();
+        verify(taskMapperMock, times(1)).claim(eq("1"), eq(expectedOwner), any(), eq(TaskState.READY));
+        verify(taskMapperMock, times(1)).insertTombstones(any(), eq(TaskState.READY), any(), any());
+        verify(cutSpy, never()).getTask(any());
+        verify(taskanaEngineImpl, times(1)).returnConnection();
+        verifyNoMoreInteractions(attachmentMapperMock, taskanaEngineConfigurationMock, taskanaEngineMock,
+            taskanaEngineImpl, taskMapperMock, objectReferenceMapperMock, workbasketServiceMock);
     }
 
     @Test(expected = TaskNotFoundException.class)
     public void testClaimThrowinTaskNotFoundException() throws Exception {
         try {
-            TaskImpl expectedTask = null;
-            Mockito.doReturn(expectedTask).when(taskMapperMock).findById(any());
-            // Mockito.doReturn("OWNER").when(currentUserContext).getUserid();
+            doReturn(0).when(taskMapperMock).claim(eq("1"), any(), any(), any());
+            doReturn(null).when(taskMapperMock).findStateById("1");
 
             cut.claim("1", true);
         } catch (Exception e) {
             verify(taskanaEngineImpl, times(2)).openConnection();
-            verify(taskMapperMock, times(1)).findById(any());
+            verify(taskMapperMock, times(1)).claim(eq("1"), any(), any(), eq(TaskState.READY));
+            verify(taskMapperMock, times(1)).claim(eq("1"), any(), any(), eq(TaskState.CLAIMED));
+            verify(taskMapperMock, times(1)).findStateById("1");
+            verify(taskanaEngineImpl, times(2)).returnConnection();
+            verifyNoMoreInteractions(attachmentMapperMock, taskanaEngineConfigurationMock, taskanaEngineMock,
+                taskanaEngineImpl, taskMapperMock, objectReferenceMapperMock, workbasketServiceMock);
+            throw e;
+        }
+    }
+
+    @Test(expected = InvalidOwnerException.class)
+    public void testClaimThrowsInvalidOwnerExceptionIfClaimedBySomeoneElse() throws Exception {
+        TaskImpl claimedTask = createUnitTestTask("1", "Unit Test Task 1", "1");
+        claimedTask.setState(TaskState.CLAIMED);
+        claimedTask.setOwner("Dummy-Owner-ID: 10");
+        doReturn(0).when(taskMapperMock).claim(eq("1"), any(), any(), eq(TaskState.READY));
+        doReturn(claimedTask).when(taskMapperMock).findStateById("1");
+
+        try {
+            cut.claim("1", false);
+        } catch (InvalidOwnerException e) {
+            verify(taskanaEngineImpl, times(2)).openConnection();
+            verify(taskMapperMock, times(1)).claim(eq("1"), any(), any(), eq(TaskState.READY));
+            verify(taskMapperMock, times(1)).findStateById("1");
             verify(taskanaEngineImpl, times(2)).returnConnection();
             verifyNoMoreInteractions(attachmentMapperMock, taskanaEngineConfigurationMock, taskanaEngineMock,
                 taskanaEngineImpl, taskMapperMock, objectReferenceMapperMock, workbasketServiceMock);
@@ -413,82 +453,65 @@ public class TaskServiceImplTest {
 
     @Test
     public void testCompleteTaskDefault()
-        throws TaskNotFoundException, InvalidOwnerException, InvalidStateException, InterruptedException,
-        ClassificationNotFoundException {
-        TaskServiceImpl cutSpy = Mockito.spy(cut);
-        final long sleepTime = 100L;
-        final boolean isForced = false;
+        throws TaskNotFoundException, InvalidOwnerException, InvalidStateException, ClassificationNotFoundException {
         TaskImpl task = createUnitTestTask("1", "Unit Test Task 1", "1");
-        Thread.sleep(sleepTime);
-        task.setState(TaskState.CLAIMED);
-        task.setClaimed(new Timestamp(System.currentTimeMillis()));
-        task.setOwner(CurrentUserContext.getUserid());
+        task.setState(TaskState.COMPLETED);
+        doReturn(1).when(taskMapperMock).complete(eq(task.getId()), any(), any(), any(), eq(false));
         doReturn(task).when(taskMapperMock).findById(task.getId());
         doReturn(null).when(attachmentMapperMock).findAttachmentsByTaskId(task.getId());
-        doReturn(task).when(cutSpy).completeTask(task.getId(), isForced);
 
         Task actualTask = cut.completeTask(task.getId());
 
-        verify(taskanaEngineImpl, times(2)).openConnection();
+        verify(taskanaEngineImpl, times(3)).openConnection();
+        verify(taskMapperMock, times(1)).complete(eq(task.getId()), any(), any(), any(), eq(false));
+        verify(taskMapperMock, times(1)).insertTombstones(any(), eq(TaskState.CLAIMED), any(), any());
         verify(taskMapperMock, times(1)).findById(task.getId());
         verify(attachmentMapperMock, times(1)).findAttachmentsByTaskId(task.getId());
-        verify(taskMapperMock, times(1)).update(any());
-        verify(taskanaEngineImpl, times(2)).returnConnection();
+        verify(taskanaEngineImpl, times(3)).returnConnection();
         verifyNoMoreInteractions(attachmentMapperMock, taskanaEngineConfigurationMock, taskanaEngineMock,
             taskanaEngineImpl, taskMapperMock, objectReferenceMapperMock, workbasketServiceMock);
 
         assertThat(actualTask.getState(), equalTo(TaskState.COMPLETED));
-        assertThat(actualTask.getCreated(), not(equalTo(task.getModified())));
-        assertThat(actualTask.getCompleted(), not(equalTo(null)));
     }
 
     @Test
     public void testCompleteTaskNotForcedWorking()
-        throws TaskNotFoundException, InvalidStateException, InvalidOwnerException, InterruptedException,
-        ClassificationNotFoundException {
+        throws TaskNotFoundException, InvalidStateException, InvalidOwnerException, ClassificationNotFoundException {
         TaskServiceImpl cutSpy = Mockito.spy(cut);
-        final long sleepTime = 100L;
         final boolean isForced = false;
         TaskImpl task = createUnitTestTask("1", "Unit Test Task 1", "1");
-        // created and modify should be able to be different.
-        Thread.sleep(sleepTime);
-        task.setState(TaskState.CLAIMED);
-        task.setClaimed(new Timestamp(System.currentTimeMillis()));
-        task.setOwner(CurrentUserContext.getUserid());
+        doReturn(1).when(taskMapperMock).complete(eq(task.getId()), any(), any(), any(), eq(isForced));
         doReturn(task).when(cutSpy).getTask(task.getId());
-        doNothing().when(taskMapperMock).update(task);
 
         Task actualTask = cutSpy.completeTask(task.getId(), isForced);
 
-        verify(taskanaEngineImpl, times(1)).openConnection();
+        verify(taskanaEngineImpl, times(2)).openConnection();
+        verify(taskMapperMock, times(1)).complete(eq(task.getId()), any(), any(), any(), eq(isForced));
         verify(cutSpy, times(1)).getTask(task.getId());
-        verify(taskMapperMock, times(1)).update(task);
-        verify(taskanaEngineImpl, times(1)).returnConnection();
+        verify(taskMapperMock, times(1)).insertTombstones(any(), eq(TaskState.CLAIMED), any(), any());
+        verify(taskanaEngineImpl, times(2)).returnConnection();
         verifyNoMoreInteractions(attachmentMapperMock, taskanaEngineConfigurationMock, taskanaEngineMock,
             taskanaEngineImpl, taskMapperMock, objectReferenceMapperMock, workbasketServiceMock);
 
-        assertThat(actualTask.getState(), equalTo(TaskState.COMPLETED));
-        assertThat(actualTask.getCreated(), not(equalTo(task.getModified())));
-        assertThat(actualTask.getCompleted(), not(equalTo(null)));
-        assertThat(actualTask.getCompleted(), equalTo(actualTask.getModified()));
+        assertThat(actualTask, sameInstance(task));
     }
 
     @Test(expected = InvalidStateException.class)
     public void testCompleteTaskNotForcedNotClaimedBefore()
         throws TaskNotFoundException, InvalidStateException, InvalidOwnerException, ClassificationNotFoundException {
         final boolean isForced = false;
-        TaskServiceImpl cutSpy = Mockito.spy(cut);
         TaskImpl task = createUnitTestTask("1", "Unit Test Task 1", "1");
         task.setState(TaskState.READY);
-        task.setClaimed(null);
-        doReturn(task).when(cutSpy).getTask(task.getId());
+        doReturn(0).when(taskMapperMock).complete(eq(task.getId()), any(), any(), any(), eq(isForced));
+        doReturn(task).when(taskMapperMock).findStateById(task.getId());
 
         try {
-            cutSpy.completeTask(task.getId(), isForced);
+            cut.completeTask(task.getId(), isForced);
         } catch (InvalidStateException e) {
-            verify(taskanaEngineImpl, times(1)).openConnection();
-            verify(cutSpy, times(1)).getTask(task.getId());
-            verify(taskanaEngineImpl, times(1)).returnConnection();
+            verify(taskanaEngineImpl, times(2)).openConnection();
+            verify(taskMapperMock, times(1)).complete(eq(task.getId()), any(), any(), any(), eq(isForced));
+            verify(taskMapperMock, times(1)).findStateById(task.getId());
+            verify(taskanaEngineImpl, times(2)).returnConnection();
             verifyNoMoreInteractions(attachmentMapperMock, taskanaEngineConfigurationMock, taskanaEngineMock,
                 taskanaEngineImpl, taskMapperMock, objectReferenceMapperMock, workbasketServiceMock);
             throw e;
@@ -499,19 +522,19 @@ public class TaskServiceImplTest {
     public void testCompleteTaskNotForcedInvalidOwnerException()
         throws TaskNotFoundException, InvalidStateException, InvalidOwnerException, ClassificationNotFoundException {
         final boolean isForced = false;
-        TaskServiceImpl cutSpy = Mockito.spy(cut);
         TaskImpl task = createUnitTestTask("1", "Unit Test Task 1", "1");
         task.setOwner("Dummy-Owner-ID: 10");
         task.setState(TaskState.CLAIMED);
-        task.setClaimed(new Timestamp(System.currentTimeMillis()));
-        doReturn(task).when(cutSpy).getTask(task.getId());
+        doReturn(0).when(taskMapperMock).complete(eq(task.getId()), any(), any(), any(), eq(isForced));
+        doReturn(task).when(taskMapperMock).findStateById(task.getId());
 
         try {
-            cutSpy.completeTask(task.getId(), isForced);
+            cut.completeTask(task.getId(), isForced);
         } catch (InvalidOwnerException e) {
-            verify(taskanaEngineImpl, times(1)).openConnection();
-            verify(cutSpy, times(1)).getTask(task.getId());
-            verify(taskanaEngineImpl, times(1)).returnConnection();
+            verify(taskanaEngineImpl, times(2)).openConnection();
+            verify(taskMapperMock, times(1)).complete(eq(task.getId()), any(), any(), any(), eq(isForced));
+            verify(taskMapperMock, times(1)).findStateById(task.getId());
+            verify(taskanaEngineImpl, times(2)).returnConnection();
             verifyNoMoreInteractions(attachmentMapperMock, taskanaEngineConfigurationMock, taskanaEngineMock,
                 taskanaEngineImpl, taskMapperMock, objectReferenceMapperMock, workbasketServiceMock);
             throw e;
@@ -521,16 +544,18 @@ public class TaskServiceImplTest {
     @Test(expected = TaskNotFoundException.class)
     public void testCompleteTaskTaskNotFound()
         throws TaskNotFoundException, InvalidStateException, InvalidOwnerException, ClassificationNotFoundException {
-        TaskServiceImpl cutSpy = Mockito.spy(cut);
         final boolean isForced = false;
         String taskId = "1";
-        doThrow(TaskNotFoundException.class).when(cutSpy).getTask(taskId);
+        doReturn(0).when(taskMapperMock).complete(eq(taskId), any(), any(), any(), eq(isForced));
+        doReturn(null).when(taskMapperMock).findStateById(taskId);
+
         try {
-            cutSpy.completeTask(taskId, isForced);
-        } catch (InvalidOwnerException e) {
-            verify(taskanaEngineImpl, times(1)).openConnection();
-            verify(cutSpy, times(1)).getTask(taskId);
-            verify(taskanaEngineImpl, times(1)).returnConnection();
+            cut.completeTask(taskId, isForced);
+        } catch (TaskNotFoundException e) {
+            verify(taskanaEngineImpl, times(2)).openConnection();
+            verify(taskMapperMock, times(1)).complete(eq(taskId), any(), any(), any(), eq(isForced));
+            verify(taskMapperMock, times(1)).findStateById(taskId);
+            verify(taskanaEngineImpl, times(2)).returnConnection();
             verifyNoMoreInteractions(attachmentMapperMock, taskanaEngineConfigurationMock, taskanaEngineMock,
                 taskanaEngineImpl, taskMapperMock, objectReferenceMapperMock, workbasketServiceMock);
             throw e;
@@ -538,143 +563,112 @@ public class TaskServiceImplTest {
     }
 
     @Test
-    public void testCompleteForcedAndAlreadyClaimed()
-        throws TaskNotFoundException, InvalidStateException, InvalidOwnerException, InterruptedException,
-        ClassificationNotFoundException {
+    public void testCompleteForcedWorking()
+        throws TaskNotFoundException, InvalidStateException, InvalidOwnerException, ClassificationNotFoundException {
         final boolean isForced = true;
-        final long sleepTime = 100L;
         TaskServiceImpl cutSpy = Mockito.spy(cut);
         TaskImpl task = createUnitTestTask("1", "Unit Test Task 1", "1");
-        // created and modify should be able to be different.
-        Thread.sleep(sleepTime);
-        task.setState(TaskState.CLAIMED);
-        task.setClaimed(new Timestamp(System.currentTimeMillis()));
+        doReturn(1).when(taskMapperMock).complete(eq(task.getId()), any(), any(), any(), eq(isForced));
         doReturn(task).when(cutSpy).getTask(task.getId());
-        doNothing().when(taskMapperMock).update(task);
 
         Task actualTask = cutSpy.completeTask(task.getId(), isForced);
 
-        verify(taskanaEngineImpl, times(1)).openConnection();
+        verify(taskanaEngineImpl, times(2)).openConnection();
+        verify(taskMapperMock, times(1)).complete(eq(task.getId()), any(), any(), any(), eq(isForced));
         verify(cutSpy, times(1)).getTask(task.getId());
-        verify(taskMapperMock, times(1)).update(task);
-        verify(taskanaEngineImpl, times(1)).returnConnection();
+        verify(taskMapperMock, times(1)).insertTombstones(any(), eq(TaskState.CLAIMED), any(), any());
+        verify(cutSpy, never()).claim(any(), Mockito.anyBoolean());
+        verify(taskanaEngineImpl, times(2)).returnConnection();
         verifyNoMoreInteractions(attachmentMapperMock, taskanaEngineConfigurationMock, taskanaEngineMock,
             taskanaEngineImpl, taskMapperMock, objectReferenceMapperMock, workbasketServiceMock);
 
-        assertThat(actualTask.getState(), equalTo(TaskState.COMPLETED));
-        assertThat(actualTask.getCreated(), not(equalTo(task.getModified())));
-        assertThat(actualTask.getCompleted(), not(equalTo(null)));
-        assertThat(actualTask.getCompleted(), equalTo(actualTask.getModified()));
+        assertThat(actualTask, sameInstance(task));
     }
 
-    @Test
-    public void testCompleteForcedNotClaimed()
-        throws TaskNotFoundException, InvalidStateException, InvalidOwnerException, InterruptedException,
-        ClassificationNotFoundException {
-        TaskServiceImpl cutSpy = Mockito.spy(cut);
+    @Test(expected = InvalidStateException.class)
+    public void testCompleteForcedAlreadyCompleted()
+        throws TaskNotFoundException, InvalidStateException, InvalidOwnerException, ClassificationNotFoundException {
         final boolean isForced = true;
-        final long sleepTime = 100L;
         TaskImpl task = createUnitTestTask("1", "Unit Test Task 1", "1");
-        task.setState(TaskState.READY);
-        task.setClaimed(null);
-        doReturn(task).when(cutSpy).getTask(task.getId());
-        TaskImpl claimedTask = createUnitTestTask("1", "Unit Test Task 1", "1");
-        // created and modify should be able to be different.
-        Thread.sleep(sleepTime);
-        claimedTask.setState(TaskState.CLAIMED);
-        claimedTask.setClaimed(new Timestamp(System.currentTimeMillis()));
-        doReturn(claimedTask).when(cutSpy).claim(task.getId(), isForced);
-        doNothing().when(taskMapperMock).update(claimedTask);
-
-        Task actualTask = cutSpy.completeTask(task.getId(), isForced);
+        task.setState(TaskState.COMPLETED);
+        doReturn(0).when(taskMapperMock).complete(eq(task.getId()), any(), any(), any(), eq(isForced));
+        doReturn(task).when(taskMapperMock).findStateById(task.getId());
 
-        verify(taskanaEngineImpl, times(1)).openConnection();
-        verify(cutSpy, times(1)).getTask(task.getId());
-        verify(cutSpy, times(1)).claim(task.getId(), isForced);
-        verify(taskMapperMock, times(1)).update(claimedTask);
-        verify(taskanaEngineImpl, times(1)).returnConnection();
-        verifyNoMoreInteractions(attachmentMapperMock, taskanaEngineConfigurationMock, taskanaEngineMock,
-            taskanaEngineImpl, taskMapperMock, objectReferenceMapperMock, workbasketServiceMock);
-        assertThat(actualTask.getState(), equalTo(TaskState.COMPLETED));
-        assertThat(actualTask.getCreated(), not(equalTo(claimedTask.getModified())));
-        assertThat(actualTask.getCompleted(), not(equalTo(null)));
-        assertThat(actualTask.getCompleted(), equalTo(actualTask.getModified()));
+        try {
+            cut.completeTask(task.getId(), isForced);
+        } catch (InvalidStateException e) {
+            verify(taskanaEngineImpl, times(2)).openConnection();
+            verify(taskMapperMock, times(2)).complete(eq(task.getId()), any(), any(), any(), eq(isForced));
+            verify(taskMapperMock, times(1)).findStateById(task.getId());
+            verify(taskanaEngineImpl, times(2)).returnConnection();
+            verifyNoMoreInteractions(attachmentMapperMock, taskanaEngineConfigurationMock, taskanaEngineMock,
+                taskanaEngineImpl, taskMapperMock, objectReferenceMapperMock, workbasketServiceMock);
+            throw e;
+        }
     }
 
     @Test
-    public void testTransferTaskToDestinationWorkbasketWithoutSecurity()
+    public void testTransferTaskToDestinationWorkbasket()
         throws TaskNotFoundException, WorkbasketNotFoundException, NotAuthorizedException,
         ClassificationAlreadyExistException, InvalidWorkbasketException, ClassificationNotFoundException {
         TaskServiceImpl cutSpy = Mockito.spy(cut);
-        Workbasket destinationWorkbasket = createWorkbasket("2", "k1");
+        Workbasket destinationWorkbasket = createWorkbasket("2", "k2");
         TaskImpl task = createUnitTestTask("1", "Unit Test Task 1", "k1");
-        task.setRead(true);
+        doReturn(task).when(taskMapperMock).findStateById(task.getId());
         doReturn(destinationWorkbasket).when(workbasketServiceMock).getWorkbasketByKey(destinationWorkbasket.getKey());
-        doReturn(taskanaEngineConfigurationMock).when(taskanaEngineMock).getConfiguration();
-        doReturn(false).when(taskanaEngineConfigurationMock).isSecurityEnabled();
+        doReturn(1).when(taskMapperMock).transfer(eq(task.getId()), eq("k1"), eq(destinationWorkbasket.getKey()),
+            eq(destinationWorkbasket.getDomain()), any());
         doReturn(task).when(cutSpy).getTask(task.getId());
-        doNothing().when(taskMapperMock).update(any());
-        doNothing().when(workbasketServiceMock).checkAuthorization(destinationWorkbasket.getKey(),
-            WorkbasketAuthorization.APPEND);
-        doNothing().when(workbasketServiceMock).checkAuthorization(task.getWorkbasketKey(),
-            WorkbasketAuthorization.TRANSFER);
 
         Task actualTask = cutSpy.transfer(task.getId(), destinationWorkbasket.getKey());
 
-        verify(taskanaEngineImpl, times(1)).openConnection();
+        verify(taskanaEngineImpl, times(2)).openConnection();
+        verify(taskMapperMock, times(1)).findStateById(task.getId());
         verify(workbasketServiceMock, times(1)).checkAuthorization(destinationWorkbasket.getKey(),
             WorkbasketAuthorization.APPEND);
-        verify(workbasketServiceMock, times(1)).checkAuthorization(task.getWorkbasketKey(),
-            WorkbasketAuthorization.TRANSFER);
-        verify(taskanaEngineMock, times(1)).getConfiguration();
-        verify(taskanaEngineConfigurationMock, times(1)).isSecurityEnabled();
-        verify(workbasketServiceMock, times(2)).getWorkbasketByKey(destinationWorkbasket.getKey());
-        verify(taskMapperMock, times(1)).update(any());
-        verify(taskanaEngineImpl, times(1)).returnConnection();
+        verify(workbasketServiceMock, times(1)).checkAuthorization("k1", WorkbasketAuthorization.TRANSFER);
+        verify(workbasketServiceMock, times(1)).getWorkbasketByKey(destinationWorkbasket.getKey());
+        verify(taskMapperMock, times(1)).transfer(eq(task.getId()), eq("k1"), eq(destinationWorkbasket.getKey()),
+            eq(destinationWorkbasket.getDomain()), any());
+        verify(taskMapperMock, times(1)).insertTombstones(any(), any(), eq("k1"), any());
+        verify(cutSpy, times(1)).getTask(task.getId());
+        verify(taskanaEngineImpl, times(2)).returnConnection();
         verifyNoMoreInteractions(attachmentMapperMock, taskanaEngineConfigurationMock, taskanaEngineMock,
             taskanaEngineImpl, taskMapperMock, objectReferenceMapperMock, workbasketServiceMock);
 
-        assertThat(actualTask.isRead(), equalTo(false));
-        assertThat(actualTask.isTransferred(), equalTo(true));
-        assertThat(actualTask.getWorkbasketKey(), equalTo(destinationWorkbasket.getKey()));
+        assertThat(actualTask, sameInstance(task));
     }
 
     @Test
-    public void testTransferTaskToDestinationWorkbasketUsingSecurityTrue()
+    public void testTransferChecksTransferAuthorizationAgainIfTaskWasMovedConcurrently()
         throws TaskNotFoundException, WorkbasketNotFoundException, NotAuthorizedException,
         ClassificationAlreadyExistException, InvalidWorkbasketException, ClassificationNotFoundException {
         TaskServiceImpl cutSpy = Mockito.spy(cut);
         Workbasket destinationWorkbasket = createWorkbasket("2", "k2");
         TaskImpl task = createUnitTestTask("1", "Unit Test Task 1", "k1");
-        task.setRead(true);
-        doReturn(taskanaEngineConfigurationMock).when(taskanaEngineMock).getConfiguration();
-        doReturn(true).when(taskanaEngineConfigurationMock).isSecurityEnabled();
-        doReturn(task).when(cutSpy).getTask(task.getId());
+        TaskImpl movedTask = createUnitTestTask("1", "Unit Test Task 1", "k3");
+        doReturn(task, movedTask).when(taskMapperMock).findStateById(task.getId());
         doReturn(destinationWorkbasket).when(workbasketServiceMock).getWorkbasketByKey(destinationWorkbasket.getKey());
-doNothing().when(taskMapperMock).update(any());
-        doNothing().when(workbasketServiceMock).checkAuthorization(destinationWorkbasket.getKey(),
-            WorkbasketAuthorization.APPEND);
-        doNothing().when(workbasketServiceMock).checkAuthorization(task.getWorkbasketKey(),
-            WorkbasketAuthorization.TRANSFER);
+        doReturn(0).when(taskMapperMock).transfer(eq(task.getId()), eq("k1"), any(), any(), any());
+        doReturn(1).when(taskMapperMock).transfer(eq(task.getId()), eq("k3"), any(), any(), any());
+        doReturn(movedTask).when(cutSpy).getTask(task.getId());
 
-        Task actualTask = cutSpy.transfer(task.getId(), destinationWorkbasket.getKey());
+        cutSpy.transfer(task.getId(), destinationWorkbasket.getKey());
 
-        verify(taskanaEngineImpl, times(1)).openConnection();
+        verify(taskanaEngineImpl, times(2)).openConnection();
+        verify(taskMapperMock, times(3)).findStateById(task.getId());
         verify(workbasketServiceMock, times(1)).checkAuthorization(destinationWorkbasket.getKey(),
             WorkbasketAuthorization.APPEND);
-        verify(workbasketServiceMock, times(1)).checkAuthorization("k1",
-            WorkbasketAuthorization.TRANSFER);
+        verify(workbasketServiceMock, times(1)).checkAuthorization("k1", WorkbasketAuthorization.TRANSFER);
+        verify(workbasketServiceMock, times(1)).checkAuthorization("k3", WorkbasketAuthorization.TRANSFER);
         verify(workbasketServiceMock, times(1)).getWorkbasketByKey(destinationWorkbasket.getKey());
-        verify(taskanaEngineMock, times(1)).getConfiguration();
-        verify(taskanaEngineConfigurationMock, times(1)).isSecurityEnabled();
-        verify(taskMapperMock, times(1)).update(any());
-        verify(taskanaEngineImpl, times(1)).returnConnection();
+        verify(taskMapperMock, times(1)).transfer(eq(task.getId()), eq("k1"), any(), any(), any());
+        verify(taskMapperMock, times(1)).transfer(eq(task.getId()), eq("k3"), any(), any(), any());
+        verify(taskMapperMock, times(1)).insertTombstones(any(), any(), eq("k3"), any());
+        verify(cutSpy, times(1)).getTask(task.getId());
+        verify(taskanaEngineImpl, times(2)).returnConnection();
         verifyNoMoreInteractions(attachmentMapperMock, taskanaEngineConfigurationMock, taskanaEngineMock,
             taskanaEngineImpl, taskMapperMock, objectReferenceMapperMock, workbasketServiceMock);
-
-        assertThat(actualTask.isRead(), equalTo(false));
-        assertThat(actualTask.isTransferred(), equalTo(true));
-        assertThat(actualTask.getWorkbasketKey(), equalTo(destinationWorkbasket.getKey()));
     }
 
     @Test(expected = WorkbasketNotFoundException.class)
@@ -683,18 +677,18 @@ doNothing().when(taskMapperMock).update(any());
 
         String destinationWorkbasketKey = "2";
         Task task = createUnitTestTask("1", "Unit Test Task 1", "1");
-        TaskServiceImpl cutSpy = Mockito.spy(cut);
+        doReturn(task).when(taskMapperMock).findStateById(task.getId());
         doThrow(WorkbasketNotFoundException.class).when(workbasketServiceMock)
             .checkAuthorization(destinationWorkbasketKey, WorkbasketAuthorization.APPEND);
-        doReturn(task).when(cutSpy).getTask(task.getId());
 
         try {
-            cutSpy.transfer(task.getId(), destinationWorkbasketKey);
+            cut.transfer(task.getId(), destinationWorkbasketKey);
         } catch (Exception e) {
-            verify(taskanaEngineImpl, times(1)).openConnection();
+            verify(taskanaEngineImpl, times(2)).openConnection();
+            verify(taskMapperMock, times(1)).findStateById(task.getId());
             verify(workbasketServiceMock, times(1)).checkAuthorization(destinationWorkbasketKey,
                 WorkbasketAuthorization.APPEND);
-            verify(taskanaEngineImpl, times(1)).returnConnection();
+            verify(taskanaEngineImpl, times(2)).returnConnection();
             verifyNoMoreInteractions(attachmentMapperMock, taskanaEngineConfigurationMock, taskanaEngineMock,
                 taskanaEngineImpl, taskMapperMock, objectReferenceMapperMock, workbasketServiceMock);
             throw e;
@@ -706,14 +700,14 @@ doNothing().when(taskMapperMock).update(any());
         throws Exception {
 
         Task task = createUnitTestTask("1", "Unit Test Task 1", "1");
-        TaskServiceImpl cutSpy = Mockito.spy(cut);
-        doThrow(TaskNotFoundException.class).when(cutSpy).getTask(task.getId());
+        doReturn(null).when(taskMapperMock).findStateById(task.getId());
 
         try {
-            cutSpy.transfer(task.getId(), "2");
+            cut.transfer(task.getId(), "2");
         } catch (Exception e) {
-            verify(taskanaEngineImpl, times(1)).openConnection();
-            verify(taskanaEngineImpl, times(1)).returnConnection();
+            verify(taskanaEngineImpl, times(2)).openConnection();
+            verify(taskMapperMock, times(1)).findStateById(task.getId());
+            verify(taskanaEngineImpl, times(2)).returnConnection();
             verifyNoMoreInteractions(attachmentMapperMock, taskanaEngineConfigurationMock, taskanaEngineMock,
                 taskanaEngineImpl, taskMapperMock, objectReferenceMapperMock, workbasketServiceMock);
             throw e;
@@ -725,18 +719,18 @@ doNothing().when(taskMapperMock).update(any());
         throws Exception {
         String destinationWorkbasketKey = "2";
         Task task = createUnitTestTask("1", "Unit Test Task 1", "1");
-        TaskServiceImpl cutSpy = Mockito.spy(cut);
-        doReturn(task).when(cutSpy).getTask(task.getId());
+        doReturn(task).when(taskMapperMock).findStateById(task.getId());
         doThrow(NotAuthorizedException.class).when(workbasketServiceMock).checkAuthorization(destinationWorkbasketKey,
             WorkbasketAuthorization.APPEND);
 
         try {
-            cutSpy.transfer(task.getId(), destinationWorkbasketKey);
+            cut.transfer(task.getId(), destinationWorkbasketKey);
         } catch (Exception e) {
-            verify(taskanaEngineImpl, times(1)).openConnection();
+            verify(taskanaEngineImpl, times(2)).openConnection();
+            verify(taskMapperMock, times(1)).findStateById(task.getId());
             verify(workbasketServiceMock, times(1)).checkAuthorization(destinationWorkbasketKey,
                 WorkbasketAuthorization.APPEND);
-            verify(taskanaEngineImpl, times(1)).returnConnection();
+            verify(taskanaEngineImpl, times(2)).returnConnection();
             verifyNoMoreInteractions(attachmentMapperMock, taskanaEngineConfigurationMock, taskanaEngineMock,
                 taskanaEngineImpl, taskMapperMock, objectReferenceMapperMock, workbasketServiceMock);
             throw e;
@@ -748,22 +742,22 @@ doNothing().when(taskMapperMock).update(any());
         throws Exception {
         String destinationWorkbasketKey = "2";
         Task task = createUnitTestTask("1", "Unit Test Task 1", "1");
-        TaskServiceImpl cutSpy = Mockito.spy(cut);
-        doReturn(task).when(cutSpy).getTask(task.getId());
+        doReturn(task).when(taskMapperMock).findStateById(task.getId());
         doNothing().when(workbasketServiceMock).checkAuthorization(destinationWorkbasketKey,
             WorkbasketAuthorization.APPEND);
         doThrow(NotAuthorizedException.class).when(workbasketServiceMock).checkAuthorization(task.getWorkbasketKey(),
             WorkbasketAuthorization.TRANSFER);
 
         try {
-            cutSpy.transfer(task.getId(), destinationWorkbasketKey);
+            cut.transfer(task.getId(), destinationWorkbasketKey);
         } catch (Exception e) {
-            verify(taskanaEngineImpl, times(1)).openConnection();
+            verify(taskanaEngineImpl, times(2)).openConnection();
+            verify(taskMapperMock, times(1)).findStateById(task.getId());
             verify(workbasketServiceMock, times(1)).checkAuthorization(destinationWorkbasketKey,
                 WorkbasketAuthorization.APPEND);
             verify(workbasketServiceMock, times(1)).checkAuthorization(task.getWorkbasketKey(),
                 WorkbasketAuthorization.TRANSFER);
-            verify(taskanaEngineImpl, times(1)).returnConnection();
+            verify(taskanaEngineImpl, times(2)).returnConnection();
             verifyNoMoreInteractions(attachmentMapperMock, taskanaEngineConfigurationMock, taskanaEngineMock,
                 taskanaEngineImpl, taskMapperMock, objectReferenceMapperMock, workbasketServiceMock);
             throw e;
@@ -775,33 +769,30 @@ doNothing().when(taskMapperMock).update(any());
         throws TaskNotFoundException, ClassificationAlreadyExistException, ClassificationNotFoundException {
         TaskServiceImpl cutSpy = Mockito.spy(cut);
         TaskImpl task = createUnitTestTask("1", "Unit Test Task 1", "1");
-        task.setModified(null);
+        doReturn(1).when(taskMapperMock).setRead(eq(task.getId()), eq(true), any());
         doReturn(task).when(cutSpy).getTask(task.getId());
-        doNothing().when(taskMapperMock).update(task);
 
         Task actualTask = cutSpy.setTaskRead("1", true);
 
-        verify(taskanaEngineImpl, times(1)).openConnection();
-        verify(taskMapperMock, times(1)).update(task);
-        verify(taskanaEngineImpl, times(1)).returnConnection();
+        verify(taskanaEngineImpl, times(2)).openConnection();
+        verify(taskMapperMock, times(1)).setRead(eq(task.getId()), eq(true), any());
+        verify(cutSpy, times(1)).getTask(task.getId());
+        verify(taskanaEngineImpl, times(2)).returnConnection();
         verifyNoMoreInteractions(attachmentMapperMock, taskanaEngineConfigurationMock, taskanaEngineMock,
             taskanaEngineImpl, taskMapperMock, objectReferenceMapperMock, workbasketServiceMock);
-        assertThat(actualTask.getModified(), not(equalTo(null)));
-        assertThat(actualTask.isRead(), equalTo(true));
+        assertThat(actualTask, sameInstance(task));
     }
 
     @Test(expected = TaskNotFoundException.class)
     public void testSetTaskReadTaskNotBeFound() throws Exception {
-        TaskServiceImpl cutSpy = Mockito.spy(cut);
-        TaskImpl task = createUnitTestTask("1", "Unit Test Task 1", "1");
-        task.setModified(null);
-        doThrow(TaskNotFoundException.class).when(cutSpy).getTask(task.getId());
+        doReturn(0).when(taskMapperMock).setRead(eq("1"), eq(true), any());
 
         try {
-            cutSpy.setTaskRead("1", true);
+            cut.setTaskRead("1", true);
         } catch (Exception e) {
-            verify(taskanaEngineImpl, times(1)).openConnection();
-            verify(taskanaEngineImpl, times(1)).returnConnection();
+            verify(taskanaEngineImpl, times(2)).openConnection();
+            verify(taskMapperMock, times(1)).setRead(eq("1"), eq(true), any());
+            verify(taskanaEngineImpl, times(2)).returnConnection();
             verifyNoMoreInteractions(attachmentMapperMock, taskanaEngineConfigurationMock, taskanaEngineMock,
                 taskanaEngineImpl,
                 taskMapperMock, objectReferenceMapperMock, workbasketServiceMock);
@@ -10,7 +10,6 @@ import java.io.FileNotFoundException;
 import java.sql.Date;
 import java.sql.SQLException;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 
 import javax.security.auth.login.LoginException;
@@ -30,12 +29,14 @@ import pro.taskana.TaskanaEngine.ConnectionManagementMode;
 import pro.taskana.configuration.TaskanaEngineConfiguration;
 import pro.taskana.exceptions.ClassificationAlreadyExistException;
 import pro.taskana.exceptions.ClassificationNotFoundException;
+import pro.taskana.exceptions.ConcurrencyException;
 import pro.taskana.exceptions.InvalidArgumentException;
 import pro.taskana.exceptions.NotAuthorizedException;
 import pro.taskana.impl.ClassificationImpl;
 import pro.taskana.impl.TaskanaEngineImpl;
 import pro.taskana.impl.configuration.DBCleaner;
 import pro.taskana.impl.configuration.TaskanaEngineConfigurationTest;
+import pro.taskana.model.ClassificationTreeNode;
 
 /**
  * Integration Test for ClassificationServiceImpl with connection management mode AUTOCOMMIT.
@@ -163,12 +164,19 @@ public class ClassificationServiceImplIntAutoCommitTest {
         classification2.setParentClassificationKey(classification0.getKey());
         classificationService.createClassification(classification2);
 
-        Assert.assertEquals(2 + 1, classificationService.getClassificationTree().size());
+        List<ClassificationTreeNode> roots = classificationService.getClassificationTree();
+        Assert.assertEquals(2, roots.size());
+        ClassificationTreeNode root0 = roots.stream()
+            .filter(node -> node.getClassification().getKey().equals(classification0.getKey()))
+            .findFirst()
+            .get();
+        Assert.assertEquals(1, root0.getChildren().size());
+        Assert.assertEquals(classification2.getKey(), root0.getChildren().get(0).getClassification().getKey());
     }
 
     @Test
     public void testModifiedClassification()
-        throws ClassificationAlreadyExistException, ClassificationNotFoundException {
+        throws ClassificationAlreadyExistException, ClassificationNotFoundException, ConcurrencyException {
 
         Classification classification = this.createDummyClassificationWithUniqueKey();
         classificationService.createClassification(classification);
@@ -198,7 +206,7 @@ public class ClassificationServiceImplIntAutoCommitTest {
     @Test
     public void testUpdateAndClassificationMapper()
         throws NotAuthorizedException, ClassificationAlreadyExistException, ClassificationNotFoundException,
-        InvalidArgumentException {
+        InvalidArgumentException, ConcurrencyException {
         Classification classification = this.createDummyClassificationWithUniqueKey();
         classificationService.createClassification(classification);
         System.out.println(classification.getId());
@@ -220,9 +228,7 @@ public class ClassificationServiceImplIntAutoCommitTest {
 
         System.out.println(classification.getParentClassificationKey());
 
-        List<Classification> temp = classificationService.getClassificationTree();
-        List<ClassificationImpl> allClassifications = new ArrayList<>();
-        temp.stream().forEach(c -> allClassifications.add((ClassificationImpl) c));
+        List<ClassificationTreeNode> allClassifications = classificationService.getClassificationTree();
         Assert.assertEquals(2, allClassifications.size());
     }
 
@@ -367,7 +373,7 @@ public class ClassificationServiceImplIntAutoCommitTest {
     @Test
     public void testDefaultSettingsWithClassificationMapper()
         throws NotAuthorizedException, ClassificationAlreadyExistException, ClassificationNotFoundException,
-        InvalidArgumentException {
+        InvalidArgumentException, ConcurrencyException {
         Classification classification = this.createDummyClassificationWithUniqueKey();
         Classification classification1 = this.createDummyClassificationWithUniqueKey();
         classificationService.createClassification(classification);
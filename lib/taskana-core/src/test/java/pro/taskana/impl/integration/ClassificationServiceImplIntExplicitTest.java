@@ -31,12 +31,14 @@ import pro.taskana.TaskanaEngine.ConnectionManagementMode;
 import pro.taskana.configuration.TaskanaEngineConfiguration;
 import pro.taskana.exceptions.ClassificationAlreadyExistException;
 import pro.taskana.exceptions.ClassificationNotFoundException;
+import pro.taskana.exceptions.ConcurrencyException;
 import pro.taskana.exceptions.InvalidArgumentException;
 import pro.taskana.exceptions.NotAuthorizedException;
 import pro.taskana.impl.ClassificationImpl;
 import pro.taskana.impl.TaskanaEngineImpl;
 import pro.taskana.impl.configuration.DBCleaner;
 import pro.taskana.impl.configuration.TaskanaEngineConfigurationTest;
+import pro.taskana.model.ClassificationTreeNode;
 
 /**
  * Integration Test for ClassificationServiceImpl with connection management mode EXPLICIT.
@@ -175,13 +177,20 @@ public class ClassificationServiceImplIntExplicitTest {
         classification2.setParentClassificationKey(classification0.getKey());
         classificationService.createClassification(classification2);
 
-        Assert.assertEquals(2 + 1, classificationService.getClassificationTree().size());
+        List<ClassificationTreeNode> roots = classificationService.getClassificationTree();
+        Assert.assertEquals(2, roots.size());
+        ClassificationTreeNode root0 = roots.stream()
+            .filter(node -> node.getClassification().getKey().equals(classification0.getKey()))
+            .findFirst()
+            .get();
+        Assert.assertEquals(1, root0.getChildren().size());
+        Assert.assertEquals(classification2.getKey(), root0.getChildren().get(0).getClassification().getKey());
         connection.commit();
     }
 
     @Test
-    public void testModifiedClassification()
-        throws SQLException, ClassificationAlreadyExistException, ClassificationNotFoundException {
+    public void testModifiedClassification() throws SQLException, ClassificationAlreadyExistException,
+        ClassificationNotFoundException, ConcurrencyException {
 
         Connection connection = dataSource.getConnection();
         taskanaEngineImpl.setConnection(connection);
@@ -214,7 +223,8 @@ public class ClassificationServiceImplIntExplicitTest {
 
     @Test
     public void testUpdateAndClassificationMapper() throws NotAuthorizedException, SQLException,
-        ClassificationAlreadyExistException, ClassificationNotFoundException, InvalidArgumentException {
+        ClassificationAlreadyExistException, ClassificationNotFoundException, InvalidArgumentException,
+        ConcurrencyException {
         Connection connection = dataSource.getConnection();
         taskanaEngineImpl.setConnection(connection);
         Classification classification = this.createNewClassificationWithUniqueKey();
@@ -238,7 +248,7 @@ public class ClassificationServiceImplIntExplicitTest {
 
         System.out.println(classification.getParentClassificationKey());
 
-        List<Classification> allClassifications = classificationService.getClassificationTree();
+        List<ClassificationTreeNode> allClassifications = classificationService.getClassificationTree();
         Assert.assertEquals(2, allClassifications.size());
         connection.commit();
     }
@@ -395,7 +405,8 @@ public class ClassificationServiceImplIntExplicitTest {
 
     @Test
     public void testDefaultSettingsWithClassificationMapper() throws NotAuthorizedException, SQLException,
-        ClassificationAlreadyExistException, ClassificationNotFoundException, InvalidArgumentException {
+        ClassificationAlreadyExistException, ClassificationNotFoundException, InvalidArgumentException,
+        ConcurrencyException {
         Connection connection = dataSource.getConnection();
         taskanaEngineImpl.setConnection(connection);
         Classification classification = this.createNewClassificationWithUniqueKey();
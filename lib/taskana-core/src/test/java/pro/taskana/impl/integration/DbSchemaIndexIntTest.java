@@ -0,0 +1,189 @@
+package pro.taskana.impl.integration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.executor.parameter.ParameterHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.h2.store.fs.FileUtils;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import pro.taskana.TaskanaEngine;
+import pro.taskana.configuration.DbSchemaCreator;
+import pro.taskana.configuration.TaskanaEngineConfiguration;
+import pro.taskana.database.TestDataGenerator;
+import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.impl.TaskanaEngineImpl;
+import pro.taskana.impl.TaskanaEngineProxyForTest;
+import pro.taskana.impl.configuration.DBCleaner;
+import pro.taskana.impl.configuration.TaskanaEngineConfigurationTest;
+import pro.taskana.model.TaskState;
+
+/**
+ * Integration Test for the index set created by DbSchemaCreator. The execution plans of the main statements are
+ * checked with EXPLAIN.
+ */
+public class DbSchemaIndexIntTest {
+
+    private static final String MAPPINGS = "pro.taskana.model.mappings.";
+
+    private static DataSource dataSource;
+    private static TaskanaEngine taskanaEngine;
+    private static Configuration configuration;
+
+    @BeforeClass
+    public static void setup() throws SQLException {
+        dataSource = TaskanaEngineConfigurationTest.getDataSource();
+        DBCleaner cleaner = new DBCleaner();
+        cleaner.clearDb(dataSource, true);
+        TaskanaEngineConfiguration taskanaEngineConfiguration = new TaskanaEngineConfiguration(dataSource, false,
+            false);
+        taskanaEngine = taskanaEngineConfiguration.buildTaskanaEngine();
+        configuration = new TaskanaEngineProxyForTest((TaskanaEngineImpl) taskanaEngine).getSqlSession()
+            .getConfiguration();
+        cleaner.clearDb(dataSource, false);
+        new TestDataGenerator().generateTestData(dataSource);
+    }
+
+    @Test
+    public void testIndexSetVersionIsRecorded() throws SQLException {
+        assertEquals(DbSchemaCreator.INDEX_SET_VERSION, getIndexSetVersion());
+    }
+
+    @Test
+    public void testIndexSetIsAppliedToPreexistingSchema() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP INDEX IDX_TASK_OWNER");
+            statement.execute("DELETE FROM TASKANA_SCHEMA_VERSION WHERE ID = 'INDEX_SET'");
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        }
+
+        new DbSchemaCreator(dataSource).run();
+
+        assertEquals(DbSchemaCreator.INDEX_SET_VERSION, getIndexSetVersion());
+        try (Connection connection = dataSource.getConnection();
+            ResultSet indexes = connection.getMetaData().getIndexInfo(null, null, "TASK", false, false)) {
+            boolean found = false;
+            while (indexes.next()) {
+                found |= "IDX_TASK_OWNER".equals(indexes.getString("INDEX_NAME"));
+            }
+            assertTrue(found);
+        }
+    }
+
+    @Test
+    public void testTaskStatementsUseIndexes() throws SQLException {
+        Map<String, Object> params = new HashMap<>();
+        params.put("workbasketKey", "USER_1_1");
+        params.put("taskState", TaskState.READY);
+        assertUsesIndex(explain(MAPPINGS + "TaskMapper.findTasksByWorkbasketIdAndState", params),
+            "IDX_TASK_WORKBASKET_STATE");
+        assertUsesIndex(explain(MAPPINGS + "AttachmentMapper.findAttachmentsByTaskId", singletonMap("taskId", "1")),
+            "IDX_ATTACHMENT_TASK");
+    }
+
+    @Test
+    public void testQueryStatementsUseIndexes() throws SQLException, NotAuthorizedException {
+        assertUsesIndex(explain(MAPPINGS + "QueryMapper.queryTasks",
+            taskanaEngine.getTaskService().createTaskQuery().workbasketKeyIn("USER_1_1")),
+            "IDX_TASK_WORKBASKET_STATE");
+        assertUsesIndex(explain(MAPPINGS + "QueryMapper.queryTasks",
+            taskanaEngine.getTaskService().createTaskQuery().owner("user_1_1")),
+            "IDX_TASK_OWNER");
+        assertUsesIndex(explain(MAPPINGS + "QueryMapper.queryTaskSummaries",
+            taskanaEngine.getTaskService().createTaskQuery().workbasketKeyIn("USER_1_1")),
+            "IDX_TASK_WORKBASKET_STATE", "IDX_WORKBASKET_KEY", "IDX_CLASSIFICATION_KEY");
+        assertUsesIndex(explain(MAPPINGS + "QueryMapper.queryTaskChanges", singletonMap("changedAfter", 1L)),
+            "IDX_TASK_CHANGE_SEQ", "IDX_TASK_TOMBSTONE_CHANGE_SEQ");
+        assertUsesIndex(explain(MAPPINGS + "QueryMapper.queryTaskHistory",
+            taskanaEngine.getTaskService().createTaskHistoryQuery().taskIdIn("TKI:000000000000000000000000000000000000")),
+            "IDX_TASK_HISTORY_TASK");
+        assertUsesIndex(explain(MAPPINGS + "QueryMapper.queryTasks",
+            taskanaEngine.getTaskService().createTaskQuery().workbasketKeyIn("USER_1_1").includeArchived()),
+            "IDX_TASK_WORKBASKET_STATE", "IDX_TASK_ARCHIVE_WORKBASKET_STATE");
+    }
+
+    @Test
+    public void testArchivalStatementsUseIndexes() throws SQLException {
+        Map<String, Object> params = new HashMap<>();
+        params.put("completedBefore", new Timestamp(System.currentTimeMillis()));
+        params.put("limit", 10);
+        assertUsesIndex(explain(MAPPINGS + "TaskArchiveMapper.findArchivableTaskIds", params),
+            "IDX_TASK_STATE");
+        assertUsesIndex(explain(MAPPINGS + "TaskArchiveMapper.archiveAttachments",
+            singletonMap("taskIds", Arrays.asList("1", "2"))), "IDX_ATTACHMENT_TASK");
+    }
+
+    @Test
+    public void testWorkbasketAccessStatementsUseIndexes() throws SQLException {
+        Map<String, Object> params = new HashMap<>();
+        params.put("workbasketKey", "USER_1_1");
+        params.put("accessIds", Arrays.asList("user_1_1", "group_1"));
+        params.put("authorization", "OPEN");
+        assertUsesIndex(explain(MAPPINGS + "WorkbasketAccessMapper.findByWorkbasketAndAccessIdAndAuthorizations",
+            params), "IDX_ACCESS_LIST_WORKBASKET");
+        assertUsesIndex(explain(MAPPINGS + "WorkbasketAccessMapper.findByWorkbasketKey",
+            singletonMap("key", "USER_1_1")), "IDX_ACCESS_LIST_WORKBASKET");
+    }
+
+    private void assertUsesIndex(String plan, String... indexNames) {
+        for (String indexName : indexNames) {
+            assertTrue("expected " + indexName + " in plan " + plan, plan.contains(indexName));
+        }
+    }
+
+    private String explain(String statementId, Object parameter) throws SQLException {
+        MappedStatement mappedStatement = configuration.getMappedStatement(statementId);
+        BoundSql boundSql = mappedStatement.getBoundSql(parameter);
+        try (Connection connection = dataSource.getConnection();
+            PreparedStatement statement = connection.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+            ParameterHandler parameterHandler = new DefaultParameterHandler(mappedStatement, parameter, boundSql);
+            parameterHandler.setParameters(statement);
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1));
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    private int getIndexSetVersion() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+            ResultSet resultSet = statement
+                .executeQuery("SELECT VERSION FROM TASKANA_SCHEMA_VERSION WHERE ID = 'INDEX_SET'")) {
+            return resultSet.next() ? Integer.parseInt(resultSet.getString(1).trim()) : 0;
+        }
+    }
+
+    private Map<String, Object> singletonMap(String key, Object value) {
+        Map<String, Object> params = new HashMap<>();
+        params.put(key, value);
+        return params;
+    }
+
+    @AfterClass
+    public static void cleanUpClass() {
+        FileUtils.deleteRecursive("~/data", true);
+    }
+}
@@ -0,0 +1,219 @@
+package pro.taskana.impl.integration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.h2.store.fs.FileUtils;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import pro.taskana.TaskanaEngine;
+import pro.taskana.configuration.DbSchemaCreator;
+import pro.taskana.configuration.TaskanaEngineConfiguration;
+import pro.taskana.impl.configuration.DBCleaner;
+import pro.taskana.impl.configuration.TaskanaEngineConfigurationTest;
+
+/**
+ * Integration Test for the schema migrations of DbSchemaCreator. A schema of a previous version is simulated by
+ * dropping the objects a migration adds and removing the recorded migration version.
+ */
+public class DbSchemaMigrationIntTest {
+
+    private static DataSource dataSource;
+
+    @BeforeClass
+    public static void setup() throws SQLException {
+        dataSource = TaskanaEngineConfigurationTest.getDataSource();
+        new DBCleaner().clearDb(dataSource, true);
+        new DbSchemaCreator(dataSource).run();
+    }
+
+    @Test
+    public void testMigrationVersionIsRecordedForNewSchema() throws SQLException {
+        assertEquals(DbSchemaCreator.SCHEMA_MIGRATION_VERSION, getMigrationVersion());
+    }
+
+    @Test
+    public void testVersionColumnsAreAddedToPreexistingSchema() throws SQLException {
+        execute("ALTER TABLE TASK DROP COLUMN VERSION",
+            "ALTER TABLE WORKBASKET DROP COLUMN VERSION",
+            "ALTER TABLE CLASSIFICATION DROP COLUMN VERSION",
+            "DELETE FROM TASKANA_SCHEMA_VERSION WHERE ID = 'SCHEMA_MIGRATION'");
+
+        new DbSchemaCreator(dataSource).run();
+
+        assertEquals(DbSchemaCreator.SCHEMA_MIGRATION_VERSION, getMigrationVersion());
+        assertTrue(hasColumn("TASK", "VERSION"));
+        assertTrue(hasColumn("WORKBASKET", "VERSION"));
+        assertTrue(hasColumn("CLASSIFICATION", "VERSION"));
+    }
+
+    @Test
+    public void testEventTablesAreAddedToPreexistingSchema() throws SQLException {
+        execute("DROP TABLE TASK_EVENT", "DROP TABLE TASK_EVENT_OFFSET",
+            "DELETE FROM TASKANA_SCHEMA_VERSION WHERE ID = 'SCHEMA_MIGRATION'");
+
+        new DbSchemaCreator(dataSource).run();
+
+        assertTrue(hasTable("TASK_EVENT"));
+        assertTrue(hasTable("TASK_EVENT_OFFSET"));
+    }
+
+    @Test
+    public void testChangeSequenceIsAddedBeforeItsIndex() throws SQLException {
+        execute("DROP INDEX IDX_TASK_CHANGE_SEQ", "ALTER TABLE TASK DROP COLUMN CHANGE_SEQ",
+            "DROP SEQUENCE TASK_CHANGE_SEQ",
+            "DELETE FROM TASKANA_SCHEMA_VERSION WHERE ID IN ('SCHEMA_MIGRATION', 'INDEX_SET')");
+
+        new DbSchemaCreator(dataSource).run();
+
+        assertTrue(hasColumn("TASK", "CHANGE_SEQ"));
+        execute("SELECT NEXT VALUE FOR TASK_CHANGE_SEQ");
+        assertTrue(hasIndex("TASK", "IDX_TASK_CHANGE_SEQ"));
+    }
+
+    @Test
+    public void testHistoryTableIsAddedBeforeItsIndex() throws SQLException {
+        execute("DROP TABLE TASK_HISTORY",
+            "DELETE FROM TASKANA_SCHEMA_VERSION WHERE ID IN ('SCHEMA_MIGRATION', 'INDEX_SET')");
+
+        new DbSchemaCreator(dataSource).run();
+
+        assertTrue(hasTable("TASK_HISTORY"));
+        assertTrue(hasIndex("TASK_HISTORY", "IDX_TASK_HISTORY_TASK"));
+    }
+
+    @Test
+    public void testArchiveTablesAreAddedAndFilledFromMigratedTasks() throws SQLException {
+        // the columns of a migrated TASK table need not be in the order of the new TASK_ARCHIVE
+        execute("DROP TABLE TASK_ARCHIVE", "DROP TABLE ATTACHMENT_ARCHIVE",
+            "ALTER TABLE TASK DROP COLUMN DESCRIPTION", "ALTER TABLE TASK ADD COLUMN DESCRIPTION VARCHAR(4096) NULL",
+            "DELETE FROM TASKANA_SCHEMA_VERSION WHERE ID IN ('SCHEMA_MIGRATION', 'INDEX_SET')");
+
+        new DbSchemaCreator(dataSource).run();
+
+        assertTrue(hasTable("TASK_ARCHIVE"));
+        assertTrue(hasTable("ATTACHMENT_ARCHIVE"));
+        assertTrue(hasIndex("TASK_ARCHIVE", "IDX_TASK_ARCHIVE_WORKBASKET_STATE"));
+
+        execute("INSERT INTO TASK (ID, STATE, COMPLETED, WORKBASKET_KEY, DESCRIPTION, POR_COMPANY, POR_SYSTEM, "
+            + "POR_INSTANCE, POR_TYPE, POR_VALUE, IS_READ, IS_TRANSFERRED, VERSION) VALUES ('TKI:migrated', "
+            + "'COMPLETED', '2017-01-01 00:00:00', 'USER_1_1', 'migrated task', 'C', 'S', 'I', 'T', 'V', FALSE, "
+            + "FALSE, 3)");
+        TaskanaEngine taskanaEngine = new TaskanaEngineConfiguration(dataSource, false, false).buildTaskanaEngine();
+
+        assertEquals(1, taskanaEngine.archiveCompletedTasks());
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+            ResultSet resultSet = statement
+                .executeQuery("SELECT DESCRIPTION, VERSION FROM TASK_ARCHIVE WHERE ID = 'TKI:migrated'")) {
+            assertTrue(resultSet.next());
+            assertEquals("migrated task", resultSet.getString(1));
+            assertEquals(3, resultSet.getInt(2));
+        }
+    }
+
+    @Test
+    public void testCounterTableIsAddedAndCountsExistingTasks() throws SQLException {
+        execute("DROP TABLE TASK_COUNTER",
+            "INSERT INTO TASK (ID, STATE, DUE, WORKBASKET_KEY, POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, "
+                + "POR_VALUE, IS_READ, IS_TRANSFERRED) VALUES ('TKI:counted-1', 'READY', '2017-06-01 10:00:00', "
+                + "'COUNTED', 'C', 'S', 'I', 'T', 'V', FALSE, FALSE)",
+            "INSERT INTO TASK (ID, STATE, DUE, WORKBASKET_KEY, POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, "
+                + "POR_VALUE, IS_READ, IS_TRANSFERRED) VALUES ('TKI:counted-2', 'READY', '2017-06-01 16:00:00', "
+                + "'COUNTED', 'C', 'S', 'I', 'T', 'V', FALSE, FALSE)",
+            "DELETE FROM TASKANA_SCHEMA_VERSION WHERE ID = 'SCHEMA_MIGRATION'");
+
+        new DbSchemaCreator(dataSource).run();
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery("SELECT STATE, DUE_DATE, COUNTER FROM TASK_COUNTER "
+                + "WHERE WORKBASKET_KEY = 'COUNTED'")) {
+            assertTrue(resultSet.next());
+            assertEquals("READY", resultSet.getString(1));
+            assertEquals(Date.valueOf("2017-06-01"), resultSet.getDate(2));
+            assertEquals(2, resultSet.getLong(3));
+            assertFalse(resultSet.next());
+        }
+    }
+
+    @Test
+    public void testTombstoneTableIsAddedBeforeItsIndex() throws SQLException {
+        execute("DROP TABLE TASK_TOMBSTONE",
+            "DELETE FROM TASKANA_SCHEMA_VERSION WHERE ID IN ('SCHEMA_MIGRATION', 'INDEX_SET')");
+
+        new DbSchemaCreator(dataSource).run();
+
+        assertTrue(hasTable("TASK_TOMBSTONE"));
+        assertTrue(hasIndex("TASK_TOMBSTONE", "IDX_TASK_TOMBSTONE_CHANGE_SEQ"));
+    }
+
+    @Test
+    public void testMigrationsCanBeRunAgain() throws SQLException {
+        execute("DELETE FROM TASKANA_SCHEMA_VERSION WHERE ID = 'SCHEMA_MIGRATION'");
+
+        new DbSchemaCreator(dataSource).run();
+
+        assertEquals(DbSchemaCreator.SCHEMA_MIGRATION_VERSION, getMigrationVersion());
+    }
+
+    private void execute(String... sqls) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (String sql : sqls) {
+                statement.execute(sql);
+            }
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        }
+    }
+
+    private boolean hasColumn(String table, String column) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+            ResultSet columns = connection.getMetaData().getColumns(null, null, table, column)) {
+            return columns.next();
+        }
+    }
+
+    private boolean hasIndex(String table, String index) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+            ResultSet indexes = connection.getMetaData().getIndexInfo(null, null, table, false, false)) {
+            boolean found = false;
+            while (indexes.next()) {
+                found |= index.equals(indexes.getString("INDEX_NAME"));
+            }
+            return found;
+        }
+    }
+
+    private boolean hasTable(String table) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+            ResultSet tables = connection.getMetaData().getTables(null, null, table, null)) {
+            return tables.next();
+        }
+    }
+
+    private int getMigrationVersion() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+            ResultSet resultSet = statement
+                .executeQuery("SELECT VERSION FROM TASKANA_SCHEMA_VERSION WHERE ID = 'SCHEMA_MIGRATION'")) {
+            return resultSet.next() ? Integer.parseInt(resultSet.getString(1).trim()) : 0;
+        }
+    }
+
+    @AfterClass
+    public static void cleanUpClass() throws SQLException {
+        // the migrated tables have a different column order, the next test creates a new schema
+        new DBCleaner().clearDb(dataSource, true);
+        FileUtils.deleteRecursive("~/data", true);
+    }
+}
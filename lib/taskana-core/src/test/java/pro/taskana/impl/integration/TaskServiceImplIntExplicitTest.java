@@ -10,6 +10,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,6 +26,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import pro.taskana.Attachment;
 import pro.taskana.Classification;
 import pro.taskana.ClassificationService;
 import pro.taskana.Task;
@@ -170,6 +172,52 @@ public class TaskServiceImplIntExplicitTest {
         connection.commit();
     }
 
+    @WithAccessId(userName = "Elena")
+    @Test
+    public void testCreateTasksIsCommittedByTheClient()
+        throws SQLException, TaskNotFoundException, NotAuthorizedException, WorkbasketNotFoundException,
+        ClassificationNotFoundException, ClassificationAlreadyExistException, InvalidWorkbasketException {
+        Connection connection = dataSource.getConnection();
+        taskanaEngineImpl.setConnection(connection);
+
+        Task template = this.generateDummyTask();
+        WorkbasketAccessItem accessItem = new WorkbasketAccessItem();
+        accessItem.setId(IdGenerator.generateWithPrefix("WAI"));
+        accessItem.setWorkbasketKey("wb");
+        accessItem.setAccessId("Elena");
+        accessItem.setPermAppend(true);
+        accessItem.setPermRead(true);
+        accessItem.setPermOpen(true);
+        workbasketService.createWorkbasketAuthorization(accessItem);
+        connection.commit();
+
+        Classification classification = classificationService.getClassification("TEST", "novatec");
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Task task = taskServiceImpl.newTask();
+            task.setWorkbasketKey(template.getWorkbasketKey());
+            task.setClassificationKey(classification.getKey());
+            task.setPrimaryObjRef(JunitHelper.createDefaultObjRef());
+            Attachment attachment = taskServiceImpl.newAttachment();
+            attachment.setClassification(classification);
+            attachment.setObjectReference(JunitHelper.createDefaultObjRef());
+            task.addAttachment(attachment);
+            tasks.add(task);
+        }
+        Assert.assertFalse(taskServiceImpl.createTasks(tasks).containsErrors());
+        connection.commit();
+        taskanaEngineImpl.setConnection(null);
+        connection.close();
+
+        TaskanaEngine te2 = taskanaEngineConfiguration.buildTaskanaEngine();
+        te2.setConnectionManagementMode(ConnectionManagementMode.AUTOCOMMIT);
+        TaskServiceImpl taskServiceImpl2 = (TaskServiceImpl) te2.getTaskService();
+        for (Task task : tasks) {
+            Task resultTask = taskServiceImpl2.getTask(task.getId());
+            Assert.assertEquals(1, resultTask.getAttachments().size());
+        }
+    }
+
     @Test
     public void testCreateTaskInTaskanaWithDefaultDb()
         throws FileNotFoundException, SQLException, TaskNotFoundException, NotAuthorizedException,
@@ -434,13 +434,13 @@ public class WorkbasketServiceImplIntAutocommitTest {
         WorkbasketImpl wb4 = (WorkbasketImpl) basket4;
         engineProxy.openConnection();
         wb1.setModified(new Timestamp(workBasketsCreated.getTime() - TEN_DAYS));
-        mapper.update(wb1);
+        mapper.update(wb1, wb1.changedProperties());
         wb2.setModified(new Timestamp(workBasketsCreated.getTime() - FIFTEEN_DAYS));
-        mapper.update(wb2);
+        mapper.update(wb2, wb2.changedProperties());
         wb3.setModified(new Timestamp(workBasketsCreated.getTime() - TWENTY_DAYS));
-        mapper.update(wb3);
+        mapper.update(wb3, wb3.changedProperties());
         wb4.setModified(new Timestamp(workBasketsCreated.getTime() - (2 * FIFTEEN_DAYS)));
-        mapper.update(wb4);
+        mapper.update(wb4, wb4.changedProperties());
         engineProxy.returnConnection();
     }
 
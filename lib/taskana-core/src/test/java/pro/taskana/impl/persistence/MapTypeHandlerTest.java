@@ -0,0 +1,76 @@
+package pro.taskana.impl.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit Test for MapTypeHandler and the attribute codecs.
+ */
+public class MapTypeHandlerTest {
+
+    @Test
+    public void testCompactCodecRoundTrip() throws IOException {
+        Map<String, Object> attributes = createAttributes();
+        MapTypeHandler handler = new MapTypeHandler();
+
+        byte[] data = handler.encode(attributes);
+
+        assertEquals(CompactAttributeCodec.FORMAT_MARKER, data[0]);
+        assertEquals(attributes, handler.decode(data));
+    }
+
+    @Test
+    public void testCompactCodecIsSmallerThanJavaSerialization() throws IOException {
+        Map<String, Object> attributes = createAttributes();
+
+        byte[] compact = new CompactAttributeCodec().encode(attributes);
+        byte[] serialized = new JavaSerializationAttributeCodec().encode(attributes);
+
+        assertTrue(compact.length < serialized.length);
+    }
+
+    @Test
+    public void testJavaSerializedDataIsDecodedByDefaultHandler() throws IOException {
+        Map<String, Object> attributes = createAttributes();
+        byte[] serialized = new JavaSerializationAttributeCodec().encode(attributes);
+
+        assertEquals(JavaSerializationAttributeCodec.FORMAT_MARKER, serialized[0]);
+        assertEquals(attributes, new MapTypeHandler().decode(serialized));
+    }
+
+    @Test
+    public void testConfiguredCodecIsUsedForWriting() throws IOException {
+        MapTypeHandler handler = new MapTypeHandler(new JavaSerializationAttributeCodec());
+
+        byte[] data = handler.encode(createAttributes());
+
+        assertEquals(JavaSerializationAttributeCodec.FORMAT_MARKER, data[0]);
+    }
+
+    @Test(expected = IOException.class)
+    public void testUnknownFormatMarkerIsRejected() throws IOException {
+        new MapTypeHandler().decode(new byte[] {0x7F, 0x00});
+    }
+
+    private Map<String, Object> createAttributes() {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("string", "Ein Wert mit Umlauten äöü");
+        attributes.put("integer", 4711);
+        attributes.put("long", Long.MAX_VALUE);
+        attributes.put("boolean", Boolean.FALSE);
+        attributes.put("double", 0.5d);
+        attributes.put("decimal", new BigDecimal("12.34"));
+        attributes.put("null", null);
+        for (int i = 0; i < 200; i++) {
+            attributes.put("Property_" + i, "Property Value of Property_" + i);
+        }
+        return attributes;
+    }
+}
@@ -5,4 +5,11 @@ DELETE FROM CLASSIFICATION;
 DELETE FROM WORKBASKET_ACCESS_LIST;
 DELETE FROM OBJECT_REFERENCE;
 DELETE FROM ATTACHMENT;
+DELETE FROM TASK_EVENT;
+DELETE FROM TASK_EVENT_OFFSET;
+DELETE FROM TASK_TOMBSTONE;
+DELETE FROM TASK_HISTORY;
+DELETE FROM TASK_COUNTER;
+DELETE FROM TASK_ARCHIVE;
+DELETE FROM ATTACHMENT_ARCHIVE;
 COMMIT;
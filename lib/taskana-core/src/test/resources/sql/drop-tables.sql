@@ -6,4 +6,12 @@ DROP TABLE CLASSIFICATION;
 DROP TABLE WORKBASKET_ACCESS_LIST;
 DROP TABLE OBJECT_REFERENCE;
 DROP TABLE ATTACHMENT;
+DROP TABLE TASK_EVENT;
+DROP TABLE TASK_EVENT_OFFSET;
+DROP TABLE TASK_TOMBSTONE;
+DROP TABLE TASK_HISTORY;
+DROP TABLE TASK_COUNTER;
+DROP TABLE TASK_ARCHIVE;
+DROP TABLE ATTACHMENT_ARCHIVE;
+DROP SEQUENCE TASK_CHANGE_SEQ;
 COMMIT;
@@ -5,6 +5,8 @@ import java.sql.SQLException;
 import javax.annotation.PostConstruct;
 
 import org.apache.ibatis.transaction.managed.ManagedTransactionFactory;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import pro.taskana.configuration.SpringTaskanaEngineConfiguration;
 import pro.taskana.impl.TaskanaEngineImpl;
 
@@ -22,4 +24,42 @@ public class SpringTaskanaEngineImpl extends TaskanaEngineImpl {
 		this.transactionFactory = new ManagedTransactionFactory();
 	}
 
+	/**
+	 * Runs the action when the spring managed transaction of the current thread
+	 * has been committed.
+	 */
+	@Override
+	protected boolean registerAfterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return false;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+		return true;
+	}
+
+	/**
+	 * Runs the action when the spring managed transaction of the current thread
+	 * has been committed or rolled back.
+	 */
+	@Override
+	protected boolean registerAfterCompletion(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return false;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+			@Override
+			public void afterCompletion(int status) {
+				action.run();
+			}
+		});
+		return true;
+	}
+
 }
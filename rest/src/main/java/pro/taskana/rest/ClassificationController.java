@@ -17,6 +17,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 import pro.taskana.Classification;
 import pro.taskana.ClassificationService;
+import pro.taskana.exceptions.ConcurrencyException;
+import pro.taskana.model.ClassificationTreeNode;
 
 @RestController
 @RequestMapping(path = "/v1/classifications", produces = { MediaType.APPLICATION_JSON_VALUE })
@@ -26,9 +28,9 @@ public class ClassificationController {
 	private ClassificationService classificationService;
 
 	@RequestMapping(method = RequestMethod.GET)
-	public ResponseEntity<List<Classification>> getClassifications() {
+	public ResponseEntity<List<ClassificationTreeNode>> getClassifications() {
 		try {
-			List<Classification> classificationTree = classificationService.getClassificationTree();
+			List<ClassificationTreeNode> classificationTree = classificationService.getClassificationTree();
 			return ResponseEntity.status(HttpStatus.OK).body(classificationTree);
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
@@ -70,6 +72,8 @@ public class ClassificationController {
 		try {
 			classificationService.updateClassification(classification);
 			return ResponseEntity.status(HttpStatus.CREATED).body(classification);
+		} catch (ConcurrencyException e) {
+			return ResponseEntity.status(HttpStatus.CONFLICT).build();
 		} catch (Exception e) {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
 		}
@@ -1,7 +1,7 @@
 package pro.taskana.rest;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatterBuilder;
+import java.sql.Date;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -14,11 +14,15 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import pro.taskana.TaskMonitorService;
-import pro.taskana.WorkbasketService;
-import pro.taskana.model.DueWorkbasketCounter;
+import pro.taskana.TaskanaEngine;
+import pro.taskana.exceptions.InvalidArgumentException;
+import pro.taskana.model.CacheStatistics;
+import pro.taskana.model.TaskAgingReport;
+import pro.taskana.model.TaskAgingReportGrouping;
 import pro.taskana.model.TaskState;
 import pro.taskana.model.TaskStateCounter;
-import pro.taskana.Workbasket;
+import pro.taskana.model.WorkbasketDueDateReport;
+import pro.taskana.model.WorkbasketDueDateReportLine;
 import pro.taskana.rest.model.WorkbasketCounterDataDto;
 import pro.taskana.rest.model.WorkbasketCounterDto;
 
@@ -26,11 +30,13 @@ import pro.taskana.rest.model.WorkbasketCounterDto;
 @RequestMapping(path = "/v1/monitor", produces = { MediaType.APPLICATION_JSON_VALUE })
 public class MonitorController {
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+
     @Autowired
     private TaskMonitorService taskMonitorService;
 
     @Autowired
-    private WorkbasketService workbasketService;
+    private TaskanaEngine taskanaEngine;
 
     @RequestMapping(value = "/countByState")
     public ResponseEntity<List<TaskStateCounter>> getTaskcountForState(
@@ -48,56 +54,50 @@ public class MonitorController {
         @RequestParam(value = "daysInPast") Long daysInPast,
         @RequestParam(value = "states") List<TaskState> states) {
         try {
-            WorkbasketCounterDto WorkbasketCounterDto = new WorkbasketCounterDto();
-
-            LocalDate date = LocalDate.now();
-            date = date.minusDays(daysInPast);
+            WorkbasketDueDateReport report = taskMonitorService.getWorkbasketDueDateReport(daysInPast, daysInPast,
+                states);
+            WorkbasketCounterDto workbasketCounterDto = new WorkbasketCounterDto();
             List<String> dates = new ArrayList<>();
-
-            for (int i = 0; i < (daysInPast * 2 + 1); i++) {
-                dates.add(date.format(new DateTimeFormatterBuilder().appendPattern("dd.MM.yyyy").toFormatter()));
-                date = date.plusDays(1);
+            for (Date date : report.getDates()) {
+                dates.add(date.toLocalDate().format(DATE_FORMATTER));
             }
-            WorkbasketCounterDto.setDates(dates);
-
+            workbasketCounterDto.setDates(dates);
             List<WorkbasketCounterDataDto> data = new ArrayList<>();
-
-            for (Workbasket workbasket : workbasketService.getWorkbaskets()) {
+            for (WorkbasketDueDateReportLine line : report.getLines()) {
                 WorkbasketCounterDataDto counterDto = new WorkbasketCounterDataDto();
-                counterDto.setLabel(workbasket.getName());
-                List<Integer> zeroData = new ArrayList<>();
-                for (int i = 0; i < dates.size(); i++) {
-                    zeroData.add(0);
+                counterDto.setLabel(line.getWorkbasketName());
+                List<Integer> counters = new ArrayList<>();
+                for (Long counter : line.getTaskCounters()) {
+                    counters.add(counter.intValue());
                 }
-                counterDto.setData(zeroData);
+                counterDto.setData(counters);
                 data.add(counterDto);
             }
+            workbasketCounterDto.setData(data);
+            return ResponseEntity.status(HttpStatus.OK).body(workbasketCounterDto);
+        } catch (InvalidArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
 
-            List<DueWorkbasketCounter> dwcList = taskMonitorService.getTaskCountByWorkbasketAndDaysInPastAndState(
-                daysInPast,
-                states);
-
-            for (DueWorkbasketCounter item : dwcList) {
-                String formattedDate = item.getDue()
-                    .toLocalDate()
-                    .format(new DateTimeFormatterBuilder().appendPattern("dd.MM.yyyy").toFormatter());
-                for (int i = 0; i < dates.size(); i++) {
-                    if (formattedDate.equalsIgnoreCase(dates.get(i))) {
-                        for (int j = 0; j < data.size(); j++) {
-                            if (data.get(j).getLabel().equalsIgnoreCase(
-                                workbasketService.getWorkbasket(item.getWorkbasketId()).getName())) {
-                                data.get(j).getData().set(i, (int) item.getTaskCounter());
-                            }
-                        }
-                    }
-                }
-            }
-
-            WorkbasketCounterDto.setData(data);
-
-            return ResponseEntity.status(HttpStatus.OK).body(WorkbasketCounterDto);
+    @RequestMapping(value = "/taskAgingReport")
+    public ResponseEntity<TaskAgingReport> getTaskAgingReport(
+        @RequestParam(value = "dayBoundaries") List<Integer> dayBoundaries,
+        @RequestParam(value = "grouping", defaultValue = "WORKBASKET") TaskAgingReportGrouping grouping) {
+        try {
+            TaskAgingReport report = taskMonitorService.getTaskAgingReport(dayBoundaries, grouping);
+            return ResponseEntity.status(HttpStatus.OK).body(report);
+        } catch (InvalidArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    @RequestMapping(value = "/cacheStatistics")
+    public ResponseEntity<CacheStatistics> getCacheStatistics() {
+        return ResponseEntity.status(HttpStatus.OK).body(taskanaEngine.getMonitorReportCacheStatistics());
+    }
 }
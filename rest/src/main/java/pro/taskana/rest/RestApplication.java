@@ -1,11 +1,13 @@
 package pro.taskana.rest;
 
 import java.sql.SQLException;
+import java.time.Duration;
 
 import javax.annotation.PostConstruct;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -24,6 +26,8 @@ import pro.taskana.TaskanaEngine;
 import pro.taskana.Workbasket;
 import pro.taskana.WorkbasketService;
 import pro.taskana.configuration.TaskanaEngineConfiguration;
+import pro.taskana.model.ClassificationTreeNode;
+import pro.taskana.rest.serialization.ClassificationTreeNodeMixIn;
 import pro.taskana.rest.serialization.WorkbasketMixIn;
 import pro.taskana.sampledata.SampleDataGenerator;
 
@@ -32,6 +36,9 @@ public class RestApplication {
 
     private static final Logger logger = LoggerFactory.getLogger(RestApplication.class);
 
+    @Value("${taskana.rest.monitor.cache-time-to-live:10000}")
+    private long monitorReportCacheTimeToLive;
+
     public static void main(String[] args) {
         SpringApplication.run(RestApplication.class, args);
     }
@@ -66,6 +73,9 @@ public class RestApplication {
     @Scope(ConfigurableBeanFactory.SCOPE_SINGLETON)
     public TaskanaEngineConfiguration getTaskanaEngineConfiguration() throws SQLException {
         TaskanaEngineConfiguration taskanaEngineConfiguration = new TaskanaEngineConfiguration(null, true);
+        taskanaEngineConfiguration.setMonitorReportCacheTimeToLive(Duration.ofMillis(monitorReportCacheTimeToLive));
+        // the WorkbasketChangeDetector consumes the task events
+        taskanaEngineConfiguration.setTaskEventsEnabled(true);
         return taskanaEngineConfiguration;
     }
 
@@ -87,7 +97,8 @@ public class RestApplication {
     @Bean
     public Jackson2ObjectMapperBuilder jacksonBuilder(HandlerInstantiator handlerInstantiator) {
         Jackson2ObjectMapperBuilder b = new Jackson2ObjectMapperBuilder();
-        b.indentOutput(true).mixIn(Workbasket.class, WorkbasketMixIn.class);
+        b.indentOutput(true).mixIn(Workbasket.class, WorkbasketMixIn.class)
+            .mixIn(ClassificationTreeNode.class, ClassificationTreeNodeMixIn.class);
         b.handlerInstantiator(handlerInstantiator);
         return b;
     }
@@ -59,6 +59,17 @@ public class TaskController {
         }
     }
 
+    @RequestMapping(params = "view=summary")
+    public ResponseEntity<List<TaskSummary>> getTaskSummaries(@RequestParam MultiValueMap<String, String> params)
+        throws LoginException, InvalidArgumentException {
+        try {
+            return ResponseEntity.status(HttpStatus.OK).body(taskLogic.inspectParamsForSummaries(params));
+        } catch (NotAuthorizedException e) {
+            logger.error("Somthing went wrong whith the Authorisation, while getting the Task summaries.", e);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
     @RequestMapping(value = "/{taskId}")
     public ResponseEntity<Task> getTask(@PathVariable(value = "taskId") String taskId)
         throws ClassificationNotFoundException {
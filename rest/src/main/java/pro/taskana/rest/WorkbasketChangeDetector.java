@@ -0,0 +1,240 @@
+package pro.taskana.rest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import pro.taskana.TaskEventListener;
+import pro.taskana.TaskService;
+import pro.taskana.TaskanaEngine;
+import pro.taskana.exceptions.InvalidArgumentException;
+import pro.taskana.exceptions.NotAuthorizedException;
+import pro.taskana.model.TaskEvent;
+import pro.taskana.model.TaskState;
+import pro.taskana.model.TaskSummary;
+import pro.taskana.rest.model.TaskNotificationDto;
+
+/**
+ * Pushes the changes of the open tasks of a workbasket to the connected event stream clients. The detector is
+ * registered as a single task event listener with the engine, so the task event table is polled once for all clients
+ * regardless of how many of them are connected.
+ * <p>
+ * For every watched workbasket the ids of its open tasks are kept in memory. They are read once by the first
+ * subscriber and then maintained from the task events, which tell whether a task has been added to the workbasket,
+ * removed from it by a transfer or completion, or changed within it.
+ */
+@Component
+public class WorkbasketChangeDetector implements TaskEventListener {
+
+    private static final String ADDED = "added";
+    private static final String REMOVED = "removed";
+    private static final String CHANGED = "changed";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WorkbasketChangeDetector.class);
+
+    @Autowired
+    private TaskanaEngine taskanaEngine;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Value("${taskana.rest.events.consumer-id:taskana-rest}")
+    private String consumerId;
+
+    private final Map<String, Watch> watches = new HashMap<>();
+
+    @PostConstruct
+    public void start() throws InvalidArgumentException {
+        taskanaEngine.registerTaskEventListener(consumerId, this);
+    }
+
+    @PreDestroy
+    public void stop() {
+        taskanaEngine.unregisterTaskEventListener(consumerId);
+        List<SseEmitter> emitters = new ArrayList<>();
+        synchronized (this) {
+            for (Watch watch : watches.values()) {
+                emitters.addAll(watch.emitters);
+            }
+            watches.clear();
+        }
+        for (SseEmitter emitter : emitters) {
+            emitter.complete();
+        }
+    }
+
+    /**
+     * Sends the changes of the workbasket to the emitter until it completes. The first subscriber of a workbasket reads
+     * its open tasks with the permissions of the current user, events arriving meanwhile are applied afterwards.
+     *
+     * @param workbasketKey
+     *            the key of the workbasket to watch
+     * @param emitter
+     *            the event stream of the client
+     * @throws NotAuthorizedException
+     *             if the current user may not read the tasks of the workbasket
+     */
+    public void subscribe(String workbasketKey, SseEmitter emitter) throws NotAuthorizedException {
+        Watch watch;
+        boolean initialize;
+        synchronized (this) {
+            watch = watches.get(workbasketKey);
+            initialize = watch == null;
+            if (initialize) {
+                watch = new Watch(workbasketKey);
+                watches.put(workbasketKey, watch);
+            }
+            watch.emitters.add(emitter);
+        }
+        emitter.onCompletion(() -> unsubscribe(workbasketKey, emitter));
+        emitter.onTimeout(() -> unsubscribe(workbasketKey, emitter));
+        if (initialize) {
+            initialize(watch);
+        }
+        LOGGER.debug("Subscribed event stream to workbasket {}.", workbasketKey);
+    }
+
+    @Override
+    public void onTaskEvents(List<TaskEvent> events) {
+        List<Notification> notifications = new ArrayList<>();
+        synchronized (this) {
+            for (Watch watch : watches.values()) {
+                if (watch.pending != null) {
+                    watch.pending.addAll(events);
+                } else {
+                    for (TaskEvent event : events) {
+                        apply(watch, event, notifications);
+                    }
+                }
+            }
+        }
+        send(notifications);
+    }
+
+    private void initialize(Watch watch) throws NotAuthorizedException {
+        List<TaskSummary> openTasks;
+        try {
+            openTasks = taskService.createTaskQuery()
+                .workbasketKeyIn(watch.workbasketKey)
+                .state(TaskState.READY, TaskState.CLAIMED)
+                .listSummaries();
+        } catch (NotAuthorizedException | RuntimeException e) {
+            // the subscribers which joined meanwhile have to reconnect
+            List<SseEmitter> emitters;
+            synchronized (this) {
+                watches.remove(watch.workbasketKey, watch);
+                emitters = new ArrayList<>(watch.emitters);
+            }
+            for (SseEmitter emitter : emitters) {
+                emitter.complete();
+            }
+            throw e;
+        }
+        List<Notification> notifications = new ArrayList<>();
+        synchronized (this) {
+            for (TaskSummary task : openTasks) {
+                watch.taskIds.add(task.getTaskId().trim());
+            }
+            List<TaskEvent> pending = watch.pending;
+            watch.pending = null;
+            for (TaskEvent event : pending) {
+                apply(watch, event, notifications);
+            }
+        }
+        send(notifications);
+    }
+
+    private synchronized void unsubscribe(String workbasketKey, SseEmitter emitter) {
+        Watch watch = watches.get(workbasketKey);
+        if (watch != null && watch.emitters.remove(emitter) && watch.emitters.isEmpty()) {
+            watches.remove(workbasketKey);
+            LOGGER.debug("Stopped watching workbasket {}, no event stream is connected.", workbasketKey);
+        }
+    }
+
+    /**
+     * Updates the open tasks of the watch with the state of the task after the event.
+     */
+    private void apply(Watch watch, TaskEvent event, List<Notification> notifications) {
+        String taskId = event.getTaskId().trim();
+        boolean open = event.getState() != TaskState.COMPLETED;
+        String type;
+        if (open && watch.workbasketKey.equals(event.getWorkbasketKey())) {
+            type = watch.taskIds.add(taskId) ? ADDED : CHANGED;
+        } else if (watch.taskIds.remove(taskId)) {
+            type = REMOVED;
+        } else {
+            return;
+        }
+        notifications.add(new Notification(type, watch.workbasketKey, new ArrayList<>(watch.emitters),
+            new TaskNotificationDto(taskId, event.getWorkbasketKey(), event.getState(), event.getOwner())));
+    }
+
+    /**
+     * Writes the notifications to the event streams. A stream which can't be written to is dropped, the client is
+     * expected to reconnect.
+     */
+    private void send(List<Notification> notifications) {
+        for (Notification notification : notifications) {
+            for (SseEmitter emitter : notification.emitters) {
+                try {
+                    emitter.send(SseEmitter.event()
+                        .name(notification.type)
+                        .data(notification.task, MediaType.APPLICATION_JSON));
+                } catch (IOException | IllegalStateException e) {
+                    LOGGER.debug("Dropping event stream of workbasket {}.", notification.workbasketKey, e);
+                    unsubscribe(notification.workbasketKey, emitter);
+                }
+            }
+        }
+    }
+
+    /**
+     * The open tasks and the connected clients of a workbasket.
+     */
+    private static final class Watch {
+
+        private final String workbasketKey;
+        private final Set<String> taskIds = new HashSet<>();
+        private final List<SseEmitter> emitters = new ArrayList<>();
+        private List<TaskEvent> pending = new ArrayList<>();
+
+        private Watch(String workbasketKey) {
+            this.workbasketKey = workbasketKey;
+        }
+    }
+
+    /**
+     * A notification to send to the clients which were connected when it was created.
+     */
+    private static final class Notification {
+
+        private final String type;
+        private final String workbasketKey;
+        private final List<SseEmitter> emitters;
+        private final TaskNotificationDto task;
+
+        private Notification(String type, String workbasketKey, List<SseEmitter> emitters,
+            TaskNotificationDto task) {
+            this.type = type;
+            this.workbasketKey = workbasketKey;
+            this.emitters = emitters;
+            this.task = task;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -16,9 +17,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import pro.taskana.Workbasket;
 import pro.taskana.WorkbasketService;
+import pro.taskana.exceptions.ConcurrencyException;
 import pro.taskana.exceptions.InvalidWorkbasketException;
 import pro.taskana.exceptions.NotAuthorizedException;
 import pro.taskana.exceptions.WorkbasketNotFoundException;
@@ -32,6 +35,12 @@ public class WorkbasketController {
     @Autowired
     private WorkbasketService workbasketService;
 
+    @Autowired
+    private WorkbasketChangeDetector changeDetector;
+
+    @Value("${taskana.rest.events.timeout:1800000}")
+    private long eventStreamTimeout;
+
     @GetMapping
     public ResponseEntity<List<Workbasket>> getWorkbaskets(@RequestParam MultiValueMap<String, String> params) {
         List<Workbasket> workbaskets = new ArrayList<>();
@@ -122,7 +131,7 @@ public class WorkbasketController {
         try {
             Workbasket updatedWorkbasket = workbasketService.updateWorkbasket(workbasket);
             return new ResponseEntity<>(updatedWorkbasket, HttpStatus.OK);
-        } catch (InvalidWorkbasketException e) {
+        } catch (InvalidWorkbasketException | ConcurrencyException e) {
             return new ResponseEntity<>(HttpStatus.CONFLICT);
         } catch (WorkbasketNotFoundException e) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
@@ -131,6 +140,23 @@ public class WorkbasketController {
         }
     }
 
+    /**
+     * Streams the tasks added to, removed from or changed in the workbasket as server sent events. The stream ends
+     * after the configured timeout, clients are expected to reconnect.
+     */
+    @GetMapping(value = "/{workbasketkey}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> getWorkbasketEvents(
+        @PathVariable(value = "workbasketkey") String workbasketKey) {
+        try {
+            workbasketService.checkAuthorization(workbasketKey, WorkbasketAuthorization.OPEN);
+            SseEmitter emitter = new SseEmitter(eventStreamTimeout);
+            changeDetector.subscribe(workbasketKey, emitter);
+            return new ResponseEntity<>(emitter, HttpStatus.OK);
+        } catch (NotAuthorizedException e) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+    }
+
     @RequestMapping(value = "/{workbasketkey}/authorizations", method = RequestMethod.GET)
     public List<WorkbasketAccessItem> getWorkbasketAuthorizations(
         @PathVariable(value = "workbasketkey") String workbasketKey) {
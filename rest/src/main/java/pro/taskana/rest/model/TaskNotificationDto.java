@@ -0,0 +1,34 @@
+package pro.taskana.rest.model;
+
+import pro.taskana.model.TaskState;
+
+public class TaskNotificationDto {
+
+    private String taskId;
+    private String workbasketKey;
+    private TaskState state;
+    private String owner;
+
+    public TaskNotificationDto(String taskId, String workbasketKey, TaskState state, String owner) {
+        this.taskId = taskId;
+        this.workbasketKey = workbasketKey;
+        this.state = state;
+        this.owner = owner;
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+
+    public String getWorkbasketKey() {
+        return workbasketKey;
+    }
+
+    public TaskState getState() {
+        return state;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+}
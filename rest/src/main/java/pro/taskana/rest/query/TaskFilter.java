@@ -15,6 +15,7 @@ import pro.taskana.TaskService;
 import pro.taskana.exceptions.InvalidArgumentException;
 import pro.taskana.exceptions.NotAuthorizedException;
 import pro.taskana.model.TaskState;
+import pro.taskana.model.TaskSummary;
 
 @Component
 public class TaskFilter {
@@ -58,6 +59,15 @@ public class TaskFilter {
 
     public List<Task> inspectPrams(MultiValueMap<String, String> params)
         throws NotAuthorizedException, InvalidArgumentException {
+        return buildQuery(params).list();
+    }
+
+    public List<TaskSummary> inspectParamsForSummaries(MultiValueMap<String, String> params)
+        throws NotAuthorizedException, InvalidArgumentException {
+        return buildQuery(params).listSummaries();
+    }
+
+    private TaskQuery buildQuery(MultiValueMap<String, String> params) throws NotAuthorizedException {
         TaskQuery taskQuery = taskService.createTaskQuery();
 
         // apply filters
@@ -122,7 +132,7 @@ public class TaskFilter {
             String[] custom = extractCommaSeperatedFields(params.get(CUSTOM));
             taskQuery.customFields(custom);
         }
-        return taskQuery.list();
+        return taskQuery;
     }
 
     private int[] extractPriorities(String[] prioritesInString) {
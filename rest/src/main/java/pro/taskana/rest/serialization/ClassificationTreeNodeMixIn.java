@@ -0,0 +1,16 @@
+package pro.taskana.rest.serialization;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import pro.taskana.Classification;
+
+/**
+ * This class is used to write the attributes of the classification of a tree node next to its children, the format
+ * the classification tree of the admin application expects.
+ */
+public abstract class ClassificationTreeNodeMixIn {
+
+	@JsonUnwrapped
+	abstract Classification getClassification();
+
+}